@@ -8,9 +8,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tetoandeggens.seeyouagainbe.admin.dto.request.ViolationProcessRequest;
 import tetoandeggens.seeyouagainbe.admin.dto.response.*;
+import tetoandeggens.seeyouagainbe.auth.service.PrincipalCacheService;
+import tetoandeggens.seeyouagainbe.auth.service.SessionRevocationService;
+import tetoandeggens.seeyouagainbe.auth.service.TokenRevocationService;
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
+import tetoandeggens.seeyouagainbe.chat.service.ChatRoomMembershipService;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
 import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
+import tetoandeggens.seeyouagainbe.common.service.ListCountService;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.AdminErrorCode;
 import tetoandeggens.seeyouagainbe.global.response.PageResponse;
@@ -25,6 +32,12 @@ import tetoandeggens.seeyouagainbe.violation.repository.ViolationRepository;
 public class AdminViolationService {
 
     private final ViolationRepository violationRepository;
+    private final ListCountService listCountService;
+    private final DetailCacheService detailCacheService;
+    private final ChatRoomMembershipService chatRoomMembershipService;
+    private final PrincipalCacheService principalCacheService;
+    private final TokenRevocationService tokenRevocationService;
+    private final SessionRevocationService sessionRevocationService;
 
     public PageResponse<ViolationListResponse> getViolationList(
             ViolatedStatus status,
@@ -73,6 +86,11 @@ public class AdminViolationService {
         // 피신고자 위반 횟수 증가 및 자동 정지 처리
         Member reportedMember = violation.getReportedMember();
         reportedMember.increaseViolatedCount();
+        if (reportedMember.getIsBanned()) {
+            principalCacheService.evict(reportedMember.getUuid());
+            tokenRevocationService.revoke(reportedMember.getUuid());
+            sessionRevocationService.revoke(reportedMember.getUuid());
+        }
 
         log.info("위반 횟수 증가 - memberId: {}, violatedCount: {}, isBanned: {}",
                 reportedMember.getId(),
@@ -97,10 +115,12 @@ public class AdminViolationService {
             Board board = violation.getBoard();
             board.updateIsDeleted(true);
             board.updateViolatedStatus(ViolatedStatus.VIOLATED);
+            evictBoardCaches(board);
         } else if (violation.getChatRoom() != null) {
             ChatRoom chatRoom = violation.getChatRoom();
             chatRoom.updateIsDeleted(true);
             chatRoom.updateViolatedStatus(ViolatedStatus.VIOLATED);
+            chatRoomMembershipService.evict(chatRoom.getId());
         }
     }
 
@@ -110,10 +130,21 @@ public class AdminViolationService {
             Board board = violation.getBoard();
             board.updateViolatedStatus(status);
             board.updateIsDeleted(false);
+            evictBoardCaches(board);
         } else if (violation.getChatRoom() != null) {
             ChatRoom chatRoom = violation.getChatRoom();
             chatRoom.updateViolatedStatus(status);
             chatRoom.updateIsDeleted(false);
+            chatRoomMembershipService.evict(chatRoom.getId());
+        }
+    }
+
+    // 게시글 작성/삭제와 같은 범위(게시글·동물 목록 개수, 게시글·동물 상세)를 무효화
+    private void evictBoardCaches(Board board) {
+        listCountService.evictBoardLists();
+        detailCacheService.evict(DetailCacheTarget.BOARD, board.getId());
+        if (board.getAnimal() != null) {
+            detailCacheService.evict(DetailCacheTarget.ANIMAL, board.getAnimal().getId());
         }
     }
 
@@ -0,0 +1,56 @@
+package tetoandeggens.seeyouagainbe.animal.batch;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.animal.repository.AnimalRepository;
+
+// ANIMAL.representative_profile 일회성 백필 - backfill.representative-profile.enabled=true로 기동 시 실행
+// 청크마다 별도 트랜잭션으로 커밋하여 긴 락과 대용량 언두 로그를 피함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "backfill.representative-profile.enabled", havingValue = "true")
+public class RepresentativeProfileBackfillJob implements ApplicationRunner {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final AnimalRepository animalRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		backfill(CHUNK_SIZE);
+	}
+
+	public int backfill(int chunkSize) {
+		long lastAnimalId = 0L;
+		int processedCount = 0;
+
+		while (true) {
+			List<Long> animalIds = animalRepository.findIdsAfter(lastAnimalId, Limit.of(chunkSize));
+			if (animalIds.isEmpty()) {
+				break;
+			}
+
+			transactionTemplate.executeWithoutResult(
+				status -> animalRepository.refreshRepresentativeProfiles(animalIds)
+			);
+
+			processedCount += animalIds.size();
+			lastAnimalId = animalIds.get(animalIds.size() - 1);
+			log.info("대표 이미지 백필 진행 - 처리: {}건, 마지막 animalId: {}", processedCount, lastAnimalId);
+		}
+
+		log.info("대표 이미지 백필 완료 - 총 {}건", processedCount);
+		return processedCount;
+	}
+}
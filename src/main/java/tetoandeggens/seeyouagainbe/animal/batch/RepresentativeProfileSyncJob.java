@@ -0,0 +1,71 @@
+package tetoandeggens.seeyouagainbe.animal.batch;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.animal.repository.AnimalRepository;
+import tetoandeggens.seeyouagainbe.board.repository.BoardRepository;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
+import tetoandeggens.seeyouagainbe.global.config.RepresentativeProfileSyncProperties;
+
+// 외부 수집 파이프라인은 ANIMAL_S3_PROFILE만 넣고 ANIMAL.representative_profile을 채우지 않으므로 주기적으로 보정
+// 대표 이미지가 비어 있고 프로필이 있는 동물만 골라 청크마다 별도 트랜잭션으로 갱신함
+// 이미지 수집 전에 캐싱된 동물/게시글 상세도 이 시점에 함께 무효화
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepresentativeProfileSyncJob {
+
+	private final AnimalRepository animalRepository;
+	private final BoardRepository boardRepository;
+	private final DetailCacheService detailCacheService;
+	private final TransactionTemplate transactionTemplate;
+	private final RepresentativeProfileSyncProperties representativeProfileSyncProperties;
+
+	@Scheduled(fixedDelayString = "${representative-profile-sync.interval:1m}")
+	public void syncMissing() {
+		if (!representativeProfileSyncProperties.isEnabled()) {
+			return;
+		}
+
+		int syncedCount = sync(representativeProfileSyncProperties.getChunkSize());
+		if (syncedCount > 0) {
+			log.info("대표 이미지 보정 완료 - {}건", syncedCount);
+		}
+	}
+
+	public int sync(int chunkSize) {
+		long lastAnimalId = 0L;
+		int syncedCount = 0;
+
+		while (true) {
+			List<Long> animalIds = animalRepository.findIdsMissingRepresentativeProfileAfter(lastAnimalId,
+				Limit.of(chunkSize));
+			if (animalIds.isEmpty()) {
+				return syncedCount;
+			}
+
+			transactionTemplate.executeWithoutResult(status -> {
+				animalRepository.refreshRepresentativeProfiles(animalIds);
+				evictDetails(animalIds);
+			});
+
+			syncedCount += animalIds.size();
+			lastAnimalId = animalIds.get(animalIds.size() - 1);
+		}
+	}
+
+	// 트랜잭션 안에서 등록해 커밋 이후에 무효화됨
+	private void evictDetails(List<Long> animalIds) {
+		animalIds.forEach(animalId -> detailCacheService.evict(DetailCacheTarget.ANIMAL, animalId));
+		boardRepository.findIdsByAnimalIdIn(animalIds)
+			.forEach(boardId -> detailCacheService.evict(DetailCacheTarget.BOARD, boardId));
+	}
+}
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalClusterListResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalDetailResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalListResponse;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalType;
@@ -97,4 +98,32 @@ public class AnimalController {
 
 		return ApiResponse.ok(response);
 	}
+
+	@GetMapping("/list/map/cluster")
+	@Operation(
+		summary = "좌표 기준 범위 내, 유기 동물 클러스터 조회 API",
+		description = "좌표 기준 범위 내, 유기 동물 클러스터 조회 - 줌 레벨(0~21)에 따른 격자 단위로 묶어 개수, 중심 좌표, 대표 ID 반환")
+	public ApiResponse<AnimalClusterListResponse> getAnimalClustersWithCoordinates(
+		@RequestParam int zoomLevel,
+		@RequestParam Double minLongitude,
+		@RequestParam Double minLatitude,
+		@RequestParam Double maxLongitude,
+		@RequestParam Double maxLatitude,
+		@RequestParam(required = false) AnimalType animalType,
+		@RequestParam(required = false) String startDate,
+		@RequestParam(required = false) String endDate,
+		@RequestParam(required = false) Species species,
+		@RequestParam(required = false) String breedType,
+		@RequestParam(required = false) NeuteredState neuteredState,
+		@RequestParam(required = false) Sex sex,
+		@RequestParam(required = false) String city,
+		@RequestParam(required = false) String town
+	) {
+		AnimalClusterListResponse response = animalService.getAnimalClustersWithCoordinates(
+			zoomLevel, animalType, minLongitude, minLatitude, maxLongitude, maxLatitude, startDate, endDate,
+			species, breedType, neuteredState, sex, city, town
+		);
+
+		return ApiResponse.ok(response);
+	}
 }
\ No newline at end of file
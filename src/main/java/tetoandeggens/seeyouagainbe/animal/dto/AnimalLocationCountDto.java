@@ -0,0 +1,18 @@
+package tetoandeggens.seeyouagainbe.animal.dto;
+
+import org.locationtech.jts.geom.Point;
+
+// 지도 클러스터 계산용 보호소(위치)별 집계 결과 (x = 경도, y = 위도)
+public record AnimalLocationCountDto(
+	Point coordinates,
+	long animalCount,
+	Long latestAnimalId
+) {
+	public double longitude() {
+		return coordinates.getX();
+	}
+
+	public double latitude() {
+		return coordinates.getY();
+	}
+}
@@ -0,0 +1,20 @@
+package tetoandeggens.seeyouagainbe.animal.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "AnimalClusterListResponse", description = "지도 클러스터 리스트 응답 Dto")
+public record AnimalClusterListResponse(
+	@Schema(description = "범위 내 총 유기 동물 수", example = "124")
+	int animalCount,
+
+	@Schema(description = "클러스터링에 사용된 줌 레벨", example = "10")
+	int zoomLevel,
+
+	List<AnimalClusterResponse> clusters
+) {
+	public static AnimalClusterListResponse of(int animalCount, int zoomLevel, List<AnimalClusterResponse> clusters) {
+		return new AnimalClusterListResponse(animalCount, zoomLevel, clusters);
+	}
+}
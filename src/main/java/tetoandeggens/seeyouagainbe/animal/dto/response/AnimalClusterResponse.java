@@ -0,0 +1,23 @@
+package tetoandeggens.seeyouagainbe.animal.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(name = "AnimalClusterResponse", description = "지도 클러스터 응답 Dto")
+public record AnimalClusterResponse(
+	@Schema(description = "클러스터 중심 위도", example = "37.5665")
+	Double latitude,
+
+	@Schema(description = "클러스터 중심 경도", example = "126.9780")
+	Double longitude,
+
+	@Schema(description = "클러스터에 포함된 유기 동물 수", example = "12")
+	int count,
+
+	@Schema(description = "클러스터 대표 유기 동물 ID 목록 (보호소별 최신 동물, 최신순 최대 3개)", example = "[12, 9, 4]")
+	List<Long> sampleAnimalIds
+) {
+}
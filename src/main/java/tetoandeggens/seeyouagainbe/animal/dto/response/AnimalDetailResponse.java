@@ -78,4 +78,13 @@ public record AnimalDetailResponse(
 	@Schema(description = "북마크 여부", example = "true")
 	Boolean isBookmarked
 ) {
+	public AnimalDetailResponse withBookmarked(Boolean isBookmarked) {
+		return new AnimalDetailResponse(animalId, animalType, happenDate, species, breedType, birth, happenPlace, sex,
+			processState, profiles, color, noticeNo, noticeStartDate, noticeEndDate, specialMark, weight,
+			neuteredState, centerName, centerAddress, centerPhone, isBookmarked);
+	}
+
+	public boolean hasProfiles() {
+		return profiles != null && !profiles.isEmpty();
+	}
 }
\ No newline at end of file
@@ -5,13 +5,13 @@ import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 
 @Schema(name = "AnimalListResponse", description = "유기 동물 리스트 응답 Dto")
 public record AnimalListResponse(
-	@Schema(description = "총 유기 동물 수", example = "24")
-	int animalCount,
+	@Schema(description = "총 유기 동물 수 (개수 계산 전략에 따라 다음 페이지부터는 null일 수 있음)", example = "24")
+	Integer animalCount,
 
-	CursorPage<AnimalResponse, Long> animal
+	CursorPage<AnimalResponse, String> animal
 ) {
-	public static AnimalListResponse of(int animalCount,
-		CursorPage<AnimalResponse, Long> animal) {
+	public static AnimalListResponse of(Integer animalCount,
+		CursorPage<AnimalResponse, String> animal) {
 		return new AnimalListResponse(animalCount, animal);
 	}
 }
\ No newline at end of file
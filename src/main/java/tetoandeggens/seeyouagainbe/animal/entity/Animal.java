@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +22,9 @@ import lombok.NoArgsConstructor;
 import tetoandeggens.seeyouagainbe.global.entity.BaseEntity;
 
 @Entity
-@Table(name = "ANIMAL")
+@Table(name = "ANIMAL", indexes = {
+	@Index(name = "idx_animal_happen_date_id", columnList = "happen_date, animal_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Animal extends BaseEntity {
@@ -103,6 +106,10 @@ public class Animal extends BaseEntity {
 	@Column(name = "is_deleted")
 	private Boolean isDeleted;
 
+	// 목록 조회용 대표 이미지 (삭제되지 않은 ANIMAL_S3_PROFILE 중 ID가 가장 작은 프로필)
+	@Column(name = "representative_profile")
+	private String representativeProfile;
+
 	@Builder
 	public Animal(String desertionNo, LocalDate happenDate, String happenPlace, AnimalType animalType,
 		String city, String town, Species species, String color, String birth, String weight, String noticeNo,
@@ -168,4 +175,15 @@ public class Animal extends BaseEntity {
 	public void updateAnimalType(AnimalType animalType) {
 		this.animalType = animalType;
 	}
+
+	public void updateRepresentativeProfile(String representativeProfile) {
+		this.representativeProfile = representativeProfile;
+	}
+
+	// 새 프로필은 항상 기존 프로필보다 ID가 크므로 대표 이미지가 없을 때만 지정
+	public void assignRepresentativeProfileIfAbsent(String profile) {
+		if (this.representativeProfile == null) {
+			this.representativeProfile = profile;
+		}
+	}
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package tetoandeggens.seeyouagainbe.animal.entity;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
@@ -34,7 +36,7 @@ public class AnimalLocation extends BaseEntity {
 	@Column(name = "address")
 	private String address;
 
-	@Column(name = "coordinates", columnDefinition = "GEOMETRY", nullable = false)
+	@Column(name = "coordinates", columnDefinition = "POINT SRID 4326", nullable = false)
 	private Point coordinates;
 
 	@Column(name = "center_no", unique = true)
@@ -58,6 +60,12 @@ public class AnimalLocation extends BaseEntity {
 		return geometryFactory.createPoint(new Coordinate(longitude, latitude));
 	}
 
+	// createPoint와 동일하게 x = 경도, y = 위도 순서로 범위 사각형을 생성
+	public static Geometry createEnvelope(double minLongitude, double minLatitude, double maxLongitude,
+		double maxLatitude) {
+		return geometryFactory.toGeometry(new Envelope(minLongitude, maxLongitude, minLatitude, maxLatitude));
+	}
+
 	public void updateAddress(String address) {
 		this.address = address;
 	}
@@ -48,5 +48,8 @@ public class AnimalS3Profile extends BaseEntity {
 		this.profile = profile;
 		this.imageType = imageType;
 		this.animal = animal;
+		if (animal != null) {
+			animal.assignRepresentativeProfileIfAbsent(profile);
+		}
 	}
 }
\ No newline at end of file
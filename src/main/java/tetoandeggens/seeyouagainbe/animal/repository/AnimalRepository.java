@@ -1,10 +1,36 @@
 package tetoandeggens.seeyouagainbe.animal.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import tetoandeggens.seeyouagainbe.animal.entity.Animal;
 import tetoandeggens.seeyouagainbe.animal.repository.custom.AnimalRepositoryCustom;
 
 public interface AnimalRepository extends JpaRepository<Animal, Long>,
 	AnimalRepositoryCustom {
+
+	@Query("select p.profile from AnimalS3Profile p "
+		+ "where p.animal.id = :animalId and p.isDeleted = false order by p.id asc limit 1")
+	Optional<String> findRepresentativeProfile(Long animalId);
+
+	@Query("select a.id from Animal a where a.id > :lastAnimalId order by a.id asc")
+	List<Long> findIdsAfter(Long lastAnimalId, Limit limit);
+
+	// 외부 수집 파이프라인이 프로필만 추가한 동물 (대표 이미지가 비어 있고 삭제되지 않은 프로필이 있음)
+	@Query("select a.id from Animal a where a.id > :lastAnimalId and a.representativeProfile is null "
+		+ "and exists (select 1 from AnimalS3Profile p where p.animal = a and p.isDeleted = false) "
+		+ "order by a.id asc")
+	List<Long> findIdsMissingRepresentativeProfileAfter(Long lastAnimalId, Limit limit);
+
+	@Modifying
+	@Query("update Animal a set a.representativeProfile = ("
+		+ "select p.profile from AnimalS3Profile p where p.id = ("
+		+ "select min(sp.id) from AnimalS3Profile sp where sp.animal = a and sp.isDeleted = false)"
+		+ ") where a.id in :animalIds")
+	int refreshRepresentativeProfiles(List<Long> animalIds);
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package tetoandeggens.seeyouagainbe.animal.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.animal.entity.BreedType;
+
+// 품종처럼 거의 바뀌지 않는 참조 데이터를 메모리에 올려 필터/조회 시 DB 왕복을 없앰
+// 외부 동기화 배치가 추가한 값은 주기적 갱신 전까지 보이지 않으므로 사전에 없으면 호출부에서 DB로 대체해야 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataDictionary {
+
+	private final BreedTypeRepository breedTypeRepository;
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(
+		fixedDelayString = "${reference-data.refresh-interval:10m}",
+		initialDelayString = "${reference-data.refresh-interval:10m}"
+	)
+	public void refresh() {
+		try {
+			Snapshot loaded = load();
+			snapshot = loaded;
+			log.info("참조 데이터 사전 갱신 완료 - breedTypes: {}", loaded.breedTypeIdsByName().size());
+		} catch (DataAccessException e) {
+			// 갱신에 실패해도 기존 사전은 그대로 사용
+			log.error("참조 데이터 사전 갱신 실패", e);
+		}
+	}
+
+	// 스키마상 유일 제약은 code에만 있고 name에는 없으므로, 필터에는 같은 이름의 id를 모두 사용
+	public List<Long> findBreedTypeIdsByName(String name) {
+		return snapshot.breedTypeIdsByName().getOrDefault(name, List.of());
+	}
+
+	// 단건이 필요한 곳(게시글 작성/수정)은 가장 먼저 등록된 품종을 사용
+	public Optional<Long> findBreedTypeIdByName(String name) {
+		return findBreedTypeIdsByName(name).stream().findFirst();
+	}
+
+	private Snapshot load() {
+		Map<String, List<Long>> breedTypeIdsByName = new HashMap<>();
+		for (BreedType breedType : breedTypeRepository.findAll(Sort.by("id"))) {
+			if (breedType.getName() != null) {
+				breedTypeIdsByName.computeIfAbsent(breedType.getName(), k -> new ArrayList<>()).add(breedType.getId());
+			}
+		}
+
+		Map<String, List<Long>> immutableBreedTypeIdsByName = new HashMap<>();
+		breedTypeIdsByName.forEach((name, ids) -> immutableBreedTypeIdsByName.put(name, List.copyOf(ids)));
+
+		return new Snapshot(Map.copyOf(immutableBreedTypeIdsByName));
+	}
+
+	// 갱신 중에도 조회가 일관된 값을 보도록 사전 전체를 한 번에 교체
+	private record Snapshot(Map<String, List<Long>> breedTypeIdsByName) {
+		private static final Snapshot EMPTY = new Snapshot(Map.of());
+	}
+}
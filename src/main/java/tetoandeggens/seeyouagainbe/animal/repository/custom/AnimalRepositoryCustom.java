@@ -2,6 +2,7 @@ package tetoandeggens.seeyouagainbe.animal.repository.custom;
 
 import java.util.List;
 
+import tetoandeggens.seeyouagainbe.animal.dto.AnimalLocationCountDto;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalDetailResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalResponse;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalType;
@@ -17,20 +18,20 @@ public interface AnimalRepositoryCustom {
 		AnimalType animalType,
 		String startDate, String endDate, Species species, String breedType, NeuteredState neuteredState, Sex sex,
 		String city,
-		String town, Long memberId);
+		String town);
 
 	Long getAbandonedAnimalsCount(AnimalType animalType, String startDate, String endDate, Species species,
 		String breedType,
 		NeuteredState neuteredState,
 		Sex sex, String city, String town);
 
-	AnimalDetailResponse getAnimal(Long animalId, Long memberId);
+	AnimalDetailResponse getAnimal(Long animalId);
 
 	List<AnimalResponse> getAnimalListWithCoordinates(
 		CursorPageRequest request, SortDirection sortDirection, AnimalType animalType, Double minLongitude,
 		Double minLatitude,
 		Double maxLongitude, Double maxLatitude, String startDate, String endDate, Species species, String breedType,
-		NeuteredState neuteredState, Sex sex, String city, String town, Long memberId
+		NeuteredState neuteredState, Sex sex, String city, String town
 	);
 
 	Long getAnimalsCountWithCoordinates(
@@ -39,4 +40,10 @@ public interface AnimalRepositoryCustom {
 		String endDate, Species species, String breedType, NeuteredState neuteredState, Sex sex, String city,
 		String town
 	);
+
+	List<AnimalLocationCountDto> getAnimalCountsByLocation(
+		AnimalType animalType, Double minLongitude, Double minLatitude, Double maxLongitude, Double maxLatitude,
+		String startDate, String endDate, Species species, String breedType, NeuteredState neuteredState, Sex sex,
+		String city, String town
+	);
 }
\ No newline at end of file
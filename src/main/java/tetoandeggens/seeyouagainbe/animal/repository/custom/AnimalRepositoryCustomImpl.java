@@ -4,9 +4,15 @@ import static tetoandeggens.seeyouagainbe.animal.entity.QAnimal.*;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -15,46 +21,46 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.animal.dto.AnimalLocationCountDto;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalDetailResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalResponse;
+import tetoandeggens.seeyouagainbe.animal.entity.AnimalLocation;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalType;
 import tetoandeggens.seeyouagainbe.animal.entity.NeuteredState;
 import tetoandeggens.seeyouagainbe.animal.entity.QAnimalLocation;
 import tetoandeggens.seeyouagainbe.animal.entity.QAnimalS3Profile;
-import tetoandeggens.seeyouagainbe.animal.entity.QBookMark;
 import tetoandeggens.seeyouagainbe.animal.entity.QBreedType;
 import tetoandeggens.seeyouagainbe.animal.entity.Sex;
 import tetoandeggens.seeyouagainbe.animal.entity.Species;
+import tetoandeggens.seeyouagainbe.animal.repository.ReferenceDataDictionary;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 
 @RequiredArgsConstructor
 public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 
 	private final JPAQueryFactory queryFactory;
+	private final ReferenceDataDictionary referenceDataDictionary;
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
 	@Override
 	public List<AnimalResponse> getAbandonedAnimals(
 		CursorPageRequest request, SortDirection sortDirection, AnimalType animalType,
 		String startDate, String endDate, Species species, String breedType,
-		NeuteredState neuteredState, Sex sex, String city, String town, Long memberId
+		NeuteredState neuteredState, Sex sex, String city, String town
 	) {
 
 		BooleanBuilder builder = createFilterConditions(animalType, startDate, endDate, species, breedType,
 			neuteredState, sex,
 			city, town);
 
-		BooleanExpression cursorCondition = createCursorCondition(request.cursorId(), sortDirection);
-		OrderSpecifier<Long> orderSpecifier = createOrderSpecifier(sortDirection);
+		BooleanExpression cursorCondition = createCursorCondition(request.cursor(), sortDirection);
+		OrderSpecifier<?>[] orderSpecifiers = createOrderSpecifiers(sortDirection);
 
 		QBreedType bt = QBreedType.breedType;
-		QAnimalS3Profile profileEntity = QAnimalS3Profile.animalS3Profile;
-		QAnimalS3Profile subProfile = new QAnimalS3Profile("subProfile");
-		QBookMark bookMark = QBookMark.bookMark;
-
-		BooleanBuilder bookMarkExistsCondition = createBookMarkCondition(bookMark, memberId);
 
+		// 북마크 여부는 행마다 서브쿼리를 돌리지 않고 서비스에서 페이지 단위로 한 번에 채움
 		return queryFactory
 			.select(Projections.constructor(
 				AnimalResponse.class,
@@ -69,25 +75,14 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 				Expressions.nullExpression(Double.class),
 				animal.sex,
 				animal.processState,
-				profileEntity.profile,
+				animal.representativeProfile,
 				animal.animalType,
-				JPAExpressions.selectOne()
-					.from(bookMark)
-					.where(bookMarkExistsCondition)
-					.exists()
+				Expressions.constant(false)
 			))
 			.from(animal)
 			.leftJoin(animal.breedType, bt)
-			.leftJoin(profileEntity).on(
-				profileEntity.animal.eq(animal),
-				profileEntity.id.eq(
-					JPAExpressions.select(subProfile.id.min())
-						.from(subProfile)
-						.where(subProfile.animal.eq(animal))
-				)
-			)
 			.where(builder, cursorCondition)
-			.orderBy(orderSpecifier)
+			.orderBy(orderSpecifiers)
 			.limit(request.size() + 1)
 			.fetch();
 	}
@@ -104,17 +99,15 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 		return queryFactory
 			.select(animal.count())
 			.from(animal)
-			.leftJoin(animal.breedType, QBreedType.breedType)
 			.where(builder)
 			.fetchOne();
 	}
 
 	@Override
-	public AnimalDetailResponse getAnimal(Long animalId, Long memberId) {
+	public AnimalDetailResponse getAnimal(Long animalId) {
 		QBreedType bt = QBreedType.breedType;
 		QAnimalLocation al = QAnimalLocation.animalLocation;
 		QAnimalS3Profile profileEntity = QAnimalS3Profile.animalS3Profile;
-		QBookMark bookMark = QBookMark.bookMark;
 
 		List<String> profiles = queryFactory
 			.select(profileEntity.profile)
@@ -124,8 +117,6 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 			.limit(3)
 			.fetch();
 
-		BooleanBuilder bookMarkExistsCondition = createBookMarkCondition(bookMark, memberId);
-
 		return queryFactory
 			.select(Projections.constructor(
 				AnimalDetailResponse.class,
@@ -149,10 +140,8 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 				al.name,
 				al.address,
 				animal.centerPhone,
-				JPAExpressions.selectOne()
-					.from(bookMark)
-					.where(bookMarkExistsCondition)
-					.exists()
+				// 상세 응답은 회원과 무관하게 캐싱되므로 북마크 여부는 서비스에서 따로 채움
+				Expressions.constant(false)
 			))
 			.from(animal)
 			.leftJoin(animal.breedType, bt)
@@ -169,7 +158,7 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 		CursorPageRequest request, SortDirection sortDirection, AnimalType animalType,
 		Double minLongitude, Double minLatitude, Double maxLongitude, Double maxLatitude,
 		String startDate, String endDate, Species species, String breedType,
-		NeuteredState neuteredState, Sex sex, String city, String town, Long memberId
+		NeuteredState neuteredState, Sex sex, String city, String town
 	) {
 		QAnimalLocation al = QAnimalLocation.animalLocation;
 
@@ -181,16 +170,12 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 		);
 		builder.and(withinBounds);
 
-		BooleanExpression cursorCondition = createCursorCondition(request.cursorId(), sortDirection);
-		OrderSpecifier<Long> orderSpecifier = createOrderSpecifier(sortDirection);
+		BooleanExpression cursorCondition = createCursorCondition(request.cursor(), sortDirection);
+		OrderSpecifier<?>[] orderSpecifiers = createOrderSpecifiers(sortDirection);
 
 		QBreedType bt = QBreedType.breedType;
-		QAnimalS3Profile profileEntity = QAnimalS3Profile.animalS3Profile;
-		QAnimalS3Profile subProfile = new QAnimalS3Profile("subProfile");
-		QBookMark bookMark = QBookMark.bookMark;
-
-		BooleanBuilder bookMarkExistsCondition = createBookMarkCondition(bookMark, memberId);
 
+		// 북마크 여부는 행마다 서브쿼리를 돌리지 않고 서비스에서 페이지 단위로 한 번에 채움
 		return queryFactory
 			.select(Projections.constructor(
 				AnimalResponse.class,
@@ -205,26 +190,15 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 				Expressions.numberTemplate(Double.class, "ST_Y({0})", al.coordinates),
 				animal.sex,
 				animal.processState,
-				profileEntity.profile,
+				animal.representativeProfile,
 				animal.animalType,
-				JPAExpressions.selectOne()
-					.from(bookMark)
-					.where(bookMarkExistsCondition)
-					.exists()
+				Expressions.constant(false)
 			))
 			.from(animal)
 			.innerJoin(animal.animalLocation, al)
 			.innerJoin(animal.breedType, bt)
-			.leftJoin(profileEntity).on(
-				profileEntity.animal.eq(animal),
-				profileEntity.id.eq(
-					JPAExpressions.select(subProfile.id.min())
-						.from(subProfile)
-						.where(subProfile.animal.eq(animal))
-				)
-			)
 			.where(builder, cursorCondition)
-			.orderBy(orderSpecifier)
+			.orderBy(orderSpecifiers)
 			.limit(request.size() + 1)
 			.fetch();
 	}
@@ -249,11 +223,57 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 			.select(animal.count())
 			.from(animal)
 			.innerJoin(animal.animalLocation, al)
-			.leftJoin(animal.breedType, QBreedType.breedType)
 			.where(builder)
 			.fetchOne();
 	}
 
+	@Override
+	public List<AnimalLocationCountDto> getAnimalCountsByLocation(
+		AnimalType animalType, Double minLongitude, Double minLatitude, Double maxLongitude, Double maxLatitude,
+		String startDate, String endDate, Species species, String breedType,
+		NeuteredState neuteredState, Sex sex, String city, String town
+	) {
+		QAnimalLocation al = QAnimalLocation.animalLocation;
+
+		BooleanExpression withinBounds = createWithinBoundsCondition(al, minLongitude, minLatitude, maxLongitude,
+			maxLatitude);
+
+		BooleanBuilder builder = createFilterConditions(
+			animalType, startDate, endDate, species, breedType, neuteredState, sex, city, town
+		);
+		builder.and(withinBounds);
+
+		// 동물은 보호소 좌표를 공유하므로 DB에서 보호소별로 묶어, 줌 레벨과 관계없이 결과 행 수가 보호소 수를 넘지 않음
+		List<Tuple> counts = queryFactory
+			.select(al.id, animal.count(), animal.id.max())
+			.from(animal)
+			.innerJoin(animal.animalLocation, al)
+			.where(builder)
+			.groupBy(al.id)
+			.fetch();
+
+		if (counts.isEmpty()) {
+			return List.of();
+		}
+
+		// GEOMETRY 컬럼은 GROUP BY 대상으로 쓰지 않고 보호소 ID로 따로 조회
+		Map<Long, Point> coordinates = new HashMap<>();
+		queryFactory
+			.select(al.id, al.coordinates)
+			.from(al)
+			.where(al.id.in(counts.stream().map(tuple -> tuple.get(al.id)).toList()))
+			.fetch()
+			.forEach(tuple -> coordinates.put(tuple.get(al.id), tuple.get(al.coordinates)));
+
+		return counts.stream()
+			.map(tuple -> new AnimalLocationCountDto(
+				coordinates.get(tuple.get(al.id)),
+				tuple.get(animal.count()),
+				tuple.get(animal.id.max())
+			))
+			.toList();
+	}
+
 	private BooleanBuilder createFilterConditions(AnimalType animalType, String startDate, String endDate,
 		Species species, String breedType,
 		NeuteredState neuteredState, Sex sex, String city, String town) {
@@ -275,7 +295,7 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 		}
 
 		if (breedType != null && !breedType.isBlank()) {
-			builder.and(animal.breedType.name.eq(breedType));
+			builder.and(createBreedTypeCondition(breedType));
 		}
 
 		if (neuteredState != null) {
@@ -303,41 +323,61 @@ public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
 		return builder;
 	}
 
-	private BooleanExpression createCursorCondition(Long cursorId, SortDirection sortDirection) {
-		if (cursorId == null) {
+	// (happen_date, animal_id) 복합 키셋 - 다음 페이지의 첫 행이 커서이므로 경계값을 포함
+	// happen_date가 없는 행은 MySQL/H2 기본 정렬과 같이 가장 작은 값으로 취급 (DESC에서는 마지막)
+	private BooleanExpression createCursorCondition(String cursor, SortDirection sortDirection) {
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+		if (keysetCursor == null) {
 			return null;
 		}
-		return (sortDirection == SortDirection.LATEST)
-			? animal.id.lt(cursorId)
-			: animal.id.gt(cursorId);
+
+		LocalDate happenDate = keysetCursor.sortKeyAsDate();
+		Long cursorId = keysetCursor.id();
+
+		if (sortDirection == SortDirection.LATEST) {
+			if (happenDate == null) {
+				return animal.happenDate.isNull().and(animal.id.loe(cursorId));
+			}
+			return animal.happenDate.lt(happenDate)
+				.or(animal.happenDate.eq(happenDate).and(animal.id.loe(cursorId)))
+				.or(animal.happenDate.isNull());
+		}
+
+		if (happenDate == null) {
+			return animal.happenDate.isNull().and(animal.id.goe(cursorId))
+				.or(animal.happenDate.isNotNull());
+		}
+		return animal.happenDate.gt(happenDate)
+			.or(animal.happenDate.eq(happenDate).and(animal.id.goe(cursorId)));
 	}
 
-	private OrderSpecifier<Long> createOrderSpecifier(SortDirection sortDirection) {
+	private OrderSpecifier<?>[] createOrderSpecifiers(SortDirection sortDirection) {
 		return (sortDirection == SortDirection.LATEST)
-			? animal.id.desc()
-			: animal.id.asc();
+			? new OrderSpecifier<?>[] {animal.happenDate.desc(), animal.id.desc()}
+			: new OrderSpecifier<?>[] {animal.happenDate.asc(), animal.id.asc()};
+	}
+
+	// 사전에 있으면 FK 비교만으로 끝나 BREED_TYPE 조인이 필요 없음 (아직 사전에 반영되지 않은 품종은 서브쿼리로 대체)
+	private BooleanExpression createBreedTypeCondition(String breedType) {
+		List<Long> breedTypeIds = referenceDataDictionary.findBreedTypeIdsByName(breedType);
+		if (!breedTypeIds.isEmpty()) {
+			return animal.breedType.id.in(breedTypeIds);
+		}
+
+		QBreedType bt = QBreedType.breedType;
+		return animal.breedType.id.in(
+			JPAExpressions.select(bt.id)
+				.from(bt)
+				.where(bt.name.eq(breedType))
+		);
 	}
 
 	private BooleanExpression createWithinBoundsCondition(
 		QAnimalLocation al, Double minLongitude, Double minLatitude, Double maxLongitude, Double maxLatitude
 	) {
-		return Expressions.booleanTemplate(
-			"ST_X({0}) BETWEEN {1} AND {2} AND ST_Y({0}) BETWEEN {3} AND {4}",
-			al.coordinates,
-			minLatitude,
-			maxLatitude,
-			minLongitude,
-			maxLongitude
-		);
-	}
+		Geometry envelope = AnimalLocation.createEnvelope(minLongitude, minLatitude, maxLongitude, maxLatitude);
 
-	private BooleanBuilder createBookMarkCondition(QBookMark bookMark, Long memberId) {
-		BooleanBuilder condition = new BooleanBuilder();
-		condition.and(bookMark.animal.eq(animal));
-		if (memberId != null) {
-			condition.and(bookMark.member.id.eq(memberId));
-		}
-		condition.and(bookMark.isDeleted.eq(false));
-		return condition;
+		// 컬럼을 함수로 감싸지 않아야 coordinates의 SPATIAL INDEX를 탈 수 있음 (경계 포함)
+		return Expressions.booleanTemplate("ST_Intersects({0}, {1})", al.coordinates, envelope);
 	}
 }
\ No newline at end of file
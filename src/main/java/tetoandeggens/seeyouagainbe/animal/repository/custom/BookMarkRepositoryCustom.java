@@ -11,4 +11,6 @@ public interface BookMarkRepositoryCustom {
     List<BookMarkAnimalResponse> findAllByMemberIdAndNotDeleted(Long memberId);
 
     Optional<BookMark> findByMemberIdAndAnimalId(Long memberId, Long animalId);
+
+    List<Long> findBookmarkedAnimalIds(Long memberId, List<Long> animalIds);
 }
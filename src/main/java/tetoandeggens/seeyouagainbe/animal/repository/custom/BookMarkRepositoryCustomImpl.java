@@ -53,4 +53,17 @@ public class BookMarkRepositoryCustomImpl implements BookMarkRepositoryCustom {
 
         return Optional.ofNullable(result);
     }
+
+    @Override
+    public List<Long> findBookmarkedAnimalIds(Long memberId, List<Long> animalIds) {
+        return queryFactory
+                .select(bookMark.animal.id)
+                .from(bookMark)
+                .where(
+                        bookMark.member.id.eq(memberId),
+                        bookMark.animal.id.in(animalIds),
+                        bookMark.isDeleted.eq(false)
+                )
+                .fetch();
+    }
 }
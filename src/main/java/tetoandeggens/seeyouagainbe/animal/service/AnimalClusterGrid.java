@@ -0,0 +1,88 @@
+package tetoandeggens.seeyouagainbe.animal.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tetoandeggens.seeyouagainbe.animal.dto.AnimalLocationCountDto;
+import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalClusterResponse;
+
+// 보호소별 집계를 웹 메르카토르 타일 격자로 묶음
+// 경도는 선형이지만 위도는 메르카토르 투영 후의 y로 나눠야 화면에서 셀 높이가 위도와 관계없이 일정함
+final class AnimalClusterGrid {
+
+	// 256px 타일 하나를 4x4 격자로 나눔 (셀 하나가 대략 64px 마커 영역)
+	private static final int CELLS_PER_TILE = 4;
+	private static final int CLUSTER_SAMPLE_SIZE = 3;
+	// 웹 메르카토르가 정의되는 위도 한계
+	private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+	private AnimalClusterGrid() {}
+
+	// 줌 레벨이 1 오를 때마다 셀 크기(도 단위)가 절반으로 줄어듦
+	static double cellSize(int zoomLevel) {
+		return 360.0 / ((1L << zoomLevel) * CELLS_PER_TILE);
+	}
+
+	static long column(double longitude, double cellSize) {
+		return (long)Math.floor(longitude / cellSize);
+	}
+
+	static long row(double latitude, double cellSize) {
+		return (long)Math.floor(mercatorY(latitude) / cellSize);
+	}
+
+	// 대표 ID는 최신 동물이 있는 보호소 순으로 최대 3개 (보호소마다 가장 최근 동물 하나)
+	static List<AnimalClusterResponse> cluster(List<AnimalLocationCountDto> locations, int zoomLevel) {
+		double cellSize = cellSize(zoomLevel);
+		Map<String, ClusterBucket> buckets = new LinkedHashMap<>();
+
+		locations.stream()
+			.sorted(Comparator.comparing(AnimalLocationCountDto::latestAnimalId).reversed())
+			.forEach(location -> buckets.computeIfAbsent(
+				column(location.longitude(), cellSize) + ":" + row(location.latitude(), cellSize),
+				key -> new ClusterBucket()
+			).add(location));
+
+		return buckets.values().stream()
+			.map(ClusterBucket::toResponse)
+			.sorted(Comparator.comparingInt(AnimalClusterResponse::count).reversed())
+			.toList();
+	}
+
+	// 경도와 같은 도 단위로 맞춘 메르카토르 y
+	private static double mercatorY(double latitude) {
+		double clamped = Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude));
+		return Math.toDegrees(Math.log(Math.tan(Math.PI / 4 + Math.toRadians(clamped) / 2)));
+	}
+
+	private static class ClusterBucket {
+
+		private double longitudeSum;
+		private double latitudeSum;
+		private long count;
+		private final List<Long> sampleAnimalIds = new ArrayList<>();
+
+		// 중심 좌표는 보호소별 동물 수로 가중 평균
+		private void add(AnimalLocationCountDto location) {
+			longitudeSum += location.longitude() * location.animalCount();
+			latitudeSum += location.latitude() * location.animalCount();
+			count += location.animalCount();
+
+			if (sampleAnimalIds.size() < CLUSTER_SAMPLE_SIZE) {
+				sampleAnimalIds.add(location.latestAnimalId());
+			}
+		}
+
+		private AnimalClusterResponse toResponse() {
+			return AnimalClusterResponse.builder()
+				.latitude(latitudeSum / count)
+				.longitude(longitudeSum / count)
+				.count((int)count)
+				.sampleAnimalIds(sampleAnimalIds)
+				.build();
+		}
+	}
+}
@@ -1,11 +1,16 @@
 package tetoandeggens.seeyouagainbe.animal.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.animal.dto.AnimalLocationCountDto;
+import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalClusterListResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalDetailResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalListResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalResponse;
@@ -14,10 +19,19 @@ import tetoandeggens.seeyouagainbe.animal.entity.NeuteredState;
 import tetoandeggens.seeyouagainbe.animal.entity.Sex;
 import tetoandeggens.seeyouagainbe.animal.entity.Species;
 import tetoandeggens.seeyouagainbe.animal.repository.AnimalRepository;
+import tetoandeggens.seeyouagainbe.animal.repository.BookMarkRepository;
 import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
+import tetoandeggens.seeyouagainbe.common.dto.ListQueryResult;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
+import tetoandeggens.seeyouagainbe.common.enums.CountTarget;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
+import tetoandeggens.seeyouagainbe.common.service.ListCountService;
+import tetoandeggens.seeyouagainbe.common.service.ListQueryService;
+import tetoandeggens.seeyouagainbe.common.service.SingleFlightService;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.AnimalErrorCode;
 
@@ -25,9 +39,17 @@ import tetoandeggens.seeyouagainbe.global.exception.errorcode.AnimalErrorCode;
 @RequiredArgsConstructor
 public class AnimalService {
 
+	private static final int MIN_ZOOM_LEVEL = 0;
+	private static final int MAX_ZOOM_LEVEL = 21;
+
 	private final AnimalRepository animalRepository;
+	private final BookMarkRepository bookMarkRepository;
+	private final ListCountService listCountService;
+	private final ListQueryService listQueryService;
+	private final SingleFlightService singleFlightService;
+	private final DetailCacheService detailCacheService;
 
-	@Transactional(readOnly = true)
+	// 실제로 DB를 조회하는 부분만 SingleFlightService/ListQueryService가 읽기 전용 트랜잭션에서 실행하므로 여기서 트랜잭션을 열지 않음
 	public AnimalListResponse getAbandonedAnimalList(CursorPageRequest request, SortDirection sortDirection,
 		String startDate, String endDate, Species species, String breedType, NeuteredState neuteredState, Sex sex,
 		String city,
@@ -35,37 +57,60 @@ public class AnimalService {
 
 		Long memberId = getMemberId(customUserDetails);
 
-		List<AnimalResponse> responses = animalRepository.getAbandonedAnimals(request, sortDirection,
-			AnimalType.ABANDONED,
-			startDate, endDate, species, breedType, neuteredState, sex, city, town, memberId);
+		ListQueryResult<AnimalResponse> result = listQueryService.fetch(
+			"animal.abandoned",
+			() -> attachBookmarksToResponses(
+				singleFlightService.execute(
+					"animal.abandoned",
+					() -> animalRepository.getAbandonedAnimals(request, sortDirection, AnimalType.ABANDONED,
+						startDate, endDate, species, breedType, neuteredState, sex, city, town),
+					request.cursor(), request.size(), sortDirection,
+					startDate, endDate, species, breedType, neuteredState, sex, city, town
+				),
+				memberId
+			),
+			() -> listCountService.getCount(
+				CountTarget.ANIMAL, isFirstPage(request),
+				() -> singleFlightService.execute(
+					"animal.abandoned.count",
+					() -> animalRepository.getAbandonedAnimalsCount(AnimalType.ABANDONED, startDate, endDate,
+						species, breedType, neuteredState, sex, city, town),
+					startDate, endDate, species, breedType, neuteredState, sex, city, town
+				),
+				"abandoned", startDate, endDate, species, breedType, neuteredState, sex, city, town
+			)
+		);
 
-		CursorPage<AnimalResponse, Long> cursorPage = CursorPage.of(
-			responses,
+		CursorPage<AnimalResponse, String> cursorPage = CursorPage.of(
+			result.page(),
 			request.size(),
-			AnimalResponse::animalId
+			response -> KeysetCursor.encode(response.happenDate(), response.animalId())
 		);
 
-		Long totalCount = animalRepository.getAbandonedAnimalsCount(AnimalType.ABANDONED, startDate, endDate, species,
-			breedType,
-			neuteredState, sex, city, town);
-
-		return AnimalListResponse.of(totalCount.intValue(), cursorPage);
+		return AnimalListResponse.of(result.count(), cursorPage);
 	}
 
 	@Transactional(readOnly = true)
 	public AnimalDetailResponse getAnimal(Long animalId, CustomUserDetails customUserDetails) {
 		Long memberId = getMemberId(customUserDetails);
 
-		AnimalDetailResponse response = animalRepository.getAnimal(animalId, memberId);
+		AnimalDetailResponse response = detailCacheService.get(
+			DetailCacheTarget.ANIMAL, animalId, AnimalDetailResponse.class,
+			() -> animalRepository.getAnimal(animalId),
+			AnimalDetailResponse::hasProfiles
+		);
 
 		if (response == null) {
 			throw new CustomException(AnimalErrorCode.ANIMAL_NOT_FOUND);
 		}
 
-		return response;
+		// 캐시된 응답은 회원과 무관하므로 북마크 여부만 요청마다 조회
+		boolean isBookmarked = memberId != null
+			&& !bookMarkRepository.findBookmarkedAnimalIds(memberId, List.of(animalId)).isEmpty();
+
+		return response.withBookmarked(isBookmarked);
 	}
 
-	@Transactional(readOnly = true)
 	public AnimalListResponse getAnimalListWithCoordinates(
 		CursorPageRequest request, SortDirection sortDirection, AnimalType animalType, Double minLongitude,
 		Double minLatitude, Double maxLongitude, Double maxLatitude, String startDate, String endDate, Species species,
@@ -73,23 +118,106 @@ public class AnimalService {
 	) {
 		Long memberId = getMemberId(customUserDetails);
 
-		List<AnimalResponse> responses = animalRepository.getAnimalListWithCoordinates(
-			request, sortDirection, animalType, minLongitude, minLatitude, maxLongitude, maxLatitude,
-			startDate, endDate, species, breedType, neuteredState, sex, city, town, memberId
+		ListQueryResult<AnimalResponse> result = listQueryService.fetch(
+			"animal.map",
+			() -> attachBookmarksToResponses(
+				singleFlightService.execute(
+					"animal.map",
+					() -> animalRepository.getAnimalListWithCoordinates(
+						request, sortDirection, animalType, minLongitude, minLatitude, maxLongitude, maxLatitude,
+						startDate, endDate, species, breedType, neuteredState, sex, city, town
+					),
+					request.cursor(), request.size(), sortDirection, animalType,
+					minLongitude, minLatitude, maxLongitude, maxLatitude,
+					startDate, endDate, species, breedType, neuteredState, sex, city, town
+				),
+				memberId
+			),
+			() -> listCountService.getCount(
+				CountTarget.ANIMAL, isFirstPage(request),
+				() -> singleFlightService.execute(
+					"animal.map.count",
+					() -> animalRepository.getAnimalsCountWithCoordinates(
+						animalType, minLongitude, minLatitude, maxLongitude, maxLatitude,
+						startDate, endDate, species, breedType, neuteredState, sex, city, town
+					),
+					animalType, minLongitude, minLatitude, maxLongitude, maxLatitude,
+					startDate, endDate, species, breedType, neuteredState, sex, city, town
+				),
+				"map", animalType, minLongitude, minLatitude, maxLongitude, maxLatitude,
+				startDate, endDate, species, breedType, neuteredState, sex, city, town
+			)
 		);
 
-		CursorPage<AnimalResponse, Long> cursorPage = CursorPage.of(
-			responses,
+		CursorPage<AnimalResponse, String> cursorPage = CursorPage.of(
+			result.page(),
 			request.size(),
-			AnimalResponse::animalId
+			response -> KeysetCursor.encode(response.happenDate(), response.animalId())
 		);
 
-		Long totalCount = animalRepository.getAnimalsCountWithCoordinates(
+		return AnimalListResponse.of(result.count(), cursorPage);
+	}
+
+	@Transactional(readOnly = true)
+	public AnimalClusterListResponse getAnimalClustersWithCoordinates(
+		int zoomLevel, AnimalType animalType, Double minLongitude, Double minLatitude, Double maxLongitude,
+		Double maxLatitude, String startDate, String endDate, Species species, String breedType,
+		NeuteredState neuteredState, Sex sex, String city, String town
+	) {
+		if (zoomLevel < MIN_ZOOM_LEVEL || zoomLevel > MAX_ZOOM_LEVEL) {
+			throw new CustomException(AnimalErrorCode.INVALID_ZOOM_LEVEL);
+		}
+
+		List<AnimalLocationCountDto> locations = animalRepository.getAnimalCountsByLocation(
 			animalType, minLongitude, minLatitude, maxLongitude, maxLatitude,
 			startDate, endDate, species, breedType, neuteredState, sex, city, town
 		);
 
-		return AnimalListResponse.of(totalCount.intValue(), cursorPage);
+		int animalCount = (int)locations.stream().mapToLong(AnimalLocationCountDto::animalCount).sum();
+		return AnimalClusterListResponse.of(animalCount, zoomLevel, AnimalClusterGrid.cluster(locations, zoomLevel));
+	}
+
+	private boolean isFirstPage(CursorPageRequest request) {
+		return request.cursor() == null || request.cursor().isBlank();
+	}
+
+	// 페이지 단위로 북마크 여부를 한 번의 IN 조회로 채움 (비로그인 사용자는 조회 없이 모두 false)
+	private List<AnimalResponse> attachBookmarksToResponses(List<AnimalResponse> responses, Long memberId) {
+		if (memberId == null || responses.isEmpty()) {
+			return responses;
+		}
+
+		List<Long> animalIds = new ArrayList<>();
+		for (AnimalResponse response : responses) {
+			animalIds.add(response.animalId());
+		}
+
+		Set<Long> bookmarkedAnimalIds = new HashSet<>(
+			listQueryService.query(() -> bookMarkRepository.findBookmarkedAnimalIds(memberId, animalIds))
+		);
+
+		List<AnimalResponse> result = new ArrayList<>();
+		for (AnimalResponse response : responses) {
+			AnimalResponse newResponse = AnimalResponse.builder()
+				.animalId(response.animalId())
+				.happenDate(response.happenDate())
+				.species(response.species())
+				.breedType(response.breedType())
+				.birth(response.birth())
+				.city(response.city())
+				.town(response.town())
+				.latitude(response.latitude())
+				.longitude(response.longitude())
+				.sex(response.sex())
+				.processState(response.processState())
+				.profile(response.profile())
+				.animalType(response.animalType())
+				.isBookmarked(bookmarkedAnimalIds.contains(response.animalId()))
+				.build();
+			result.add(newResponse);
+		}
+
+		return result;
 	}
 
 	private Long getMemberId(CustomUserDetails customUserDetails) {
@@ -98,4 +226,4 @@ public class AnimalService {
 		}
 		return customUserDetails.getMemberId();
 	}
-}
\ No newline at end of file
+}
@@ -30,8 +30,12 @@ public class CustomUserDetails implements UserDetails {
     }
 
     public static CustomUserDetails fromClaims(String uuid, String role, Long memberId) {
+        return fromClaims(uuid, role, memberId, false);
+    }
+
+    public static CustomUserDetails fromClaims(String uuid, String role, Long memberId, Boolean isBanned) {
         String roleValue = role.startsWith("ROLE_") ? role.substring(5) : role;
-        return new CustomUserDetails(uuid, null, null, Role.valueOf(roleValue), memberId, false);
+        return new CustomUserDetails(uuid, null, null, Role.valueOf(roleValue), memberId, isBanned);
     }
 
     @Override
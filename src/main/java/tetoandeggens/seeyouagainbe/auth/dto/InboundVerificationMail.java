@@ -0,0 +1,9 @@
+package tetoandeggens.seeyouagainbe.auth.dto;
+
+import java.time.Instant;
+
+public record InboundVerificationMail(
+        String phone,
+        String code,
+        Instant receivedAt
+) {}
@@ -0,0 +1,6 @@
+package tetoandeggens.seeyouagainbe.auth.dto;
+
+public record PhoneVerificationSession(
+        String code,
+        String time
+) {}
@@ -0,0 +1,16 @@
+package tetoandeggens.seeyouagainbe.auth.dto;
+
+// 소셜 휴대폰 인증 세션 - 코드 확인 전에는 code/time이, 확인 후에는 verified가 채워짐
+public record SocialPhoneVerificationSession(
+        String code,
+        String time,
+        String provider,
+        String socialId,
+        String tempUuid,
+        boolean verified
+) {
+
+    public boolean hasPendingCode() {
+        return code != null && time != null && provider != null && socialId != null;
+    }
+}
@@ -0,0 +1,7 @@
+package tetoandeggens.seeyouagainbe.auth.dto;
+
+public record TempSocialInfo(
+        String provider,
+        String socialId,
+        String refreshToken
+) {}
@@ -0,0 +1,5 @@
+package tetoandeggens.seeyouagainbe.auth.event;
+
+// 로그아웃/탈퇴/정지로 회원의 기존 세션을 끊어야 할 때 각 노드에서 발행되는 이벤트 (WebSocket 세션 캐시 등이 구독)
+public record MemberSessionRevokedEvent(String uuid) {
+}
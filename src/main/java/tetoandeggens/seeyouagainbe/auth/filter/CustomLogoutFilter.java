@@ -10,7 +10,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
 import tetoandeggens.seeyouagainbe.auth.jwt.TokenProvider;
 import tetoandeggens.seeyouagainbe.auth.service.CookieService;
+import tetoandeggens.seeyouagainbe.auth.service.PrincipalCacheService;
 import tetoandeggens.seeyouagainbe.auth.service.RedisAuthService;
+import tetoandeggens.seeyouagainbe.auth.service.SessionRevocationService;
+import tetoandeggens.seeyouagainbe.auth.service.TokenRevocationService;
 import tetoandeggens.seeyouagainbe.auth.util.ResponseUtil;
 import tetoandeggens.seeyouagainbe.global.constants.AuthCommonConstants;
 
@@ -24,6 +27,9 @@ public class CustomLogoutFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
     private final CookieService cookieService;
     private final RedisAuthService redisAuthService;
+    private final SessionRevocationService sessionRevocationService;
+    private final PrincipalCacheService principalCacheService;
+    private final TokenRevocationService tokenRevocationService;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -52,6 +58,9 @@ public class CustomLogoutFilter extends OncePerRequestFilter {
 
             redisAuthService.deleteRefreshToken(uuid);
             redisAuthService.deleteMemberId(uuid);
+            sessionRevocationService.revoke(uuid);
+            principalCacheService.evict(uuid);
+            tokenRevocationService.revoke(uuid);
             cookieService.deleteAllAuthCookies(response);
 
             ResponseUtil.writeNoContent(response, objectMapper, HttpStatus.NO_CONTENT);
@@ -51,8 +51,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		try {
 			if (accessToken != null) {
-				tokenProvider.validateToken(accessToken);
-				Authentication authentication = tokenProvider.getAuthenticationByAccessToken(accessToken);
+				Authentication authentication = tokenProvider.getAuthenticationByClaims(
+					tokenProvider.verifyClaims(accessToken));
 
 				if (isBlackListPath(request.getRequestURI())) {
 					checkUserBanned(authentication);
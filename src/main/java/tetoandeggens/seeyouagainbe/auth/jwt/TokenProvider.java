@@ -1,7 +1,12 @@
 package tetoandeggens.seeyouagainbe.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +15,11 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
+import tetoandeggens.seeyouagainbe.auth.service.PrincipalCacheService;
 import tetoandeggens.seeyouagainbe.auth.service.RedisAuthService;
+import tetoandeggens.seeyouagainbe.auth.service.TokenRevocationService;
+import tetoandeggens.seeyouagainbe.global.config.StatelessAuthProperties;
+import tetoandeggens.seeyouagainbe.global.config.VerifiedTokenCacheProperties;
 import tetoandeggens.seeyouagainbe.member.entity.Member;
 import tetoandeggens.seeyouagainbe.member.entity.Role;
 import tetoandeggens.seeyouagainbe.global.constants.AuthCommonConstants;
@@ -18,6 +27,11 @@ import tetoandeggens.seeyouagainbe.global.exception.CustomException;
 import tetoandeggens.seeyouagainbe.member.repository.MemberRepository;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -32,6 +46,8 @@ import static tetoandeggens.seeyouagainbe.global.exception.errorcode.AuthErrorCo
 @RequiredArgsConstructor
 public class TokenProvider {
 
+    private static final String VERIFIED_TOKEN_CACHE_NAME = "auth.verified-token";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -42,13 +58,31 @@ public class TokenProvider {
     private Long refreshTokenExpirationMs;
 
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedClaims> verifiedTokens;
     private final RedisAuthService redisAuthService;
     private final MemberRepository memberRepository;
+    private final PrincipalCacheService principalCacheService;
+    private final TokenRevocationService tokenRevocationService;
+    private final StatelessAuthProperties statelessAuthProperties;
+    private final VerifiedTokenCacheProperties verifiedTokenCacheProperties;
+    private final MeterRegistry meterRegistry;
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        // 빌드된 파서는 불변이고 스레드 안전하므로 요청마다 만들지 않고 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        // 같은 토큰이 만료 전까지 반복해서 들어오므로 검증 결과를 토큰 만료 시각까지 캐싱
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheProperties.getMaxSize())
+                .expireAfter(Expiry.creating((String digest, VerifiedClaims claims) -> timeToExpire(claims)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, VERIFIED_TOKEN_CACHE_NAME);
     }
 
     public long getAccessTokenExpirationSec() {
@@ -74,11 +108,20 @@ public class TokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpirationMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(uuid)
                 .claim(AuthCommonConstants.ROLE_CLAIM, role)
                 .issuedAt(now)
-                .expiration(expiryDate)
+                .expiration(expiryDate);
+
+        // 발급(로그인/재발급) 때 한 번만 조회해 회원 상태를 담고, 이후 요청은 토큰만으로 인증
+        if (statelessAuthProperties.isEnabled()) {
+            memberRepository.findByUuidAndIsDeletedFalse(uuid).ifPresent(member -> builder
+                    .claim(CLAIM_MEMBER_ID, member.getId())
+                    .claim(CLAIM_BANNED, member.getIsBanned()));
+        }
+
+        return builder
                 .signWith(secretKey, Jwts.SIG.HS512)
                 .compact();
     }
@@ -116,11 +159,32 @@ public class TokenProvider {
     }
 
     public void validateToken(String token) {
+        verifyClaims(token);
+    }
+
+    // 서명과 만료를 한 번만 검증하고 클레임을 돌려줌 (검증 후 parseClaims로 한 번 더 파싱하지 않도록)
+    // 캐시 키는 토큰 원문 대신 SHA-256 다이제스트를 써서 메모리에 토큰을 남기지 않음
+    public VerifiedClaims verifyClaims(String token) {
+        if (!verifiedTokenCacheProperties.isEnabled() || token == null || token.isEmpty()) {
+            return parseVerifiedClaims(token);
+        }
+
+        String digest = digest(token);
+        VerifiedClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedClaims claims = parseVerifiedClaims(token);
+        if (claims.expiresAt() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private VerifiedClaims parseVerifiedClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            return VerifiedClaims.from(jwtParser.parseSignedClaims(token).getPayload());
         } catch (SignatureException | SecurityException | MalformedJwtException e) {
             throw new CustomException(INVALID_JWT_SIGNATURE);
         } catch (ExpiredJwtException e) {
@@ -134,11 +198,7 @@ public class TokenProvider {
 
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         } catch (JwtException e) {
@@ -147,22 +207,53 @@ public class TokenProvider {
     }
 
     public Authentication getAuthenticationByAccessToken(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-        String uuid = claims.getSubject();
-        String role = claims.get(AuthCommonConstants.ROLE_CLAIM, String.class);
+        return getAuthenticationByClaims(verifyClaims(accessToken));
+    }
 
-        Long memberId = redisAuthService.getMemberId(uuid)
-                .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
+    public Authentication getAuthenticationByClaims(VerifiedClaims claims) {
+        String uuid = claims.subject();
+        String role = claims.role();
 
-        Member member = memberRepository.findByIdAndIsDeletedFalse(memberId)
-                .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
+        // 회원 상태가 담긴 토큰은 폐기(정지/탈퇴/로그아웃)되지 않았다면 Redis/DB 조회 없이 인증
+        Long memberId = claims.memberId();
+        if (statelessAuthProperties.isEnabled() && memberId != null
+                && !tokenRevocationService.isRevoked(uuid, claims.issuedAt())) {
+            boolean isBanned = Boolean.TRUE.equals(claims.banned());
+            return createAuthentication(CustomUserDetails.fromClaims(uuid, role, memberId, isBanned));
+        }
 
-        CustomUserDetails customUserDetails = new CustomUserDetails(member);
+        return createAuthentication(principalCacheService.get(uuid, () -> loadUserDetails(uuid)));
+    }
 
+    private Authentication createAuthentication(CustomUserDetails customUserDetails) {
         return new UsernamePasswordAuthenticationToken(
                 customUserDetails,
                 null,
                 customUserDetails.getAuthorities()
         );
     }
+
+    private CustomUserDetails loadUserDetails(String uuid) {
+        Long memberId = redisAuthService.getMemberId(uuid)
+                .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
+
+        Member member = memberRepository.findByIdAndIsDeletedFalse(memberId)
+                .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
+
+        return new CustomUserDetails(member);
+    }
+
+    private static Duration timeToExpire(VerifiedClaims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package tetoandeggens.seeyouagainbe.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static tetoandeggens.seeyouagainbe.global.constants.AuthCommonConstants.*;
+
+// 서명과 만료 검증을 마친 토큰의 클레임 - 불변이므로 검증 캐시에 담아 여러 스레드가 그대로 공유함
+public record VerifiedClaims(
+        String subject,
+        String role,
+        Long memberId,
+        Boolean banned,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    static VerifiedClaims from(Claims claims) {
+        return new VerifiedClaims(
+                claims.getSubject(),
+                claims.get(ROLE_CLAIM, String.class),
+                claims.get(CLAIM_MEMBER_ID, Long.class),
+                claims.get(CLAIM_BANNED, Boolean.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
@@ -7,11 +7,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tetoandeggens.seeyouagainbe.auth.dto.PhoneVerificationSession;
+import tetoandeggens.seeyouagainbe.auth.dto.TempSocialInfo;
 import tetoandeggens.seeyouagainbe.auth.dto.request.AccountRestoreRequest;
 import tetoandeggens.seeyouagainbe.auth.dto.request.UnifiedRegisterRequest;
 import tetoandeggens.seeyouagainbe.auth.dto.request.WithdrawalRequest;
 import tetoandeggens.seeyouagainbe.auth.dto.response.PhoneVerificationResultResponse;
 import tetoandeggens.seeyouagainbe.auth.jwt.TokenProvider;
+import tetoandeggens.seeyouagainbe.auth.jwt.VerifiedClaims;
 import tetoandeggens.seeyouagainbe.auth.oauth2.common.provider.OAuth2UnlinkServiceProvider;
 import tetoandeggens.seeyouagainbe.auth.util.GeneratorRandomUtil;
 import tetoandeggens.seeyouagainbe.member.entity.Member;
@@ -34,6 +37,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final RedisAuthService redisAuthService;
+    private final SessionRevocationService sessionRevocationService;
+    private final PrincipalCacheService principalCacheService;
+    private final TokenRevocationService tokenRevocationService;
     private final CookieService cookieService;
     private final EmailService emailService;
     private final SocialAccountLinkStrategy socialAccountLinkStrategy;
@@ -71,6 +77,7 @@ public class AuthService {
                         .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
 
         member.restoreAccount();
+        principalCacheService.evict(member.getUuid());
 
         redisAuthService.deletePhoneVerification(request.phoneNumber());
         redisAuthService.clearSocialPhoneData(request.phoneNumber());
@@ -84,10 +91,9 @@ public class AuthService {
             throw new CustomException(REFRESH_TOKEN_NOT_FOUND);
         }
 
-        tokenProvider.validateToken(refreshToken);
-
-        String uuid = tokenProvider.parseClaims(refreshToken).getSubject();
-        String role = tokenProvider.parseClaims(refreshToken).get("role", String.class);
+        VerifiedClaims claims = tokenProvider.verifyClaims(refreshToken);
+        String uuid = claims.subject();
+        String role = claims.role();
 
         String storedRefreshToken = redisAuthService.getRefreshToken(uuid)
                 .orElseThrow(() -> new CustomException(REFRESH_TOKEN_NOT_FOUND));
@@ -123,8 +129,7 @@ public class AuthService {
         String code = GeneratorRandomUtil.generateRandomNum();
         LocalDateTime now = LocalDateTime.now();
 
-        redisAuthService.saveVerificationCode(phone, code);
-        redisAuthService.saveVerificationTime(phone, now.toString());
+        redisAuthService.saveVerificationCode(phone, code, now.toString());
 
         String emailAddress = emailService.getServerEmail();
         return new PhoneVerificationResultResponse(code, emailAddress);
@@ -132,21 +137,16 @@ public class AuthService {
 
     @Transactional
     public void verifyPhoneCode(String phone) {
-        String code = redisAuthService.getVerificationCode(phone)
-                .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
-
-        String time = redisAuthService.getVerificationTime(phone)
+        PhoneVerificationSession session = redisAuthService.getVerificationSession(phone)
                 .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
 
-        LocalDateTime createdAt = LocalDateTime.parse(time);
-        boolean isValid = emailService.extractCodeByPhoneNumber(code, phone, createdAt);
+        LocalDateTime createdAt = LocalDateTime.parse(session.time());
+        boolean isValid = emailService.extractCodeByPhoneNumber(session.code(), phone, createdAt);
 
-        if (!isValid) {
+        // 메일 확인 사이에 코드가 재발송되었거나 이미 인증에 사용되었으면 거부
+        if (!isValid || !redisAuthService.consumeVerificationCode(phone, session.code())) {
             throw new CustomException(INVALID_VERIFICATION_CODE);
         }
-
-        redisAuthService.deleteVerificationData(phone);
-        redisAuthService.markPhoneAsVerified(phone);
     }
 
     @Transactional
@@ -161,6 +161,9 @@ public class AuthService {
         unlinkAllSocialAccounts(member);
         redisAuthService.deleteRefreshToken(uuid);
         redisAuthService.deleteMemberId(uuid);
+        sessionRevocationService.revoke(uuid);
+        principalCacheService.evict(uuid);
+        tokenRevocationService.revoke(uuid);
 
         member.updateDeleteStatus();
     }
@@ -188,17 +191,15 @@ public class AuthService {
             return new SocialInfo(null, null, null, request.profileImageUrl());
         }
 
-        String tempUuid = request.tempUuid();
-
-        String provider = redisAuthService.getTempSocialProvider(tempUuid)
+        TempSocialInfo tempSocialInfo = redisAuthService.getTempSocialInfo(request.tempUuid())
                 .orElseThrow(() -> new CustomException(REAUTH_TOKEN_NOT_FOUND));
 
-        String socialId = redisAuthService.getTempSocialId(tempUuid)
-                .orElseThrow(() -> new CustomException(REAUTH_TOKEN_NOT_FOUND));
-
-        String refreshToken = redisAuthService.getTempSocialRefreshToken(tempUuid).orElse(null);
-
-        return new SocialInfo(provider, socialId, refreshToken, request.profileImageUrl());
+        return new SocialInfo(
+                tempSocialInfo.provider(),
+                tempSocialInfo.socialId(),
+                tempSocialInfo.refreshToken(),
+                request.profileImageUrl()
+        );
     }
 
     private Member buildMember(UnifiedRegisterRequest request, SocialInfo socialInfo) {
@@ -227,9 +228,7 @@ public class AuthService {
 
     private void cleanupRedisAfterRegister(UnifiedRegisterRequest request, SocialInfo socialInfo) {
         if (request.hasSocialInfo()) {
-            String tempUuid = request.tempUuid();
-            redisAuthService.clearSocialPhoneData(request.phoneNumber());
-            redisAuthService.deleteTempSocialInfo(tempUuid);
+            redisAuthService.clearSocialSignupData(request.phoneNumber(), request.tempUuid());
         } else {
             redisAuthService.deletePhoneVerification(request.phoneNumber());
         }
@@ -6,20 +6,21 @@ import jakarta.mail.search.ReceivedDateTerm;
 import jakarta.mail.search.SearchTerm;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import tetoandeggens.seeyouagainbe.auth.dto.ImapCredentials;
-import tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConstants;
+import tetoandeggens.seeyouagainbe.auth.dto.InboundVerificationMail;
+import tetoandeggens.seeyouagainbe.auth.util.VerificationMailParser;
+import tetoandeggens.seeyouagainbe.global.config.VerificationMailProperties;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConstants.*;
 
@@ -28,14 +29,60 @@ import static tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConst
 @RequiredArgsConstructor
 public class EmailService {
 
+    // 인증 세션 시각은 서버 시계, 메일 수신 시각은 메일 서버 시계 기준이므로 그 차이만큼 여유를 둠
+    private static final Duration CLOCK_SKEW_TOLERANCE = Duration.ofMinutes(1);
+
     private final Properties imapConnectionProperties;
     private final ImapCredentials imapCredentials;
+    private final RedisAuthService redisAuthService;
+    private final VerificationMailListener verificationMailListener;
+    private final VerificationMailProperties verificationMailProperties;
 
     public String getServerEmail() {
         return imapCredentials.userName();
     }
 
+    // 리스너가 미리 색인한 (번호, 코드)를 먼저 조회하고, 리스너가 연결되어 있지 않거나 Redis를 쓸 수 없을 때만 메일함을 직접 검색
     public boolean extractCodeByPhoneNumber(String code, String phone, LocalDateTime since) {
+        Instant sinceInstant = since.atZone(ZoneId.systemDefault()).toInstant();
+        try {
+            Optional<Instant> receivedAt = redisAuthService.getInboundVerificationReceivedAt(phone, code);
+            if (receivedAt.isEmpty() && verificationMailListener.isListening()) {
+                receivedAt = awaitIndexed(code, phone);
+                if (receivedAt.isEmpty()) {
+                    log.info("[IMAP] 색인된 인증 문자 없음 - phone: {}", phone);
+                    return false;
+                }
+            }
+            if (receivedAt.isPresent()) {
+                return !receivedAt.get().isBefore(sinceInstant.minus(CLOCK_SKEW_TOLERANCE));
+            }
+        } catch (DataAccessException e) {
+            log.warn("[IMAP] 인증 문자 색인 조회 실패, 메일함 직접 검색 - phone: {}", phone, e);
+        }
+        return searchMailbox(code, phone, since);
+    }
+
+    // 사용자가 문자를 보내자마자 확인을 누르면 리스너가 아직 색인하지 못했을 수 있어 잠시 다시 조회함
+    private Optional<Instant> awaitIndexed(String code, String phone) {
+        long deadline = System.nanoTime() + verificationMailProperties.getIndexWaitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(verificationMailProperties.getIndexRetryInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            Optional<Instant> receivedAt = redisAuthService.getInboundVerificationReceivedAt(phone, code);
+            if (receivedAt.isPresent()) {
+                return receivedAt;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean searchMailbox(String code, String phone, LocalDateTime since) {
         Store store = null;
         Folder inbox = null;
         log.info("[IMAP] 인증 시작 - phone: {}, code: {}, since: {}", phone, code, since);
@@ -104,24 +151,14 @@ public class EmailService {
 
         for (Message message : messages) {
             try {
-                Address[] from = message.getFrom();
-                String fromAddr = (from != null && from.length > 0) ? from[0].toString() : "null";
-                log.info("[IMAP] 메시지 확인 - From: {}, Subject: {}",
-                        fromAddr, message.getSubject());
-
-                if (isFromPhoneNumber(message, phone)) {
-                    log.info("[IMAP] 전화번호 매칭 성공 - From: {}", fromAddr);
-
-                    String mailCode = extractCodeFromMessageContent(message);
-                    log.info("[IMAP] 추출된 코드: {}, 기대 코드: {}", mailCode, code);
-
-                    if (mailCode != null && code.equals(mailCode)) {
-                        log.info("[IMAP] 코드 검증 성공!");
-                        return true;
-                    }
-                } else {
-                    log.debug("[IMAP] 전화번호 불일치 - From: {}, 찾는 번호: {}",
-                            fromAddr, phone);
+                Optional<InboundVerificationMail> mail = VerificationMailParser.parse(message);
+                log.info("[IMAP] 메시지 확인 - 보낸 번호: {}, 추출된 코드: {}",
+                        mail.map(InboundVerificationMail::phone).orElse(null),
+                        mail.map(InboundVerificationMail::code).orElse(null));
+
+                if (mail.isPresent() && phone.equals(mail.get().phone()) && code.equals(mail.get().code())) {
+                    log.info("[IMAP] 코드 검증 성공!");
+                    return true;
                 }
             } catch (Exception e) {
                 log.error("[IMAP] 메시지 처리 중 오류", e);
@@ -131,87 +168,6 @@ public class EmailService {
         return false;
     }
 
-    private boolean isFromPhoneNumber(Message message, String phone) {
-        try {
-            Address[] from = message.getFrom();
-            if (from == null || from.length == 0) {
-                return false;
-            }
-            String fromAddress = from[0].toString();
-            boolean matches = fromAddress.contains(phone + AT);
-
-            log.debug("[IMAP] isFromPhoneNumber - fromAddress: {}, phone: {}, matches: {}",
-                    fromAddress, phone, matches);
-
-            return matches;
-        } catch (MessagingException e) {
-            log.error("[IMAP] isFromPhoneNumber 오류", e);
-            return false;
-        }
-    }
-
-    private String extractCodeFromMessageContent(Message message) {
-        try {
-            // LG U+: 단순 텍스트 본문
-            if (message.isMimeType(TEXT)) {
-                String content = (String) message.getContent();
-                return extractCode(content);
-            }
-
-            // KT: multipart (본문 + 첨부파일)
-            if (message.isMimeType(MULTIPART)) {
-                return extractFromMultipart(message);
-            }
-            return null;
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private String extractFromMultipart(Message message) throws MessagingException, IOException {
-        Multipart multipart = (Multipart) message.getContent();
-
-        for (int i = 0; i < multipart.getCount(); i++) {
-            BodyPart bodyPart = multipart.getBodyPart(i);
-
-            if (bodyPart.isMimeType(TEXT)) {
-                String content = (String) bodyPart.getContent();
-                String code = extractCode(content);
-                if (code != null) {
-                    return code;
-                }
-            }
-
-            // 텍스트 파일 첨부에서 토큰 찾기 (아이폰 KT)
-            if (isTextFile(bodyPart)) {
-                InputStream inputStream = bodyPart.getInputStream();
-                String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-                String code = extractCode(content);
-                if (code != null) {
-                    return code;
-                }
-            }
-        }
-        return null;
-    }
-
-    private boolean isTextFile(BodyPart bodyPart) throws MessagingException {
-        String fileName = bodyPart.getFileName();
-        return fileName != null && fileName.toLowerCase().endsWith(TXT);
-    }
-
-    private String extractCode(String content) {
-        if (content == null) {
-            return null;
-        }
-        Pattern pattern = Pattern.compile(AuthVerificationConstants.VERIFICATION_CODE_PATTERN);
-        Matcher matcher = pattern.matcher(content);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        return null;
-    }
-
     private void closeConnections(Folder inbox, Store store) {
         try {
             if (inbox != null && inbox.isOpen()) {
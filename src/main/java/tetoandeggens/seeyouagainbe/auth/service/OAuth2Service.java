@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tetoandeggens.seeyouagainbe.auth.dto.SocialPhoneVerificationSession;
+import tetoandeggens.seeyouagainbe.auth.dto.TempSocialInfo;
 import tetoandeggens.seeyouagainbe.auth.dto.response.LoginResponse;
 import tetoandeggens.seeyouagainbe.auth.dto.response.PhoneVerificationResultResponse;
 import tetoandeggens.seeyouagainbe.auth.dto.response.SocialLoginResultResponse;
@@ -39,20 +41,20 @@ public class OAuth2Service {
 
     @Transactional
     public PhoneVerificationResultResponse sendSocialPhoneVerificationCode(String phone, String tempUuid) {
-        String provider = redisAuthService.getTempSocialProvider(tempUuid)
-                .orElseThrow(() -> new CustomException(REAUTH_TOKEN_NOT_FOUND));
-
-        String socialId = redisAuthService.getTempSocialId(tempUuid)
+        TempSocialInfo tempSocialInfo = redisAuthService.getTempSocialInfo(tempUuid)
                 .orElseThrow(() -> new CustomException(REAUTH_TOKEN_NOT_FOUND));
 
         String code = GeneratorRandomUtil.generateRandomNum();
         LocalDateTime now = LocalDateTime.now();
 
-        redisAuthService.saveSocialVerificationCode(phone, code);
-        redisAuthService.saveSocialVerificationTime(phone, now.toString());
-        redisAuthService.saveSocialProvider(phone, provider);
-        redisAuthService.saveSocialId(phone, socialId);
-        redisAuthService.saveSocialTempUuid(phone, tempUuid);
+        redisAuthService.saveSocialVerificationCode(
+                phone,
+                code,
+                now.toString(),
+                tempSocialInfo.provider(),
+                tempSocialInfo.socialId(),
+                tempUuid
+        );
 
         String emailAddress = emailService.getServerEmail();
         return new PhoneVerificationResultResponse(code, emailAddress);
@@ -60,28 +62,18 @@ public class OAuth2Service {
 
     @Transactional
     public SocialLoginResultResponse verifySocialPhoneCode(String phone, HttpServletResponse response) {
-        String code = redisAuthService.getSocialVerificationCode(phone)
-                .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
-
-        String time = redisAuthService.getSocialVerificationTime(phone)
-                .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
-
-        String provider = redisAuthService.getSocialProvider(phone)
-                .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
-
-        String socialId = redisAuthService.getSocialId(phone)
+        SocialPhoneVerificationSession session = redisAuthService.getSocialVerificationSession(phone)
+                .filter(SocialPhoneVerificationSession::hasPendingCode)
                 .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
 
-        LocalDateTime createdAt = LocalDateTime.parse(time);
-        boolean isValid = emailService.extractCodeByPhoneNumber(code, phone, createdAt);
+        LocalDateTime createdAt = LocalDateTime.parse(session.time());
+        boolean isValid = emailService.extractCodeByPhoneNumber(session.code(), phone, createdAt);
 
-        if (!isValid) {
+        // 메일 확인 사이에 코드가 재발송되었거나 이미 인증에 사용되었으면 거부
+        if (!isValid || !redisAuthService.consumeSocialVerificationCode(phone, session.code())) {
             throw new CustomException(INVALID_VERIFICATION_CODE);
         }
 
-        redisAuthService.markSocialPhoneAsVerified(phone);
-        redisAuthService.deleteSocialVerificationData(phone);
-
         Member member = memberRepository.findByPhoneNumberAndIsDeletedFalse(phone)
                 .orElse(null);
 
@@ -94,20 +86,21 @@ public class OAuth2Service {
 
     @Transactional
     public SocialLoginResultResponse linkSocialAccount(String phone, HttpServletResponse response) {
-        if (!redisAuthService.isSocialPhoneVerified(phone)) {
-            throw new CustomException(PHONE_NOT_VERIFIED);
-        }
+        SocialPhoneVerificationSession session = redisAuthService.getSocialVerificationSession(phone)
+                .filter(SocialPhoneVerificationSession::verified)
+                .orElseThrow(() -> new CustomException(PHONE_NOT_VERIFIED));
 
-        String socialId = redisAuthService.getSocialId(phone)
-                .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
+        String socialId = session.socialId();
+        String provider = session.provider();
 
-        String provider = redisAuthService.getSocialProvider(phone)
-                .orElseThrow(() -> new CustomException(INVALID_VERIFICATION_CODE));
+        if (socialId == null || provider == null) {
+            throw new CustomException(INVALID_VERIFICATION_CODE);
+        }
 
         Member member = memberRepository.findByPhoneNumberAndIsDeletedFalse(phone)
                 .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
 
-        String tempUuid = redisAuthService.getSocialTempUuid(phone).orElse(null);
+        String tempUuid = session.tempUuid();
         String refreshToken = null;
 
         if (tempUuid != null) {
@@ -199,10 +192,6 @@ public class OAuth2Service {
     }
 
     private void cleanupSocialRedisData(String phone, String tempUuid) {
-        redisAuthService.clearSocialPhoneData(phone);
-
-        if (tempUuid != null) {
-            redisAuthService.deleteTempSocialInfo(tempUuid);
-        }
+        redisAuthService.clearSocialSignupData(phone, tempUuid);
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
+import tetoandeggens.seeyouagainbe.global.config.PrincipalCacheProperties;
+
+import java.util.function.Supplier;
+
+// 인증된 요청마다 Redis(uuid -> memberId) + DB(회원 조회)를 거치지 않도록 토큰 subject(uuid) 기준으로 CustomUserDetails를 로컬에 캐싱
+// 정지/탈퇴/복구/로그아웃 시 Redis pub/sub으로 전 노드의 캐시를 무효화하고, 메시지를 놓쳐도 TTL 안에는 반영됨
+@Slf4j
+@Service
+public class PrincipalCacheService {
+
+    private static final String CACHE_NAME = "auth.principal";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChannelTopic principalCacheTopic;
+    private final PrincipalCacheProperties principalCacheProperties;
+    private final Cache<String, CustomUserDetails> principals;
+
+    public PrincipalCacheService(RedisTemplate<String, String> redisTemplate, ChannelTopic principalCacheTopic,
+            PrincipalCacheProperties principalCacheProperties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.principalCacheTopic = principalCacheTopic;
+        this.principalCacheProperties = principalCacheProperties;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(principalCacheProperties.getMaxSize())
+                .expireAfterWrite(principalCacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, CACHE_NAME);
+    }
+
+    // loader가 예외를 던지면(회원 없음 등) 캐싱하지 않음
+    public CustomUserDetails get(String uuid, Supplier<CustomUserDetails> loader) {
+        if (!principalCacheProperties.isEnabled()) {
+            return loader.get();
+        }
+
+        CustomUserDetails cached = principals.getIfPresent(uuid);
+        if (cached != null) {
+            return cached;
+        }
+
+        CustomUserDetails principal = loader.get();
+        principals.put(uuid, principal);
+        return principal;
+    }
+
+    // 커밋 이후에 지워야 다른 요청이 커밋 전 회원 상태를 다시 캐싱하지 않음
+    public void evict(String uuid) {
+        if (!principalCacheProperties.isEnabled() || uuid == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll(uuid);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll(uuid);
+            }
+        });
+    }
+
+    // Redis 구독 메시지 처리 - 다른 노드(자신 포함)에서 발생한 무효화를 로컬 캐시에 반영
+    public void invalidateLocal(String uuid) {
+        principals.invalidate(uuid);
+    }
+
+    private void evictAll(String uuid) {
+        principals.invalidate(uuid);
+        try {
+            redisTemplate.convertAndSend(principalCacheTopic.getTopic(), uuid);
+        } catch (DataAccessException e) {
+            log.warn("인증 주체 캐시 무효화 전파 실패 - uuid: {}", uuid, e);
+        }
+    }
+}
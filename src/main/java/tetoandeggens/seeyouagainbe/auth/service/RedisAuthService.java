@@ -2,212 +2,223 @@ package tetoandeggens.seeyouagainbe.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import tetoandeggens.seeyouagainbe.auth.dto.InboundVerificationMail;
+import tetoandeggens.seeyouagainbe.auth.dto.PhoneVerificationSession;
+import tetoandeggens.seeyouagainbe.auth.dto.SocialPhoneVerificationSession;
+import tetoandeggens.seeyouagainbe.auth.dto.TempSocialInfo;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConstants.*;
 
+// 휴대폰 인증/소셜 임시 정보는 세션 하나당 Hash 하나에 담고 TTL은 Hash 키에 걸어, 저장·조회·정리를 각각 한 번의 왕복으로 처리
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisAuthService { // Redis를 사용한 인증 관련 데이터 관리 서비스
 
+    // 확인한 코드가 아직 세션에 남아 있을 때만 코드를 지우고 인증 완료로 바꿈 (같은 코드로 두 번 인증되거나 재발송된 코드와 섞이지 않도록)
+    static final RedisScript<Long> CONSUME_VERIFICATION_CODE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('HSET', KEYS[1], ARGV[4], ARGV[5])
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            return 1
+            """, Long.class);
+
+    // 리스를 가진 노드만 연장하고, 수신 대기 중일 때만 대기 표시를 같은 TTL로 남김
+    static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if ARGV[3] == '1' then
+                redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+            else
+                redis.call('DEL', KEYS[2])
+            end
+            return 1
+            """, Long.class);
+
+    // 리스가 만료되어 다른 노드가 가져갔으면 그 노드의 리스는 지우지 않음
+    static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1], KEYS[2])
+            """, Long.class);
+
+    private static final Duration VERIFICATION_TTL = Duration.ofMinutes(VERIFICATION_TIME);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     // ============ 일반 휴대폰 인증 ============
 
-    public void saveVerificationCode(String phone, String code) {
-        redisTemplate.opsForValue().set(
-                PREFIX_VERIFICATION_CODE + phone,
-                code,
-                Duration.ofMinutes(VERIFICATION_TIME)
-        );
-    }
-
-    public void saveVerificationTime(String phone, String time) {
-        redisTemplate.opsForValue().set(
-                PREFIX_VERIFICATION_TIME + phone,
-                time,
-                Duration.ofMinutes(VERIFICATION_TIME)
-        );
-    }
-
-    public Optional<String> getVerificationCode(String phone) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_VERIFICATION_CODE + phone)
-        );
+    public void saveVerificationCode(String phone, String code, String time) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_CODE, code);
+        fields.put(FIELD_TIME, time);
+        putAllWithTtl(PREFIX_PHONE_VERIFICATION + phone, fields);
     }
 
-    public Optional<String> getVerificationTime(String phone) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_VERIFICATION_TIME + phone)
-        );
+    public Optional<PhoneVerificationSession> getVerificationSession(String phone) {
+        List<String> values = multiGet(PREFIX_PHONE_VERIFICATION + phone, FIELD_CODE, FIELD_TIME);
+        if (values.get(0) == null || values.get(1) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new PhoneVerificationSession(values.get(0), values.get(1)));
     }
 
-    public void markPhoneAsVerified(String phone) {
-        redisTemplate.opsForValue().set(
-                phone,
-                VERIFIED,
-                Duration.ofMinutes(VERIFICATION_TIME)
-        );
+    public boolean consumeVerificationCode(String phone, String code) {
+        return consumeCode(PREFIX_PHONE_VERIFICATION + phone, code);
     }
 
     public boolean isPhoneVerified(String phone) {
-        String verified = redisTemplate.opsForValue().get(phone);
-        return VERIFIED.equals(verified);
-    }
-
-    public void deleteVerificationData(String phone) {
-        redisTemplate.delete(PREFIX_VERIFICATION_CODE + phone);
-        redisTemplate.delete(PREFIX_VERIFICATION_TIME + phone);
+        return VERIFIED.equals(
+                redisTemplate.<String, String>opsForHash().get(PREFIX_PHONE_VERIFICATION + phone, FIELD_VERIFIED)
+        );
     }
 
     public void deletePhoneVerification(String phone) {
-        redisTemplate.delete(phone);
+        redisTemplate.delete(PREFIX_PHONE_VERIFICATION + phone);
     }
 
     // ============ 소셜 로그인 휴대폰 인증 ============
 
-    public void saveSocialVerificationCode(String phone, String code) {
-        redisTemplate.opsForValue().set(
-                PREFIX_SOCIAL_VERIFICATION_CODE + phone,
-                code,
-                Duration.ofMinutes(VERIFICATION_TIME)
-        );
+    public void saveSocialVerificationCode(String phone, String code, String time, String provider,
+            String socialId, String tempUuid) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_CODE, code);
+        fields.put(FIELD_TIME, time);
+        fields.put(FIELD_PROVIDER, provider);
+        fields.put(FIELD_SOCIAL_ID, socialId);
+        fields.put(FIELD_TEMP_UUID, tempUuid);
+        putAllWithTtl(PREFIX_SOCIAL_PHONE_VERIFICATION + phone, fields);
+    }
+
+    public Optional<SocialPhoneVerificationSession> getSocialVerificationSession(String phone) {
+        List<String> values = multiGet(PREFIX_SOCIAL_PHONE_VERIFICATION + phone,
+                FIELD_CODE, FIELD_TIME, FIELD_PROVIDER, FIELD_SOCIAL_ID, FIELD_TEMP_UUID, FIELD_VERIFIED);
+        if (values.stream().allMatch(value -> value == null)) {
+            return Optional.empty();
+        }
+        return Optional.of(new SocialPhoneVerificationSession(
+                values.get(0),
+                values.get(1),
+                values.get(2),
+                values.get(3),
+                values.get(4),
+                VERIFIED.equals(values.get(5))
+        ));
     }
 
-    public void saveSocialVerificationTime(String phone, String time) {
-        redisTemplate.opsForValue().set(
-                PREFIX_SOCIAL_VERIFICATION_TIME + phone,
-                time,
-                Duration.ofMinutes(VERIFICATION_TIME)
-        );
+    public boolean consumeSocialVerificationCode(String phone, String code) {
+        return consumeCode(PREFIX_SOCIAL_PHONE_VERIFICATION + phone, code);
     }
 
-    public void saveSocialProvider(String phone, String provider) {
-        redisTemplate.opsForValue().set(
-                PREFIX_SOCIAL_PROVIDER + phone,
-                provider,
-                Duration.ofMinutes(VERIFICATION_TIME)
+    public boolean isSocialPhoneVerified(String phone) {
+        return VERIFIED.equals(
+                redisTemplate.<String, String>opsForHash().get(PREFIX_SOCIAL_PHONE_VERIFICATION + phone, FIELD_VERIFIED)
         );
     }
 
-    public void saveSocialId(String phone, String socialId) {
-        redisTemplate.opsForValue().set(
-                PREFIX_SOCIAL_ID + phone,
-                socialId,
-                Duration.ofMinutes(VERIFICATION_TIME)
-        );
+    public void clearSocialPhoneData(String phone) {
+        redisTemplate.delete(PREFIX_SOCIAL_PHONE_VERIFICATION + phone);
     }
 
-    public void saveSocialTempUuid(String phone, String tempUuid) {
-        redisTemplate.opsForValue().set(
-                PREFIX_SOCIAL_TEMP_UUID + phone,
-                tempUuid,
-                Duration.ofMinutes(VERIFICATION_TIME)
-        );
+    // 소셜 연동/가입을 마친 뒤 휴대폰 인증 세션과 tempUuid 임시 정보를 한 번에 정리
+    public void clearSocialSignupData(String phone, String tempUuid) {
+        if (tempUuid == null) {
+            clearSocialPhoneData(phone);
+            return;
+        }
+        redisTemplate.delete(List.of(PREFIX_SOCIAL_PHONE_VERIFICATION + phone, PREFIX_TEMP_SOCIAL + tempUuid));
     }
 
-    public Optional<String> getSocialVerificationCode(String phone) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_SOCIAL_VERIFICATION_CODE + phone)
-        );
-    }
+    // ============ 소셜 임시 정보 (tempUuid 기반) ============
 
-    public Optional<String> getSocialVerificationTime(String phone) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_SOCIAL_VERIFICATION_TIME + phone)
-        );
-    }
+    public void saveTempSocialInfo(String tempUuid, String provider, String socialId, String refreshToken) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_PROVIDER, provider);
+        fields.put(FIELD_SOCIAL_ID, socialId);
 
-    public Optional<String> getSocialProvider(String phone) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_SOCIAL_PROVIDER + phone)
-        );
-    }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            fields.put(FIELD_REFRESH_TOKEN, refreshToken);
+        }
 
-    public Optional<String> getSocialId(String phone) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_SOCIAL_ID + phone)
-        );
+        putAllWithTtl(PREFIX_TEMP_SOCIAL + tempUuid, fields);
     }
 
-    public Optional<String> getSocialTempUuid(String phone) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_SOCIAL_TEMP_UUID + phone)
-        );
+    public Optional<TempSocialInfo> getTempSocialInfo(String tempUuid) {
+        List<String> values = multiGet(PREFIX_TEMP_SOCIAL + tempUuid,
+                FIELD_PROVIDER, FIELD_SOCIAL_ID, FIELD_REFRESH_TOKEN);
+        if (values.get(0) == null || values.get(1) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TempSocialInfo(values.get(0), values.get(1), values.get(2)));
     }
 
-    public void markSocialPhoneAsVerified(String phone) {
-        redisTemplate.opsForValue().set(
-                PREFIX_SOCIAL_VERIFIED + phone,
-                VERIFIED,
-                Duration.ofMinutes(VERIFICATION_TIME)
+    public Optional<String> getTempSocialRefreshToken(String tempUuid) {
+        return Optional.ofNullable(
+                redisTemplate.<String, String>opsForHash().get(PREFIX_TEMP_SOCIAL + tempUuid, FIELD_REFRESH_TOKEN)
         );
     }
 
-    public boolean isSocialPhoneVerified(String phone) {
-        String verified = redisTemplate.opsForValue().get(PREFIX_SOCIAL_VERIFIED + phone);
-        return VERIFIED.equals(verified);
-    }
-
-    public void deleteSocialVerificationData(String phone) {
-        redisTemplate.delete(PREFIX_SOCIAL_VERIFICATION_CODE + phone);
-        redisTemplate.delete(PREFIX_SOCIAL_VERIFICATION_TIME + phone);
+    public void extendTempSocialInfoTTL(String tempUuid) {
+        redisTemplate.expire(PREFIX_TEMP_SOCIAL + tempUuid, VERIFICATION_TTL);
     }
 
-    public void clearSocialPhoneData(String phone) {
-        redisTemplate.delete(PREFIX_SOCIAL_VERIFIED + phone);
-        redisTemplate.delete(PREFIX_SOCIAL_PROVIDER + phone);
-        redisTemplate.delete(PREFIX_SOCIAL_ID + phone);
-        redisTemplate.delete(PREFIX_SOCIAL_TEMP_UUID + phone);
+    public void deleteTempSocialInfo(String tempUuid) {
+        redisTemplate.delete(PREFIX_TEMP_SOCIAL + tempUuid);
     }
 
-    // ============ 소셜 임시 정보 (tempUuid 기반) ============
-
-    public void saveTempSocialInfo(String tempUuid, String provider, String socialId, String refreshToken) {
-        Duration ttl = Duration.ofMinutes(VERIFICATION_TIME);
-
-        redisTemplate.opsForValue().set(PREFIX_TEMP_SOCIAL_PROVIDER + tempUuid, provider, ttl);
-        redisTemplate.opsForValue().set(PREFIX_TEMP_SOCIAL_ID + tempUuid, socialId, ttl);
+    // ============ 수신한 인증 문자 색인 ============
 
-        if (refreshToken != null && !refreshToken.isBlank()) {
-            redisTemplate.opsForValue().set(PREFIX_TEMP_SOCIAL_REFRESH + tempUuid, refreshToken, ttl);
-        }
+    // 같은 번호로 여러 코드가 올 수 있으므로 코드별 수신 시각을 남김 (인증 세션과 같은 TTL)
+    public void saveInboundVerification(InboundVerificationMail mail) {
+        putAllWithTtl(PREFIX_INBOUND_VERIFICATION + mail.phone(),
+                Map.of(mail.code(), String.valueOf(mail.receivedAt().toEpochMilli())));
     }
 
-    public Optional<String> getTempSocialProvider(String tempUuid) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_TEMP_SOCIAL_PROVIDER + tempUuid)
-        );
+    public Optional<Instant> getInboundVerificationReceivedAt(String phone, String code) {
+        String receivedAt = redisTemplate.<String, String>opsForHash().get(PREFIX_INBOUND_VERIFICATION + phone, code);
+        return Optional.ofNullable(receivedAt).map(Long::parseLong).map(Instant::ofEpochMilli);
     }
 
-    public Optional<String> getTempSocialId(String tempUuid) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_TEMP_SOCIAL_ID + tempUuid)
-        );
+    public boolean acquireVerificationMailLease(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(VERIFICATION_MAIL_LEASE, owner, ttl));
     }
 
-    public Optional<String> getTempSocialRefreshToken(String tempUuid) {
-        return Optional.ofNullable(
-                redisTemplate.opsForValue().get(PREFIX_TEMP_SOCIAL_REFRESH + tempUuid)
+    public boolean renewVerificationMailLease(String owner, Duration ttl, boolean listening) {
+        Long renewed = redisTemplate.execute(
+                RENEW_LEASE_SCRIPT,
+                List.of(VERIFICATION_MAIL_LEASE, VERIFICATION_MAIL_LISTENING),
+                owner, String.valueOf(ttl.toMillis()), listening ? "1" : "0"
         );
+        return renewed != null && renewed == 1L;
     }
 
-    public void extendTempSocialInfoTTL(String tempUuid) {
-        Duration ttl = Duration.ofMinutes(VERIFICATION_TIME);
-        redisTemplate.expire(PREFIX_TEMP_SOCIAL_PROVIDER + tempUuid, ttl);
-        redisTemplate.expire(PREFIX_TEMP_SOCIAL_ID + tempUuid, ttl);
-        redisTemplate.expire(PREFIX_TEMP_SOCIAL_REFRESH + tempUuid, ttl);
+    public void releaseVerificationMailLease(String owner) {
+        redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(VERIFICATION_MAIL_LEASE, VERIFICATION_MAIL_LISTENING), owner);
     }
 
-    public void deleteTempSocialInfo(String tempUuid) {
-        redisTemplate.delete(PREFIX_TEMP_SOCIAL_PROVIDER + tempUuid);
-        redisTemplate.delete(PREFIX_TEMP_SOCIAL_ID + tempUuid);
-        redisTemplate.delete(PREFIX_TEMP_SOCIAL_REFRESH + tempUuid);
+    // 어느 노드든 메일함 수신 대기 중이면 색인이 최신 상태임
+    public boolean isVerificationMailListening() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(VERIFICATION_MAIL_LISTENING));
     }
 
     // ============ JWT Token 관리 (RefreshToken + MemberId) ============
@@ -246,4 +257,32 @@ public class RedisAuthService { // Redis를 사용한 인증 관련 데이터 
     public void deleteMemberId(String uuid) {
         redisTemplate.delete(PREFIX_MEMBER_ID + uuid);
     }
+
+    // 필드 저장과 TTL 설정을 파이프라인으로 묶어 한 번의 왕복으로 보냄
+    private void putAllWithTtl(String key, Map<String, String> fields) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                stringOperations.opsForHash().putAll(key, fields);
+                stringOperations.expire(key, VERIFICATION_TTL);
+                return null;
+            }
+        });
+    }
+
+    private List<String> multiGet(String key, String... fields) {
+        List<String> values = redisTemplate.<String, String>opsForHash().multiGet(key, List.of(fields));
+        return values != null ? values : Collections.nCopies(fields.length, null);
+    }
+
+    private boolean consumeCode(String key, String code) {
+        Long consumed = redisTemplate.execute(
+                CONSUME_VERIFICATION_CODE_SCRIPT,
+                List.of(key),
+                FIELD_CODE, code, FIELD_TIME, FIELD_VERIFIED, VERIFIED, String.valueOf(VERIFICATION_TTL.toMillis())
+        );
+        return consumed != null && consumed == 1L;
+    }
 }
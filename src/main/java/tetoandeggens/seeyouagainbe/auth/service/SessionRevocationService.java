@@ -0,0 +1,58 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tetoandeggens.seeyouagainbe.auth.event.MemberSessionRevokedEvent;
+
+// 로그아웃/탈퇴/정지된 회원의 세션 정보를 들고 있는 곳(WebSocket 세션 토큰 캐시 등)에 알림
+// Redis pub/sub으로 전 노드에 전파하고, 각 노드는 MemberSessionRevokedEvent로 로컬 구독자에게 넘김
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionRevocationService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChannelTopic sessionRevocationTopic;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // 커밋 이후에 알려야 재검증에서 커밋 전 회원 상태(정지 전 등)를 읽지 않음
+    public void revoke(String uuid) {
+        if (uuid == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokeAll(uuid);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokeAll(uuid);
+            }
+        });
+    }
+
+    // Redis 구독 메시지 처리 - 다른 노드(자신 포함)에서 끊은 회원의 세션을 로컬에 반영
+    public void revokeLocal(String uuid) {
+        applicationEventPublisher.publishEvent(new MemberSessionRevokedEvent(uuid));
+    }
+
+    // 전파에 실패해도 이 노드의 세션은 바로 끊고, 다른 노드의 세션은 토큰 만료 시 재검증에서 걸러짐
+    private void revokeAll(String uuid) {
+        revokeLocal(uuid);
+        try {
+            redisTemplate.convertAndSend(sessionRevocationTopic.getTopic(), uuid);
+        } catch (DataAccessException e) {
+            log.warn("세션 폐기 전파 실패 - uuid: {}", uuid, e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tetoandeggens.seeyouagainbe.auth.util.BloomFilter;
+import tetoandeggens.seeyouagainbe.global.config.StatelessAuthProperties;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConstants.*;
+
+// 회원 상태를 담은 Access Token(stateless-auth)의 폐기 목록
+// 폐기된 uuid는 Redis sorted set(uuid -> 폐기 시각)에 기록하고 pub/sub으로 전 노드의 로컬 Bloom 필터에 추가함
+// 요청 경로는 필터에 없으면 네트워크 없이 통과하고, 필터에 걸린 경우에만 Redis로 폐기 시각을 확인함
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final String METRIC_PREFIX = "auth.revocation.";
+    // 필터를 다시 만드는 동안 들어온 폐기는 새 필터에 빠질 수 있으므로 이 시간만큼 거슬러 올라가 다시 담음 (노드 간 시계 오차 포함)
+    private static final long REBUILD_OVERLAP_MS = 5_000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChannelTopic tokenRevocationTopic;
+    private final StatelessAuthProperties statelessAuthProperties;
+    private final long accessTokenExpirationMs;
+    private final Counter filterHitCounter;
+    private final Counter confirmedCounter;
+
+    private volatile BloomFilter revokedUuids;
+
+    public TokenRevocationService(RedisTemplate<String, String> redisTemplate, ChannelTopic tokenRevocationTopic,
+            StatelessAuthProperties statelessAuthProperties,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpirationMs, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.tokenRevocationTopic = tokenRevocationTopic;
+        this.statelessAuthProperties = statelessAuthProperties;
+        this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.filterHitCounter = Counter.builder(METRIC_PREFIX + "filter-hit").register(meterRegistry);
+        this.confirmedCounter = Counter.builder(METRIC_PREFIX + "confirmed").register(meterRegistry);
+        this.revokedUuids = createFilter(0);
+    }
+
+    // 커밋 이후에 기록해야 롤백된 정지/탈퇴로 토큰이 폐기되지 않음
+    public void revoke(String uuid) {
+        if (!statelessAuthProperties.isEnabled() || uuid == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokeNow(uuid);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokeNow(uuid);
+            }
+        });
+    }
+
+    // Redis 구독 메시지 처리 - 다른 노드(자신 포함)에서 폐기한 uuid를 로컬 필터에 추가
+    public void addToFilter(String uuid) {
+        revokedUuids.put(uuid);
+    }
+
+    // 폐기 이후에 발급된 토큰(재로그인 등)은 유효하며, 확인할 수 없으면 폐기된 것으로 보고 상태 조회 경로로 넘김
+    public boolean isRevoked(String uuid, Instant issuedAt) {
+        if (!revokedUuids.mightContain(uuid)) {
+            return false;
+        }
+
+        filterHitCounter.increment();
+        try {
+            Double revokedAt = redisTemplate.opsForZSet().score(REVOKED_UUIDS_KEY, uuid);
+            boolean revoked = revokedAt != null && (issuedAt == null || issuedAt.toEpochMilli() <= revokedAt);
+            if (revoked) {
+                confirmedCounter.increment();
+            }
+            return revoked;
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 여부 확인 실패 - uuid: {}", uuid, e);
+            return true;
+        }
+    }
+
+    // Bloom 필터는 항목을 지울 수 없으므로, Access Token 유효 기간이 지난 폐기 기록을 정리하고 남은 목록으로 새로 만듦
+    @Scheduled(fixedDelayString = "${stateless-auth.filter-rebuild-interval:30s}")
+    public void rebuildFilter() {
+        if (!statelessAuthProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_UUIDS_KEY, 0, startedAt - accessTokenExpirationMs);
+            Set<String> uuids = redisTemplate.opsForZSet().range(REVOKED_UUIDS_KEY, 0, -1);
+
+            BloomFilter filter = createFilter(uuids == null ? 0 : uuids.size());
+            if (uuids != null) {
+                uuids.forEach(filter::put);
+            }
+            revokedUuids = filter;
+
+            Set<String> recent = redisTemplate.opsForZSet().rangeByScore(REVOKED_UUIDS_KEY,
+                    startedAt - REBUILD_OVERLAP_MS, Double.POSITIVE_INFINITY);
+            if (recent != null) {
+                recent.forEach(filter::put);
+            }
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 필터 재생성 실패", e);
+        }
+    }
+
+    private void revokeNow(String uuid) {
+        revokedUuids.put(uuid);
+        try {
+            redisTemplate.opsForZSet().add(REVOKED_UUIDS_KEY, uuid, System.currentTimeMillis());
+            redisTemplate.convertAndSend(tokenRevocationTopic.getTopic(), uuid);
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 기록 실패 - uuid: {}", uuid, e);
+        }
+    }
+
+    private BloomFilter createFilter(int revokedCount) {
+        return new BloomFilter(
+                Math.max(statelessAuthProperties.getFilterExpectedInsertions(), revokedCount * 2L),
+                statelessAuthProperties.getFilterFalsePositiveRate()
+        );
+    }
+}
@@ -0,0 +1,329 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.FetchProfile;
+import jakarta.mail.Folder;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Store;
+import jakarta.mail.event.MessageCountAdapter;
+import jakarta.mail.event.MessageCountEvent;
+import jakarta.mail.search.ComparisonTerm;
+import jakarta.mail.search.ReceivedDateTerm;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.angus.mail.imap.IMAPFolder;
+import org.eclipse.angus.mail.imap.IMAPStore;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import tetoandeggens.seeyouagainbe.auth.dto.ImapCredentials;
+import tetoandeggens.seeyouagainbe.auth.util.VerificationMailParser;
+import tetoandeggens.seeyouagainbe.global.config.VerificationMailProperties;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConstants.*;
+
+// 메일함에 IMAP 연결 하나를 유지하면서 새로 들어온 인증 문자를 한 번만 파싱해 Redis에 색인
+// 서버가 IDLE을 지원하면 푸시로, 아니면 poll-interval마다 새 메일을 확인하며, 연결이 끊기면 reconnect-delay 후 다시 연결함
+// 연결은 Redis 리스를 가진 노드 하나만 맺고, 리스를 잃거나 연결이 응답하지 않으면 리스를 내려놓아 다른 노드가 이어받게 함
+// NOOP은 연결이 반쯤 끊기면 읽기 제한 시간까지 막히므로 공용 스케줄러가 아닌 리스너 전용 스레드에서 보냄
+// 인증 확인은 색인 조회로 끝나고, 어느 노드도 수신 대기 중이 아닐 때만 EmailService가 메일함을 직접 검색함
+@Slf4j
+@Component
+public class VerificationMailListener {
+
+    private static final String THREAD_NAME_PREFIX = "verification-mail-";
+    private static final String KEEP_ALIVE_THREAD_NAME_PREFIX = "verification-mail-keep-alive-";
+    private static final String METRIC_PREFIX = "auth.verification-mail.";
+    private static final String IDLE_CAPABILITY = "IDLE";
+    private static final String READ_TIMEOUT_PROPERTY = "mail.imaps.timeout";
+
+    private final Properties imapConnectionProperties;
+    private final ImapCredentials imapCredentials;
+    private final RedisAuthService redisAuthService;
+    private final VerificationMailProperties verificationMailProperties;
+    private final Counter indexedCounter;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService keepAliveExecutor;
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile boolean leaseHeld;
+    private volatile boolean listening;
+    private volatile long lastActivityAt;
+    private volatile Store store;
+    private volatile Folder inbox;
+
+    public VerificationMailListener(Properties imapConnectionProperties, ImapCredentials imapCredentials,
+            RedisAuthService redisAuthService, VerificationMailProperties verificationMailProperties,
+            MeterRegistry meterRegistry) {
+        this.imapConnectionProperties = imapConnectionProperties;
+        this.imapCredentials = imapCredentials;
+        this.redisAuthService = redisAuthService;
+        this.verificationMailProperties = verificationMailProperties;
+        this.indexedCounter = Counter.builder(METRIC_PREFIX + "indexed").register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+
+        CustomizableThreadFactory keepAliveThreadFactory = new CustomizableThreadFactory(KEEP_ALIVE_THREAD_NAME_PREFIX);
+        keepAliveThreadFactory.setDaemon(true);
+        this.keepAliveExecutor = Executors.newSingleThreadScheduledExecutor(keepAliveThreadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!verificationMailProperties.isListenerEnabled()) {
+            return;
+        }
+        running = true;
+        executor.execute(this::listen);
+        long keepAliveMillis = verificationMailProperties.getKeepAliveInterval().toMillis();
+        keepAliveExecutor.scheduleWithFixedDelay(this::keepAlive, keepAliveMillis, keepAliveMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 색인이 빠짐없이 최신인 상태인지 - false이면 색인에 없는 코드라도 메일함에 있을 수 있음
+    public boolean isListening() {
+        return listening || redisAuthService.isVerificationMailListening();
+    }
+
+    // 리스를 연장하지 못했으면 다른 노드가 가져간 것이고, 연결이 응답하지 않으면 다른 노드가 이어받도록 리스를 내려놓음
+    // 어느 쪽이든 수신 대기 루프는 다음 라운드에서 리스가 없음을 보고 연결을 닫음 (이 스레드에서 닫으면 반쯤 끊긴 연결에 막힘)
+    @Scheduled(fixedDelayString = "${verification-mail.lease-renew-interval:10s}")
+    public void renewLease() {
+        if (!leaseHeld) {
+            return;
+        }
+
+        if (listening && isStale()) {
+            log.warn("[IMAP] 인증 메일 연결 응답 없음 - 리스 반납");
+            listening = false;
+            releaseLease();
+            return;
+        }
+
+        try {
+            if (!redisAuthService.renewVerificationMailLease(leaseOwner, verificationMailProperties.getLeaseTtl(), listening)) {
+                log.warn("[IMAP] 인증 메일 리스를 잃음 - 수신 대기 중단");
+                leaseHeld = false;
+                listening = false;
+                keepAliveExecutor.execute(this::keepAlive);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[IMAP] 인증 메일 리스 연장 실패", e);
+        }
+    }
+
+    // 서버나 중간 장비가 유휴 연결을 끊지 않도록 NOOP을 보냄 (진행 중인 IDLE은 끝나고 수신 대기 루프로 돌아감)
+    void keepAlive() {
+        if (!(inbox instanceof IMAPFolder imapFolder)) {
+            return;
+        }
+
+        try {
+            imapFolder.doCommand(protocol -> {
+                protocol.noop();
+                return null;
+            });
+            markActivity();
+        } catch (MessagingException | IllegalStateException e) {
+            log.warn("[IMAP] 인증 메일 연결 유지 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        listening = false;
+        closeConnections();
+        executor.shutdownNow();
+        keepAliveExecutor.shutdownNow();
+        releaseLease();
+    }
+
+    // 메시지마다 따로 처리해 하나가 깨져 있어도 나머지는 색인함
+    void index(Message... messages) {
+        for (Message message : messages) {
+            try {
+                VerificationMailParser.parse(message).ifPresent(mail -> {
+                    redisAuthService.saveInboundVerification(mail);
+                    indexedCounter.increment();
+                });
+            } catch (MessagingException | IOException | DataAccessException e) {
+                log.warn("[IMAP] 인증 메일 색인 실패", e);
+            }
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            if (!acquireLease()) {
+                if (!sleep(verificationMailProperties.getReconnectDelay())) {
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                connect();
+                listening = true;
+                renewLease();
+                log.info("[IMAP] 인증 메일 수신 대기 시작");
+
+                if (store instanceof IMAPStore imapStore && imapStore.hasCapability(IDLE_CAPABILITY)) {
+                    awaitWithIdle((IMAPFolder) inbox);
+                } else {
+                    awaitWithPolling();
+                }
+            } catch (MessagingException | RuntimeException e) {
+                if (running) {
+                    log.warn("[IMAP] 인증 메일 수신 연결 끊김 - {} 후 재연결", verificationMailProperties.getReconnectDelay(), e);
+                }
+            } finally {
+                listening = false;
+                closeConnections();
+                releaseLease();
+            }
+
+            if (running && !sleep(verificationMailProperties.getReconnectDelay())) {
+                return;
+            }
+        }
+    }
+
+    // Redis를 쓸 수 없으면 색인도 저장할 수 없으므로 리스를 얻지 못한 것으로 봄
+    boolean acquireLease() {
+        try {
+            leaseHeld = redisAuthService.acquireVerificationMailLease(leaseOwner, verificationMailProperties.getLeaseTtl());
+        } catch (DataAccessException e) {
+            log.warn("[IMAP] 인증 메일 리스 획득 실패", e);
+            leaseHeld = false;
+        }
+        return leaseHeld;
+    }
+
+    // 연결이 끊기면 바로 내려놓아 다른 노드가 리스 만료를 기다리지 않고 이어받을 수 있게 함
+    private void releaseLease() {
+        if (!leaseHeld) {
+            return;
+        }
+        leaseHeld = false;
+
+        try {
+            redisAuthService.releaseVerificationMailLease(leaseOwner);
+        } catch (DataAccessException e) {
+            log.warn("[IMAP] 인증 메일 리스 반납 실패", e);
+        }
+    }
+
+    // 연결이 끊겨 있던 동안 받은 메일도 놓치지 않도록, 수신 대기 전에 인증 유효 시간 안의 메일을 먼저 색인함
+    private void connect() throws MessagingException {
+        Store connected = Session.getInstance(listenerProperties()).getStore(IMAP_PROTOCOL);
+        store = connected;
+        connected.connect(imapCredentials.userName(), imapCredentials.password());
+
+        Folder folder = connected.getFolder(INBOX);
+        folder.open(Folder.READ_ONLY);
+        inbox = folder;
+        folder.addMessageCountListener(new MessageCountAdapter() {
+            @Override
+            public void messagesAdded(MessageCountEvent event) {
+                index(event.getMessages());
+            }
+        });
+
+        backfill(folder);
+        markActivity();
+    }
+
+    void backfill(Folder folder) throws MessagingException {
+        Date since = new Date(System.currentTimeMillis() - Duration.ofMinutes(VERIFICATION_TIME).toMillis());
+        Message[] recent = folder.search(new ReceivedDateTerm(ComparisonTerm.GE, since));
+        FetchProfile profile = new FetchProfile();
+        profile.add(FetchProfile.Item.ENVELOPE);
+        folder.fetch(recent, profile);
+        index(recent);
+    }
+
+    // IDLE은 새 메일이 오거나 keepAlive의 NOOP으로 중단될 때 반환되며, 리스를 가진 동안에만 다시 들어감
+    private void awaitWithIdle(IMAPFolder folder) throws MessagingException {
+        while (running && leaseHeld && folder.isOpen()) {
+            folder.idle();
+            markActivity();
+        }
+    }
+
+    // 열린 폴더의 getMessageCount는 서버에 NOOP을 보내 새 메일이 있으면 messagesAdded를 발생시킴
+    private void awaitWithPolling() throws MessagingException {
+        while (running && leaseHeld && inbox.isOpen()) {
+            if (!sleep(verificationMailProperties.getPollInterval())) {
+                return;
+            }
+            inbox.getMessageCount();
+            markActivity();
+        }
+    }
+
+    // 요청 경로의 짧은 읽기 제한을 그대로 쓰면 IDLE 대기 중에 시간 초과로 끊기므로, NOOP 주기보다 길게 늘림
+    private Properties listenerProperties() {
+        Properties properties = new Properties();
+        properties.putAll(imapConnectionProperties);
+        properties.put(READ_TIMEOUT_PROPERTY, String.valueOf(verificationMailProperties.getKeepAliveInterval().toMillis() * 2));
+        return properties;
+    }
+
+    private void markActivity() {
+        lastActivityAt = System.currentTimeMillis();
+    }
+
+    // NOOP이 두 번 연속 돌아오지 않았으면 연결이 반쯤 끊긴 것으로 봄 (읽기 제한 시간과 같은 기준)
+    private boolean isStale() {
+        long staleAfterMillis = verificationMailProperties.getKeepAliveInterval().toMillis() * 2;
+        return System.currentTimeMillis() - lastActivityAt > staleAfterMillis;
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void closeConnections() {
+        try {
+            Folder folder = inbox;
+            if (folder != null && folder.isOpen()) {
+                folder.close(false);
+            }
+        } catch (MessagingException | IllegalStateException e) {}
+
+        try {
+            Store connected = store;
+            if (connected != null && connected.isConnected()) {
+                connected.close();
+            }
+        } catch (MessagingException e) {}
+
+        inbox = null;
+        store = null;
+    }
+}
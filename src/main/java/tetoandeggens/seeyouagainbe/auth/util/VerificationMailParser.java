@@ -0,0 +1,119 @@
+package tetoandeggens.seeyouagainbe.auth.util;
+
+import jakarta.mail.Address;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.internet.InternetAddress;
+import tetoandeggens.seeyouagainbe.auth.dto.InboundVerificationMail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConstants.*;
+
+// 휴대폰에서 서버 메일로 보낸 인증 문자에서 (보낸 번호, 인증 코드, 수신 시각)을 꺼냄
+// LG U+는 본문이 단순 텍스트이고, KT는 multipart(본문 또는 아이폰의 .txt 첨부)로 옴
+public final class VerificationMailParser {
+
+    private static final Pattern CODE_PATTERN = Pattern.compile(VERIFICATION_CODE_PATTERN);
+    private static final Pattern SENDER_PHONE_PATTERN = Pattern.compile(SENDER_PHONE_NUMBER_PATTERN);
+
+    private VerificationMailParser() {}
+
+    // 휴대폰에서 온 메일이 아니거나 본문에 인증 코드가 없으면 비어 있음
+    public static Optional<InboundVerificationMail> parse(Message message) throws MessagingException, IOException {
+        String phone = extractSenderPhone(message);
+        if (phone == null) {
+            return Optional.empty();
+        }
+
+        String code = extractCodeFromContent(message);
+        if (code == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new InboundVerificationMail(phone, code, receivedAt(message)));
+    }
+
+    public static String extractCode(String content) {
+        if (content == null) {
+            return null;
+        }
+        Matcher matcher = CODE_PATTERN.matcher(content);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String extractSenderPhone(Message message) throws MessagingException {
+        Address[] from = message.getFrom();
+        if (from == null || from.length == 0) {
+            return null;
+        }
+
+        String address = from[0] instanceof InternetAddress internetAddress
+                ? internetAddress.getAddress()
+                : from[0].toString();
+        if (address == null) {
+            return null;
+        }
+        Matcher matcher = SENDER_PHONE_PATTERN.matcher(address);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String extractCodeFromContent(Message message) throws MessagingException, IOException {
+        // LG U+: 단순 텍스트 본문
+        if (message.isMimeType(TEXT)) {
+            return extractCode((String) message.getContent());
+        }
+
+        // KT: multipart (본문 + 첨부파일)
+        if (message.isMimeType(MULTIPART)) {
+            return extractFromMultipart((Multipart) message.getContent());
+        }
+        return null;
+    }
+
+    private static String extractFromMultipart(Multipart multipart) throws MessagingException, IOException {
+        for (int i = 0; i < multipart.getCount(); i++) {
+            BodyPart bodyPart = multipart.getBodyPart(i);
+
+            if (bodyPart.isMimeType(TEXT) && !isTextFile(bodyPart)) {
+                String code = extractCode((String) bodyPart.getContent());
+                if (code != null) {
+                    return code;
+                }
+            }
+
+            // 텍스트 파일 첨부에서 토큰 찾기 (아이폰 KT)
+            if (isTextFile(bodyPart)) {
+                try (InputStream inputStream = bodyPart.getInputStream()) {
+                    String code = extractCode(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+                    if (code != null) {
+                        return code;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isTextFile(BodyPart bodyPart) throws MessagingException {
+        String fileName = bodyPart.getFileName();
+        return fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(TXT);
+    }
+
+    private static Instant receivedAt(Message message) throws MessagingException {
+        Date received = message.getReceivedDate();
+        if (received == null) {
+            received = message.getSentDate();
+        }
+        return received != null ? received.toInstant() : Instant.now();
+    }
+}
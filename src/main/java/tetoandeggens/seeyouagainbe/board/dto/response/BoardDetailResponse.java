@@ -73,4 +73,13 @@ public record BoardDetailResponse(
 	@Schema(description = "북마크 여부", example = "true")
 	Boolean isBookmarked
 ) {
+	public BoardDetailResponse withBookmarked(Boolean isBookmarked) {
+		return new BoardDetailResponse(boardId, title, content, species, breedType, sex, neuteredState, color,
+			address, city, town, latitude, longitude, animalType, memberNickname, createdAt, updatedAt, tags,
+			profiles, isBookmarked);
+	}
+
+	public boolean hasProfiles() {
+		return profiles != null && !profiles.isEmpty();
+	}
 }
@@ -5,13 +5,13 @@ import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 
 @Schema(name = "BoardListResponse", description = "게시글 리스트 응답 Dto")
 public record BoardListResponse(
-	@Schema(description = "총 게시글 수", example = "24")
-	int boardCount,
+	@Schema(description = "총 게시글 수 (개수 계산 전략에 따라 다음 페이지부터는 null일 수 있음)", example = "24")
+	Integer boardCount,
 
-	CursorPage<BoardResponse, Long> board
+	CursorPage<BoardResponse, String> board
 ) {
-	public static BoardListResponse of(int boardCount,
-		CursorPage<BoardResponse, Long> board) {
+	public static BoardListResponse of(Integer boardCount,
+		CursorPage<BoardResponse, String> board) {
 		return new BoardListResponse(boardCount, board);
 	}
 }
\ No newline at end of file
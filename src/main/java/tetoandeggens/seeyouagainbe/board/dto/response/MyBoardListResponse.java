@@ -5,12 +5,12 @@ import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 
 @Schema(name = "MyBoardListResponse", description = "내가 작성한 게시글 리스트 응답 DTO")
 public record MyBoardListResponse(
-    @Schema(description = "내가 작성한 총 게시글 수", example = "12")
-    int boardCount,
+    @Schema(description = "내가 작성한 총 게시글 수 (개수 계산 전략에 따라 다음 페이지부터는 null일 수 있음)", example = "12")
+    Integer boardCount,
 
-    CursorPage<MyBoardResponse, Long> board
+    CursorPage<MyBoardResponse, String> board
 ) {
-    public static MyBoardListResponse of(int boardCount, CursorPage<MyBoardResponse, Long> board) {
+    public static MyBoardListResponse of(Integer boardCount, CursorPage<MyBoardResponse, String> board) {
         return new MyBoardListResponse(boardCount, board);
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -23,7 +24,9 @@ import tetoandeggens.seeyouagainbe.global.entity.BaseEntity;
 import tetoandeggens.seeyouagainbe.member.entity.Member;
 
 @Entity
-@Table(name = "BOARD")
+@Table(name = "BOARD", indexes = {
+	@Index(name = "idx_board_created_at_id", columnList = "created_at, board_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Board extends BaseEntity {
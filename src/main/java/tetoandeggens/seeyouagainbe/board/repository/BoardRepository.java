@@ -18,4 +18,7 @@ public interface BoardRepository extends JpaRepository<Board, Long>, BoardReposi
     @Modifying
     @Query("update AnimalS3Profile p set p.isDeleted = true where p.id in :imageIds")
     void softDeleteByImageIds(List<Long> imageIds);
+
+    @Query("select b.id from Board b where b.animal.id in :animalIds")
+    List<Long> findIdsByAnimalIdIn(List<Long> animalIds);
 }
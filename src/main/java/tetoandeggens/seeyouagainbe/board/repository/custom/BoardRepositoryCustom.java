@@ -17,12 +17,14 @@ public interface BoardRepositoryCustom {
 
 	List<BoardResponse> getAnimalBoards(CursorPageRequest request, SortDirection sortDirection,
 		ContentType contentType, String startDate, String endDate, Species species, String breedType,
-		NeuteredState neuteredState, Sex sex, String city, String town, Long memberId);
+		NeuteredState neuteredState, Sex sex, String city, String town);
 
 	Long getAnimalBoardsCount(ContentType contentType, String startDate, String endDate, Species species,
 		String breedType, NeuteredState neuteredState, Sex sex, String city, String town);
 
-	BoardDetailResponse getAnimalBoard(Long boardId, Long memberId);
+	BoardDetailResponse getAnimalBoard(Long boardId);
+
+	List<Long> findBookmarkedBoardIds(List<Long> boardIds, Long memberId);
 
 	long countValidImageIds(List<Long> imageIds, Long animalId);
 
@@ -3,6 +3,7 @@ package tetoandeggens.seeyouagainbe.board.repository.custom;
 import static tetoandeggens.seeyouagainbe.board.entity.QBoard.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +25,7 @@ import tetoandeggens.seeyouagainbe.animal.entity.QBookMark;
 import tetoandeggens.seeyouagainbe.animal.entity.QBreedType;
 import tetoandeggens.seeyouagainbe.animal.entity.Sex;
 import tetoandeggens.seeyouagainbe.animal.entity.Species;
+import tetoandeggens.seeyouagainbe.animal.repository.ReferenceDataDictionary;
 import tetoandeggens.seeyouagainbe.board.dto.response.BoardDetailResponse;
 import tetoandeggens.seeyouagainbe.board.dto.response.BoardResponse;
 import tetoandeggens.seeyouagainbe.board.dto.response.MyBoardResponse;
@@ -31,8 +33,11 @@ import tetoandeggens.seeyouagainbe.board.dto.response.ProfileInfo;
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.board.entity.QBoardTag;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.common.enums.ContentType;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
 import tetoandeggens.seeyouagainbe.member.entity.QMember;
 
 @RequiredArgsConstructor
@@ -41,29 +46,26 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
 	private final JPAQueryFactory queryFactory;
+	private final ReferenceDataDictionary referenceDataDictionary;
 
 	@Override
 	public List<BoardResponse> getAnimalBoards(
 		CursorPageRequest request, SortDirection sortDirection, ContentType contentType,
 		String startDate, String endDate, Species species, String breedType,
-		NeuteredState neuteredState, Sex sex, String city, String town, Long memberId
+		NeuteredState neuteredState, Sex sex, String city, String town
 	) {
 		BooleanBuilder builder = createFilterConditions(contentType, startDate, endDate, species, breedType,
 			neuteredState, sex, city, town);
 
-		BooleanExpression cursorCondition = createCursorCondition(request.cursorId(), sortDirection);
-		OrderSpecifier<Long> orderSpecifier = createOrderSpecifier(sortDirection);
+		BooleanExpression cursorCondition = createCursorCondition(request.cursor(), sortDirection);
+		OrderSpecifier<?>[] orderSpecifiers = createOrderSpecifiers(sortDirection);
 
 		QAnimal animal = QAnimal.animal;
 		QBreedType bt = QBreedType.breedType;
 		QMember member = QMember.member;
-		QAnimalS3Profile profileEntity = QAnimalS3Profile.animalS3Profile;
-		QAnimalS3Profile subProfile = new QAnimalS3Profile("subProfile");
 		QAnimalLocation animalLocation = QAnimalLocation.animalLocation;
-		QBookMark bookMark = QBookMark.bookMark;
-
-		BooleanBuilder bookMarkExistsCondition = createBookMarkCondition(bookMark, animal, memberId);
 
+		// 북마크 여부는 행마다 서브쿼리를 돌리지 않고 서비스에서 페이지 단위로 한 번에 채움
 		return queryFactory
 			.select(Projections.constructor(
 				BoardResponse.class,
@@ -80,34 +82,23 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 				Expressions.numberTemplate(Double.class, "ST_X({0})", animalLocation.coordinates),
 				animal.animalType,
 				member.nickName,
-				profileEntity.profile,
+				animal.representativeProfile,
 				board.createdAt,
 				board.updatedAt,
 				Expressions.constant(Collections.emptyList()),
-				JPAExpressions.selectOne()
-					.from(bookMark)
-					.where(bookMarkExistsCondition)
-					.exists()
+				Expressions.constant(false)
 			))
 			.from(board)
 			.join(board.animal, animal)
 			.join(board.member, member)
 			.leftJoin(animal.animalLocation, animalLocation)
 			.leftJoin(animal.breedType, bt)
-			.leftJoin(profileEntity).on(
-				profileEntity.animal.eq(animal),
-				profileEntity.id.eq(
-					JPAExpressions.select(subProfile.id.min())
-						.from(subProfile)
-						.where(subProfile.animal.eq(animal))
-				)
-			)
 			.where(
 				builder,
 				cursorCondition,
 				board.isDeleted.eq(false)
 			)
-			.orderBy(orderSpecifier)
+			.orderBy(orderSpecifiers)
 			.limit(request.size() + 1)
 			.fetch();
 	}
@@ -119,13 +110,11 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 			neuteredState, sex, city, town);
 
 		QAnimal animal = QAnimal.animal;
-		QBreedType bt = QBreedType.breedType;
 
 		return queryFactory
 			.select(board.count())
 			.from(board)
 			.join(board.animal, animal)
-			.leftJoin(animal.breedType, bt)
 			.where(
 				builder,
 				board.isDeleted.eq(false)
@@ -134,14 +123,13 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 	}
 
 	@Override
-	public BoardDetailResponse getAnimalBoard(Long boardId, Long memberId) {
+	public BoardDetailResponse getAnimalBoard(Long boardId) {
 		QAnimal animal = QAnimal.animal;
 		QBreedType bt = QBreedType.breedType;
 		QMember member = QMember.member;
 		QAnimalLocation animalLocation = QAnimalLocation.animalLocation;
 		QAnimalS3Profile profileEntity = QAnimalS3Profile.animalS3Profile;
 		QBoardTag boardTag = QBoardTag.boardTag;
-		QBookMark bookMark = QBookMark.bookMark;
 
 		List<ProfileInfo> profiles = queryFactory
 			.select(Projections.constructor(
@@ -165,8 +153,6 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 			.where(boardTag.board.id.eq(boardId))
 			.fetch();
 
-		BooleanBuilder bookMarkExistsCondition = createBookMarkCondition(bookMark, animal, memberId);
-
 		return queryFactory
 			.select(Projections.constructor(
 				BoardDetailResponse.class,
@@ -189,10 +175,8 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 				board.updatedAt,
 				Expressions.constant(tags),
 				Expressions.constant(profiles),
-				JPAExpressions.selectOne()
-					.from(bookMark)
-					.where(bookMarkExistsCondition)
-					.exists()
+				// 상세 응답은 회원과 무관하게 캐싱되므로 북마크 여부는 서비스에서 따로 채움
+				Expressions.constant(false)
 			))
 			.from(board)
 			.join(board.animal, animal)
@@ -203,6 +187,22 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 			.fetchOne();
 	}
 
+	@Override
+	public List<Long> findBookmarkedBoardIds(List<Long> boardIds, Long memberId) {
+		QBookMark bookMark = QBookMark.bookMark;
+
+		return queryFactory
+			.select(board.id)
+			.from(board)
+			.join(bookMark).on(bookMark.animal.eq(board.animal))
+			.where(
+				board.id.in(boardIds),
+				bookMark.member.id.eq(memberId),
+				bookMark.isDeleted.eq(false)
+			)
+			.fetch();
+	}
+
 	@Override
 	public long countValidImageIds(List<Long> imageIds, Long animalId) {
 		QAnimalS3Profile profileEntity = QAnimalS3Profile.animalS3Profile;
@@ -263,30 +263,43 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 			.fetchOne();
 	}
 
-	private BooleanExpression createCursorCondition(Long cursorId, SortDirection sortDirection) {
-		if (cursorId == null) {
+	// (created_at, board_id) 복합 키셋 - 다음 페이지의 첫 행이 커서이므로 경계값을 포함
+	private BooleanExpression createCursorCondition(String cursor, SortDirection sortDirection) {
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+		if (keysetCursor == null) {
 			return null;
 		}
 
+		LocalDateTime createdAt = keysetCursor.sortKeyAsDateTime();
+		Long cursorId = keysetCursor.id();
+		if (createdAt == null) {
+			throw new CustomException(CommonErrorCode.INVALID_CURSOR);
+		}
+
 		return sortDirection == SortDirection.LATEST
-			? board.id.lt(cursorId)
-			: board.id.gt(cursorId);
+			? board.createdAt.lt(createdAt).or(board.createdAt.eq(createdAt).and(board.id.loe(cursorId)))
+			: board.createdAt.gt(createdAt).or(board.createdAt.eq(createdAt).and(board.id.goe(cursorId)));
 	}
 
-	private OrderSpecifier<Long> createOrderSpecifier(SortDirection sortDirection) {
+	private OrderSpecifier<?>[] createOrderSpecifiers(SortDirection sortDirection) {
 		return sortDirection == SortDirection.LATEST
-			? board.id.desc()
-			: board.id.asc();
+			? new OrderSpecifier<?>[] {board.createdAt.desc(), board.id.desc()}
+			: new OrderSpecifier<?>[] {board.createdAt.asc(), board.id.asc()};
 	}
 
-	private BooleanBuilder createBookMarkCondition(QBookMark bookMark, QAnimal animal, Long memberId) {
-		BooleanBuilder condition = new BooleanBuilder();
-		condition.and(bookMark.animal.eq(animal));
-		if (memberId != null) {
-			condition.and(bookMark.member.id.eq(memberId));
+	// 사전에 있으면 FK 비교만으로 끝나 BREED_TYPE 조인이 필요 없음 (아직 사전에 반영되지 않은 품종은 서브쿼리로 대체)
+	private BooleanExpression createBreedTypeCondition(QAnimal animal, String breedType) {
+		List<Long> breedTypeIds = referenceDataDictionary.findBreedTypeIdsByName(breedType);
+		if (!breedTypeIds.isEmpty()) {
+			return animal.breedType.id.in(breedTypeIds);
 		}
-		condition.and(bookMark.isDeleted.eq(false));
-		return condition;
+
+		QBreedType bt = QBreedType.breedType;
+		return animal.breedType.id.in(
+			JPAExpressions.select(bt.id)
+				.from(bt)
+				.where(bt.name.eq(breedType))
+		);
 	}
 
 	private BooleanBuilder createFilterConditions(ContentType contentType, String startDate, String endDate,
@@ -314,7 +327,7 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 		}
 
 		if (breedType != null && !breedType.isBlank()) {
-			builder.and(animal.breedType.name.eq(breedType));
+			builder.and(createBreedTypeCondition(animal, breedType));
 		}
 
 		if (neuteredState != null) {
@@ -338,13 +351,11 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 
 	@Override
 	public List<MyBoardResponse> getMyBoards(CursorPageRequest request, SortDirection sortDirection, Long memberId) {
-		BooleanExpression cursorCondition = createCursorCondition(request.cursorId(), sortDirection);
-		OrderSpecifier<Long> orderSpecifier = createOrderSpecifier(sortDirection);
+		BooleanExpression cursorCondition = createCursorCondition(request.cursor(), sortDirection);
+		OrderSpecifier<?>[] orderSpecifiers = createOrderSpecifiers(sortDirection);
 
 		QAnimal animal = QAnimal.animal;
 		QAnimalLocation animalLocation = QAnimalLocation.animalLocation;
-		QAnimalS3Profile profileEntity = QAnimalS3Profile.animalS3Profile;
-		QAnimalS3Profile subProfile = new QAnimalS3Profile("subProfile");
 
 		return queryFactory
 			.select(Projections.constructor(
@@ -356,25 +367,17 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 				board.createdAt,
 				board.updatedAt,
 				Expressions.constant(Collections.emptyList()), // tags는 서비스에서 채움
-				profileEntity.profile
+				animal.representativeProfile
 			))
 			.from(board)
 			.join(board.animal, animal)
 			.leftJoin(animal.animalLocation, animalLocation)
-			.leftJoin(profileEntity).on(
-				profileEntity.animal.eq(animal),
-				profileEntity.id.eq(
-					JPAExpressions.select(subProfile.id.min())
-						.from(subProfile)
-						.where(subProfile.animal.eq(animal))
-				)
-			)
 			.where(
 				board.member.id.eq(memberId),
 				cursorCondition,
 				board.isDeleted.eq(false)
 			)
-			.orderBy(orderSpecifier)
+			.orderBy(orderSpecifiers)
 			.limit(request.size() + 1)
 			.fetch();
 	}
@@ -2,8 +2,10 @@ package tetoandeggens.seeyouagainbe.board.service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,7 @@ import tetoandeggens.seeyouagainbe.animal.entity.Species;
 import tetoandeggens.seeyouagainbe.animal.repository.AnimalLocationRepository;
 import tetoandeggens.seeyouagainbe.animal.repository.AnimalRepository;
 import tetoandeggens.seeyouagainbe.animal.repository.BreedTypeRepository;
+import tetoandeggens.seeyouagainbe.animal.repository.ReferenceDataDictionary;
 import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
 import tetoandeggens.seeyouagainbe.board.dto.request.UpdatingBoardRequest;
 import tetoandeggens.seeyouagainbe.board.dto.request.WritingBoardRequest;
@@ -28,10 +31,19 @@ import tetoandeggens.seeyouagainbe.board.entity.BoardTag;
 import tetoandeggens.seeyouagainbe.board.repository.BoardRepository;
 import tetoandeggens.seeyouagainbe.board.repository.BoardTagRepository;
 import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.chat.service.ChatRoomMembershipService;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
+import tetoandeggens.seeyouagainbe.common.dto.ListQueryResult;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.common.enums.ContentType;
+import tetoandeggens.seeyouagainbe.common.enums.CountTarget;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
+import tetoandeggens.seeyouagainbe.common.service.ListCountService;
+import tetoandeggens.seeyouagainbe.common.service.ListQueryService;
+import tetoandeggens.seeyouagainbe.common.service.SingleFlightService;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.BoardErrorCode;
 import tetoandeggens.seeyouagainbe.image.service.ImageService;
@@ -46,8 +58,14 @@ public class BoardService {
 	private final AnimalRepository animalRepository;
 	private final AnimalLocationRepository animalLocationRepository;
 	private final BreedTypeRepository breedTypeRepository;
+	private final ReferenceDataDictionary referenceDataDictionary;
 	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomMembershipService chatRoomMembershipService;
 	private final ImageService imageService;
+	private final ListCountService listCountService;
+	private final ListQueryService listQueryService;
+	private final SingleFlightService singleFlightService;
+	private final DetailCacheService detailCacheService;
 
 	@Transactional
 	public PresignedUrlResponse writeAnimalBoard(WritingBoardRequest request, Long memberId) {
@@ -56,6 +74,7 @@ public class BoardService {
 		Board savedBoard = createAndSaveBoard(request, savedAnimal, memberId);
 
 		saveBoardTags(request.tags(), savedBoard);
+		listCountService.evictBoardLists();
 
 		List<String> presignedUrls = new ArrayList<>();
 
@@ -66,47 +85,66 @@ public class BoardService {
 		return new PresignedUrlResponse(presignedUrls);
 	}
 
-	@Transactional(readOnly = true)
+	// 실제로 DB를 조회하는 부분만 SingleFlightService/ListQueryService가 읽기 전용 트랜잭션에서 실행하므로 여기서 트랜잭션을 열지 않음
 	public BoardListResponse getAnimalBoardList(CursorPageRequest request, SortDirection sortDirection, String type,
 		String startDate, String endDate, Species species, String breedType, NeuteredState neuteredState, Sex sex,
 		String city, String town, CustomUserDetails customUserDetails) {
 		Long memberId = getMemberId(customUserDetails);
 
-		ContentType contentType = null;
-
-		if (type != null) {
-			contentType = ContentType.fromCode(type.toUpperCase());
-		}
-
-		List<BoardResponse> responses = boardRepository.getAnimalBoards(
-			request, sortDirection, contentType, startDate, endDate, species, breedType,
-			neuteredState, sex, city, town, memberId);
-
-		List<BoardResponse> responsesWithTags = attachTagsToResponses(responses);
+		ContentType contentType = (type != null) ? ContentType.fromCode(type.toUpperCase()) : null;
+
+		ListQueryResult<BoardResponse> result = listQueryService.fetch(
+			"board.list",
+			() -> attachTagsAndBookmarksToResponses(
+				singleFlightService.execute(
+					"board.list",
+					() -> boardRepository.getAnimalBoards(request, sortDirection, contentType, startDate, endDate,
+						species, breedType, neuteredState, sex, city, town),
+					request.cursor(), request.size(), sortDirection, contentType,
+					startDate, endDate, species, breedType, neuteredState, sex, city, town
+				),
+				memberId
+			),
+			() -> listCountService.getCount(
+				CountTarget.BOARD, isFirstPage(request),
+				() -> singleFlightService.execute(
+					"board.list.count",
+					() -> boardRepository.getAnimalBoardsCount(contentType, startDate, endDate, species,
+						breedType, neuteredState, sex, city, town),
+					contentType, startDate, endDate, species, breedType, neuteredState, sex, city, town
+				),
+				"list", contentType, startDate, endDate, species, breedType, neuteredState, sex, city, town
+			)
+		);
 
-		CursorPage<BoardResponse, Long> cursorPage = CursorPage.of(
-			responsesWithTags,
+		CursorPage<BoardResponse, String> cursorPage = CursorPage.of(
+			result.page(),
 			request.size(),
-			BoardResponse::boardId
+			response -> KeysetCursor.encode(response.createdAt(), response.boardId())
 		);
 
-		Long totalCount = boardRepository.getAnimalBoardsCount(contentType, startDate, endDate, species,
-			breedType, neuteredState, sex, city, town);
-
-		return BoardListResponse.of(totalCount.intValue(), cursorPage);
+		return BoardListResponse.of(result.count(), cursorPage);
 	}
 
 	@Transactional(readOnly = true)
 	public BoardDetailResponse getAnimalBoard(Long boardId, CustomUserDetails customUserDetails) {
 		Long memberId = getMemberId(customUserDetails);
 
-		BoardDetailResponse response = boardRepository.getAnimalBoard(boardId, memberId);
+		BoardDetailResponse response = detailCacheService.get(
+			DetailCacheTarget.BOARD, boardId, BoardDetailResponse.class,
+			() -> boardRepository.getAnimalBoard(boardId),
+			BoardDetailResponse::hasProfiles
+		);
 
 		if (response == null) {
 			throw new CustomException(BoardErrorCode.BOARD_NOT_FOUND);
 		}
 
-		return response;
+		// 캐시된 응답은 회원과 무관하므로 북마크 여부만 요청마다 조회
+		boolean isBookmarked = memberId != null
+			&& !boardRepository.findBookmarkedBoardIds(List.of(boardId), memberId).isEmpty();
+
+		return response.withBookmarked(isBookmarked);
 	}
 
 	@Transactional
@@ -124,7 +162,12 @@ public class BoardService {
 		animal.updateIsDeleted(true);
 
 		boardRepository.softDeleteByAnimalId(animal.getId());
+		animal.updateRepresentativeProfile(null);
+		List<Long> chatRoomIds = chatRoomRepository.findIdsByBoardId(boardId);
 		chatRoomRepository.softDeleteByBoardId(boardId);
+		chatRoomMembershipService.evictAll(chatRoomIds);
+		listCountService.evictBoardLists();
+		evictDetails(boardId, animal.getId());
 	}
 
 	@Transactional
@@ -199,8 +242,13 @@ public class BoardService {
 		if (request.deleteImageIds() != null && !request.deleteImageIds().isEmpty()) {
 			validateImageIds(request.deleteImageIds(), animal.getId());
 			boardRepository.softDeleteByImageIds(request.deleteImageIds());
+			// 대표 이미지가 삭제되었을 수 있으므로 남은 프로필 기준으로 다시 지정
+			animal.updateRepresentativeProfile(animalRepository.findRepresentativeProfile(animal.getId()).orElse(null));
 		}
 
+		listCountService.evictBoardLists();
+		evictDetails(board.getId(), animal.getId());
+
 		List<String> presignedUrls = generatePresignedUrlsIfNeeded(request.count(), animal.getId());
 
 		return new PresignedUrlResponse(presignedUrls);
@@ -211,14 +259,18 @@ public class BoardService {
 		List<MyBoardResponse> responses = boardRepository.getMyBoards(request, sortDirection, memberId);
 		List<MyBoardResponse> responsesWithTags = attachTagsToMyBoardResponses(responses); // 태그 정보 추가
 
-		CursorPage<MyBoardResponse, Long> cursorPage = CursorPage.of(
+		CursorPage<MyBoardResponse, String> cursorPage = CursorPage.of(
 			responsesWithTags,
 			request.size(),
-			MyBoardResponse::boardId
+			response -> KeysetCursor.encode(response.createdAt(), response.boardId())
 		);
 
-		Long count = boardRepository.getMyBoardsCount(memberId);
-		return MyBoardListResponse.of(count.intValue(), cursorPage);
+		Integer count = listCountService.getCount(
+			CountTarget.BOARD, isFirstPage(request),
+			() -> boardRepository.getMyBoardsCount(memberId),
+			"my", memberId
+		);
+		return MyBoardListResponse.of(count, cursorPage);
 	}
 
 	private AnimalLocation createAndSaveAnimalLocation(WritingBoardRequest request) {
@@ -271,7 +323,10 @@ public class BoardService {
 		if (breedTypeName == null || breedTypeName.isBlank()) {
 			return null;
 		}
-		return breedTypeRepository.findByName(breedTypeName).orElse(null);
+		// 사전에 있으면 DB 조회 없이 프록시만 연결하고, 아직 반영되지 않은 품종만 DB에서 찾음
+		return referenceDataDictionary.findBreedTypeIdByName(breedTypeName)
+			.map(breedTypeRepository::getReferenceById)
+			.orElseGet(() -> breedTypeRepository.findByName(breedTypeName).orElse(null));
 	}
 
 	private void saveBoardTags(List<String> tags, Board board) {
@@ -287,7 +342,8 @@ public class BoardService {
 		return List.of();
 	}
 
-	private List<BoardResponse> attachTagsToResponses(List<BoardResponse> responses) {
+	// 태그와 북마크 여부를 페이지 단위 IN 조회로 한 번에 채움 (비로그인 사용자는 북마크 조회 없이 모두 false)
+	private List<BoardResponse> attachTagsAndBookmarksToResponses(List<BoardResponse> responses, Long memberId) {
 		if (responses.isEmpty()) {
 			return responses;
 		}
@@ -298,13 +354,21 @@ public class BoardService {
 		}
 
 		Map<Long, List<String>> tagsMap = new HashMap<>();
-		List<BoardTag> boardTags = boardTagRepository.findByBoardIdInWithBoard(boardIds);
+		List<BoardTag> boardTags = listQueryService.query(
+			() -> boardTagRepository.findByBoardIdInWithBoard(boardIds)
+		);
 
 		for (BoardTag boardTag : boardTags) {
 			Long boardId = boardTag.getBoard().getId();
 			tagsMap.computeIfAbsent(boardId, k -> new ArrayList<>()).add(boardTag.getName());
 		}
 
+		Set<Long> bookmarkedBoardIds = (memberId != null)
+			? new HashSet<>(
+				listQueryService.query(() -> boardRepository.findBookmarkedBoardIds(boardIds, memberId))
+			)
+			: Set.of();
+
 		List<BoardResponse> result = new ArrayList<>();
 		for (BoardResponse response : responses) {
 			BoardResponse newResponse = BoardResponse.builder()
@@ -325,7 +389,7 @@ public class BoardService {
 				.createdAt(response.createdAt())
 				.updatedAt(response.updatedAt())
 				.tags(tagsMap.getOrDefault(response.boardId(), List.of()))
-				.isBookmarked(response.isBookmarked())
+				.isBookmarked(bookmarkedBoardIds.contains(response.boardId()))
 				.build();
 			result.add(newResponse);
 		}
@@ -347,6 +411,15 @@ public class BoardService {
 		}
 	}
 
+	private boolean isFirstPage(CursorPageRequest request) {
+		return request.cursor() == null || request.cursor().isBlank();
+	}
+
+	private void evictDetails(Long boardId, Long animalId) {
+		detailCacheService.evict(DetailCacheTarget.BOARD, boardId);
+		detailCacheService.evict(DetailCacheTarget.ANIMAL, animalId);
+	}
+
 	private Long getMemberId(CustomUserDetails customUserDetails) {
 		if (customUserDetails == null) {
 			return null;
@@ -0,0 +1,73 @@
+package tetoandeggens.seeyouagainbe.chat.batch;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+
+// CHAT_ROOM 요약(읽음 커서, 안 읽은 메시지 수, 마지막 메시지) 백필/보정 - backfill.chat-room-summary.enabled=true로 기동 시 실행
+// 메시지 테이블 기준으로 다시 계산하므로 카운터가 어긋났을 때 재실행해도 안전함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "backfill.chat-room-summary.enabled", havingValue = "true")
+public class ChatRoomSummaryBackfillJob implements ApplicationRunner {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatMessageRepository chatMessageRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		backfill(CHUNK_SIZE);
+	}
+
+	public int backfill(int chunkSize) {
+		long lastChatRoomId = 0L;
+		int processedCount = 0;
+
+		while (true) {
+			List<Long> chatRoomIds = chatRoomRepository.findIdsAfter(lastChatRoomId, Limit.of(chunkSize));
+			if (chatRoomIds.isEmpty()) {
+				break;
+			}
+
+			transactionTemplate.executeWithoutResult(
+				status -> {
+					chatRoomRepository.initializeReadCursors(chatRoomIds);
+					chatRoomRepository.recalculateUnreadCounts(chatRoomIds);
+					chatRoomRepository.recalculateLastMessages(chatRoomIds);
+					refreshPreviews(chatRoomIds);
+				}
+			);
+
+			processedCount += chatRoomIds.size();
+			lastChatRoomId = chatRoomIds.get(chatRoomIds.size() - 1);
+			log.info("채팅방 요약 백필 진행 - 처리: {}건, 마지막 chatRoomId: {}", processedCount, lastChatRoomId);
+		}
+
+		log.info("채팅방 요약 백필 완료 - 총 {}건", processedCount);
+		return processedCount;
+	}
+
+	// 메시지 내용을 복호화해 앞부분만 다시 암호화 (SQL에서 암호문을 자를 수 없음)
+	private void refreshPreviews(List<Long> chatRoomIds) {
+		for (ChatMessage message : chatMessageRepository.findLastMessagesByChatRoomIds(chatRoomIds)) {
+			chatRoomRepository.updateLastMessagePreview(message.getChatRoom().getId(), message.getId(),
+				ChatRoom.toPreview(message.getContent()));
+		}
+	}
+}
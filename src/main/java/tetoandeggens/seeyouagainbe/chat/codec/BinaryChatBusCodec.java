@@ -0,0 +1,180 @@
+package tetoandeggens.seeyouagainbe.chat.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+
+// 필드 이름 없이 정해진 순서로 쓰는 이진 형식 (id는 가변 길이 정수라 작은 값일수록 짧아짐)
+// [버전 1바이트][null 비트마스크 1바이트][필드...], 문자열은 [UTF-8 길이][UTF-8 바이트]
+// 첫 바이트가 버전이라 JSON('{')과 구분되며, 필드를 바꿀 때는 버전을 올리고 이전 버전 읽기를 유지해야 함
+public class BinaryChatBusCodec implements ChatBusCodec {
+
+	public static final byte VERSION = 1;
+
+	private static final int MAX_VARINT_BYTES = 10;
+	private static final int HEADER_BYTES = 2;
+
+	private static final int MESSAGE_ID_NULL = 1;
+	private static final int CHAT_ROOM_ID_NULL = 1 << 1;
+	private static final int SENDER_ID_NULL = 1 << 2;
+	private static final int RECEIVER_ID_NULL = 1 << 3;
+	private static final int SENDER_UUID_NULL = 1 << 4;
+	private static final int CONTENT_NULL = 1 << 5;
+	private static final int CREATED_AT_NULL = 1 << 6;
+
+	@Override
+	public byte[] encodeMessage(ChatMessageDto message) {
+		byte[] senderUuid = toUtf8(message.senderUuid());
+		byte[] content = toUtf8(message.content());
+
+		int nullMask = (message.messageId() == null ? MESSAGE_ID_NULL : 0)
+			| (message.chatRoomId() == null ? CHAT_ROOM_ID_NULL : 0)
+			| (message.senderId() == null ? SENDER_ID_NULL : 0)
+			| (message.receiverId() == null ? RECEIVER_ID_NULL : 0)
+			| (senderUuid == null ? SENDER_UUID_NULL : 0)
+			| (content == null ? CONTENT_NULL : 0)
+			| (message.createdAt() == null ? CREATED_AT_NULL : 0);
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + MAX_VARINT_BYTES * 8
+			+ length(senderUuid) + length(content));
+		buffer.put(VERSION);
+		buffer.put((byte)nullMask);
+		writeLong(buffer, message.messageId());
+		writeLong(buffer, message.chatRoomId());
+		writeLong(buffer, message.senderId());
+		writeLong(buffer, message.receiverId());
+		writeBytes(buffer, senderUuid);
+		writeBytes(buffer, content);
+		if (message.createdAt() != null) {
+			writeVarLong(buffer, message.createdAt().toEpochSecond(ZoneOffset.UTC));
+			writeVarLong(buffer, message.createdAt().getNano());
+		}
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+
+	@Override
+	public ChatMessageDto decodeMessage(byte[] payload) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(payload);
+			int nullMask = readHeader(buffer);
+
+			return ChatMessageDto.builder()
+				.messageId(readLong(buffer, nullMask, MESSAGE_ID_NULL))
+				.chatRoomId(readLong(buffer, nullMask, CHAT_ROOM_ID_NULL))
+				.senderId(readLong(buffer, nullMask, SENDER_ID_NULL))
+				.receiverId(readLong(buffer, nullMask, RECEIVER_ID_NULL))
+				.senderUuid(readString(buffer, nullMask, SENDER_UUID_NULL))
+				.content(readString(buffer, nullMask, CONTENT_NULL))
+				.createdAt((nullMask & CREATED_AT_NULL) != 0 ? null
+					: LocalDateTime.ofEpochSecond(readVarLong(buffer), (int)readVarLong(buffer), ZoneOffset.UTC))
+				.build();
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("잘린 채팅 메시지 페이로드", e);
+		}
+	}
+
+	@Override
+	public byte[] encodeReadNotification(ChatReadNotificationDto notification) {
+		int nullMask = (notification.chatRoomId() == null ? CHAT_ROOM_ID_NULL : 0)
+			| (notification.messageId() == null ? MESSAGE_ID_NULL : 0)
+			| (notification.senderId() == null ? SENDER_ID_NULL : 0);
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + MAX_VARINT_BYTES * 3);
+		buffer.put(VERSION);
+		buffer.put((byte)nullMask);
+		writeLong(buffer, notification.chatRoomId());
+		writeLong(buffer, notification.messageId());
+		writeLong(buffer, notification.senderId());
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+
+	@Override
+	public ChatReadNotificationDto decodeReadNotification(byte[] payload) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(payload);
+			int nullMask = readHeader(buffer);
+
+			return ChatReadNotificationDto.builder()
+				.chatRoomId(readLong(buffer, nullMask, CHAT_ROOM_ID_NULL))
+				.messageId(readLong(buffer, nullMask, MESSAGE_ID_NULL))
+				.senderId(readLong(buffer, nullMask, SENDER_ID_NULL))
+				.build();
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("잘린 읽음 알림 페이로드", e);
+		}
+	}
+
+	private int readHeader(ByteBuffer buffer) {
+		byte version = buffer.get();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 채팅 페이로드 버전: " + version);
+		}
+		return buffer.get() & 0xFF;
+	}
+
+	private void writeLong(ByteBuffer buffer, Long value) {
+		if (value != null) {
+			writeVarLong(buffer, value);
+		}
+	}
+
+	private Long readLong(ByteBuffer buffer, int nullMask, int nullBit) {
+		return (nullMask & nullBit) != 0 ? null : readVarLong(buffer);
+	}
+
+	private void writeBytes(ByteBuffer buffer, byte[] value) {
+		if (value != null) {
+			writeVarLong(buffer, value.length);
+			buffer.put(value);
+		}
+	}
+
+	private String readString(ByteBuffer buffer, int nullMask, int nullBit) {
+		if ((nullMask & nullBit) != 0) {
+			return null;
+		}
+
+		int length = (int)readVarLong(buffer);
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("잘못된 문자열 길이: " + length);
+		}
+		String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		return value;
+	}
+
+	// LEB128: 7비트씩 끊어 쓰고 이어지는 바이트가 있으면 최상위 비트를 1로 표시
+	private void writeVarLong(ByteBuffer buffer, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte)value);
+	}
+
+	private long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte current = buffer.get();
+			value |= (long)(current & 0x7F) << shift;
+			if ((current & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("잘못된 가변 길이 정수");
+	}
+
+	private byte[] toUtf8(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private int length(byte[] value) {
+		return value == null ? 0 : value.length;
+	}
+}
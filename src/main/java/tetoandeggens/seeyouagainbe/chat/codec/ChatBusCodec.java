@@ -0,0 +1,16 @@
+package tetoandeggens.seeyouagainbe.chat.codec;
+
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+
+// 노드 간 Redis 버스(pub/sub, 노드 스트림)로 주고받는 채팅 페이로드의 직렬화 방식
+public interface ChatBusCodec {
+
+	byte[] encodeMessage(ChatMessageDto message);
+
+	ChatMessageDto decodeMessage(byte[] payload);
+
+	byte[] encodeReadNotification(ChatReadNotificationDto notification);
+
+	ChatReadNotificationDto decodeReadNotification(byte[] payload);
+}
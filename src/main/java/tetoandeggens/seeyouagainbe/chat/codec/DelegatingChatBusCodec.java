@@ -0,0 +1,52 @@
+package tetoandeggens.seeyouagainbe.chat.codec;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+import tetoandeggens.seeyouagainbe.global.config.ChatBusProperties;
+
+// 발행은 chat-bus.codec으로 정한 형식으로 하고, 수신은 첫 바이트로 형식을 판별해 롤링 배포 중 섞여도 읽을 수 있게 함
+@Component
+public class DelegatingChatBusCodec implements ChatBusCodec {
+
+	private final JsonChatBusCodec jsonCodec;
+	private final BinaryChatBusCodec binaryCodec;
+	private final ChatBusProperties chatBusProperties;
+
+	public DelegatingChatBusCodec(ObjectMapper objectMapper, ChatBusProperties chatBusProperties) {
+		this.jsonCodec = new JsonChatBusCodec(objectMapper);
+		this.binaryCodec = new BinaryChatBusCodec();
+		this.chatBusProperties = chatBusProperties;
+	}
+
+	@Override
+	public byte[] encodeMessage(ChatMessageDto message) {
+		return encoder().encodeMessage(message);
+	}
+
+	@Override
+	public ChatMessageDto decodeMessage(byte[] payload) {
+		return decoder(payload).decodeMessage(payload);
+	}
+
+	@Override
+	public byte[] encodeReadNotification(ChatReadNotificationDto notification) {
+		return encoder().encodeReadNotification(notification);
+	}
+
+	@Override
+	public ChatReadNotificationDto decodeReadNotification(byte[] payload) {
+		return decoder(payload).decodeReadNotification(payload);
+	}
+
+	private ChatBusCodec encoder() {
+		return chatBusProperties.getCodec() == ChatBusProperties.Codec.BINARY ? binaryCodec : jsonCodec;
+	}
+
+	private ChatBusCodec decoder(byte[] payload) {
+		return payload.length > 0 && payload[0] == BinaryChatBusCodec.VERSION ? binaryCodec : jsonCodec;
+	}
+}
@@ -0,0 +1,53 @@
+package tetoandeggens.seeyouagainbe.chat.codec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+
+// 기존 형식: Jackson JSON (UTF-8), 사람이 읽을 수 있어 redis-cli로 확인하기 쉬움
+@RequiredArgsConstructor
+public class JsonChatBusCodec implements ChatBusCodec {
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public byte[] encodeMessage(ChatMessageDto message) {
+		return write(message);
+	}
+
+	@Override
+	public ChatMessageDto decodeMessage(byte[] payload) {
+		return read(payload, ChatMessageDto.class);
+	}
+
+	@Override
+	public byte[] encodeReadNotification(ChatReadNotificationDto notification) {
+		return write(notification);
+	}
+
+	@Override
+	public ChatReadNotificationDto decodeReadNotification(byte[] payload) {
+		return read(payload, ChatReadNotificationDto.class);
+	}
+
+	private byte[] write(Object value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private <T> T read(byte[] payload, Class<T> type) {
+		try {
+			return objectMapper.readValue(payload, type);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -1,13 +1,19 @@
 package tetoandeggens.seeyouagainbe.chat.controller;
 
+import static tetoandeggens.seeyouagainbe.chat.handler.StompHandler.*;
+
 import java.security.Principal;
+import java.util.List;
 
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 import lombok.RequiredArgsConstructor;
 import tetoandeggens.seeyouagainbe.chat.dto.request.ChatMessageSendRequest;
 import tetoandeggens.seeyouagainbe.chat.dto.request.ChatReadRequest;
+import tetoandeggens.seeyouagainbe.chat.dto.response.ChatMessageWebSocketResponse;
 import tetoandeggens.seeyouagainbe.chat.service.ChatService;
 
 @Controller
@@ -24,6 +30,14 @@ public class ChatWebSocketController {
 
 	@MessageMapping("/read")
 	public void markAsRead(ChatReadRequest readDto, Principal principal) {
-		chatService.markAsRead(readDto.messageId(), principal);
+		chatService.markAsRead(readDto, principal);
+	}
+
+	// 구독 응답은 브로커를 거치지 않고 구독한 세션에만 바로 전달됨
+	@SubscribeMapping("/replay")
+	public List<ChatMessageWebSocketResponse> replayMissedMessages(SimpMessageHeaderAccessor headerAccessor,
+		Principal principal) {
+		Long lastMessageId = (Long)headerAccessor.getSessionAttributes().remove(LAST_MESSAGE_ID_ATTRIBUTE);
+		return chatService.getMissedMessages(lastMessageId, principal);
 	}
 }
\ No newline at end of file
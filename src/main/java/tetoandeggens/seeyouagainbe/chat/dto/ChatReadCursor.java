@@ -0,0 +1,14 @@
+package tetoandeggens.seeyouagainbe.chat.dto;
+
+// 채팅방 참여자별 읽음 커서 (커서 id 이하로 받은 메시지는 모두 읽음)
+public record ChatReadCursor(
+	Long senderId,
+	Long senderLastReadMessageId,
+	Long receiverId,
+	Long receiverLastReadMessageId
+) {
+	public boolean isReadBy(Long memberId, Long messageId) {
+		Long lastReadMessageId = senderId.equals(memberId) ? senderLastReadMessageId : receiverLastReadMessageId;
+		return lastReadMessageId != null && messageId <= lastReadMessageId;
+	}
+}
@@ -4,12 +4,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
 @Builder
-@Schema(name = "ChatReadNotification", description = "채팅 읽음 알림 Dto")
+@Schema(name = "ChatReadNotification", description = "채팅 읽음 알림 Dto (messageId 이하의 메시지를 모두 읽음)")
 public record ChatReadNotificationDto(
-	@Schema(description = "메시지 ID", example = "1")
+	@Schema(description = "채팅방 ID", example = "1")
+	Long chatRoomId,
+
+	@Schema(description = "상대방이 마지막으로 읽은 메시지 ID", example = "1")
 	Long messageId,
 
 	@Schema(description = "발신자 ID", example = "1")
 	Long senderId
 ) {
-}
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package tetoandeggens.seeyouagainbe.chat.dto;
+
+import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
+
+// 채팅 권한 확인용 최소 정보 (채팅방/회원 엔티티를 읽지 않도록 캐싱)
+public record ChatRoomMembership(
+	Long chatRoomId,
+	Long senderId,
+	Long receiverId,
+	Boolean isDeleted,
+	ViolatedStatus violatedStatus
+) {
+	public boolean isMember(Long memberId) {
+		return senderId.equals(memberId) || receiverId.equals(memberId);
+	}
+}
@@ -0,0 +1,52 @@
+package tetoandeggens.seeyouagainbe.chat.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Builder;
+
+// 쓰기 지연 큐(Redis Stream)에 담기는 저장 대기 메시지 (내용은 DB 컬럼과 같은 암호문)
+@Builder
+public record PendingChatMessage(
+	Long messageId,
+	Long chatRoomId,
+	Long senderId,
+	Long receiverId,
+	String senderUuid,
+	String encryptedContent,
+	LocalDateTime createdAt
+) {
+	private static final String MESSAGE_ID = "messageId";
+	private static final String CHAT_ROOM_ID = "chatRoomId";
+	private static final String SENDER_ID = "senderId";
+	private static final String RECEIVER_ID = "receiverId";
+	private static final String SENDER_UUID = "senderUuid";
+	private static final String CONTENT = "content";
+	private static final String CREATED_AT = "createdAt";
+
+	public Map<String, String> toFields() {
+		return Map.of(
+			MESSAGE_ID, messageId.toString(),
+			CHAT_ROOM_ID, chatRoomId.toString(),
+			SENDER_ID, senderId.toString(),
+			RECEIVER_ID, receiverId.toString(),
+			SENDER_UUID, senderUuid == null ? "" : senderUuid,
+			CONTENT, encryptedContent == null ? "" : encryptedContent,
+			CREATED_AT, createdAt.toString()
+		);
+	}
+
+	public static PendingChatMessage fromFields(Map<String, String> fields) {
+		return PendingChatMessage.builder()
+			.messageId(Long.valueOf(fields.get(MESSAGE_ID)))
+			.chatRoomId(Long.valueOf(fields.get(CHAT_ROOM_ID)))
+			.senderId(Long.valueOf(fields.get(SENDER_ID)))
+			.receiverId(Long.valueOf(fields.get(RECEIVER_ID)))
+			// 이 필드가 생기기 전에 큐에 들어간 메시지에는 없음
+			.senderUuid(fields.get(SENDER_UUID) == null || fields.get(SENDER_UUID).isEmpty()
+				? null : fields.get(SENDER_UUID))
+			.encryptedContent(fields.get(CONTENT))
+			.createdAt(LocalDateTime.parse(fields.get(CREATED_AT)))
+			.build();
+	}
+}
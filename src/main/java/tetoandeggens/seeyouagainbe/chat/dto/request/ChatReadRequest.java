@@ -2,9 +2,12 @@ package tetoandeggens.seeyouagainbe.chat.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
-@Schema(name = "ChatReadDto", description = "채팅 읽음 처리 요청 Dto")
+@Schema(name = "ChatReadDto", description = "채팅 읽음 처리 요청 Dto (messageId 이하의 메시지를 모두 읽음 처리)")
 public record ChatReadRequest(
-	@Schema(description = "메시지 ID", example = "1")
+	@Schema(description = "채팅방 ID (생략하면 메시지 ID로 채팅방을 찾음)", example = "1")
+	Long chatRoomId,
+
+	@Schema(description = "마지막으로 읽은 메시지 ID", example = "1")
 	Long messageId
 ) {
 }
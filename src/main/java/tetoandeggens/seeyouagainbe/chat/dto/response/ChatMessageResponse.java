@@ -12,12 +12,12 @@ public record ChatMessageResponse(
 	Boolean isMyChat,
 	String createdAt
 ) {
-	public static ChatMessageResponse from(ChatMessage message, Long currentMemberId) {
+	public static ChatMessageResponse from(ChatMessage message, Long currentMemberId, boolean isRead) {
 		return ChatMessageResponse.builder()
 			.messageId(message.getId())
 			.senderId(message.getSender().getId())
 			.content(message.getContent())
-			.isRead(message.getIsRead())
+			.isRead(isRead)
 			.isMyChat(message.getSender().getId().equals(currentMemberId))
 			.createdAt(message.getCreatedAt().toString())
 			.build();
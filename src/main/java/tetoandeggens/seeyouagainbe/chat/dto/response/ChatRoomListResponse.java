@@ -5,9 +5,9 @@ import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 
 @Schema(name = "ChatRoomListResponse", description = "채팅방 리스트 응답 Dto")
 public record ChatRoomListResponse(
-	CursorPage<ChatRoomResponse, Long> chatRooms
+	CursorPage<ChatRoomResponse, String> chatRooms
 ) {
-	public static ChatRoomListResponse of(CursorPage<ChatRoomResponse, Long> chatRooms) {
+	public static ChatRoomListResponse of(CursorPage<ChatRoomResponse, String> chatRooms) {
 		return new ChatRoomListResponse(chatRooms);
 	}
 }
\ No newline at end of file
@@ -35,6 +35,7 @@ public class ChatMessage extends BaseEntity {
 	@Convert(converter = AesEncryptionConverter.class)
 	private String content;
 
+	// 읽음 여부는 채팅방의 참여자별 읽음 커서로 판단하며, 이 컬럼은 커서 도입 전 데이터의 백필용으로만 남겨 둠
 	@Column(name = "is_read")
 	private Boolean isRead;
 
@@ -62,8 +63,4 @@ public class ChatMessage extends BaseEntity {
 		this.isRead = false;
 		this.isDeleted = false;
 	}
-
-	public void markAsRead() {
-		this.isRead = true;
-	}
 }
\ No newline at end of file
@@ -2,7 +2,10 @@ package tetoandeggens.seeyouagainbe.chat.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -10,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,14 +24,23 @@ import lombok.NoArgsConstructor;
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
 import tetoandeggens.seeyouagainbe.global.entity.BaseEntity;
+import tetoandeggens.seeyouagainbe.global.util.AesEncryptionConverter;
 import tetoandeggens.seeyouagainbe.member.entity.Member;
 
 @Entity
-@Table(name = "CHAT_ROOM")
+// 요약/카운터/읽음 커서는 원자적 UPDATE로만 갱신하므로, 엔티티 변경(위반 처리 등) 시에는 바뀐 컬럼만 UPDATE해 덮어쓰지 않게 함
+@DynamicUpdate
+// 참여자 조건(sender/receiver)별로 최근 활동순 키셋 페이징을 인덱스만으로 처리
+@Table(name = "CHAT_ROOM", indexes = {
+	@Index(name = "idx_chat_room_sender_last_message", columnList = "sender_id, last_message_at, chat_room_id"),
+	@Index(name = "idx_chat_room_receiver_last_message", columnList = "receiver_id, last_message_at, chat_room_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatRoom extends BaseEntity {
 
+	public static final int PREVIEW_MAX_LENGTH = 50;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "chat_room_id")
@@ -36,6 +49,29 @@ public class ChatRoom extends BaseEntity {
 	@Column(name = "last_message_at")
 	private LocalDateTime lastMessageAt;
 
+	// 목록 미리보기를 위해 마지막 메시지를 복사해 둠 (메시지 테이블 집계/조회 없이 목록을 그리기 위함)
+	@Column(name = "last_message_id", updatable = false)
+	private Long lastMessageId;
+
+	// 앞 50자(UTF-8 최대 200바이트)를 암호화하면 IV/태그 포함 Base64로 최대 304자
+	@Column(name = "last_message_preview", length = 304, updatable = false)
+	@Convert(converter = AesEncryptionConverter.class)
+	private String lastMessagePreview;
+
+	// 채팅방 참여자별 안 읽은 메시지 수 (메시지 테이블을 COUNT하지 않도록 전송/읽음 시점에 함께 갱신)
+	@Column(name = "sender_unread_count", updatable = false)
+	private Long senderUnreadCount;
+
+	@Column(name = "receiver_unread_count", updatable = false)
+	private Long receiverUnreadCount;
+
+	// 참여자별 읽음 커서: 이 id 이하로 받은 메시지는 모두 읽은 것으로 봄 (메시지마다 is_read를 갱신하지 않음)
+	@Column(name = "sender_last_read_message_id", updatable = false)
+	private Long senderLastReadMessageId;
+
+	@Column(name = "receiver_last_read_message_id", updatable = false)
+	private Long receiverLastReadMessageId;
+
 	@Column(name = "is_deleted")
 	private Boolean isDeleted;
 
@@ -63,6 +99,8 @@ public class ChatRoom extends BaseEntity {
 		this.violatedStatus = violatedStatus;
 		this.isDeleted = false;
 		this.lastMessageAt = LocalDateTime.now();
+		this.senderUnreadCount = 0L;
+		this.receiverUnreadCount = 0L;
 	}
 
 	public ChatRoom(Long chatRoomId) {
@@ -80,4 +118,12 @@ public class ChatRoom extends BaseEntity {
 	public void updateLastMessageAt(LocalDateTime lastMessageAt) {
 		this.lastMessageAt = lastMessageAt;
 	}
+
+	// 미리보기는 목록 표시용이므로 암호화 전에 앞부분만 남김 (이모지 등 서로게이트 쌍이 잘리지 않도록 코드 포인트 기준)
+	public static String toPreview(String content) {
+		if (content == null || content.codePointCount(0, content.length()) <= PREVIEW_MAX_LENGTH) {
+			return content;
+		}
+		return content.substring(0, content.offsetByCodePoints(0, PREVIEW_MAX_LENGTH));
+	}
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package tetoandeggens.seeyouagainbe.chat.handler;
 
-import static tetoandeggens.seeyouagainbe.global.constants.AuthCommonConstants.*;
-
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -10,15 +8,19 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import tetoandeggens.seeyouagainbe.auth.jwt.TokenProvider;
+import lombok.extern.slf4j.Slf4j;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.AuthErrorCode;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
-	private final TokenProvider tokenProvider;
+	public static final String LAST_MESSAGE_ID_HEADER = "last-message-id";
+	public static final String LAST_MESSAGE_ID_ATTRIBUTE = "lastMessageId";
+
+	private final StompSessionTokenCache stompSessionTokenCache;
 
 	@Override
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -31,32 +33,27 @@ public class StompHandler implements ChannelInterceptor {
 			if (memberId == null) {
 				throw new CustomException(AuthErrorCode.INVALID_TOKEN);
 			}
-		} else if (StompCommand.SEND.equals(command)) {
-			String accessToken = (String)accessor.getSessionAttributes().get(ACCESS_TOKEN_COOKIE_NAME);
-
-			if (accessToken == null) {
-				throw new CustomException(AuthErrorCode.INVALID_TOKEN);
-			}
 
-			try {
-				tokenProvider.validateToken(accessToken);
-			} catch (Exception e) {
-				throw new CustomException(AuthErrorCode.INVALID_TOKEN);
-			}
-		} else if (StompCommand.SUBSCRIBE.equals(command)) {
-			String accessToken = (String)accessor.getSessionAttributes().get(ACCESS_TOKEN_COOKIE_NAME);
+			stompSessionTokenCache.register(accessor.getSessionId(), accessor.getSessionAttributes());
+			storeLastMessageId(accessor);
+		} else if (StompCommand.SEND.equals(command) || StompCommand.SUBSCRIBE.equals(command)) {
+			stompSessionTokenCache.verify(accessor.getSessionId(), accessor.getSessionAttributes());
+		}
 
-			if (accessToken == null) {
-				throw new CustomException(AuthErrorCode.INVALID_TOKEN);
-			}
+		return message;
+	}
 
-			try {
-				tokenProvider.validateToken(accessToken);
-			} catch (Exception e) {
-				throw new CustomException(AuthErrorCode.INVALID_TOKEN);
-			}
+	// 재접속한 클라이언트가 마지막으로 받은 메시지 id를 CONNECT 헤더로 보내면 /pub/chat/replay 구독 시 이후 메시지를 보내줌
+	private void storeLastMessageId(StompHeaderAccessor accessor) {
+		String lastMessageId = accessor.getFirstNativeHeader(LAST_MESSAGE_ID_HEADER);
+		if (lastMessageId == null) {
+			return;
 		}
 
-		return message;
+		try {
+			accessor.getSessionAttributes().put(LAST_MESSAGE_ID_ATTRIBUTE, Long.parseLong(lastMessageId));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 last-message-id 헤더: {}", lastMessageId);
+		}
 	}
 }
\ No newline at end of file
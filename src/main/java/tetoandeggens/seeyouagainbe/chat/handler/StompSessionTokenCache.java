@@ -0,0 +1,90 @@
+package tetoandeggens.seeyouagainbe.chat.handler;
+
+import static tetoandeggens.seeyouagainbe.global.constants.AuthCommonConstants.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
+import tetoandeggens.seeyouagainbe.auth.event.MemberSessionRevokedEvent;
+import tetoandeggens.seeyouagainbe.auth.jwt.TokenProvider;
+import tetoandeggens.seeyouagainbe.auth.jwt.VerifiedClaims;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.AuthErrorCode;
+
+// WebSocket 세션별로 검증을 마친 토큰의 만료 시각을 기억해 SEND/SUBSCRIBE 프레임마다 HS512 서명을 다시 검증하지 않음
+// 만료 시각이 지났거나 로그아웃/탈퇴/정지로 revoke된 세션만 다시 검증하고, 재검증은 HTTP 요청과 같은 인증 경로로 폐기/정지 여부를 확인함
+// (revoke는 SessionRevocationService가 전 서버에 전파한 MemberSessionRevokedEvent로 받음)
+@Component
+@RequiredArgsConstructor
+public class StompSessionTokenCache {
+
+	public static final String ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE = "accessTokenExpiresAt";
+
+	private final TokenProvider tokenProvider;
+	private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+	// 핸드셰이크에서 이미 검증한 토큰은 다시 검증하지 않고 만료 시각만 옮겨 담음
+	public void register(String sessionId, Map<String, Object> sessionAttributes) {
+		String uuid = (String)sessionAttributes.get("uuid");
+		Long expiresAt = (Long)sessionAttributes.get(ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE);
+
+		if (uuid != null && expiresAt != null) {
+			verifiedTokens.put(sessionId, new VerifiedToken(uuid, expiresAt));
+		}
+	}
+
+	public void verify(String sessionId, Map<String, Object> sessionAttributes) {
+		VerifiedToken verifiedToken = verifiedTokens.get(sessionId);
+		if (verifiedToken != null && System.currentTimeMillis() < verifiedToken.expiresAt()) {
+			return;
+		}
+
+		verifiedTokens.put(sessionId, reverify(sessionAttributes));
+	}
+
+	@EventListener
+	public void onSessionRevoked(MemberSessionRevokedEvent event) {
+		revoke(event.uuid());
+	}
+
+	public void revoke(String uuid) {
+		verifiedTokens.values().removeIf(verifiedToken -> verifiedToken.uuid().equals(uuid));
+	}
+
+	public void remove(String sessionId) {
+		verifiedTokens.remove(sessionId);
+	}
+
+	private VerifiedToken reverify(Map<String, Object> sessionAttributes) {
+		String accessToken = (String)sessionAttributes.get(ACCESS_TOKEN_COOKIE_NAME);
+
+		if (accessToken == null) {
+			throw new CustomException(AuthErrorCode.INVALID_TOKEN);
+		}
+
+		VerifiedClaims claims;
+		Authentication authentication;
+		try {
+			claims = tokenProvider.verifyClaims(accessToken);
+			authentication = tokenProvider.getAuthenticationByClaims(claims);
+		} catch (Exception e) {
+			throw new CustomException(AuthErrorCode.INVALID_TOKEN);
+		}
+
+		CustomUserDetails userDetails = (CustomUserDetails)authentication.getPrincipal();
+		if (Boolean.TRUE.equals(userDetails.getIsBanned())) {
+			throw new CustomException(AuthErrorCode.ACCOUNT_BANNED);
+		}
+
+		return new VerifiedToken(claims.subject(), claims.expiresAt().toEpochMilli());
+	}
+
+	private record VerifiedToken(String uuid, long expiresAt) {
+	}
+}
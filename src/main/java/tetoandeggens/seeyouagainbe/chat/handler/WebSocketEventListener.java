@@ -6,12 +6,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.chat.service.ChatPresenceService;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketEventListener {
 
+	private final ChatPresenceService chatPresenceService;
+	private final StompSessionTokenCache stompSessionTokenCache;
+
 	@EventListener
 	public void handleWebSocketConnectListener(SessionConnectedEvent event) {
 		StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
@@ -19,6 +25,9 @@ public class WebSocketEventListener {
 		Long memberId = (Long)headerAccessor.getSessionAttributes().get("memberId");
 
 		log.info("WebSocket 연결: sessionId={}, memberId={}", sessionId, memberId);
+		if (memberId != null) {
+			chatPresenceService.connect(memberId, sessionId);
+		}
 	}
 
 	@EventListener
@@ -28,5 +37,9 @@ public class WebSocketEventListener {
 		Long memberId = (Long)headerAccessor.getSessionAttributes().get("memberId");
 
 		log.info("WebSocket 연결 해제: sessionId={}, memberId={}", sessionId, memberId);
+		stompSessionTokenCache.remove(sessionId);
+		if (memberId != null) {
+			chatPresenceService.disconnect(memberId, sessionId);
+		}
 	}
 }
@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
 import tetoandeggens.seeyouagainbe.auth.jwt.TokenProvider;
+import tetoandeggens.seeyouagainbe.auth.jwt.VerifiedClaims;
 
 @Slf4j
 @Component
@@ -38,8 +39,8 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
 			if (accessToken != null) {
 				try {
-					tokenProvider.validateToken(accessToken);
-					Authentication authentication = tokenProvider.getAuthenticationByAccessToken(accessToken);
+					VerifiedClaims claims = tokenProvider.verifyClaims(accessToken);
+					Authentication authentication = tokenProvider.getAuthenticationByClaims(claims);
 
 					CustomUserDetails userDetails = (CustomUserDetails)authentication.getPrincipal();
 					Long memberId = userDetails.getMemberId();
@@ -48,6 +49,8 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
 					attributes.put("memberId", memberId);
 					attributes.put("uuid", uuid);
 					attributes.put(ACCESS_TOKEN_COOKIE_NAME, accessToken);
+					attributes.put(StompSessionTokenCache.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE,
+						claims.expiresAt().toEpochMilli());
 
 					return true;
 				} catch (Exception e) {
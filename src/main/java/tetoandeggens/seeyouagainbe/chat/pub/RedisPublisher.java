@@ -1,32 +1,47 @@
 package tetoandeggens.seeyouagainbe.chat.pub;
 
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.chat.codec.ChatBusCodec;
 import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
 import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+import tetoandeggens.seeyouagainbe.chat.service.ChatPresenceService;
+import tetoandeggens.seeyouagainbe.global.config.ChatStreamProperties;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisPublisher {
 
+	public static final String STREAM_FIELD_TYPE = "type";
+	public static final String STREAM_FIELD_PAYLOAD = "payload";
+
 	private final ChannelTopic channelTopic;
 	private final ChannelTopic readChannelTopic;
-	private final RedisTemplate<String, String> redisTemplate;
-	private final ObjectMapper objectMapper;
+	private final RedisTemplate<String, byte[]> chatBusRedisTemplate;
+	private final ChatBusCodec chatBusCodec;
+	private final ChatPresenceService chatPresenceService;
+	private final ChatStreamProperties chatStreamProperties;
 
 	public void publish(ChatMessageDto message) {
 		try {
-			String jsonMessage = objectMapper.writeValueAsString(message);
-			redisTemplate.convertAndSend(channelTopic.getTopic(), jsonMessage);
-		} catch (JsonProcessingException e) {
+			byte[] payload = chatBusCodec.encodeMessage(message);
+			publishToConnectedNodes(channelTopic, List.of(message.senderId(), message.receiverId()), payload);
+		} catch (UncheckedIOException e) {
 			log.error("메시지 발행 실패 (DB에는 저장됨): chatRoomId={}",
 				message.chatRoomId(), e);
 		}
@@ -34,11 +49,43 @@ public class RedisPublisher {
 
 	public void publishReadNotification(ChatReadNotificationDto notification) {
 		try {
-			String jsonMessage = objectMapper.writeValueAsString(notification);
-			redisTemplate.convertAndSend(readChannelTopic.getTopic(), jsonMessage);
-		} catch (JsonProcessingException e) {
+			byte[] payload = chatBusCodec.encodeReadNotification(notification);
+			publishToConnectedNodes(readChannelTopic, List.of(notification.senderId()), payload);
+		} catch (UncheckedIOException e) {
 			log.error("읽음 알림 발행 실패: messageId={}",
 				notification.messageId(), e);
 		}
 	}
-}
+
+	// 수신 대상이 접속한 노드 채널로만 발행하고, 아무도 접속해 있지 않으면 발행하지 않음 (메시지는 DB 조회로 확인)
+	private void publishToConnectedNodes(ChannelTopic topic, List<Long> memberIds, byte[] payload) {
+		Set<String> nodeIds;
+		try {
+			nodeIds = chatPresenceService.findNodeIds(memberIds);
+		} catch (DataAccessException e) {
+			log.warn("접속 노드 조회 실패로 전체 노드에 발행: topic={}", topic.getTopic(), e);
+			chatBusRedisTemplate.convertAndSend(topic.getTopic(), payload);
+			return;
+		}
+
+		nodeIds.forEach(nodeId -> {
+			if (chatStreamProperties.isEnabled()) {
+				appendToNodeStream(topic, nodeId, payload);
+				return;
+			}
+			chatBusRedisTemplate.convertAndSend(chatPresenceService.nodeChannel(topic.getTopic(), nodeId), payload);
+		});
+	}
+
+	// 노드 스트림은 소비 그룹이 마지막으로 읽은 위치를 기억하므로 노드가 잠시 끊겨도 재연결 후 이어서 전달됨
+	private void appendToNodeStream(ChannelTopic topic, String nodeId, byte[] payload) {
+		MapRecord<String, String, byte[]> record = StreamRecords.newRecord()
+			.in(chatPresenceService.nodeStreamKey(nodeId))
+			.ofMap(Map.of(
+				STREAM_FIELD_TYPE, topic.getTopic().getBytes(StandardCharsets.UTF_8),
+				STREAM_FIELD_PAYLOAD, payload));
+
+		chatBusRedisTemplate.opsForStream().add(record,
+			XAddOptions.maxlen(chatStreamProperties.getMaxLength()).approximateTrimming(true));
+	}
+}
\ No newline at end of file
@@ -1,9 +1,16 @@
 package tetoandeggens.seeyouagainbe.chat.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
 import tetoandeggens.seeyouagainbe.chat.repository.custom.ChatMessageRepositoryCustom;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageRepositoryCustom {
-}
\ No newline at end of file
+
+	@Query("select m from ChatMessage m where m.id in "
+		+ "(select c.lastMessageId from ChatRoom c where c.id in :chatRoomIds)")
+	List<ChatMessage> findLastMessagesByChatRoomIds(List<Long> chatRoomIds);
+}
@@ -1,5 +1,9 @@
 package tetoandeggens.seeyouagainbe.chat.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +13,110 @@ import tetoandeggens.seeyouagainbe.chat.repository.custom.ChatRoomRepositoryCust
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomRepositoryCustom {
 
+    @Query("select c.id from ChatRoom c where c.board.id = :boardId")
+    List<Long> findIdsByBoardId(Long boardId);
+
     @Modifying
     @Query("update ChatRoom c set c.isDeleted = true where c.board.id = :boardId")
     void softDeleteByBoardId(Long boardId);
+
+    // 동시에 양쪽이 메시지를 보내도 갱신이 유실되지 않도록 엔티티가 아닌 원자적 UPDATE로 증감
+    @Modifying
+    @Query("update ChatRoom c set "
+        + "c.senderUnreadCount = case when c.sender.id = :memberId "
+        + "then coalesce(c.senderUnreadCount, 0) + 1 else c.senderUnreadCount end, "
+        + "c.receiverUnreadCount = case when c.receiver.id = :memberId "
+        + "then coalesce(c.receiverUnreadCount, 0) + 1 else c.receiverUnreadCount end "
+        + "where c.id = :chatRoomId")
+    void increaseUnreadCount(Long chatRoomId, Long memberId);
+
+    // 쓰기 지연 배치 저장 시 채팅방/수신자별로 모아 한 번에 증가
+    @Modifying
+    @Query("update ChatRoom c set "
+        + "c.senderUnreadCount = case when c.sender.id = :memberId "
+        + "then coalesce(c.senderUnreadCount, 0) + :amount else c.senderUnreadCount end, "
+        + "c.receiverUnreadCount = case when c.receiver.id = :memberId "
+        + "then coalesce(c.receiverUnreadCount, 0) + :amount else c.receiverUnreadCount end "
+        + "where c.id = :chatRoomId")
+    void increaseUnreadCountBy(Long chatRoomId, Long memberId, long amount);
+
+    // 읽음 커서를 앞으로만 옮기고 안 읽은 수는 커서 이후 메시지로 다시 셈 (읽은 메시지 수와 무관하게 UPDATE 한 번)
+    // 커서가 이미 같거나 앞서 있으면 갱신하지 않고 0을 반환
+    @Modifying
+    @Query("update ChatRoom c set "
+        + "c.senderLastReadMessageId = case when c.sender.id = :memberId "
+        + "then :messageId else c.senderLastReadMessageId end, "
+        + "c.senderUnreadCount = case when c.sender.id = :memberId "
+        + "then (select count(m) from ChatMessage m "
+        + "where m.chatRoom = c and m.receiver = c.sender and m.id > :messageId) "
+        + "else c.senderUnreadCount end, "
+        + "c.receiverLastReadMessageId = case when c.receiver.id = :memberId "
+        + "then :messageId else c.receiverLastReadMessageId end, "
+        + "c.receiverUnreadCount = case when c.receiver.id = :memberId "
+        + "then (select count(m) from ChatMessage m "
+        + "where m.chatRoom = c and m.receiver = c.receiver and m.id > :messageId) "
+        + "else c.receiverUnreadCount end "
+        + "where c.id = :chatRoomId and ("
+        + "(c.sender.id = :memberId and coalesce(c.senderLastReadMessageId, 0) < :messageId) "
+        + "or (c.receiver.id = :memberId and coalesce(c.receiverLastReadMessageId, 0) < :messageId))")
+    int advanceReadCursor(Long chatRoomId, Long memberId, Long messageId);
+
+    // 채팅방을 열면 요약의 마지막 메시지까지 읽은 것으로 보고 카운터를 0으로 (조회 후 갱신하지 않고 UPDATE 한 번)
+    // 같은 행을 갱신하는 메시지 저장과 행 락으로 직렬화되므로 사이에 도착한 메시지를 놓치지 않음
+    @Modifying
+    @Query("update ChatRoom c set "
+        + "c.senderLastReadMessageId = case when c.sender.id = :memberId "
+        + "then c.lastMessageId else c.senderLastReadMessageId end, "
+        + "c.senderUnreadCount = case when c.sender.id = :memberId then 0 else c.senderUnreadCount end, "
+        + "c.receiverLastReadMessageId = case when c.receiver.id = :memberId "
+        + "then c.lastMessageId else c.receiverLastReadMessageId end, "
+        + "c.receiverUnreadCount = case when c.receiver.id = :memberId then 0 else c.receiverUnreadCount end "
+        + "where c.id = :chatRoomId and c.lastMessageId is not null and ("
+        + "(c.sender.id = :memberId and coalesce(c.senderLastReadMessageId, 0) < c.lastMessageId) "
+        + "or (c.receiver.id = :memberId and coalesce(c.receiverLastReadMessageId, 0) < c.lastMessageId))")
+    int markAllAsRead(Long chatRoomId, Long memberId);
+
+    // 늦게 커밋된 이전 메시지가 최신 요약을 덮어쓰지 않도록 메시지 id가 더 클 때만 갱신
+    @Modifying
+    @Query("update ChatRoom c set c.lastMessageId = :messageId, c.lastMessagePreview = :preview, "
+        + "c.lastMessageAt = :sentAt "
+        + "where c.id = :chatRoomId and (c.lastMessageId is null or c.lastMessageId < :messageId)")
+    void updateLastMessage(Long chatRoomId, Long messageId, String preview, LocalDateTime sentAt);
+
+    @Query("select c.id from ChatRoom c where c.id > :lastChatRoomId order by c.id asc")
+    List<Long> findIdsAfter(Long lastChatRoomId, Limit limit);
+
+    // 커서 도입 전 데이터는 메시지별 is_read 중 가장 마지막으로 읽은 메시지를 커서로 삼음 (이미 커서가 있으면 유지)
+    @Modifying
+    @Query("update ChatRoom c set "
+        + "c.senderLastReadMessageId = coalesce(c.senderLastReadMessageId, (select max(m.id) from ChatMessage m "
+        + "where m.chatRoom = c and m.receiver = c.sender and m.isRead = true)), "
+        + "c.receiverLastReadMessageId = coalesce(c.receiverLastReadMessageId, (select max(m.id) from ChatMessage m "
+        + "where m.chatRoom = c and m.receiver = c.receiver and m.isRead = true)) "
+        + "where c.id in :chatRoomIds")
+    int initializeReadCursors(List<Long> chatRoomIds);
+
+    // 읽음 커서 기준으로 카운터를 다시 계산 (백필 및 어긋난 카운터 보정용)
+    @Modifying
+    @Query("update ChatRoom c set "
+        + "c.senderUnreadCount = (select count(m) from ChatMessage m "
+        + "where m.chatRoom = c and m.receiver = c.sender and m.id > coalesce(c.senderLastReadMessageId, 0)), "
+        + "c.receiverUnreadCount = (select count(m) from ChatMessage m "
+        + "where m.chatRoom = c and m.receiver = c.receiver and m.id > coalesce(c.receiverLastReadMessageId, 0)) "
+        + "where c.id in :chatRoomIds")
+    int recalculateUnreadCounts(List<Long> chatRoomIds);
+
+    // 미리보기는 잘라서 다시 암호화해야 하므로 따로 채움 (메시지가 없는 방은 생성 시각을 유지)
+    @Modifying
+    @Query("update ChatRoom c set "
+        + "c.lastMessageId = (select max(m.id) from ChatMessage m where m.chatRoom = c), "
+        + "c.lastMessageAt = coalesce((select m.createdAt from ChatMessage m where m.id = "
+        + "(select max(lm.id) from ChatMessage lm where lm.chatRoom = c)), c.lastMessageAt) "
+        + "where c.id in :chatRoomIds")
+    int recalculateLastMessages(List<Long> chatRoomIds);
+
+    @Modifying
+    @Query("update ChatRoom c set c.lastMessagePreview = :preview "
+        + "where c.id = :chatRoomId and c.lastMessageId = :messageId")
+    void updateLastMessagePreview(Long chatRoomId, Long messageId, String preview);
 }
@@ -3,6 +3,7 @@ package tetoandeggens.seeyouagainbe.chat.repository.custom;
 import java.util.List;
 import java.util.Optional;
 
+import tetoandeggens.seeyouagainbe.chat.dto.PendingChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 
@@ -10,11 +11,19 @@ public interface ChatMessageRepositoryCustom {
 
 	List<ChatMessage> findMessagesByChatRoom(Long chatRoomId, Long cursorId, int size, SortDirection sortDirection);
 
-	void markAsReadByChatRoomAndReceiver(Long chatRoomId, Long memberId);
+	Optional<Long> findLastMessageId(Long chatRoomId);
 
 	Optional<ChatMessage> findByIdWithChatRoomAndMembersAndValidateAccess(Long messageId, Long memberId);
 
 	Optional<ChatMessage> findByIdWithMembers(Long messageId);
 
 	Long countUnreadMessagesByChatRoomAndReceiver(Long chatRoomId, Long memberId);
+
+	List<ChatMessage> findMessagesAfter(Long memberId, Long lastMessageId, int size);
+
+	List<ChatMessage> findPersistedMessages(List<Long> messageIds);
+
+	Long findMaxId();
+
+	void bulkInsert(List<PendingChatMessage> messages);
 }
\ No newline at end of file
@@ -3,11 +3,16 @@ package tetoandeggens.seeyouagainbe.chat.repository.custom;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.chat.dto.PendingChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.QChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.QChatRoom;
@@ -18,6 +23,7 @@ import tetoandeggens.seeyouagainbe.member.entity.QMember;
 public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
 
 	private final JPAQueryFactory queryFactory;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
 	@Override
 	public List<ChatMessage> findMessagesByChatRoom(Long chatRoomId, Long cursorId, int size,
@@ -47,19 +53,18 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
 			.fetch();
 	}
 
+	// 읽음 커서가 아직 저장되지 않은 메시지를 넘어가지 않도록 채팅방에 저장된 마지막 메시지 id로 상한을 둠
 	@Override
-	public void markAsReadByChatRoomAndReceiver(Long chatRoomId, Long memberId) {
+	public Optional<Long> findLastMessageId(Long chatRoomId) {
 		QChatMessage chatMessage = QChatMessage.chatMessage;
 
-		queryFactory
-			.update(chatMessage)
-			.set(chatMessage.isRead, true)
-			.where(
-				chatMessage.chatRoom.id.eq(chatRoomId),
-				chatMessage.receiver.id.eq(memberId),
-				chatMessage.isRead.eq(false)
-			)
-			.execute();
+		Long result = queryFactory
+			.select(chatMessage.id.max())
+			.from(chatMessage)
+			.where(chatMessage.chatRoom.id.eq(chatRoomId))
+			.fetchOne();
+
+		return Optional.ofNullable(result);
 	}
 
 	@Override
@@ -114,6 +119,70 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
 			.fetchOne();
 	}
 
+	// 재접속 시 놓친 메시지 조회: PK 범위 스캔이라 끊겨 있던 시간이 짧을수록 적게 읽음
+	@Override
+	public List<ChatMessage> findMessagesAfter(Long memberId, Long lastMessageId, int size) {
+		QChatMessage chatMessage = QChatMessage.chatMessage;
+		QMember sender = new QMember("sender");
+
+		return queryFactory
+			.selectFrom(chatMessage)
+			.join(chatMessage.sender, sender).fetchJoin()
+			.where(
+				chatMessage.id.gt(lastMessageId),
+				chatMessage.sender.id.eq(memberId)
+					.or(chatMessage.receiver.id.eq(memberId))
+			)
+			.orderBy(chatMessage.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	@Override
+	public List<ChatMessage> findPersistedMessages(List<Long> messageIds) {
+		QChatMessage chatMessage = QChatMessage.chatMessage;
+
+		return queryFactory
+			.selectFrom(chatMessage)
+			.where(chatMessage.id.in(messageIds))
+			.fetch();
+	}
+
+	// 미리 발급한 id로 넣으므로 IDENTITY와 달리 JDBC 배치로 묶임 (content는 이미 암호화된 값)
+	@Override
+	public Long findMaxId() {
+		QChatMessage chatMessage = QChatMessage.chatMessage;
+
+		return queryFactory
+			.select(chatMessage.id.max())
+			.from(chatMessage)
+			.fetchOne();
+	}
+
+	@Override
+	public void bulkInsert(List<PendingChatMessage> messages) {
+		String sql = "INSERT INTO chat_message "
+			+ "(chat_message_id, chat_room_id, sender_id, receiver_id, content, is_read, is_deleted, "
+			+ "created_at, updated_at) "
+			+ "VALUES (:messageId, :chatRoomId, :senderId, :receiverId, :content, :isRead, :isDeleted, "
+			+ ":createdAt, :updatedAt)";
+
+		SqlParameterSource[] batchParams = messages.stream()
+			.map(message -> new MapSqlParameterSource()
+				.addValue("messageId", message.messageId())
+				.addValue("chatRoomId", message.chatRoomId())
+				.addValue("senderId", message.senderId())
+				.addValue("receiverId", message.receiverId())
+				.addValue("content", message.encryptedContent())
+				.addValue("isRead", false)
+				.addValue("isDeleted", false)
+				.addValue("createdAt", message.createdAt())
+				.addValue("updatedAt", message.createdAt()))
+			.toArray(SqlParameterSource[]::new);
+
+		namedParameterJdbcTemplate.batchUpdate(sql, batchParams);
+	}
+
 	private BooleanExpression createCursorCondition(Long cursorId, SortDirection sortDirection) {
 		QChatMessage chatMessage = QChatMessage.chatMessage;
 
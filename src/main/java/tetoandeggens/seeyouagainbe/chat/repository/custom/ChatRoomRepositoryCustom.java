@@ -3,6 +3,8 @@ package tetoandeggens.seeyouagainbe.chat.repository.custom;
 import java.util.List;
 import java.util.Optional;
 
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadCursor;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatRoomResponse;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
@@ -15,7 +17,11 @@ public interface ChatRoomRepositoryCustom {
 
 	Optional<ChatRoom> findByIdWithMembersAndValidateAccess(Long chatRoomId, Long memberId);
 
-	List<ChatRoomResponse> findChatRoomsWithDetails(Long memberId, Long cursorId, int size, SortDirection sortDirection);
+	Optional<ChatRoomMembership> findMembershipById(Long chatRoomId);
 
-	List<ChatRoomResponse> findUnreadChatRoomsWithDetails(Long memberId, Long cursorId, int size, SortDirection sortDirection);
+	Optional<ChatReadCursor> findReadCursor(Long chatRoomId);
+
+	List<ChatRoomResponse> findChatRoomsWithDetails(Long memberId, String cursor, int size, SortDirection sortDirection);
+
+	List<ChatRoomResponse> findUnreadChatRoomsWithDetails(Long memberId, String cursor, int size, SortDirection sortDirection);
 }
\ No newline at end of file
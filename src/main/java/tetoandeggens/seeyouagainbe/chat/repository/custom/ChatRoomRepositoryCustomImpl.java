@@ -3,23 +3,26 @@ package tetoandeggens.seeyouagainbe.chat.repository.custom;
 import static tetoandeggens.seeyouagainbe.board.entity.QBoard.*;
 import static tetoandeggens.seeyouagainbe.chat.entity.QChatRoom.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadCursor;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatRoomResponse;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
-import tetoandeggens.seeyouagainbe.chat.entity.QChatMessage;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
 import tetoandeggens.seeyouagainbe.member.entity.QMember;
 
 @RequiredArgsConstructor
@@ -76,109 +79,64 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 		return Optional.ofNullable(result);
 	}
 
+	// 회원 테이블을 조인하지 않고 채팅방 행의 FK만 읽음
 	@Override
-	public List<ChatRoomResponse> findChatRoomsWithDetails(Long memberId, Long cursorId, int size, SortDirection sortDirection) {
-		BooleanExpression cursorCondition = createCursorCondition(cursorId, sortDirection);
-		OrderSpecifier<Long> orderSpecifier = createOrderSpecifier(sortDirection);
-
-		QChatMessage subMessage = new QChatMessage("subMessage");
-		QMember sender = new QMember("sender");
-		QMember receiver = new QMember("receiver");
-
-		List<ChatRoomResponse> chatRooms = queryFactory
+	public Optional<ChatRoomMembership> findMembershipById(Long chatRoomId) {
+		ChatRoomMembership result = queryFactory
 			.select(Projections.constructor(
-				ChatRoomResponse.class,
+				ChatRoomMembership.class,
 				chatRoom.id,
-				board.id,
-				board.title,
-				board.contentType,
 				chatRoom.sender.id,
 				chatRoom.receiver.id,
-				Expressions.cases()
-					.when(chatRoom.sender.id.eq(memberId))
-					.then(receiver.nickName)
-					.otherwise(sender.nickName),
-				Expressions.nullExpression(String.class),
-				chatRoom.lastMessageAt,
-				JPAExpressions
-					.select(subMessage.count())
-					.from(subMessage)
-					.where(
-						subMessage.chatRoom.eq(chatRoom),
-						subMessage.sender.id.ne(memberId),
-						subMessage.isRead.eq(false)
-					)
+				chatRoom.isDeleted,
+				chatRoom.violatedStatus
 			))
 			.from(chatRoom)
-			.join(chatRoom.board, board)
-			.join(chatRoom.sender, sender)
-			.join(chatRoom.receiver, receiver)
-			.where(
-				chatRoom.sender.id.eq(memberId)
-					.or(chatRoom.receiver.id.eq(memberId)),
-				cursorCondition
-			)
-			.orderBy(orderSpecifier)
-			.limit(size + 1)
-			.fetch();
-
-		if (!chatRooms.isEmpty()) {
-			List<Long> chatRoomIds = chatRooms.stream()
-				.map(ChatRoomResponse::chatRoomId)
-				.collect(Collectors.toList());
-
-			QChatMessage cm = QChatMessage.chatMessage;
+			.where(chatRoom.id.eq(chatRoomId))
+			.fetchOne();
 
-			List<Long> latestMessageIds = queryFactory
-				.select(cm.id.max())
-				.from(cm)
-				.where(cm.chatRoom.id.in(chatRoomIds))
-				.groupBy(cm.chatRoom.id)
-				.fetch();
+		return Optional.ofNullable(result);
+	}
 
-			if (!latestMessageIds.isEmpty()) {
-				Map<Long, String> lastMessages = queryFactory
-					.select(cm.chatRoom.id, cm.content)
-					.from(cm)
-					.where(cm.id.in(latestMessageIds))
-					.fetch()
-					.stream()
-					.collect(Collectors.toMap(
-						tuple -> tuple.get(cm.chatRoom.id),
-						tuple -> tuple.get(cm.content)
-					));
+	@Override
+	public Optional<ChatReadCursor> findReadCursor(Long chatRoomId) {
+		ChatReadCursor result = queryFactory
+			.select(Projections.constructor(
+				ChatReadCursor.class,
+				chatRoom.sender.id,
+				chatRoom.senderLastReadMessageId,
+				chatRoom.receiver.id,
+				chatRoom.receiverLastReadMessageId
+			))
+			.from(chatRoom)
+			.where(chatRoom.id.eq(chatRoomId))
+			.fetchOne();
 
-				return chatRooms.stream()
-					.map(room -> new ChatRoomResponse(
-						room.chatRoomId(),
-						room.boardId(),
-						room.boardTitle(),
-						room.contentType(),
-						room.senderId(),
-						room.receiverId(),
-						room.otherMemberNickname(),
-						lastMessages.get(room.chatRoomId()),
-						room.lastMessageTime(),
-						room.unreadCount()
-					))
-					.collect(Collectors.toList());
-			}
-		}
+		return Optional.ofNullable(result);
+	}
 
-		return chatRooms;
+	@Override
+	public List<ChatRoomResponse> findChatRoomsWithDetails(Long memberId, String cursor, int size,
+		SortDirection sortDirection) {
+		return findChatRooms(memberId, null, cursor, size, sortDirection);
 	}
 
 	@Override
-	public List<ChatRoomResponse> findUnreadChatRoomsWithDetails(Long memberId, Long cursorId, int size,
-																 SortDirection sortDirection) {
-		BooleanExpression cursorCondition = createCursorCondition(cursorId, sortDirection);
-		OrderSpecifier<Long> orderSpecifier = createOrderSpecifier(sortDirection);
+	public List<ChatRoomResponse> findUnreadChatRoomsWithDetails(Long memberId, String cursor, int size,
+		SortDirection sortDirection) {
+		return findChatRooms(memberId, createHasUnreadCondition(memberId), cursor, size, sortDirection);
+	}
+
+	// 미리보기와 안 읽은 수가 CHAT_ROOM에 유지되므로 메시지 테이블을 집계하지 않고 한 번의 쿼리로 목록을 구성
+	private List<ChatRoomResponse> findChatRooms(Long memberId, BooleanExpression extraCondition, String cursor,
+		int size, SortDirection sortDirection) {
+		BooleanExpression cursorCondition = createCursorCondition(cursor, sortDirection);
+		OrderSpecifier<?>[] orderSpecifiers = createOrderSpecifiers(sortDirection);
 
-		QChatMessage subMessage = new QChatMessage("subMessage");
 		QMember sender = new QMember("sender");
 		QMember receiver = new QMember("receiver");
 
-		List<ChatRoomResponse> chatRooms = queryFactory
+		return queryFactory
 			.select(Projections.constructor(
 				ChatRoomResponse.class,
 				chatRoom.id,
@@ -191,16 +149,9 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 					.when(chatRoom.sender.id.eq(memberId))
 					.then(receiver.nickName)
 					.otherwise(sender.nickName),
-				Expressions.nullExpression(String.class),
+				chatRoom.lastMessagePreview,
 				chatRoom.lastMessageAt,
-				JPAExpressions
-					.select(subMessage.count())
-					.from(subMessage)
-					.where(
-						subMessage.chatRoom.eq(chatRoom),
-						subMessage.sender.id.ne(memberId),
-						subMessage.isRead.eq(false)
-					)
+				createUnreadCountExpression(memberId)
 			))
 			.from(chatRoom)
 			.join(chatRoom.board, board)
@@ -209,79 +160,49 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 			.where(
 				chatRoom.sender.id.eq(memberId)
 					.or(chatRoom.receiver.id.eq(memberId)),
-				chatRoom.id.in(
-					JPAExpressions
-						.select(subMessage.chatRoom.id)
-						.from(subMessage)
-						.where(
-							subMessage.sender.id.ne(memberId),
-							subMessage.isRead.eq(false)
-						)
-				),
+				extraCondition,
 				cursorCondition
 			)
-			.orderBy(orderSpecifier)
+			.orderBy(orderSpecifiers)
 			.limit(size + 1)
 			.fetch();
+	}
 
-		if (!chatRooms.isEmpty()) {
-			List<Long> chatRoomIds = chatRooms.stream()
-				.map(ChatRoomResponse::chatRoomId)
-				.collect(Collectors.toList());
-
-			QChatMessage cm = QChatMessage.chatMessage;
-
-			List<Long> latestMessageIds = queryFactory
-				.select(cm.id.max())
-				.from(cm)
-				.where(cm.chatRoom.id.in(chatRoomIds))
-				.groupBy(cm.chatRoom.id)
-				.fetch();
-
-			if (!latestMessageIds.isEmpty()) {
-				Map<Long, String> lastMessages = queryFactory
-					.select(cm.chatRoom.id, cm.content)
-					.from(cm)
-					.where(cm.id.in(latestMessageIds))
-					.fetch()
-					.stream()
-					.collect(Collectors.toMap(
-						tuple -> tuple.get(cm.chatRoom.id),
-						tuple -> tuple.get(cm.content)
-					));
-
-				return chatRooms.stream()
-					.map(room -> new ChatRoomResponse(
-						room.chatRoomId(),
-						room.boardId(),
-						room.boardTitle(),
-						room.contentType(),
-						room.senderId(),
-						room.receiverId(),
-						room.otherMemberNickname(),
-						lastMessages.get(room.chatRoomId()),
-						room.lastMessageTime(),
-						room.unreadCount()
-					))
-					.collect(Collectors.toList());
-			}
-		}
+	// 내가 sender인 방은 sender 카운터, receiver인 방은 receiver 카운터가 내 안 읽은 메시지 수
+	private NumberExpression<Long> createUnreadCountExpression(Long memberId) {
+		return Expressions.cases()
+			.when(chatRoom.sender.id.eq(memberId))
+			.then(chatRoom.senderUnreadCount.coalesce(0L))
+			.otherwise(chatRoom.receiverUnreadCount.coalesce(0L));
+	}
 
-		return chatRooms;
+	private BooleanExpression createHasUnreadCondition(Long memberId) {
+		return chatRoom.sender.id.eq(memberId).and(chatRoom.senderUnreadCount.gt(0L))
+			.or(chatRoom.receiver.id.eq(memberId).and(chatRoom.receiverUnreadCount.gt(0L)));
 	}
 
-	private BooleanExpression createCursorCondition(Long cursorId, SortDirection sortDirection) {
-		if (cursorId == null) {
+	private BooleanExpression createCursorCondition(String cursor, SortDirection sortDirection) {
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+		if (keysetCursor == null) {
 			return null;
 		}
+
+		LocalDateTime lastMessageAt = keysetCursor.sortKeyAsDateTime();
+		Long cursorId = keysetCursor.id();
+		if (lastMessageAt == null) {
+			throw new CustomException(CommonErrorCode.INVALID_CURSOR);
+		}
+
 		return sortDirection == SortDirection.LATEST
-			? chatRoom.id.lt(cursorId)
-			: chatRoom.id.gt(cursorId);
+			? chatRoom.lastMessageAt.lt(lastMessageAt)
+				.or(chatRoom.lastMessageAt.eq(lastMessageAt).and(chatRoom.id.loe(cursorId)))
+			: chatRoom.lastMessageAt.gt(lastMessageAt)
+				.or(chatRoom.lastMessageAt.eq(lastMessageAt).and(chatRoom.id.goe(cursorId)));
 	}
 
-	private OrderSpecifier<Long> createOrderSpecifier(SortDirection sortDirection) {
+	private OrderSpecifier<?>[] createOrderSpecifiers(SortDirection sortDirection) {
 		return sortDirection == SortDirection.LATEST
-			? chatRoom.id.desc()
-			: chatRoom.id.asc();
+			? new OrderSpecifier<?>[] {chatRoom.lastMessageAt.desc(), chatRoom.id.desc()}
+			: new OrderSpecifier<?>[] {chatRoom.lastMessageAt.asc(), chatRoom.id.asc()};
 	}
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.global.config.ChatWriteBehindProperties;
+
+// 저장 전에 발급하는 시간순 메시지 id: 41비트 밀리초 | 5비트 워커 | 7비트 시퀀스
+// 프론트엔드(JS Number)에서 정밀도가 깨지지 않도록 전체를 53비트 안에 맞춤
+@Component
+public class ChatMessageIdGenerator {
+
+	private static final long EPOCH = 1735657200000L; // 2025-01-01T00:00:00+09:00
+	private static final int WORKER_BITS = 5;
+	private static final int SEQUENCE_BITS = 7;
+	private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	private final long workerId;
+	private final ChatMessageRepository chatMessageRepository;
+	private final ChatWriteBehindService chatWriteBehindService;
+
+	private long lastTimestamp = -1L;
+	private long sequence = 0L;
+	private boolean seeded = false;
+
+	public ChatMessageIdGenerator(ChatWriteBehindProperties chatWriteBehindProperties,
+		ChatMessageRepository chatMessageRepository, ChatWriteBehindService chatWriteBehindService) {
+		Integer configuredWorkerId = chatWriteBehindProperties.getWorkerId();
+		if (configuredWorkerId == null && chatWriteBehindProperties.isEnabled()) {
+			// 노드 이름에서 유도하면 서로 다른 노드가 같은 번호를 받아 id가 겹칠 수 있음
+			throw new IllegalStateException("chat-write-behind.enabled이면 chat-write-behind.worker-id를 노드마다 지정해야 합니다.");
+		}
+
+		// 쓰기 지연을 끄면 id를 발급하지 않으므로 워커 번호는 쓰이지 않음
+		long resolvedWorkerId = configuredWorkerId != null ? configuredWorkerId : 0L;
+		if (resolvedWorkerId < 0 || resolvedWorkerId > MAX_WORKER_ID) {
+			throw new IllegalArgumentException("chat-write-behind.worker-id는 0~" + MAX_WORKER_ID + " 범위여야 합니다.");
+		}
+		this.workerId = resolvedWorkerId;
+		this.chatMessageRepository = chatMessageRepository;
+		this.chatWriteBehindService = chatWriteBehindService;
+	}
+
+	public synchronized long nextId() {
+		if (!seeded) {
+			seedLastTimestamp();
+		}
+
+		// 시계가 뒤로 가도 마지막 시각을 계속 사용해 id가 줄어들지 않게 함
+		long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+
+		if (timestamp == lastTimestamp) {
+			sequence = (sequence + 1) & SEQUENCE_MASK;
+			if (sequence == 0) {
+				// 같은 밀리초에 시퀀스를 다 쓰면 다음 밀리초를 미리 당겨 씀
+				timestamp = lastTimestamp + 1;
+			}
+		} else {
+			sequence = 0L;
+		}
+
+		lastTimestamp = timestamp;
+		return ((timestamp - EPOCH) << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+	}
+
+	// id에 담긴 발급 시각 (이 생성기가 발급한 id에만 의미가 있음)
+	public static Instant issuedAt(long messageId) {
+		return Instant.ofEpochMilli((messageId >> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH);
+	}
+
+	// 재기동 후 시계가 이전에 발급한 시각보다 뒤처져 있으면 같은 워커가 이미 쓴 id를 다시 발급할 수 있으므로
+	// 저장된 메시지와 큐에 남은 메시지 중 가장 큰 id의 시각부터 이어서 발급
+	private void seedLastTimestamp() {
+		long maxId = Math.max(
+			Objects.requireNonNullElse(chatMessageRepository.findMaxId(), 0L),
+			chatWriteBehindService.findLatestQueuedMessageId().orElse(0L));
+		lastTimestamp = Math.max(lastTimestamp, issuedAt(maxId).toEpochMilli());
+		// 시드한 밀리초는 이미 쓰였을 수 있으므로 시퀀스를 다 쓴 것으로 두어 다음 밀리초부터 발급
+		sequence = SEQUENCE_MASK;
+		seeded = true;
+	}
+}
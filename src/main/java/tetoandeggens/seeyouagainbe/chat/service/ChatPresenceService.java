@@ -0,0 +1,174 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.global.config.ChatPresenceProperties;
+
+// 회원별로 WebSocket 세션이 붙어 있는 노드를 Redis Hash(chat:presence:{memberId} -> {nodeId: 만료시각})에 기록
+// 메시지는 수신자가 접속한 노드 채널로만 발행하고, 각 노드는 자신에게 붙은 회원에게만 전달함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+	private static final String PREFIX_PRESENCE = "chat:presence:";
+	private static final String PREFIX_NODE_STREAM = "chat:stream:";
+	private static final String NODE_CHANNEL_DELIMITER = ":";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChatPresenceProperties chatPresenceProperties;
+
+	// 이 노드에 붙어 있는 회원별 세션 (같은 회원이 여러 탭/기기로 접속할 수 있음)
+	private final Map<Long, Set<String>> localSessions = new ConcurrentHashMap<>();
+
+	public void connect(Long memberId, String sessionId) {
+		Set<String> sessions = localSessions.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet());
+		sessions.add(sessionId);
+
+		try {
+			register(memberId);
+		} catch (DataAccessException e) {
+			// 다음 하트비트에서 다시 등록됨
+			log.warn("접속 노드 등록 실패 - memberId: {}", memberId, e);
+		}
+	}
+
+	public void disconnect(Long memberId, String sessionId) {
+		Set<String> remaining = localSessions.computeIfPresent(memberId, (id, sessions) -> {
+			sessions.remove(sessionId);
+			return sessions.isEmpty() ? null : sessions;
+		});
+		if (remaining != null) {
+			return;
+		}
+
+		try {
+			redisTemplate.opsForHash().delete(presenceKey(memberId), chatPresenceProperties.getNodeId());
+		} catch (DataAccessException e) {
+			// 지우지 못해도 TTL이 지나면 접속 노드에서 제외됨
+			log.warn("접속 노드 해제 실패 - memberId: {}", memberId, e);
+		}
+	}
+
+	public boolean isConnectedLocally(Long memberId) {
+		return localSessions.containsKey(memberId);
+	}
+
+	// 하트비트가 끊겨 만료된 노드는 제외하며, Redis 장애 시 DataAccessException을 그대로 던져 호출부가 대체 경로를 택하게 함
+	// 발행마다 호출되므로 참여자별 HGETALL을 파이프라인 한 번으로 묶음
+	public Set<String> findNodeIds(Collection<Long> memberIds) {
+		List<Long> distinctMemberIds = List.copyOf(new LinkedHashSet<>(memberIds));
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> stringOperations = (RedisOperations<String, String>)operations;
+				distinctMemberIds.forEach(memberId -> stringOperations.opsForHash().entries(presenceKey(memberId)));
+				return null;
+			}
+		});
+
+		long now = System.currentTimeMillis();
+		Set<String> nodeIds = new LinkedHashSet<>();
+		for (Object result : results) {
+			((Map<?, ?>)result).forEach((nodeId, expiresAt) -> {
+				if (Long.parseLong(expiresAt.toString()) > now) {
+					nodeIds.add(nodeId.toString());
+				}
+			});
+		}
+		return nodeIds;
+	}
+
+	public String nodeChannel(String topic, String nodeId) {
+		return topic + NODE_CHANNEL_DELIMITER + nodeId;
+	}
+
+	public String localNodeChannel(String topic) {
+		return nodeChannel(topic, chatPresenceProperties.getNodeId());
+	}
+
+	public String nodeStreamKey(String nodeId) {
+		return PREFIX_NODE_STREAM + nodeId;
+	}
+
+	public String localNodeStreamKey() {
+		return nodeStreamKey(chatPresenceProperties.getNodeId());
+	}
+
+	public String getNodeId() {
+		return chatPresenceProperties.getNodeId();
+	}
+
+	@Scheduled(
+		fixedDelayString = "${chat-presence.heartbeat-interval:30s}",
+		initialDelayString = "${chat-presence.heartbeat-interval:30s}"
+	)
+	public void heartbeat() {
+		List<Long> memberIds = List.copyOf(localSessions.keySet());
+		if (memberIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> stringOperations = (RedisOperations<String, String>)operations;
+					memberIds.forEach(memberId -> register(stringOperations, memberId));
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			log.warn("접속 노드 하트비트 실패 - members: {}", memberIds.size(), e);
+		}
+	}
+
+	// 정상 종료 시에는 TTL을 기다리지 않고 바로 접속 노드에서 빠짐
+	@PreDestroy
+	public void unregisterAll() {
+		if (localSessions.isEmpty()) {
+			return;
+		}
+
+		try {
+			localSessions.keySet().forEach(memberId ->
+				redisTemplate.opsForHash().delete(presenceKey(memberId), chatPresenceProperties.getNodeId()));
+		} catch (DataAccessException e) {
+			log.warn("접속 노드 일괄 해제 실패", e);
+		}
+		localSessions.clear();
+	}
+
+	private void register(Long memberId) {
+		register(redisTemplate, memberId);
+	}
+
+	private void register(RedisOperations<String, String> operations, Long memberId) {
+		String key = presenceKey(memberId);
+		long expiresAt = System.currentTimeMillis() + chatPresenceProperties.getTtl().toMillis();
+
+		operations.opsForHash().put(key, chatPresenceProperties.getNodeId(), String.valueOf(expiresAt));
+		operations.expire(key, chatPresenceProperties.getTtl());
+	}
+
+	private String presenceKey(Long memberId) {
+		return PREFIX_PRESENCE + memberId;
+	}
+}
@@ -0,0 +1,215 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
+import tetoandeggens.seeyouagainbe.chat.pub.RedisPublisher;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.global.config.ChatReadReceiptProperties;
+import tetoandeggens.seeyouagainbe.global.config.ChatWriteBehindProperties;
+
+// 클라이언트는 화면에 보이는 메시지마다 읽음 요청을 보내므로, 채팅방/참여자별로 가장 큰 메시지 id만 모아 두었다가
+// flush-interval마다 읽음 커서 UPDATE 한 번과 읽음 알림 한 번으로 처리 (메시지 수만큼 UPDATE/발행하지 않음)
+// 모아 두는 곳은 Redis Hash(chat:read-receipt:pending -> {chatRoomId}:{readerId}: messageId)라 노드가 죽어도 남고 어느 노드든 반영함
+// 항목은 DB에 반영한 뒤에만 지우므로 반영 전에 노드가 죽어도 다음 주기에 다시 반영되며,
+// 여러 노드가 같은 항목을 반영해도 커서는 앞으로만 움직이므로 나중 반영은 갱신 없이 끝남 (알림도 보내지 않음)
+@Slf4j
+@Service
+public class ChatReadReceiptService {
+
+	private static final String PENDING_KEY = "chat:read-receipt:pending";
+	private static final String FIELD_DELIMITER = ":";
+	private static final String METRIC_PREFIX = "chat.read-receipt.";
+
+	// 이미 모아 둔 id보다 클 때만 바꿔 커서가 뒤로 가지 않게 함
+	static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+		local current = redis.call('HGET', KEYS[1], ARGV[1])
+		if current and tonumber(current) >= tonumber(ARGV[2]) then
+			return 0
+		end
+		redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	// flush-batch-size는 HSCAN COUNT라 대략적인 상한
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> SCAN_SCRIPT = new DefaultRedisScript<>("""
+		return redis.call('HSCAN', KEYS[1], 0, 'COUNT', ARGV[1])[2]
+		""", List.class);
+
+	// 반영하는 사이 더 큰 id가 들어왔으면 지우지 않고 다음 주기에 반영
+	static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+			return 0
+		end
+		return redis.call('HDEL', KEYS[1], ARGV[1])
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatMessageRepository chatMessageRepository;
+	private final ChatRoomMembershipService chatRoomMembershipService;
+	private final RedisPublisher redisPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final ChatReadReceiptProperties chatReadReceiptProperties;
+	private final ChatWriteBehindProperties chatWriteBehindProperties;
+	private final Counter receivedCounter;
+	private final Counter flushedCounter;
+
+	public ChatReadReceiptService(RedisTemplate<String, String> redisTemplate, ChatRoomRepository chatRoomRepository,
+		ChatMessageRepository chatMessageRepository, ChatRoomMembershipService chatRoomMembershipService,
+		RedisPublisher redisPublisher, TransactionTemplate transactionTemplate,
+		ChatReadReceiptProperties chatReadReceiptProperties, ChatWriteBehindProperties chatWriteBehindProperties,
+		MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.chatRoomRepository = chatRoomRepository;
+		this.chatMessageRepository = chatMessageRepository;
+		this.chatRoomMembershipService = chatRoomMembershipService;
+		this.redisPublisher = redisPublisher;
+		this.transactionTemplate = transactionTemplate;
+		this.chatReadReceiptProperties = chatReadReceiptProperties;
+		this.chatWriteBehindProperties = chatWriteBehindProperties;
+		this.receivedCounter = Counter.builder(METRIC_PREFIX + "received").register(meterRegistry);
+		this.flushedCounter = Counter.builder(METRIC_PREFIX + "flushed").register(meterRegistry);
+	}
+
+	public void record(Long chatRoomId, Long readerId, Long messageId) {
+		stage(new ReadKey(chatRoomId, readerId), messageId);
+		receivedCounter.increment();
+	}
+
+	@Scheduled(
+		fixedDelayString = "${chat-read-receipt.flush-interval:500ms}",
+		initialDelayString = "${chat-read-receipt.flush-interval:500ms}"
+	)
+	public void flush() {
+		List<String> entries;
+		try {
+			entries = scanPending();
+		} catch (DataAccessException e) {
+			log.error("읽음 요청 조회 실패", e);
+			return;
+		}
+
+		List<PendingRead> pendingReads = new ArrayList<>();
+		for (int i = 0; i + 1 < entries.size(); i += 2) {
+			pendingReads.add(new PendingRead(ReadKey.from(entries.get(i)), Long.valueOf(entries.get(i + 1))));
+		}
+
+		// 여러 노드가 같은 채팅방을 동시에 갱신할 때 락 순서가 엇갈리지 않도록 채팅방 id 순으로 처리
+		pendingReads.stream()
+			.sorted(Comparator.comparing((PendingRead read) -> read.key().chatRoomId())
+				.thenComparing(read -> read.key().readerId()))
+			.forEach(this::flush);
+	}
+
+	private void flush(PendingRead read) {
+		ReadKey key = read.key();
+		try {
+			ReadAdvance advance = transactionTemplate.execute(status -> advance(key, read.messageId()));
+			if (advance.lastReadMessageId() != null) {
+				publishReadNotification(key, advance.lastReadMessageId());
+			}
+
+			// 읽은 메시지가 아직 저장되지 않았으면 남겨 두었다가 저장된 뒤의 주기에 나머지를 반영
+			if (!advance.reachedMessage(read.messageId()) && mayBeUnpersisted(read.messageId())) {
+				return;
+			}
+			redisTemplate.execute(COMPLETE_SCRIPT, List.of(PENDING_KEY), key.toField(), read.messageId().toString());
+		} catch (DataAccessException e) {
+			// 지우지 않았으므로 다음 주기에 재시도 (커서는 앞으로만 이동하므로 중복 반영되어도 안전)
+			log.error("읽음 커서 갱신 실패 - chatRoomId: {}, readerId: {}", key.chatRoomId(), key.readerId(), e);
+		}
+	}
+
+	// 쓰기 지연 모드에서 최근에 발급된 id만 저장 대기 중일 수 있음 (그 밖의 id는 없는 메시지이므로 남겨 두지 않음)
+	private boolean mayBeUnpersisted(Long messageId) {
+		if (!chatWriteBehindProperties.isEnabled()) {
+			return false;
+		}
+
+		Duration age = Duration.between(ChatMessageIdGenerator.issuedAt(messageId), Instant.now());
+		return age.abs().compareTo(chatReadReceiptProperties.getUnpersistedRetention()) <= 0;
+	}
+
+	private void stage(ReadKey key, Long messageId) {
+		redisTemplate.execute(RECORD_SCRIPT, List.of(PENDING_KEY), key.toField(), messageId.toString());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> scanPending() {
+		List<String> entries = redisTemplate.execute(SCAN_SCRIPT, List.of(PENDING_KEY),
+			String.valueOf(chatReadReceiptProperties.getFlushBatchSize()));
+		return entries == null ? List.of() : entries;
+	}
+
+	// 아직 저장되지 않은(또는 존재하지 않는) 메시지 id로 커서가 앞서 나가지 않도록 저장된 마지막 메시지까지만 이동
+	private ReadAdvance advance(ReadKey key, Long messageId) {
+		Long lastMessageId = chatMessageRepository.findLastMessageId(key.chatRoomId()).orElse(null);
+		if (lastMessageId == null) {
+			return new ReadAdvance(null, null);
+		}
+
+		Long lastReadMessageId = Math.min(messageId, lastMessageId);
+		int updatedCount = chatRoomRepository.advanceReadCursor(key.chatRoomId(), key.readerId(), lastReadMessageId);
+		if (updatedCount == 0) {
+			return new ReadAdvance(lastMessageId, null);
+		}
+
+		flushedCounter.increment();
+		return new ReadAdvance(lastMessageId, lastReadMessageId);
+	}
+
+	private void publishReadNotification(ReadKey key, Long lastReadMessageId) {
+		ChatRoomMembership membership = chatRoomMembershipService.getMembership(key.chatRoomId());
+		Long counterpartId = membership.senderId().equals(key.readerId())
+			? membership.receiverId()
+			: membership.senderId();
+
+		redisPublisher.publishReadNotification(ChatReadNotificationDto.builder()
+			.chatRoomId(key.chatRoomId())
+			.messageId(lastReadMessageId)
+			.senderId(counterpartId)
+			.build());
+	}
+
+	private record ReadKey(Long chatRoomId, Long readerId) {
+
+		private static ReadKey from(String field) {
+			String[] parts = field.split(FIELD_DELIMITER);
+			return new ReadKey(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+		}
+
+		private String toField() {
+			return chatRoomId + FIELD_DELIMITER + readerId;
+		}
+	}
+
+	private record PendingRead(ReadKey key, Long messageId) {
+	}
+
+	// lastReadMessageId는 이번에 커서를 옮겼을 때만 채워짐
+	private record ReadAdvance(Long lastMessageId, Long lastReadMessageId) {
+
+		private boolean reachedMessage(Long messageId) {
+			return lastMessageId != null && messageId <= lastMessageId;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.ChatErrorCode;
+
+// 메시지 전송/조회마다 채팅방과 양쪽 회원을 fetch join하지 않도록 참여자 정보를 상세 캐시(L1 + Redis L2)에 보관
+// 참여자는 바뀌지 않으므로 삭제/위반 상태가 바뀔 때만 무효화하면 됨
+@Service
+@RequiredArgsConstructor
+public class ChatRoomMembershipService {
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final DetailCacheService detailCacheService;
+
+	public ChatRoomMembership getMembership(Long chatRoomId) {
+		ChatRoomMembership membership = detailCacheService.get(DetailCacheTarget.CHAT_ROOM_MEMBERSHIP, chatRoomId,
+			ChatRoomMembership.class, () -> chatRoomRepository.findMembershipById(chatRoomId).orElse(null));
+
+		if (membership == null) {
+			throw new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND);
+		}
+		return membership;
+	}
+
+	public ChatRoomMembership getMembershipOfMember(Long chatRoomId, Long memberId) {
+		ChatRoomMembership membership = getMembership(chatRoomId);
+
+		if (!membership.isMember(memberId)) {
+			throw new CustomException(ChatErrorCode.CHAT_FORBIDDEN);
+		}
+		return membership;
+	}
+
+	public void evict(Long chatRoomId) {
+		detailCacheService.evict(DetailCacheTarget.CHAT_ROOM_MEMBERSHIP, chatRoomId);
+	}
+
+	public void evictAll(List<Long> chatRoomIds) {
+		chatRoomIds.forEach(this::evict);
+	}
+}
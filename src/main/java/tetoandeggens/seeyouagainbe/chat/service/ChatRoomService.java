@@ -7,16 +7,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadCursor;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatMessageListResponse;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatMessageResponse;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatRoomListResponse;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatRoomResponse;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
-import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
 import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
 import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.ChatErrorCode;
@@ -27,19 +28,20 @@ public class ChatRoomService {
 
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatMessageRepository chatMessageRepository;
+	private final ChatRoomMembershipService chatRoomMembershipService;
 
 	@Transactional(readOnly = true)
 	public ChatRoomListResponse getMyChatRooms(Long memberId, CursorPageRequest request,
 		SortDirection sortDirection) {
 		List<ChatRoomResponse> chatRooms = chatRoomRepository.findChatRoomsWithDetails(
 			memberId,
-			request.cursorId(),
+			request.cursor(),
 			request.size(),
 			sortDirection
 		);
 
-		CursorPage<ChatRoomResponse, Long> cursorPage = CursorPage.of(chatRooms, request.size(),
-			ChatRoomResponse::chatRoomId);
+		CursorPage<ChatRoomResponse, String> cursorPage = CursorPage.of(chatRooms, request.size(),
+			room -> KeysetCursor.encode(room.lastMessageTime(), room.chatRoomId()));
 		return ChatRoomListResponse.of(cursorPage);
 	}
 
@@ -48,30 +50,23 @@ public class ChatRoomService {
 		SortDirection sortDirection) {
 		List<ChatRoomResponse> chatRooms = chatRoomRepository.findUnreadChatRoomsWithDetails(
 			memberId,
-			request.cursorId(),
+			request.cursor(),
 			request.size(),
 			sortDirection
 		);
 
-		CursorPage<ChatRoomResponse, Long> cursorPage = CursorPage.of(chatRooms, request.size(),
-			ChatRoomResponse::chatRoomId);
+		CursorPage<ChatRoomResponse, String> cursorPage = CursorPage.of(chatRooms, request.size(),
+			room -> KeysetCursor.encode(room.lastMessageTime(), room.chatRoomId()));
 		return ChatRoomListResponse.of(cursorPage);
 	}
 
 	@Transactional
 	public ChatMessageListResponse getChatMessages(Long chatRoomId, Long memberId,
 		CursorPageRequest request, SortDirection sortDirection) {
-		ChatRoom chatRoom = chatRoomRepository.findByIdWithMembers(chatRoomId)
-			.orElseThrow(() -> new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
-
-		boolean isChatRoomMember =
-			chatRoom.getSender().getId().equals(memberId) || chatRoom.getReceiver().getId().equals(memberId);
+		chatRoomMembershipService.getMembershipOfMember(chatRoomId, memberId);
 
-		if (!isChatRoomMember) {
-			throw new CustomException(ChatErrorCode.CHAT_FORBIDDEN);
-		}
-
-		chatMessageRepository.markAsReadByChatRoomAndReceiver(chatRoomId, memberId);
+		// 채팅방을 열면 마지막 메시지까지 읽음 커서를 옮기고 카운터를 초기화 (메시지별 is_read 갱신 없이 UPDATE 한 번)
+		chatRoomRepository.markAllAsRead(chatRoomId, memberId);
 
 		List<ChatMessage> messages = chatMessageRepository.findMessagesByChatRoom(
 			chatRoomId,
@@ -80,9 +75,13 @@ public class ChatRoomService {
 			sortDirection
 		);
 
+		ChatReadCursor readCursor = chatRoomRepository.findReadCursor(chatRoomId)
+			.orElseThrow(() -> new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+
 		List<ChatMessageResponse> responses = new ArrayList<>();
 		for (ChatMessage message : messages) {
-			responses.add(ChatMessageResponse.from(message, memberId));
+			boolean isRead = readCursor.isReadBy(message.getReceiver().getId(), message.getId());
+			responses.add(ChatMessageResponse.from(message, memberId, isRead));
 		}
 
 		CursorPage<ChatMessageResponse, Long> cursorPage = CursorPage.of(responses, request.size(),
@@ -1,6 +1,10 @@
 package tetoandeggens.seeyouagainbe.chat.service;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,9 +14,11 @@ import lombok.extern.slf4j.Slf4j;
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.board.repository.BoardRepository;
 import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
-import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
 import tetoandeggens.seeyouagainbe.chat.dto.WebSocketPrincipal;
 import tetoandeggens.seeyouagainbe.chat.dto.request.ChatMessageSendRequest;
+import tetoandeggens.seeyouagainbe.chat.dto.request.ChatReadRequest;
+import tetoandeggens.seeyouagainbe.chat.dto.response.ChatMessageWebSocketResponse;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatRoomCreateResponse;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
@@ -20,6 +26,7 @@ import tetoandeggens.seeyouagainbe.chat.pub.RedisPublisher;
 import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
 import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
 import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
+import tetoandeggens.seeyouagainbe.global.config.ChatStreamProperties;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.AuthErrorCode;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.ChatErrorCode;
@@ -34,6 +41,11 @@ public class ChatService {
 	private final ChatMessageRepository chatMessageRepository;
 	private final BoardRepository boardRepository;
 	private final RedisPublisher redisPublisher;
+	private final ChatStreamProperties chatStreamProperties;
+	private final ChatWriteBehindService chatWriteBehindService;
+	private final ChatMessageIdGenerator chatMessageIdGenerator;
+	private final ChatRoomMembershipService chatRoomMembershipService;
+	private final ChatReadReceiptService chatReadReceiptService;
 
 	@Transactional
 	public ChatRoomCreateResponse findOrCreateChatRoom(Long boardId, Long memberId) {
@@ -66,10 +78,30 @@ public class ChatService {
 		Long authenticatedMemberId = webSocketPrincipal.getMemberId();
 		String senderUuid = webSocketPrincipal.getUuid();
 
-		ChatRoom chatRoom = chatRoomRepository.findByIdWithMembers(request.chatRoomId())
-			.orElseThrow(() -> new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+		ChatRoomMembership membership = chatRoomMembershipService.getMembership(request.chatRoomId());
+		// 게시글 삭제나 위반 처리로 삭제된 채팅방에는 더 이상 메시지를 보낼 수 없음
+		if (Boolean.TRUE.equals(membership.isDeleted())) {
+			throw new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND);
+		}
 
-		Long receiverId = determineReceiverId(chatRoom, authenticatedMemberId);
+		Long receiverId = determineReceiverId(membership, authenticatedMemberId);
+
+		// 쓰기 지연 모드: id를 먼저 발급해 큐에 넣고 바로 발행 (INSERT와 채팅방 요약 갱신은 배치 저장 시 처리)
+		if (chatWriteBehindService.isEnabled()) {
+			ChatMessageDto pendingMessage = ChatMessageDto.builder()
+				.messageId(chatMessageIdGenerator.nextId())
+				.chatRoomId(request.chatRoomId())
+				.senderId(authenticatedMemberId)
+				.receiverId(receiverId)
+				.senderUuid(senderUuid)
+				.content(request.content())
+				.createdAt(LocalDateTime.now())
+				.build();
+
+			chatWriteBehindService.enqueue(pendingMessage);
+			redisPublisher.publish(pendingMessage);
+			return;
+		}
 
 		ChatMessageDto savedMessage = saveMessage(
 			request.chatRoomId(),
@@ -79,40 +111,82 @@ public class ChatService {
 			request.content()
 		);
 
+		chatRoomRepository.increaseUnreadCount(request.chatRoomId(), receiverId);
+		chatRoomRepository.updateLastMessage(
+			request.chatRoomId(),
+			savedMessage.messageId(),
+			ChatRoom.toPreview(savedMessage.content()),
+			savedMessage.createdAt()
+		);
+
 		redisPublisher.publish(savedMessage);
 	}
 
-	@Transactional
-	public void markAsRead(Long messageId, Principal principal) {
+	// 읽음 요청은 바로 반영하지 않고 모아서 처리 (ChatReadReceiptService 참고)
+	public void markAsRead(ChatReadRequest request, Principal principal) {
 		if (principal == null) {
 			throw new CustomException(AuthErrorCode.INVALID_TOKEN);
 		}
 
-		WebSocketPrincipal webSocketPrincipal = (WebSocketPrincipal) principal;
-		Long readerId = webSocketPrincipal.getMemberId();
+		Long readerId = ((WebSocketPrincipal) principal).getMemberId();
+		Long chatRoomId = request.chatRoomId() != null
+			? request.chatRoomId()
+			: findChatRoomIdOfMessage(request.messageId());
+		chatRoomMembershipService.getMembershipOfMember(chatRoomId, readerId);
 
-		ChatMessage message = chatMessageRepository.findByIdWithMembers(messageId)
-			.orElseThrow(() -> new CustomException(ChatErrorCode.MESSAGE_NOT_FOUND));
+		chatReadReceiptService.record(chatRoomId, readerId, request.messageId());
+	}
 
-		if (!message.getReceiver().getId().equals(readerId)) {
-			throw new CustomException(ChatErrorCode.NOT_MESSAGE_RECEIVER);
+	@Transactional(readOnly = true)
+	public List<ChatMessageWebSocketResponse> getMissedMessages(Long lastMessageId, Principal principal) {
+		if (principal == null) {
+			throw new CustomException(AuthErrorCode.INVALID_TOKEN);
 		}
 
-		message.markAsRead();
+		if (lastMessageId == null) {
+			return List.of();
+		}
 
-		ChatReadNotificationDto notification = ChatReadNotificationDto.builder()
-			.messageId(message.getId())
-			.senderId(message.getSender().getId())
-			.build();
+		Long memberId = ((WebSocketPrincipal) principal).getMemberId();
+		int replayLimit = chatStreamProperties.getReplayLimit();
+
+		// 쓰기 지연 모드에서는 아직 저장되지 않은 메시지가 큐에만 있으므로 함께 합침 (둘 다 있으면 DB 쪽을 사용)
+		Map<Long, ChatMessageWebSocketResponse> messages = new TreeMap<>();
+		chatMessageRepository.findMessagesAfter(memberId, lastMessageId, replayLimit)
+			.forEach(message -> messages.put(message.getId(), ChatMessageWebSocketResponse.builder()
+				.messageId(message.getId())
+				.chatRoomId(message.getChatRoom().getId())
+				.senderUuid(message.getSender().getUuid())
+				.content(message.getContent())
+				.isMyChat(message.getSender().getId().equals(memberId))
+				.createdAt(message.getCreatedAt())
+				.build()));
+		chatWriteBehindService.findQueuedMessagesAfter(memberId, lastMessageId)
+			.forEach(message -> messages.putIfAbsent(message.messageId(),
+				ChatMessageWebSocketResponse.from(message, memberId)));
+
+		return messages.values().stream()
+			.limit(replayLimit)
+			.toList();
+	}
+
+	// chatRoomId 없이 messageId만 보내는 이전 클라이언트용 (쓰기 지연 중이면 아직 큐에만 있을 수 있음)
+	private Long findChatRoomIdOfMessage(Long messageId) {
+		if (messageId == null) {
+			throw new CustomException(ChatErrorCode.MESSAGE_NOT_FOUND);
+		}
 
-		redisPublisher.publishReadNotification(notification);
+		return chatMessageRepository.findByIdWithMembers(messageId)
+			.map(message -> message.getChatRoom().getId())
+			.or(() -> chatWriteBehindService.findQueuedChatRoomId(messageId))
+			.orElseThrow(() -> new CustomException(ChatErrorCode.MESSAGE_NOT_FOUND));
 	}
 
-	private Long determineReceiverId(ChatRoom chatRoom, Long senderId) {
-		if (chatRoom.getSender().getId().equals(senderId)) {
-			return chatRoom.getReceiver().getId();
-		} else if (chatRoom.getReceiver().getId().equals(senderId)) {
-			return chatRoom.getSender().getId();
+	private Long determineReceiverId(ChatRoomMembership membership, Long senderId) {
+		if (membership.senderId().equals(senderId)) {
+			return membership.receiverId();
+		} else if (membership.receiverId().equals(senderId)) {
+			return membership.senderId();
 		} else {
 			throw new CustomException(ChatErrorCode.CHAT_FORBIDDEN);
 		}
@@ -0,0 +1,356 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.PendingChatMessage;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.global.config.ChatPresenceProperties;
+import tetoandeggens.seeyouagainbe.global.config.ChatWriteBehindProperties;
+import tetoandeggens.seeyouagainbe.global.util.AesEncryptionUtil;
+
+// 메시지를 Redis Stream 큐에 넣고 바로 발행한 뒤, 소비 그룹으로 모아 JDBC 배치 INSERT로 저장 (쓰기 지연)
+// DB 커밋 후에만 ACK하므로 저장 전에 노드가 죽어도 claim-idle-time이 지나면 다른 노드가 넘겨받아 저장함
+@Slf4j
+@Service
+public class ChatWriteBehindService {
+
+	private static final String QUEUE_KEY = "chat:write-behind";
+	private static final String DEAD_LETTER_KEY = "chat:write-behind:dead";
+	private static final String CONSUMER_GROUP = "chat-persist";
+	private static final String METRIC_PREFIX = "chat.write-behind.";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChatMessageRepository chatMessageRepository;
+	private final ChatRoomRepository chatRoomRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final AesEncryptionUtil aesEncryptionUtil;
+	private final ChatWriteBehindProperties chatWriteBehindProperties;
+	private final String consumerName;
+	private final Timer flushTimer;
+	private final Counter persistedCounter;
+	private final Counter deadLetterCounter;
+	private final AtomicLong queueDepth = new AtomicLong();
+
+	private volatile boolean groupCreated = false;
+
+	public ChatWriteBehindService(RedisTemplate<String, String> redisTemplate,
+		ChatMessageRepository chatMessageRepository, ChatRoomRepository chatRoomRepository,
+		TransactionTemplate transactionTemplate, AesEncryptionUtil aesEncryptionUtil,
+		ChatWriteBehindProperties chatWriteBehindProperties, ChatPresenceProperties chatPresenceProperties,
+		MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.chatMessageRepository = chatMessageRepository;
+		this.chatRoomRepository = chatRoomRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.aesEncryptionUtil = aesEncryptionUtil;
+		this.chatWriteBehindProperties = chatWriteBehindProperties;
+		this.consumerName = chatPresenceProperties.getNodeId();
+		this.flushTimer = Timer.builder(METRIC_PREFIX + "flush")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.persistedCounter = Counter.builder(METRIC_PREFIX + "persisted").register(meterRegistry);
+		this.deadLetterCounter = Counter.builder(METRIC_PREFIX + "dead-letter").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "queue.depth", queueDepth, AtomicLong::get).register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return chatWriteBehindProperties.isEnabled();
+	}
+
+	// 평문은 Redis에 남기지 않도록 DB 컬럼과 같은 암호문으로 큐에 넣음
+	public void enqueue(ChatMessageDto message) {
+		PendingChatMessage pending = PendingChatMessage.builder()
+			.messageId(message.messageId())
+			.chatRoomId(message.chatRoomId())
+			.senderId(message.senderId())
+			.receiverId(message.receiverId())
+			.senderUuid(message.senderUuid())
+			.encryptedContent(aesEncryptionUtil.encrypt(message.content()))
+			.createdAt(message.createdAt())
+			.build();
+
+		streamOperations().add(QUEUE_KEY, pending.toFields());
+	}
+
+	// 아직 DB에 저장되지 않은 메시지 중 회원이 보내거나 받은 것 (재접속 시 DB 조회 결과와 합침)
+	public List<ChatMessageDto> findQueuedMessagesAfter(Long memberId, Long lastMessageId) {
+		if (!isEnabled()) {
+			return List.of();
+		}
+
+		try {
+			return readQueue().stream()
+				.filter(message -> message.messageId() > lastMessageId)
+				.filter(message -> message.senderId().equals(memberId) || message.receiverId().equals(memberId))
+				.map(message -> ChatMessageDto.builder()
+					.messageId(message.messageId())
+					.chatRoomId(message.chatRoomId())
+					.senderId(message.senderId())
+					.receiverId(message.receiverId())
+					.senderUuid(message.senderUuid())
+					.content(aesEncryptionUtil.decrypt(message.encryptedContent()))
+					.createdAt(message.createdAt())
+					.build())
+				.toList();
+		} catch (DataAccessException e) {
+			// 큐를 읽지 못해도 DB에 저장된 메시지는 돌려줌 (나머지는 저장 후 메시지 목록 API로 확인 가능)
+			log.warn("쓰기 지연 큐 조회 실패 - memberId: {}", memberId, e);
+			return List.of();
+		}
+	}
+
+	// 아직 저장되지 않은 메시지의 채팅방 (messageId만 보내는 읽음 요청에서 채팅방을 찾을 때 사용)
+	public Optional<Long> findQueuedChatRoomId(Long messageId) {
+		if (!isEnabled()) {
+			return Optional.empty();
+		}
+
+		return readQueue().stream()
+			.filter(message -> message.messageId().equals(messageId))
+			.map(PendingChatMessage::chatRoomId)
+			.findFirst();
+	}
+
+	// 저장이 끝난 메시지는 큐에서 지워지므로 큐 길이는 대기 중인 메시지 수이며, replay-scan-limit까지만 훑음
+	private List<PendingChatMessage> readQueue() {
+		List<MapRecord<String, String, String>> records = streamOperations().range(
+			QUEUE_KEY, Range.unbounded(), Limit.limit().count(chatWriteBehindProperties.getReplayScanLimit()));
+		if (records == null) {
+			return List.of();
+		}
+		return records.stream()
+			.map(record -> PendingChatMessage.fromFields(record.getValue()))
+			.toList();
+	}
+
+	// 큐에 가장 나중에 들어간 메시지의 id (id 생성기가 재기동 후 이어서 발급할 시각을 정할 때 사용)
+	public Optional<Long> findLatestQueuedMessageId() {
+		List<MapRecord<String, String, String>> records = streamOperations().reverseRange(
+			QUEUE_KEY, Range.unbounded(), Limit.limit().count(1));
+		if (records == null || records.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(PendingChatMessage.fromFields(records.get(0).getValue()).messageId());
+	}
+
+	@Scheduled(
+		fixedDelayString = "${chat-write-behind.flush-interval:200ms}",
+		initialDelayString = "${chat-write-behind.flush-interval:200ms}"
+	)
+	public void flush() {
+		if (!isEnabled()) {
+			return;
+		}
+
+		try {
+			createGroupIfAbsent();
+			reclaimAbandoned();
+
+			// batch-size만큼 꽉 찬 배치가 나오는 동안은 다음 주기를 기다리지 않고 계속 비움
+			List<MapRecord<String, String, String>> records;
+			do {
+				records = streamOperations().read(
+					Consumer.from(CONSUMER_GROUP, consumerName),
+					StreamReadOptions.empty().count(chatWriteBehindProperties.getBatchSize()),
+					offsets(StreamOffset.create(QUEUE_KEY, ReadOffset.lastConsumed())));
+				if (records == null || records.isEmpty()) {
+					break;
+				}
+				persistAndAcknowledge(records);
+			} while (records.size() >= chatWriteBehindProperties.getBatchSize());
+
+			Long size = streamOperations().size(QUEUE_KEY);
+			queueDepth.set(size == null ? 0L : size);
+		} catch (DataAccessException e) {
+			// ACK하지 않은 메시지는 pending으로 남아 다음 주기 또는 다른 노드에서 다시 저장됨
+			log.error("채팅 메시지 쓰기 지연 저장 실패", e);
+		}
+	}
+
+	private void reclaimAbandoned() {
+		PendingMessages pendingMessages = streamOperations().pending(
+			QUEUE_KEY, CONSUMER_GROUP, Range.unbounded(), chatWriteBehindProperties.getBatchSize());
+
+		List<PendingMessage> idleMessages = pendingMessages.stream()
+			.filter(pending -> pending.getElapsedTimeSinceLastDelivery()
+				.compareTo(chatWriteBehindProperties.getClaimIdleTime()) >= 0)
+			.toList();
+		if (idleMessages.isEmpty()) {
+			return;
+		}
+
+		List<MapRecord<String, String, String>> claimed = streamOperations().claim(
+			QUEUE_KEY, CONSUMER_GROUP, consumerName, chatWriteBehindProperties.getClaimIdleTime(),
+			idleMessages.stream().map(PendingMessage::getId).toArray(RecordId[]::new));
+		if (claimed.isEmpty()) {
+			return;
+		}
+
+		Set<RecordId> exhaustedIds = idleMessages.stream()
+			.filter(pending -> pending.getTotalDeliveryCount() >= chatWriteBehindProperties.getMaxDeliveries())
+			.map(PendingMessage::getId)
+			.collect(Collectors.toSet());
+
+		try {
+			persistAndAcknowledge(claimed);
+		} catch (DataAccessException e) {
+			if (exhaustedIds.isEmpty()) {
+				// 넘겨받은 메시지는 pending으로 남아 다음 주기에 다시 시도되며, 새 메시지 저장은 그대로 진행
+				log.warn("넘겨받은 채팅 메시지 저장 실패 - count: {}", claimed.size(), e);
+				return;
+			}
+			// 여러 번 실패한 배치는 한 건씩 저장해 문제 메시지만 걸러냄
+			claimed.stream()
+				.filter(record -> exhaustedIds.contains(record.getId()))
+				.forEach(this::persistOrDeadLetter);
+		}
+	}
+
+	private void persistOrDeadLetter(MapRecord<String, String, String> record) {
+		try {
+			persistAndAcknowledge(List.of(record));
+		} catch (DataAccessException e) {
+			log.error("채팅 메시지 저장 포기, dead-letter로 이동 - recordId: {}", record.getId(), e);
+			moveToDeadLetter(record);
+			acknowledge(List.of(record));
+		}
+	}
+
+	private void moveToDeadLetter(MapRecord<String, String, String> record) {
+		streamOperations().add(DEAD_LETTER_KEY, record.getValue());
+		deadLetterCounter.increment();
+	}
+
+	private void persistAndAcknowledge(List<MapRecord<String, String, String>> records) {
+		List<PendingChatMessage> messages = records.stream()
+			.map(record -> PendingChatMessage.fromFields(record.getValue()))
+			.toList();
+
+		Set<Long> conflictingIds = flushTimer.record(() -> transactionTemplate.execute(status -> persist(messages)));
+		if (conflictingIds != null && !conflictingIds.isEmpty()) {
+			records.stream()
+				.filter(record -> conflictingIds.contains(PendingChatMessage.fromFields(record.getValue()).messageId()))
+				.forEach(record -> {
+					log.error("이미 다른 메시지가 저장된 id, dead-letter로 이동 - recordId: {}", record.getId());
+					moveToDeadLetter(record);
+				});
+		}
+		acknowledge(records);
+	}
+
+	// 같은 메시지가 다시 전달될 수 있으므로(ACK 전 장애) 이미 저장된 id는 건너뜀
+	// 같은 id에 내용이 다른 메시지가 저장되어 있으면(id 충돌) 건너뛰지 않고 그 id들을 돌려줘 dead-letter로 보냄
+	private Set<Long> persist(List<PendingChatMessage> messages) {
+		Map<Long, ChatMessage> persistedMessages = chatMessageRepository.findPersistedMessages(
+				messages.stream().map(PendingChatMessage::messageId).toList())
+			.stream()
+			.collect(Collectors.toMap(ChatMessage::getId, Function.identity()));
+		Set<Long> conflictingIds = messages.stream()
+			.filter(message -> persistedMessages.containsKey(message.messageId()))
+			.filter(message -> !isSameMessage(persistedMessages.get(message.messageId()), message))
+			.map(PendingChatMessage::messageId)
+			.collect(Collectors.toSet());
+		List<PendingChatMessage> newMessages = messages.stream()
+			.filter(message -> !persistedMessages.containsKey(message.messageId()))
+			.toList();
+		if (newMessages.isEmpty()) {
+			return conflictingIds;
+		}
+
+		chatMessageRepository.bulkInsert(newMessages);
+
+		// 여러 노드가 같은 채팅방을 동시에 갱신할 때 락 순서가 엇갈리지 않도록 채팅방 id 순으로 갱신
+		Map<Long, Map<Long, Long>> unreadCounts = newMessages.stream()
+			.collect(Collectors.groupingBy(PendingChatMessage::chatRoomId, TreeMap::new,
+				Collectors.groupingBy(PendingChatMessage::receiverId, Collectors.counting())));
+		unreadCounts.forEach((chatRoomId, countsByReceiver) -> countsByReceiver.forEach(
+			(receiverId, count) -> chatRoomRepository.increaseUnreadCountBy(chatRoomId, receiverId, count)));
+
+		newMessages.stream()
+			.collect(Collectors.toMap(PendingChatMessage::chatRoomId, Function.identity(),
+				(left, right) -> left.messageId() > right.messageId() ? left : right, TreeMap::new))
+			.values()
+			.forEach(message -> chatRoomRepository.updateLastMessage(message.chatRoomId(), message.messageId(),
+				ChatRoom.toPreview(aesEncryptionUtil.decrypt(message.encryptedContent())), message.createdAt()));
+
+		persistedCounter.increment(newMessages.size());
+		return conflictingIds;
+	}
+
+	private boolean isSameMessage(ChatMessage persisted, PendingChatMessage message) {
+		return persisted.getChatRoom().getId().equals(message.chatRoomId())
+			&& persisted.getSender().getId().equals(message.senderId())
+			&& Objects.equals(persisted.getContent(), aesEncryptionUtil.decrypt(message.encryptedContent()));
+	}
+
+	private void acknowledge(List<MapRecord<String, String, String>> records) {
+		RecordId[] recordIds = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+		streamOperations().acknowledge(QUEUE_KEY, CONSUMER_GROUP, recordIds);
+		// 저장이 끝난 메시지는 큐에서 지워 스트림 길이가 곧 대기 중인 메시지 수가 되게 함
+		streamOperations().delete(QUEUE_KEY, recordIds);
+	}
+
+	private void createGroupIfAbsent() {
+		if (groupCreated) {
+			return;
+		}
+
+		try {
+			// 그룹이 생기기 전에 쌓인 메시지도 저장되도록 처음부터 읽음
+			streamOperations().createGroup(QUEUE_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+		} catch (RedisSystemException e) {
+			String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+			if (message == null || !message.contains("BUSYGROUP")) {
+				throw e;
+			}
+			// 다른 노드가 이미 만든 그룹을 함께 사용
+		}
+		groupCreated = true;
+	}
+
+	// read()가 가변 인자만 받으므로 제네릭 배열 생성 경고 없이 오프셋을 넘기도록 감쌈
+	@SafeVarargs
+	private static StreamOffset<String>[] offsets(StreamOffset<String>... offsets) {
+		return offsets;
+	}
+
+	private StreamOperations<String, String, String> streamOperations() {
+		return redisTemplate.opsForStream();
+	}
+}
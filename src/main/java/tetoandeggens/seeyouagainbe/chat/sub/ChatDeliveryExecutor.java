@@ -0,0 +1,147 @@
+package tetoandeggens.seeyouagainbe.chat.sub;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.global.config.ChatDeliveryProperties;
+
+// Redis로 받은 채팅/읽음 알림을 채팅방 id 기준 스트라이프(단일 스레드 + 제한된 대기열)로 나눠 전달
+// 같은 채팅방은 항상 같은 스레드에서 FIFO로 처리되어 순서가 유지되고, 다른 채팅방은 코어 수만큼 병렬로 처리됨
+@Slf4j
+@Component
+public class ChatDeliveryExecutor {
+
+	private static final String THREAD_NAME_PREFIX = "chat-delivery-";
+	private static final String DISPATCH_THREAD_NAME_PREFIX = "chat-dispatch-";
+	private static final String METRIC_PREFIX = "chat.delivery.";
+
+	private final List<ThreadPoolExecutor> stripes;
+	private final ThreadPoolExecutor dispatcher;
+	private final long offerTimeoutMillis;
+	private final Counter backPressureCounter;
+	private final Counter rejectedCounter;
+	private final Counter dispatchRejectedCounter;
+
+	public ChatDeliveryExecutor(ChatDeliveryProperties chatDeliveryProperties, MeterRegistry meterRegistry) {
+		int stripeCount = chatDeliveryProperties.getStripes() > 0
+			? chatDeliveryProperties.getStripes()
+			: Runtime.getRuntime().availableProcessors();
+		this.offerTimeoutMillis = chatDeliveryProperties.getOfferTimeout().toMillis();
+		this.backPressureCounter = Counter.builder(METRIC_PREFIX + "back-pressure").register(meterRegistry);
+		this.rejectedCounter = Counter.builder(METRIC_PREFIX + "rejected").register(meterRegistry);
+		this.dispatchRejectedCounter = Counter.builder(METRIC_PREFIX + "dispatch.rejected").register(meterRegistry);
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+		threadFactory.setDaemon(true);
+		this.stripes = IntStream.range(0, stripeCount)
+			.mapToObj(index -> new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(chatDeliveryProperties.getQueueCapacity()), threadFactory,
+				waitForCapacity()))
+			.toList();
+
+		CustomizableThreadFactory dispatchThreadFactory = new CustomizableThreadFactory(DISPATCH_THREAD_NAME_PREFIX);
+		dispatchThreadFactory.setDaemon(true);
+		this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(chatDeliveryProperties.getDispatchQueueCapacity()), dispatchThreadFactory,
+			dropWhenFull());
+
+		Gauge.builder(METRIC_PREFIX + "queue.size", this, ChatDeliveryExecutor::totalQueueSize)
+			.register(meterRegistry);
+		// 특정 채팅방에 몰려 한 스트라이프만 가득 차는 경우를 보기 위해 가장 많이 쌓인 대기열도 노출
+		Gauge.builder(METRIC_PREFIX + "queue.max", this, ChatDeliveryExecutor::maxQueueSize)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "dispatch.queue.size", dispatcher, executor -> executor.getQueue().size())
+			.register(meterRegistry);
+	}
+
+	// 채팅/읽음 채널의 Redis pub/sub 수신 스레드(Lettuce IO 스레드)에서 넘겨받아 역직렬화와 스트라이프 배정을 하는 단일 스레드
+	// 포화 시 버리므로 놓치면 안 되는 제어 채널(캐시 무효화, 토큰/세션 폐기)은 여기로 보내지 않음
+	// 단일 스레드라 수신 순서가 그대로 유지되고, 스트라이프가 가득 차 기다리는 동안에도 IO 스레드는 막히지 않음
+	public Executor dispatcher() {
+		return dispatcher;
+	}
+
+	public void execute(Long chatRoomId, Runnable task) {
+		execute(chatRoomId, task, () -> {
+		});
+	}
+
+	// onDelivered는 같은 스트라이프에서 task가 예외 없이 끝난 뒤에만 실행됨 (버려지거나 실패하면 실행되지 않음)
+	public void execute(Long chatRoomId, Runnable task, Runnable onDelivered) {
+		try {
+			stripes.get(Math.floorMod(Long.hashCode(chatRoomId), stripes.size())).execute(() -> {
+				try {
+					task.run();
+				} catch (Exception e) {
+					log.error("채팅 전달 실패 - chatRoomId: {}", chatRoomId, e);
+					return;
+				}
+				onDelivered.run();
+			});
+		} catch (RejectedExecutionException e) {
+			log.debug("채팅 전달 포기 - chatRoomId: {}", chatRoomId);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		dispatcher.shutdown();
+		stripes.forEach(ThreadPoolExecutor::shutdown);
+	}
+
+	// 대기열이 가득 차면 넘겨주는 스레드(dispatcher 또는 스트림 수신 스레드)를 잠시 붙잡아 수신 속도를 늦추고, 그래도 자리가 없으면 버림
+	// 버린 전달은 RejectedExecutionException으로 execute에 알려 onDelivered(스트림 ACK 등)가 실행되지 않게 함
+	// (호출 스레드에서 실행하면 같은 채팅방의 순서가 깨지므로 CallerRunsPolicy는 쓰지 않음)
+	private RejectedExecutionHandler waitForCapacity() {
+		return (runnable, executor) -> {
+			if (executor.isShutdown()) {
+				rejectedCounter.increment();
+				throw new RejectedExecutionException("채팅 전달 스트라이프 종료됨");
+			}
+
+			backPressureCounter.increment();
+			try {
+				if (executor.getQueue().offer(runnable, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			rejectedCounter.increment();
+			log.warn("채팅 전달 대기열 포화로 전달 포기 - queueSize: {}", executor.getQueue().size());
+			throw new RejectedExecutionException("채팅 전달 대기열 포화");
+		};
+	}
+
+	// IO 스레드에서 호출되므로 기다리지 않고 버린 뒤 메트릭만 남김
+	private RejectedExecutionHandler dropWhenFull() {
+		return (runnable, executor) -> {
+			dispatchRejectedCounter.increment();
+			if (!executor.isShutdown()) {
+				log.warn("Redis 수신 대기열 포화로 메시지 버림 - queueSize: {}", executor.getQueue().size());
+			}
+		};
+	}
+
+	private double totalQueueSize() {
+		return stripes.stream().mapToInt(stripe -> stripe.getQueue().size()).sum();
+	}
+
+	private double maxQueueSize() {
+		return stripes.stream().mapToInt(stripe -> stripe.getQueue().size()).max().orElse(0);
+	}
+}
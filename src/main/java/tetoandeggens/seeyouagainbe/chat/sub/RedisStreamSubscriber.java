@@ -0,0 +1,129 @@
+package tetoandeggens.seeyouagainbe.chat.sub;
+
+import static tetoandeggens.seeyouagainbe.chat.pub.RedisPublisher.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.chat.service.ChatPresenceService;
+import tetoandeggens.seeyouagainbe.global.config.ChatStreamProperties;
+
+// 이 노드 스트림의 레코드를 pub/sub 구독과 같은 처리(RedisSubscriber)로 넘기고, 스트라이프에서 전달을 마친 뒤에 ACK
+// 역직렬화 실패, 대기열 포화, 전달 전 노드 종료로 전달되지 못한 레코드는 pending으로 남아 reclaimPending에서 다시 처리됨
+@Profile("!test")
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat-stream.enabled", havingValue = "true")
+public class RedisStreamSubscriber implements StreamListener<String, MapRecord<String, String, byte[]>> {
+
+	public static final String CONSUMER_GROUP = "chat-delivery";
+	private static final int RECLAIM_BATCH_SIZE = 100;
+
+	private final RedisSubscriber redisSubscriber;
+	private final RedisTemplate<String, byte[]> chatBusRedisTemplate;
+	private final ChannelTopic channelTopic;
+	private final ChannelTopic readChannelTopic;
+	private final ChatPresenceService chatPresenceService;
+	private final ChatStreamProperties chatStreamProperties;
+
+	@Override
+	public void onMessage(MapRecord<String, String, byte[]> record) {
+		String type = new String(record.getValue().get(STREAM_FIELD_TYPE), StandardCharsets.UTF_8);
+		byte[] payload = record.getValue().get(STREAM_FIELD_PAYLOAD);
+
+		if (channelTopic.getTopic().equals(type)) {
+			redisSubscriber.deliverMessage(payload, () -> acknowledge(record));
+		} else if (readChannelTopic.getTopic().equals(type)) {
+			redisSubscriber.deliverReadNotification(payload, () -> acknowledge(record));
+		} else {
+			// 다시 처리해도 알 수 없으므로 바로 ACK
+			log.warn("알 수 없는 스트림 레코드: stream={}, id={}, type={}", record.getStream(), record.getId(), type);
+			acknowledge(record);
+		}
+	}
+
+	// 전달 후 ACK 전에 노드가 죽었거나 처리 중 실패한 레코드는 pending으로만 남으므로 넘겨받아(XCLAIM) 다시 처리
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(
+		fixedDelayString = "${chat-stream.reclaim-interval:30s}",
+		initialDelayString = "${chat-stream.reclaim-interval:30s}"
+	)
+	public void reclaimPending() {
+		String streamKey = chatPresenceService.localNodeStreamKey();
+
+		try {
+			List<PendingMessage> idleMessages = streamOperations()
+				.pending(streamKey, CONSUMER_GROUP, Range.unbounded(), RECLAIM_BATCH_SIZE)
+				.stream()
+				.filter(pending -> pending.getElapsedTimeSinceLastDelivery()
+					.compareTo(chatStreamProperties.getReclaimIdleTime()) >= 0)
+				.toList();
+			if (idleMessages.isEmpty()) {
+				return;
+			}
+
+			RecordId[] exhaustedIds = idleMessages.stream()
+				.filter(pending -> pending.getTotalDeliveryCount() >= chatStreamProperties.getMaxDeliveries())
+				.map(PendingMessage::getId)
+				.toArray(RecordId[]::new);
+			if (exhaustedIds.length > 0) {
+				log.warn("채팅 스트림 레코드 재전달 포기: stream={}, count={}", streamKey, exhaustedIds.length);
+				streamOperations().acknowledge(streamKey, CONSUMER_GROUP, exhaustedIds);
+			}
+
+			RecordId[] retryIds = idleMessages.stream()
+				.filter(pending -> pending.getTotalDeliveryCount() < chatStreamProperties.getMaxDeliveries())
+				.map(PendingMessage::getId)
+				.toArray(RecordId[]::new);
+			if (retryIds.length == 0) {
+				return;
+			}
+
+			streamOperations().claim(streamKey, CONSUMER_GROUP, chatPresenceService.getNodeId(),
+				chatStreamProperties.getReclaimIdleTime(), retryIds).forEach(this::redeliver);
+		} catch (DataAccessException e) {
+			log.warn("채팅 스트림 pending 회수 실패: stream={}", streamKey, e);
+		}
+	}
+
+	// 한 레코드가 실패해도 나머지는 처리하며, 실패한 레코드는 pending으로 남아 다음 주기에 다시 시도됨
+	private void redeliver(MapRecord<String, String, byte[]> record) {
+		try {
+			onMessage(record);
+		} catch (RuntimeException e) {
+			log.error("채팅 스트림 레코드 재처리 실패: stream={}, id={}", record.getStream(), record.getId(), e);
+		}
+	}
+
+	// 스트라이프 스레드에서 호출되며, ACK에 실패한 레코드는 다시 전달되어 한 번 더 전송될 수 있음
+	private void acknowledge(MapRecord<String, String, byte[]> record) {
+		try {
+			streamOperations().acknowledge(CONSUMER_GROUP, record);
+		} catch (DataAccessException e) {
+			log.warn("채팅 스트림 ACK 실패: stream={}, id={}", record.getStream(), record.getId(), e);
+		}
+	}
+
+	private StreamOperations<String, String, byte[]> streamOperations() {
+		return chatBusRedisTemplate.opsForStream();
+	}
+}
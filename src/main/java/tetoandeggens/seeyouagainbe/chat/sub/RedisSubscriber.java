@@ -4,13 +4,13 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.chat.codec.ChatBusCodec;
 import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
 import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatMessageWebSocketResponse;
+import tetoandeggens.seeyouagainbe.chat.service.ChatPresenceService;
 
 @Profile("!test")
 @Slf4j
@@ -18,45 +18,65 @@ import tetoandeggens.seeyouagainbe.chat.dto.response.ChatMessageWebSocketRespons
 @Service
 public class RedisSubscriber {
 
-	private final ObjectMapper objectMapper;
+	private final ChatBusCodec chatBusCodec;
 	private final SimpMessageSendingOperations messagingTemplate;
+	private final ChatPresenceService chatPresenceService;
+	private final ChatDeliveryExecutor chatDeliveryExecutor;
+
+	public void sendMessage(byte[] payload) {
+		deliverMessage(payload, () -> {
+		});
+	}
 
-	public void sendMessage(String publishMessage) {
+	public void sendReadNotification(byte[] payload) {
+		deliverReadNotification(payload, () -> {
+		});
+	}
+
+	// onDelivered는 스트라이프에서 전달을 마친 뒤에만 실행되며, 역직렬화 실패나 대기열 포화로 버려지면 실행되지 않음
+	public void deliverMessage(byte[] payload, Runnable onDelivered) {
 		try {
-			ChatMessageDto chatMessage = objectMapper.readValue(publishMessage, ChatMessageDto.class);
-
-			ChatMessageWebSocketResponse senderResponse =
-					ChatMessageWebSocketResponse.from(chatMessage, chatMessage.senderId());
-			messagingTemplate.convertAndSendToUser(
-					chatMessage.senderId().toString(),
-					"/queue/chat",
-					senderResponse
-			);
-
-			ChatMessageWebSocketResponse receiverResponse =
-					ChatMessageWebSocketResponse.from(chatMessage, chatMessage.receiverId());
-			messagingTemplate.convertAndSendToUser(
-					chatMessage.receiverId().toString(),
-					"/queue/chat",
-					receiverResponse
-			);
+			ChatMessageDto chatMessage = chatBusCodec.decodeMessage(payload);
+
+			chatDeliveryExecutor.execute(chatMessage.chatRoomId(), () -> {
+				sendToLocalMember(chatMessage, chatMessage.senderId());
+				sendToLocalMember(chatMessage, chatMessage.receiverId());
+			}, onDelivered);
 		} catch (Exception e) {
-			log.error("메시지 처리 실패: message={}", publishMessage, e);
+			log.error("메시지 처리 실패: payloadSize={}", payload.length, e);
 		}
 	}
 
-	public void sendReadNotification(String publishMessage) {
+	public void deliverReadNotification(byte[] payload, Runnable onDelivered) {
 		try {
-			ChatReadNotificationDto notification = objectMapper.readValue(publishMessage,
-					ChatReadNotificationDto.class);
+			ChatReadNotificationDto notification = chatBusCodec.decodeReadNotification(payload);
 
-			messagingTemplate.convertAndSendToUser(
+			if (!chatPresenceService.isConnectedLocally(notification.senderId())) {
+				onDelivered.run();
+				return;
+			}
+
+			// 같은 채팅방의 메시지와 같은 스트라이프에서 전달해 메시지보다 읽음 알림이 먼저 도착하지 않게 함
+			chatDeliveryExecutor.execute(notification.chatRoomId(), () -> messagingTemplate.convertAndSendToUser(
 					notification.senderId().toString(),
 					"/queue/chat/read",
 					notification
-			);
+			), onDelivered);
 		} catch (Exception e) {
-			log.error("읽음 알림 처리 실패: message={}", publishMessage, e);
+			log.error("읽음 알림 처리 실패: payloadSize={}", payload.length, e);
 		}
 	}
+
+	// 같은 메시지가 이 노드에 접속하지 않은 참여자 몫까지 변환/전송되지 않도록 로컬 세션이 있는 회원에게만 전달
+	private void sendToLocalMember(ChatMessageDto chatMessage, Long memberId) {
+		if (!chatPresenceService.isConnectedLocally(memberId)) {
+			return;
+		}
+
+		messagingTemplate.convertAndSendToUser(
+				memberId.toString(),
+				"/queue/chat",
+				ChatMessageWebSocketResponse.from(chatMessage, memberId)
+		);
+	}
 }
\ No newline at end of file
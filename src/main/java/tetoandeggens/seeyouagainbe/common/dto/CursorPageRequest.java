@@ -7,8 +7,14 @@ public record CursorPageRequest(
 	@Schema(description = "커서 페이징 기준 ID - null인 경우 첫 페이지로 간주합니다.", type = "long")
 	Long cursorId,
 
+	@Schema(description = "정렬 키 기반 커서 - 이전 응답의 nextCursor 값을 그대로 전달합니다. (유기 동물/게시글/채팅방 목록 전용, null인 경우 첫 페이지)")
+	String cursor,
+
 	@Schema(description = "가져올 데이터 개수", example = "10")
 	@Min(value = 1, message = "size는 1 이상이어야 합니다.")
 	int size
 ) {
+	public CursorPageRequest(Long cursorId, int size) {
+		this(cursorId, null, size);
+	}
 }
\ No newline at end of file
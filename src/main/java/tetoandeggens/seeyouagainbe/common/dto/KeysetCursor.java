@@ -0,0 +1,59 @@
+package tetoandeggens.seeyouagainbe.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
+
+// (정렬 키, ID) 복합 커서 - 클라이언트에는 Base64 문자열로만 노출되고 내부 형식은 공개하지 않음
+public record KeysetCursor(
+	String sortKey,
+	Long id
+) {
+	private static final String DELIMITER = "|";
+
+	public static String encode(Object sortKey, Long id) {
+		String raw = (sortKey == null ? "" : sortKey.toString()) + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static KeysetCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiterIndex = raw.lastIndexOf(DELIMITER);
+			if (delimiterIndex < 0) {
+				throw new CustomException(CommonErrorCode.INVALID_CURSOR);
+			}
+
+			String sortKey = raw.substring(0, delimiterIndex);
+			Long id = Long.parseLong(raw.substring(delimiterIndex + 1));
+			return new KeysetCursor(sortKey.isEmpty() ? null : sortKey, id);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(CommonErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public LocalDate sortKeyAsDate() {
+		try {
+			return sortKey == null ? null : LocalDate.parse(sortKey);
+		} catch (DateTimeParseException e) {
+			throw new CustomException(CommonErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public LocalDateTime sortKeyAsDateTime() {
+		try {
+			return sortKey == null ? null : LocalDateTime.parse(sortKey);
+		} catch (DateTimeParseException e) {
+			throw new CustomException(CommonErrorCode.INVALID_CURSOR);
+		}
+	}
+}
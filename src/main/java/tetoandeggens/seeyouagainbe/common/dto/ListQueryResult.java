@@ -0,0 +1,6 @@
+package tetoandeggens.seeyouagainbe.common.dto;
+
+import java.util.List;
+
+public record ListQueryResult<T>(List<T> page, Integer count) {
+}
@@ -0,0 +1,9 @@
+package tetoandeggens.seeyouagainbe.common.enums;
+
+// 목록 API 총 개수 계산 전략
+public enum CountStrategy {
+	EXACT,      // 매 페이지마다 COUNT(*) 실행
+	FIRST_PAGE, // 첫 페이지(커서 없음)에서만 COUNT(*) 실행, 이후 페이지는 null
+	CACHED,     // 첫 페이지에서 계산한 값을 필터 조합 단위로 Redis에 캐싱, 이후 페이지는 캐시 값 또는 null
+	NONE        // 개수를 계산하지 않고 hasNext만 사용
+}
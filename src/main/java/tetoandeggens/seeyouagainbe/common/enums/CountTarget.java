@@ -0,0 +1,14 @@
+package tetoandeggens.seeyouagainbe.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 개수 캐시 무효화 단위 (쓰기 발생 시 대상 단위로 버전을 올려 기존 캐시를 무효화)
+@Getter
+@RequiredArgsConstructor
+public enum CountTarget {
+	ANIMAL("animal"),
+	BOARD("board");
+
+	private final String key;
+}
@@ -0,0 +1,24 @@
+package tetoandeggens.seeyouagainbe.common.enums;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 상세 캐시 대상 (노드 간 무효화 메시지에는 key로 전달)
+@Getter
+@RequiredArgsConstructor
+public enum DetailCacheTarget {
+	ANIMAL("animal"),
+	BOARD("board"),
+	CHAT_ROOM_MEMBERSHIP("chat-room-membership");
+
+	private final String key;
+
+	public static DetailCacheTarget fromKey(String key) {
+		return Arrays.stream(values())
+			.filter(target -> target.key.equals(key))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("알 수 없는 상세 캐시 대상입니다: " + key));
+	}
+}
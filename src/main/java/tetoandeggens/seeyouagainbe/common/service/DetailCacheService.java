@@ -0,0 +1,166 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
+import tetoandeggens.seeyouagainbe.global.config.DetailCacheProperties;
+
+// 상세 조회의 비개인화 응답을 로컬(Caffeine) L1 + Redis L2로 캐싱하고, 변경 시 Redis pub/sub으로 전 노드의 L1을 무효화
+@Slf4j
+@Service
+public class DetailCacheService {
+
+	private static final String PREFIX_DETAIL = "detail-cache:";
+	private static final String LOCAL_CACHE_PREFIX = "detail.";
+	private static final String REMOTE_METRIC_NAME = "detail.cache.remote";
+	private static final String MESSAGE_DELIMITER = ":";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChannelTopic detailCacheTopic;
+	private final ObjectMapper objectMapper;
+	private final DetailCacheProperties detailCacheProperties;
+	private final MeterRegistry meterRegistry;
+	private final Map<DetailCacheTarget, Cache<Long, Object>> localCaches = new EnumMap<>(DetailCacheTarget.class);
+
+	public DetailCacheService(RedisTemplate<String, String> redisTemplate, ChannelTopic detailCacheTopic,
+		ObjectMapper objectMapper, DetailCacheProperties detailCacheProperties, MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.detailCacheTopic = detailCacheTopic;
+		this.objectMapper = objectMapper;
+		this.detailCacheProperties = detailCacheProperties;
+		this.meterRegistry = meterRegistry;
+
+		for (DetailCacheTarget target : DetailCacheTarget.values()) {
+			Cache<Long, Object> cache = Caffeine.newBuilder()
+				.maximumSize(detailCacheProperties.getLocalMaxSize())
+				.expireAfterWrite(detailCacheProperties.getLocalTtl())
+				.recordStats()
+				.build();
+			CaffeineCacheMetrics.monitor(meterRegistry, cache, LOCAL_CACHE_PREFIX + target.getKey());
+			localCaches.put(target, cache);
+		}
+	}
+
+	// loader가 null을 반환하면(존재하지 않는 대상) 캐싱하지 않음
+	public <T> T get(DetailCacheTarget target, Long id, Class<T> type, Supplier<T> loader) {
+		return get(target, id, type, loader, value -> true);
+	}
+
+	// complete가 false인 값(외부 파이프라인이 아직 이미지를 넣지 않은 상세 등)은 로컬에 두지 않고 원격에 짧게만 캐싱
+	public <T> T get(DetailCacheTarget target, Long id, Class<T> type, Supplier<T> loader, Predicate<T> complete) {
+		if (!detailCacheProperties.isEnabled()) {
+			return loader.get();
+		}
+
+		Cache<Long, Object> localCache = localCaches.get(target);
+		Object cached = localCache.getIfPresent(id);
+		if (cached != null) {
+			return type.cast(cached);
+		}
+
+		T value = getRemote(target, id, type);
+		if (value == null) {
+			value = loader.get();
+			if (value == null) {
+				return null;
+			}
+			putRemote(target, id, value, complete.test(value));
+		}
+
+		if (complete.test(value)) {
+			localCache.put(id, value);
+		}
+		return value;
+	}
+
+	// 커밋 이후에 지워야 커밋 전 값이 다시 캐싱되지 않음
+	public void evict(DetailCacheTarget target, Long id) {
+		if (!detailCacheProperties.isEnabled() || id == null) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictAll(target, id);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictAll(target, id);
+			}
+		});
+	}
+
+	// Redis 구독 메시지 처리 - 다른 노드(자신 포함)에서 발생한 변경을 로컬 캐시에 반영
+	public void invalidateLocal(String message) {
+		try {
+			String[] parts = message.split(MESSAGE_DELIMITER);
+			DetailCacheTarget target = DetailCacheTarget.fromKey(parts[0]);
+			localCaches.get(target).invalidate(Long.valueOf(parts[1]));
+		} catch (RuntimeException e) {
+			log.warn("상세 캐시 무효화 메시지 처리 실패 - message: {}", message, e);
+		}
+	}
+
+	private void evictAll(DetailCacheTarget target, Long id) {
+		localCaches.get(target).invalidate(id);
+		try {
+			redisTemplate.delete(createKey(target, id));
+			redisTemplate.convertAndSend(detailCacheTopic.getTopic(), target.getKey() + MESSAGE_DELIMITER + id);
+		} catch (DataAccessException e) {
+			log.warn("상세 캐시 무효화 실패 - target: {}, id: {}", target, id, e);
+		}
+	}
+
+	private <T> T getRemote(DetailCacheTarget target, Long id, Class<T> type) {
+		try {
+			String json = redisTemplate.opsForValue().get(createKey(target, id));
+			countRemote(target, json != null);
+			return json == null ? null : objectMapper.readValue(json, type);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("상세 캐시 조회 실패 - target: {}, id: {}", target, id, e);
+			return null;
+		}
+	}
+
+	private void putRemote(DetailCacheTarget target, Long id, Object value, boolean complete) {
+		try {
+			redisTemplate.opsForValue().set(createKey(target, id), objectMapper.writeValueAsString(value),
+				complete ? detailCacheProperties.getRemoteTtl() : detailCacheProperties.getIncompleteRemoteTtl());
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("상세 캐시 저장 실패 - target: {}, id: {}", target, id, e);
+		}
+	}
+
+	private void countRemote(DetailCacheTarget target, boolean hit) {
+		Counter.builder(REMOTE_METRIC_NAME)
+			.tag("target", target.getKey())
+			.tag("result", hit ? "hit" : "miss")
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private String createKey(DetailCacheTarget target, Long id) {
+		return PREFIX_DETAIL + target.getKey() + ":" + id;
+	}
+}
@@ -0,0 +1,122 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.common.enums.CountTarget;
+import tetoandeggens.seeyouagainbe.global.config.ListCountProperties;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ListCountService { // 목록 API의 총 개수 계산 전략(EXACT / FIRST_PAGE / CACHED / NONE) 적용
+
+	private static final String PREFIX_COUNT = "list-count:";
+	private static final String PREFIX_COUNT_VERSION = "list-count:version:";
+	private static final String DEFAULT_VERSION = "0";
+	private static final String FILTER_DELIMITER = "|";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ListCountProperties listCountProperties;
+
+	// filters는 목록마다 고정된 순서로 전달해야 같은 조건이 같은 캐시 키로 정규화됨
+	public Integer getCount(CountTarget target, boolean firstPage, Supplier<Long> exactCounter, String listName,
+		Object... filters) {
+		return switch (listCountProperties.getStrategy()) {
+			case EXACT -> toCount(exactCounter.get());
+			case FIRST_PAGE -> firstPage ? toCount(exactCounter.get()) : null;
+			case CACHED -> getCachedCount(target, firstPage, exactCounter, listName, filters);
+			case NONE -> null;
+		};
+	}
+
+	// 커밋 이후에 버전을 올려야 커밋 전 값이 새 버전 키로 다시 캐싱되지 않음
+	public void evict(CountTarget target) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			increaseVersion(target);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				increaseVersion(target);
+			}
+		});
+	}
+
+	// 게시글은 실종/목격 동물로 동물 목록에도 노출되므로, 게시글이 생기거나 사라지면 두 목록의 개수를 함께 무효화
+	public void evictBoardLists() {
+		evict(CountTarget.BOARD);
+		evict(CountTarget.ANIMAL);
+	}
+
+	private Integer getCachedCount(CountTarget target, boolean firstPage, Supplier<Long> exactCounter,
+		String listName, Object... filters) {
+		String key;
+		try {
+			key = createCountKey(target, listName, filters);
+			String cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				return Integer.valueOf(cached);
+			}
+		} catch (DataAccessException e) {
+			log.warn("목록 개수 캐시 조회 실패 - target: {}, list: {}", target, listName, e);
+			return firstPage ? toCount(exactCounter.get()) : null;
+		}
+
+		if (!firstPage) {
+			return null;
+		}
+
+		Integer count = toCount(exactCounter.get());
+		try {
+			redisTemplate.opsForValue().set(key, String.valueOf(count), listCountProperties.getCacheTtl());
+		} catch (DataAccessException e) {
+			log.warn("목록 개수 캐시 저장 실패 - target: {}, list: {}", target, listName, e);
+		}
+		return count;
+	}
+
+	private String createCountKey(CountTarget target, String listName, Object... filters) {
+		String version = redisTemplate.opsForValue().get(PREFIX_COUNT_VERSION + target.getKey());
+		return PREFIX_COUNT + target.getKey() + ":" + listName + ":v" + (version == null ? DEFAULT_VERSION : version)
+			+ ":" + createFilterSignature(filters);
+	}
+
+	private String createFilterSignature(Object... filters) {
+		StringBuilder signature = new StringBuilder();
+		for (Object filter : filters) {
+			signature.append(normalize(filter)).append(FILTER_DELIMITER);
+		}
+		return DigestUtils.md5DigestAsHex(signature.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String normalize(Object filter) {
+		if (filter == null) {
+			return "";
+		}
+		return filter.toString().trim();
+	}
+
+	private void increaseVersion(CountTarget target) {
+		try {
+			redisTemplate.opsForValue().increment(PREFIX_COUNT_VERSION + target.getKey());
+		} catch (DataAccessException e) {
+			log.warn("목록 개수 캐시 무효화 실패 - target: {}", target, e);
+		}
+	}
+
+	private Integer toCount(Long count) {
+		return count == null ? null : count.intValue();
+	}
+}
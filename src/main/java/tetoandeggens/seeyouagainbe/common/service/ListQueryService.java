@@ -0,0 +1,159 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.common.dto.ListQueryResult;
+import tetoandeggens.seeyouagainbe.global.config.ListQueryProperties;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
+
+@Slf4j
+@Service
+public class ListQueryService { // 목록 API의 페이지 쿼리와 개수 쿼리를 순차/병렬 실행
+
+	private static final String METRIC_NAME = "list.query";
+	private static final String LEG_PAGE = "page";
+	private static final String LEG_COUNT = "count";
+	private static final String THREAD_NAME_PREFIX = "list-query-";
+
+	private final ListQueryProperties listQueryProperties;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+	private final ThreadPoolTaskExecutor executor;
+
+	public ListQueryService(ListQueryProperties listQueryProperties, PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry) {
+		this.listQueryProperties = listQueryProperties;
+		this.meterRegistry = meterRegistry;
+		this.readOnlyTransactionTemplate = createReadOnlyTransactionTemplate(transactionManager,
+			listQueryProperties.getTimeout());
+		this.executor = listQueryProperties.isParallel() ? createExecutor(listQueryProperties) : null;
+	}
+
+	// 단계 자체는 트랜잭션을 열지 않고, 실제로 DB를 조회하는 부분만 query로 감쌈
+	// (개수는 캐시나 전략에 따라 쿼리 없이 끝나고, single-flight를 기다리는 요청은 커넥션 없이 대기해야 함)
+	public <T> ListQueryResult<T> fetch(String listName, Supplier<List<T>> pageQuery, Supplier<Integer> countQuery) {
+		if (executor == null) {
+			List<T> page = runLeg(listName, LEG_PAGE, pageQuery);
+			Integer count = runLeg(listName, LEG_COUNT, countQuery);
+			return new ListQueryResult<>(page, count);
+		}
+
+		long deadline = System.nanoTime() + listQueryProperties.getTimeout().toNanos();
+
+		CompletableFuture<List<T>> pageFuture = CompletableFuture.supplyAsync(
+			() -> runLeg(listName, LEG_PAGE, pageQuery), executor);
+		CompletableFuture<Integer> countFuture = CompletableFuture.supplyAsync(
+			() -> runLeg(listName, LEG_COUNT, countQuery), executor);
+
+		List<T> page = awaitPage(listName, pageFuture, countFuture, deadline);
+		Integer count = awaitCount(listName, countFuture, deadline);
+		return new ListQueryResult<>(page, count);
+	}
+
+	// 목록 타임아웃이 JDBC 쿼리 타임아웃으로 적용되는 읽기 전용 트랜잭션에서 실행
+	// 대기를 포기한 뒤에도 DB에서 쿼리가 계속 돌지 않도록 취소는 쿼리 타임아웃에 맡김
+	public <R> R query(Supplier<R> query) {
+		return readOnlyTransactionTemplate.execute(status -> query.get());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private <R> R runLeg(String listName, String leg, Supplier<R> query) {
+		return Timer.builder(METRIC_NAME)
+			.tag("list", listName)
+			.tag("leg", leg)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(query);
+	}
+
+	private <T> List<T> awaitPage(String listName, CompletableFuture<List<T>> pageFuture,
+		CompletableFuture<Integer> countFuture, long deadline) {
+		try {
+			return pageFuture.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			pageFuture.cancel(true);
+			countFuture.cancel(true);
+			log.warn("목록 페이지 조회 시간 초과 - list: {}", listName);
+			throw new CustomException(CommonErrorCode.LIST_QUERY_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			countFuture.cancel(true);
+			throw new CustomException(CommonErrorCode.LIST_QUERY_TIMEOUT);
+		} catch (ExecutionException e) {
+			countFuture.cancel(true);
+			throw unwrap(e);
+		}
+	}
+
+	// 개수는 응답에서 null을 허용하므로 시간 초과 시 페이지만 내려줌
+	private Integer awaitCount(String listName, CompletableFuture<Integer> countFuture, long deadline) {
+		try {
+			return countFuture.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			countFuture.cancel(true);
+			log.warn("목록 개수 조회 시간 초과 - list: {}", listName);
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	private long remainingNanos(long deadline) {
+		return Math.max(0L, deadline - System.nanoTime());
+	}
+
+	private RuntimeException unwrap(ExecutionException e) {
+		if (e.getCause() instanceof RuntimeException cause) {
+			return cause;
+		}
+		return new IllegalStateException(e.getCause());
+	}
+
+	// 트랜잭션 타임아웃은 공유 EntityManager로 만든 쿼리(QueryDSL 포함)마다 남은 시간만큼 쿼리 타임아웃 힌트로 전달되어
+	// JDBC Statement.setQueryTimeout으로 DB 쪽 실행까지 취소됨
+	private TransactionTemplate createReadOnlyTransactionTemplate(PlatformTransactionManager transactionManager,
+		Duration timeout) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		transactionTemplate.setTimeout((int)Math.max(1L, (timeout.toMillis() + 999) / 1000));
+		return transactionTemplate;
+	}
+
+	// 큐가 가득 차면 호출 스레드에서 실행하여 커넥션 풀 이상으로 작업이 쌓이지 않게 함
+	private ThreadPoolTaskExecutor createExecutor(ListQueryProperties properties) {
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(properties.getPoolSize());
+		taskExecutor.setMaxPoolSize(properties.getPoolSize());
+		taskExecutor.setQueueCapacity(properties.getQueueCapacity());
+		taskExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		taskExecutor.initialize();
+		return taskExecutor;
+	}
+}
@@ -0,0 +1,104 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.global.config.ListQueryProperties;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SingleFlightService { // 동일한 조건의 목록/개수 쿼리가 동시에 들어오면 DB 조회를 한 번만 실행하고 결과를 공유
+
+	private static final String METRIC_NAME = "list.single-flight";
+	private static final String ROLE_LEADER = "leader";
+	private static final String ROLE_FOLLOWER = "follower";
+	private static final String ROLE_FALLBACK = "fallback";
+	private static final String KEY_DELIMITER = "|";
+
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	private final ListQueryService listQueryService;
+	private final ListQueryProperties listQueryProperties;
+	private final MeterRegistry meterRegistry;
+
+	// keyParts는 호출부마다 고정된 순서로 전달해야 같은 조건이 같은 키로 정규화됨
+	// 결과는 여러 요청이 공유하므로 호출부에서 수정하지 않아야 함 (개인화 정보는 이후에 덧입힘)
+	// 트랜잭션(커넥션)은 실제로 조회하는 요청만 열고, 기다리는 요청은 커넥션 없이 제한 시간만큼만 기다림
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String group, Supplier<T> loader, Object... keyParts) {
+		if (!listQueryProperties.isSingleFlight()) {
+			return listQueryService.query(loader);
+		}
+
+		String key = createKey(group, keyParts);
+		CompletableFuture<Object> created = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+		if (existing != null) {
+			count(group, ROLE_FOLLOWER);
+			return (T)await(group, existing, loader);
+		}
+
+		count(group, ROLE_LEADER);
+		try {
+			T result = listQueryService.query(loader);
+			created.complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, created);
+		}
+	}
+
+	// 먼저 시작한 조회가 느리면 기다리던 요청이 함께 묶이지 않도록 직접 조회로 넘어감
+	private Object await(String group, CompletableFuture<Object> future, Supplier<?> loader) {
+		try {
+			return future.get(listQueryProperties.getSingleFlightWait().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			count(group, ROLE_FALLBACK);
+			log.debug("single-flight 대기 시간 초과, 직접 조회 - group: {}", group);
+			return listQueryService.query(loader);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(CommonErrorCode.LIST_QUERY_TIMEOUT);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private void count(String group, String role) {
+		Counter.builder(METRIC_NAME)
+			.tag("group", group)
+			.tag("role", role)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private String createKey(String group, Object... keyParts) {
+		StringJoiner key = new StringJoiner(KEY_DELIMITER, group + KEY_DELIMITER, "");
+		for (Object keyPart : keyParts) {
+			key.add(keyPart == null ? "" : keyPart.toString().trim());
+		}
+		return key.toString();
+	}
+}
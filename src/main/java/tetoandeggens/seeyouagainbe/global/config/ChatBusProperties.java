@@ -0,0 +1,20 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat-bus")
+public class ChatBusProperties {
+	// 발행 시 사용할 형식 (수신은 형식을 자동 판별하므로 모든 노드를 배포한 뒤에 binary로 바꾸면 됨)
+	private Codec codec = Codec.JSON;
+
+	public enum Codec {
+		JSON, BINARY
+	}
+}
@@ -0,0 +1,24 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat-delivery")
+public class ChatDeliveryProperties {
+	// 채팅방 id로 나눠 담는 전달 스레드(스트라이프) 수, 0이면 CPU 코어 수
+	private int stripes = 0;
+	// 스트라이프별 대기열 크기
+	private int queueCapacity = 1000;
+	// 대기열이 가득 찼을 때 수신 스레드를 붙잡아 두는 최대 시간, 넘기면 전달을 포기 (메시지는 재접속 시 replay로 복구)
+	private Duration offerTimeout = Duration.ofMillis(100);
+	// pub/sub 수신 스레드에서 넘겨받은 메시지를 스트라이프에 배정하기 전까지 담아 두는 대기열 크기, 넘치면 버림
+	private int dispatchQueueCapacity = 10000;
+}
@@ -0,0 +1,37 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat-presence")
+public class ChatPresenceProperties {
+	// 노드별 채널/스트림(consumer 이름)과 메시지 id의 워커 id가 이 값에 묶이므로 재시작해도 같아야 함
+	// 지정하지 않으면(CHAT_PRESENCE_NODE_ID) 호스트 이름을 사용하며, 노드마다 달라야 함
+	private String nodeId = defaultNodeId();
+	// 하트비트가 끊긴 노드(비정상 종료 등)는 이 시간이 지나면 접속 노드에서 제외됨
+	private Duration ttl = Duration.ofSeconds(90);
+	private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+	private static String defaultNodeId() {
+		String hostName = System.getenv("HOSTNAME");
+		if (hostName != null && !hostName.isBlank()) {
+			return hostName;
+		}
+
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			throw new IllegalStateException("호스트 이름을 알 수 없으므로 chat-presence.node-id를 지정해야 합니다.", e);
+		}
+	}
+}
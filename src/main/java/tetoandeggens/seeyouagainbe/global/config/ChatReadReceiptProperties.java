@@ -0,0 +1,22 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat-read-receipt")
+public class ChatReadReceiptProperties {
+	// 이 간격 동안 들어온 읽음 요청을 채팅방/참여자별로 모아 커서 갱신과 알림을 한 번만 보냄
+	private Duration flushInterval = Duration.ofMillis(500);
+	// 한 노드가 한 주기에 꺼내 반영하는 (채팅방, 참여자) 수의 대략적인 상한, 나머지는 다음 주기나 다른 노드가 처리
+	private int flushBatchSize = 1000;
+	// 쓰기 지연으로 아직 저장되지 않은 메시지까지 읽은 요청을 남겨 두는 최대 시간 (메시지 id의 발급 시각 기준)
+	private Duration unpersistedRetention = Duration.ofMinutes(5);
+}
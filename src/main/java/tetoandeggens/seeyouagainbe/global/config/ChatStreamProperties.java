@@ -0,0 +1,28 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat-stream")
+public class ChatStreamProperties {
+	// false면 기존 pub/sub으로 전달 (노드가 잠시 Redis와 끊기면 그동안의 메시지는 유실)
+	private boolean enabled = false;
+	// 노드별 스트림 최대 길이 (근사 트리밍이라 약간 초과할 수 있음)
+	private long maxLength = 10_000;
+	private Duration pollTimeout = Duration.ofSeconds(2);
+	// 재접속 시 한 번에 보내는 놓친 메시지 수 (초과분은 메시지 목록 API로 조회)
+	private int replayLimit = 100;
+	// 전달 후 이 시간이 지나도록 ACK되지 않은 레코드는 다시 처리 (기동 시에도 한 번 확인)
+	private Duration reclaimInterval = Duration.ofSeconds(30);
+	private Duration reclaimIdleTime = Duration.ofSeconds(10);
+	// 이 횟수 이상 전달되고도 처리되지 않은 레코드는 ACK하고 버림 (메시지는 DB/메시지 목록 API로 확인 가능)
+	private int maxDeliveries = 5;
+}
@@ -0,0 +1,28 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chat-write-behind")
+public class ChatWriteBehindProperties {
+	// true면 메시지를 큐에 넣고 바로 발행한 뒤 DB에는 배치로 저장
+	private boolean enabled = false;
+	private int batchSize = 500;
+	private Duration flushInterval = Duration.ofMillis(200);
+	// 처리 중 죽은 노드가 가져간 메시지를 다른 노드가 넘겨받기까지의 대기 시간
+	private Duration claimIdleTime = Duration.ofSeconds(60);
+	// 이 횟수 이상 전달되고도 저장에 실패한 메시지는 한 건씩 저장을 시도하고 실패하면 dead-letter 스트림으로 옮김
+	private int maxDeliveries = 5;
+	// 재접속 시 놓친 메시지를 찾으려고 큐(아직 저장되지 않은 메시지)에서 훑어보는 최대 건수
+	private int replayScanLimit = 1000;
+	// 메시지 id 생성기의 워커 번호(0~31), 쓰기 지연을 켜면 노드마다 겹치지 않게 반드시 지정해야 함
+	private Integer workerId;
+}
@@ -0,0 +1,23 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "detail-cache")
+public class DetailCacheProperties {
+	private boolean enabled = true;
+	private long localMaxSize = 10_000;
+	// 무효화 메시지를 놓친 노드도 이 시간 안에는 최신 값으로 돌아옴
+	private Duration localTtl = Duration.ofMinutes(1);
+	private Duration remoteTtl = Duration.ofMinutes(10);
+	// 이미지가 아직 수집되지 않은 상세는 로컬에 두지 않고 원격에만 짧게 캐싱
+	private Duration incompleteRemoteTtl = Duration.ofSeconds(30);
+}
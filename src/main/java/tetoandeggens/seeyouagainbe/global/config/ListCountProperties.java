@@ -0,0 +1,19 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+import tetoandeggens.seeyouagainbe.common.enums.CountStrategy;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "list-count")
+public class ListCountProperties {
+	private CountStrategy strategy = CountStrategy.CACHED;
+	private Duration cacheTtl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,23 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "list-query")
+public class ListQueryProperties {
+	private boolean parallel = false;
+	private boolean singleFlight = true;
+	// 먼저 시작한 조회를 기다리는 최대 시간, 넘으면 직접 조회함
+	private Duration singleFlightWait = Duration.ofSeconds(1);
+	private Duration timeout = Duration.ofSeconds(3);
+	private int poolSize = 16;
+	private int queueCapacity = 200;
+}
@@ -0,0 +1,20 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "principal-cache")
+public class PrincipalCacheProperties {
+	private boolean enabled = true;
+	private long maxSize = 10_000;
+	// 무효화 메시지를 놓친 노드도 이 시간이 지나면 Redis/DB에서 다시 읽어 정지·탈퇴가 반영됨
+	private Duration ttl = Duration.ofMinutes(1);
+}
@@ -1,20 +1,45 @@
 package tetoandeggens.seeyouagainbe.global.config;
 
+import java.util.List;
+import java.util.concurrent.Executors;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbe.auth.service.PrincipalCacheService;
+import tetoandeggens.seeyouagainbe.auth.service.SessionRevocationService;
+import tetoandeggens.seeyouagainbe.auth.service.TokenRevocationService;
+import tetoandeggens.seeyouagainbe.chat.service.ChatPresenceService;
+import tetoandeggens.seeyouagainbe.chat.sub.ChatDeliveryExecutor;
+import tetoandeggens.seeyouagainbe.chat.sub.RedisStreamSubscriber;
 import tetoandeggens.seeyouagainbe.chat.sub.RedisSubscriber;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
 
+@Slf4j
 @Profile("!test")
 @Configuration
 public class RedisConfig {
@@ -35,6 +60,26 @@ public class RedisConfig {
 		return new ChannelTopic("chatread");
 	}
 
+	@Bean
+	public ChannelTopic detailCacheTopic() {
+		return new ChannelTopic("detail-cache");
+	}
+
+	@Bean
+	public ChannelTopic principalCacheTopic() {
+		return new ChannelTopic("principal-cache");
+	}
+
+	@Bean
+	public ChannelTopic tokenRevocationTopic() {
+		return new ChannelTopic("token-revocation");
+	}
+
+	@Bean
+	public ChannelTopic sessionRevocationTopic() {
+		return new ChannelTopic("session-revocation");
+	}
+
 	@Bean
 	public RedisConnectionFactory redisConnectionFactory() {
 		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
@@ -49,6 +94,20 @@ public class RedisConfig {
 		template.setConnectionFactory(redisConnectionFactory());
 		template.setKeySerializer(new StringRedisSerializer());
 		template.setValueSerializer(new StringRedisSerializer());
+		template.setHashKeySerializer(new StringRedisSerializer());
+		template.setHashValueSerializer(new StringRedisSerializer());
+		return template;
+	}
+
+	// 노드 간 채팅 버스 전용: 페이로드는 ChatBusCodec이 만든 바이트를 그대로 싣고, 필드 이름/스트림 키만 문자열
+	@Bean
+	public RedisTemplate<String, byte[]> chatBusRedisTemplate() {
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(redisConnectionFactory());
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(RedisSerializer.byteArray());
+		template.setHashKeySerializer(new StringRedisSerializer());
+		template.setHashValueSerializer(RedisSerializer.byteArray());
 		return template;
 	}
 
@@ -57,22 +116,136 @@ public class RedisConfig {
 		MessageListenerAdapter listenerAdapterChatMessage,
 		MessageListenerAdapter listenerAdapterChatReadNotification,
 		ChannelTopic channelTopic,
-		ChannelTopic readChannelTopic
+		ChannelTopic readChannelTopic,
+		ChatPresenceService chatPresenceService,
+		ChatDeliveryExecutor chatDeliveryExecutor
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		// 기본 실행기는 메시지마다 스레드를 만들고 순서도 보장하지 않으며, 같은 스레드에서 바로 처리하면 Lettuce IO 스레드가 막히므로
+		// 단일 dispatcher 스레드로 넘겨 역직렬화하고, 실제 전달은 RedisSubscriber가 채팅방별 스트라이프로 넘김
+		container.setTaskExecutor(chatDeliveryExecutor.dispatcher());
+		// 구독 실행기를 따로 주지 않으면 위 실행기를 같이 쓰므로 분리
+		container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor("redis-subscription-"));
+		// 채팅은 이 노드 전용 채널로 받고, 공용 채널은 접속 노드 조회 실패 시의 대체 경로로만 사용
+		container.addMessageListener(listenerAdapterChatMessage, List.of(
+			channelTopic, new ChannelTopic(chatPresenceService.localNodeChannel(channelTopic.getTopic()))));
+		container.addMessageListener(listenerAdapterChatReadNotification, List.of(
+			readChannelTopic, new ChannelTopic(chatPresenceService.localNodeChannel(readChannelTopic.getTopic()))));
+		return container;
+	}
+
+	// 캐시 무효화/토큰·세션 폐기는 놓치면 다른 노드에서 폐기된 토큰이 만료까지 유효하므로, 포화 시 버리는 채팅 dispatcher와 분리
+	// 양이 적어 단일 스레드와 제한 없는 대기열로 받아 IO 스레드를 막지도, 버리지도 않음
+	@Bean
+	public RedisMessageListenerContainer redisControlMessageListener(
+		MessageListenerAdapter listenerAdapterDetailCacheInvalidation,
+		MessageListenerAdapter listenerAdapterPrincipalCacheInvalidation,
+		MessageListenerAdapter listenerAdapterTokenRevocation,
+		MessageListenerAdapter listenerAdapterSessionRevocation,
+		ChannelTopic detailCacheTopic,
+		ChannelTopic principalCacheTopic,
+		ChannelTopic tokenRevocationTopic,
+		ChannelTopic sessionRevocationTopic
 	) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-control-");
+		threadFactory.setDaemon(true);
+
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(redisConnectionFactory());
-		container.addMessageListener(listenerAdapterChatMessage, channelTopic);
-		container.addMessageListener(listenerAdapterChatReadNotification, readChannelTopic);
+		container.setTaskExecutor(Executors.newSingleThreadExecutor(threadFactory));
+		container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor("redis-control-subscription-"));
+		container.addMessageListener(listenerAdapterDetailCacheInvalidation, detailCacheTopic);
+		container.addMessageListener(listenerAdapterPrincipalCacheInvalidation, principalCacheTopic);
+		container.addMessageListener(listenerAdapterTokenRevocation, tokenRevocationTopic);
+		container.addMessageListener(listenerAdapterSessionRevocation, sessionRevocationTopic);
+		return container;
+	}
+
+	// 노드 스트림은 이 노드만 소비하며, 같은 node-id로 재기동하면 소비 그룹이 마지막으로 전달한 위치부터 이어서 읽음
+	// 전달만 되고 ACK되지 않은 레코드는 lastConsumed로 다시 오지 않으므로 RedisStreamSubscriber.reclaimPending이 넘겨받음
+	@Bean
+	@ConditionalOnProperty(name = "chat-stream.enabled", havingValue = "true")
+	public StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> chatStreamListenerContainer(
+		RedisTemplate<String, byte[]> chatBusRedisTemplate,
+		RedisStreamSubscriber redisStreamSubscriber,
+		ChatPresenceService chatPresenceService,
+		ChatStreamProperties chatStreamProperties
+	) {
+		String streamKey = chatPresenceService.localNodeStreamKey();
+		createConsumerGroupIfAbsent(chatBusRedisTemplate, streamKey);
+
+		StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container =
+			StreamMessageListenerContainer.create(redisConnectionFactory(),
+				StreamMessageListenerContainerOptions.builder()
+					.pollTimeout(chatStreamProperties.getPollTimeout())
+					.<String, byte[]>hashValueSerializer(RedisSerializer.byteArray())
+					.build());
+
+		container.register(
+			StreamReadRequest.builder(StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+				.consumer(Consumer.from(RedisStreamSubscriber.CONSUMER_GROUP, chatPresenceService.getNodeId()))
+				.autoAcknowledge(false)
+				.cancelOnError(e -> false)
+				.errorHandler(e -> log.error("채팅 스트림 수신 실패: stream={}", streamKey, e))
+				.build(),
+			redisStreamSubscriber);
+		container.start();
 		return container;
 	}
 
 	@Bean
 	public MessageListenerAdapter listenerAdapterChatMessage(RedisSubscriber subscriber) {
-		return new MessageListenerAdapter(subscriber, "sendMessage");
+		return createChatBusListenerAdapter(subscriber, "sendMessage");
 	}
 
 	@Bean
 	public MessageListenerAdapter listenerAdapterChatReadNotification(RedisSubscriber subscriber) {
-		return new MessageListenerAdapter(subscriber, "sendReadNotification");
+		return createChatBusListenerAdapter(subscriber, "sendReadNotification");
+	}
+
+	@Bean
+	public MessageListenerAdapter listenerAdapterDetailCacheInvalidation(DetailCacheService detailCacheService) {
+		return new MessageListenerAdapter(detailCacheService, "invalidateLocal");
+	}
+
+	@Bean
+	public MessageListenerAdapter listenerAdapterPrincipalCacheInvalidation(
+		PrincipalCacheService principalCacheService) {
+		return new MessageListenerAdapter(principalCacheService, "invalidateLocal");
+	}
+
+	@Bean
+	public MessageListenerAdapter listenerAdapterTokenRevocation(TokenRevocationService tokenRevocationService) {
+		return new MessageListenerAdapter(tokenRevocationService, "addToFilter");
+	}
+
+	@Bean
+	public MessageListenerAdapter listenerAdapterSessionRevocation(SessionRevocationService sessionRevocationService) {
+		return new MessageListenerAdapter(sessionRevocationService, "revokeLocal");
+	}
+
+	// 채팅 버스 페이로드는 문자열로 바꾸지 않고 바이트 그대로 RedisSubscriber에 넘김
+	private MessageListenerAdapter createChatBusListenerAdapter(RedisSubscriber subscriber, String methodName) {
+		MessageListenerAdapter adapter = new MessageListenerAdapter(subscriber, methodName);
+		adapter.setSerializer(RedisSerializer.byteArray());
+		return adapter;
+	}
+
+	private void createConsumerGroupIfAbsent(RedisTemplate<String, byte[]> redisTemplate, String streamKey) {
+		try {
+			redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.latest(), RedisStreamSubscriber.CONSUMER_GROUP);
+		} catch (RedisSystemException e) {
+			if (!isBusyGroup(e)) {
+				throw e;
+			}
+			// 같은 node-id로 재기동한 경우로, 기존 그룹의 위치를 그대로 사용
+			log.info("채팅 스트림 소비 그룹이 이미 존재함: stream={}", streamKey);
+		}
+	}
+
+	private boolean isBusyGroup(RedisSystemException e) {
+		String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+		return message != null && message.contains("BUSYGROUP");
 	}
 }
\ No newline at end of file
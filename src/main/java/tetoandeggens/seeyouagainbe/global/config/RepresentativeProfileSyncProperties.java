@@ -0,0 +1,20 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "representative-profile-sync")
+public class RepresentativeProfileSyncProperties {
+	private boolean enabled = true;
+	// 외부 수집 파이프라인이 넣은 프로필이 목록 썸네일에 반영되기까지의 최대 지연
+	private Duration interval = Duration.ofMinutes(1);
+	private int chunkSize = 1000;
+}
@@ -0,0 +1,23 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// WebSocket heartbeat/브로커 스케줄러가 있으면 Boot의 기본 스케줄러가 만들어지지 않아 @Scheduled가 단일 스레드로 돌게 되므로
+// 이름이 taskScheduler인 스케줄러를 직접 등록해 @Scheduled 작업이 이 풀을 쓰게 함
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(SchedulingProperties schedulingProperties) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(schedulingProperties.getPoolSize());
+		scheduler.setThreadNamePrefix("scheduling-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(10);
+		return scheduler;
+	}
+}
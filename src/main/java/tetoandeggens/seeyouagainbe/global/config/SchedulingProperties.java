@@ -0,0 +1,16 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling")
+public class SchedulingProperties {
+	// @Scheduled 작업들이 함께 쓰는 스레드 수 (짧은 주기의 flush/heartbeat가 느린 작업 뒤에 밀리지 않도록 여유 있게)
+	private int poolSize = 4;
+}
@@ -38,7 +38,10 @@ import tetoandeggens.seeyouagainbe.auth.oauth2.handler.OAuth2AuthenticationFailu
 import tetoandeggens.seeyouagainbe.auth.oauth2.handler.OAuth2AuthenticationSuccessHandler;
 import tetoandeggens.seeyouagainbe.auth.oauth2.repository.HttpCookieOAuth2AuthorizationRequestRepository;
 import tetoandeggens.seeyouagainbe.auth.service.CookieService;
+import tetoandeggens.seeyouagainbe.auth.service.PrincipalCacheService;
 import tetoandeggens.seeyouagainbe.auth.service.RedisAuthService;
+import tetoandeggens.seeyouagainbe.auth.service.SessionRevocationService;
+import tetoandeggens.seeyouagainbe.auth.service.TokenRevocationService;
 import tetoandeggens.seeyouagainbe.member.entity.Role;
 
 @Configuration
@@ -49,6 +52,9 @@ public class SecurityConfig {
 	private final TokenProvider tokenProvider;
 	private final CookieService cookieService;
 	private final RedisAuthService redisAuthService;
+	private final SessionRevocationService sessionRevocationService;
+	private final PrincipalCacheService principalCacheService;
+	private final TokenRevocationService tokenRevocationService;
 	private final ObjectMapper objectMapper;
 	private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 	private final CustomAccessDeniedHandler customAccessDeniedHandler;
@@ -180,6 +186,9 @@ public class SecurityConfig {
 					tokenProvider,
 					cookieService,
 					redisAuthService,
+					sessionRevocationService,
+					principalCacheService,
+					tokenRevocationService,
 					objectMapper
 				),
 				LogoutFilter.class)
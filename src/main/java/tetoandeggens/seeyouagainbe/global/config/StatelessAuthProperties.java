@@ -0,0 +1,22 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "stateless-auth")
+public class StatelessAuthProperties {
+	// 켜면 Access Token에 memberId/정지 여부를 담아 요청마다 Redis/DB를 조회하지 않음
+	private boolean enabled = false;
+	private long filterExpectedInsertions = 100_000;
+	private double filterFalsePositiveRate = 0.01;
+	// 무효화 메시지를 놓친 노드도 이 주기마다 Redis의 폐기 목록으로 필터를 다시 만듦
+	private Duration filterRebuildInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,29 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "verification-mail")
+public class VerificationMailProperties {
+	// 끄면 인증 요청마다 메일함에 접속해 직접 검색함
+	private boolean listenerEnabled = true;
+	// 메일 서버가 IDLE을 지원하지 않을 때 새 메일을 확인하는 주기
+	private Duration pollInterval = Duration.ofSeconds(5);
+	// 중간 장비나 서버가 유휴 연결을 끊지 않도록 NOOP을 보내는 주기 (IMAP 서버는 보통 29분이 지나면 IDLE을 끊음)
+	private Duration keepAliveInterval = Duration.ofMinutes(5);
+	private Duration reconnectDelay = Duration.ofSeconds(10);
+	// 메일함 연결은 노드 하나만 유지하며, 그 노드가 죽으면 리스가 만료된 뒤 다른 노드가 이어받음
+	private Duration leaseTtl = Duration.ofSeconds(30);
+	private Duration leaseRenewInterval = Duration.ofSeconds(10);
+	// 막 도착한 인증 문자가 아직 색인되지 않았을 수 있어 색인에 없으면 이 시간 동안 다시 조회함
+	private Duration indexWaitTimeout = Duration.ofSeconds(2);
+	private Duration indexRetryInterval = Duration.ofMillis(200);
+}
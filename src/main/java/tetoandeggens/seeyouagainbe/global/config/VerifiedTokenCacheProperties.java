@@ -0,0 +1,17 @@
+package tetoandeggens.seeyouagainbe.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "verified-token-cache")
+public class VerifiedTokenCacheProperties {
+	private boolean enabled = true;
+	// 항목은 토큰 만료 시각에 함께 만료되므로 크기만 제한함
+	private long maxSize = 10_000;
+}
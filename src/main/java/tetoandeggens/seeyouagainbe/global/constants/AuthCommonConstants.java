@@ -15,6 +15,8 @@ public class AuthCommonConstants {
     public static final String CLAIM_PROFILE_IMAGE_URL = "profileImageUrl";
     public static final String CLAIM_TEMP_UUID = "tempUuid";
     public static final String CLAIM_TYPE = "type";
+    public static final String CLAIM_MEMBER_ID = "memberId";
+    public static final String CLAIM_BANNED = "banned";
 
     // ===== JWT claim values =====
     public static final String CLAIM_TYPE_SOCIAL_TEMP = "social_temp";
@@ -4,33 +4,43 @@ public class AuthVerificationConstants {
 
     public static final int VERIFICATION_TIME = 10; // (분)
     public static final String VERIFICATION_CODE_PATTERN = "\\b(\\d{6})\\b";
+    // 문자를 메일로 전달받을 때 보낸 사람 주소의 로컬 파트가 휴대폰 번호임 (예: 01012345678@...)
+    public static final String SENDER_PHONE_NUMBER_PATTERN = "(\\d{10,11})@";
 
     // JWT Token 관리 (RefreshToken + MemberId)
     public static final String PREFIX_REFRESH_TOKEN = "refresh:";
     public static final String PREFIX_MEMBER_ID = "member:";
+    // 폐기된 uuid -> 폐기 시각(ms)을 담은 sorted set, Access Token 유효 기간이 지난 항목은 정리됨
+    public static final String REVOKED_UUIDS_KEY = "revoked:uuids";
 
-    // 일반 유저로 회원가입 시, 필요한 휴대폰 인증관련 key값
-    public static final String PREFIX_VERIFICATION_CODE = "verify:phone:code:";
-    public static final String PREFIX_VERIFICATION_TIME = "verify:phone:time:";
+    // 일반 유저로 회원가입 시, 필요한 휴대폰 인증 세션 (Hash: code, time, verified)
+    public static final String PREFIX_PHONE_VERIFICATION = "verify:phone:";
     public static final String VERIFIED = "verify:phone:verified:";
 
-    // 소셜연동 및 소셜 연동으로 회원가입 시, 필요한 휴대폰 인증 관련 key값
-    public static final String PREFIX_SOCIAL_VERIFICATION_CODE = "social:phone:code:";
-    public static final String PREFIX_SOCIAL_VERIFICATION_TIME = "social:phone:time:";
-    public static final String PREFIX_SOCIAL_VERIFIED = "social:phone:verified:";
-    public static final String PREFIX_SOCIAL_PROVIDER = "social:phone:provider:";
-    public static final String PREFIX_SOCIAL_ID = "social:phone:socialid:";
-    public static final String PREFIX_SOCIAL_TEMP_UUID = "social:phone:tempuuid:";
+    // 소셜연동 및 소셜 연동으로 회원가입 시, 필요한 휴대폰 인증 세션 (Hash: code, time, provider, socialId, tempUuid, verified)
+    public static final String PREFIX_SOCIAL_PHONE_VERIFICATION = "social:phone:";
 
-    // OAuth2 임시 저장 (소셜 로그인 성공 직후)
-    public static final String PREFIX_TEMP_SOCIAL_ID = "temp:social:id:";
-    public static final String PREFIX_TEMP_SOCIAL_REFRESH = "temp:social:refresh:";
-    public static final String PREFIX_TEMP_SOCIAL_PROVIDER = "temp:social:provider:";
+    // 메일함에서 미리 색인한 인증 문자 (Hash: 인증 코드 -> 수신 시각(ms))
+    public static final String PREFIX_INBOUND_VERIFICATION = "verify:inbound:";
+    // 메일함을 구독하는 노드 하나만 갖는 리스 (String: 소유자 토큰)와, 그 노드가 수신 대기 중임을 알리는 표시 (String: 소유자 토큰)
+    public static final String VERIFICATION_MAIL_LEASE = "verify:inbound-listener:lease";
+    public static final String VERIFICATION_MAIL_LISTENING = "verify:inbound-listener:listening";
+
+    // OAuth2 임시 저장 (소셜 로그인 성공 직후, Hash: provider, socialId, refreshToken)
+    public static final String PREFIX_TEMP_SOCIAL = "temp:social:";
+
+    // 인증 세션 Hash 필드
+    public static final String FIELD_CODE = "code";
+    public static final String FIELD_TIME = "time";
+    public static final String FIELD_VERIFIED = "verified";
+    public static final String FIELD_PROVIDER = "provider";
+    public static final String FIELD_SOCIAL_ID = "socialId";
+    public static final String FIELD_TEMP_UUID = "tempUuid";
+    public static final String FIELD_REFRESH_TOKEN = "refreshToken";
 
     // 이메일 관련
     public static final String IMAP_PROTOCOL = "imaps";
     public static final String INBOX = "INBOX";
-    public static final String AT = "@";
     public static final String TEXT = "text/plain";
     public static final String MULTIPART = "multipart/*";
     public static final String TXT = ".txt";
@@ -0,0 +1,18 @@
+package tetoandeggens.seeyouagainbe.global.exception.errorcode;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CommonErrorCode implements ErrorCode {
+
+	INVALID_CURSOR("COMMON_001", "유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+	LIST_QUERY_TIMEOUT("COMMON_002", "목록 조회 시간이 초과되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+
+	private final String code;
+	private final String message;
+	private final HttpStatus httpStatus;
+}
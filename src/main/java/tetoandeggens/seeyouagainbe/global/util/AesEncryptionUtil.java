@@ -1,6 +1,7 @@
 package tetoandeggens.seeyouagainbe.global.util;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Base64;
 
@@ -46,7 +47,7 @@ public class AesEncryptionUtil {
 			GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
 			cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
 
-			byte[] encryptedBytes = cipher.doFinal(plainText.getBytes());
+			byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
 
 			ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encryptedBytes.length);
 			byteBuffer.put(iv);
@@ -80,7 +81,7 @@ public class AesEncryptionUtil {
 
 			byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
 
-			return new String(decryptedBytes);
+			return new String(decryptedBytes, StandardCharsets.UTF_8);
 
 		} catch (Exception e) {
 			throw new CustomException(ChatErrorCode.MESSAGE_DECRYPTION_FAILED);
@@ -0,0 +1,15 @@
+-- ANIMAL_LOCATION.coordinates 를 SRID 4326 POINT 로 고정하고 SPATIAL INDEX 를 추가
+-- JPA @Index 로는 SPATIAL INDEX 를 만들 수 없어 배포 전에 DBA 가 한 번만 수동 실행
+-- MODIFY 는 테이블 복사(ALGORITHM=COPY)라 실행 중 쓰기가 막히므로 트래픽이 적은 시간에 실행
+
+-- SRID 가 0 으로 저장된 기존 좌표는 컬럼 SRID 제약을 통과하지 못하므로 먼저 보정
+UPDATE animal_location
+SET coordinates = ST_SRID(coordinates, 4326)
+WHERE ST_SRID(coordinates) <> 4326;
+
+-- SRID 가 지정된 NOT NULL 컬럼이어야 옵티마이저가 SPATIAL INDEX 를 사용함
+ALTER TABLE animal_location
+	MODIFY coordinates POINT NOT NULL SRID 4326,
+	ADD SPATIAL INDEX idx_animal_location_coordinates (coordinates),
+	ALGORITHM = COPY,
+	LOCK = SHARED;
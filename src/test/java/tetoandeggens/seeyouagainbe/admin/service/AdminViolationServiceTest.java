@@ -22,6 +22,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 import tetoandeggens.seeyouagainbe.admin.dto.request.ViolationProcessRequest;
 import tetoandeggens.seeyouagainbe.admin.dto.response.ViolationDetailResponse;
 import tetoandeggens.seeyouagainbe.admin.dto.response.ViolationListResponse;
+import tetoandeggens.seeyouagainbe.auth.service.PrincipalCacheService;
+import tetoandeggens.seeyouagainbe.auth.service.SessionRevocationService;
+import tetoandeggens.seeyouagainbe.auth.service.TokenRevocationService;
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
 import tetoandeggens.seeyouagainbe.common.enums.ReportReason;
@@ -43,6 +46,15 @@ class AdminViolationServiceTest extends ServiceTest {
     @MockitoBean
     private ViolationRepository violationRepository;
 
+    @MockitoBean
+    private PrincipalCacheService principalCacheService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockitoBean
+    private SessionRevocationService sessionRevocationService;
+
     private Member reporter;
     private Member reportedMember;
     private Board board;
@@ -565,6 +577,9 @@ class AdminViolationServiceTest extends ServiceTest {
             // then
             assertThat(reportedMember.getViolatedCount()).isEqualTo(1);
             assertThat(reportedMember.getIsBanned()).isFalse();
+            verify(principalCacheService, never()).evict(anyString());
+            verify(tokenRevocationService, never()).revoke(anyString());
+            verify(sessionRevocationService, never()).revoke(anyString());
 
             verify(violationRepository).findByIdWithAllFetch(violationId);
         }
@@ -601,6 +616,9 @@ class AdminViolationServiceTest extends ServiceTest {
             // then
             assertThat(reportedMember.getViolatedCount()).isEqualTo(3L);
             assertThat(reportedMember.getIsBanned()).isTrue();
+            verify(principalCacheService).evict(reportedMember.getUuid());
+            verify(tokenRevocationService).revoke(reportedMember.getUuid());
+            verify(sessionRevocationService).revoke(reportedMember.getUuid());
 
             verify(violationRepository).findByIdWithAllFetch(violationId);
         }
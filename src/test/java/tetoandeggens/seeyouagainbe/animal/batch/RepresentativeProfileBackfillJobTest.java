@@ -0,0 +1,84 @@
+package tetoandeggens.seeyouagainbe.animal.batch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import tetoandeggens.seeyouagainbe.animal.entity.Animal;
+import tetoandeggens.seeyouagainbe.animal.entity.AnimalS3Profile;
+import tetoandeggens.seeyouagainbe.animal.repository.AnimalRepository;
+import tetoandeggens.seeyouagainbe.global.RepositoryTest;
+
+@DisplayName("대표 이미지 백필 작업 테스트")
+class RepresentativeProfileBackfillJobTest extends RepositoryTest {
+
+	@Autowired
+	private AnimalRepository animalRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private RepresentativeProfileBackfillJob backfillJob;
+
+	@BeforeEach
+	void setUp() {
+		backfillJob = new RepresentativeProfileBackfillJob(animalRepository, new TransactionTemplate(transactionManager));
+	}
+
+	@Test
+	@DisplayName("청크 크기보다 많은 동물도 모두 대표 이미지가 채워진다")
+	void backfill_AcrossChunks() {
+		// given
+		Animal first = createAnimalWithProfile("BACKFILL001", "backfill001.jpg");
+		Animal second = createAnimalWithProfile("BACKFILL002", "backfill002.jpg");
+		Animal third = createAnimalWithProfile("BACKFILL003", "backfill003.jpg");
+		Animal noProfile = animalRepository.save(createAnimal("BACKFILL004"));
+		entityManager.flush();
+		entityManager.createQuery("update Animal a set a.representativeProfile = null").executeUpdate();
+		entityManager.clear();
+
+		// when
+		int processedCount = backfillJob.backfill(2);
+		entityManager.clear();
+
+		// then
+		assertThat(processedCount).isEqualTo(4);
+		assertThat(findRepresentativeProfile(first)).isEqualTo("backfill001.jpg");
+		assertThat(findRepresentativeProfile(second)).isEqualTo("backfill002.jpg");
+		assertThat(findRepresentativeProfile(third)).isEqualTo("backfill003.jpg");
+		assertThat(findRepresentativeProfile(noProfile)).isNull();
+	}
+
+	private Animal createAnimalWithProfile(String desertionNo, String profile) {
+		Animal animal = animalRepository.save(createAnimal(desertionNo));
+		entityManager.persist(AnimalS3Profile.builder()
+			.animal(animal)
+			.profile(profile)
+			.build());
+		return animal;
+	}
+
+	private Animal createAnimal(String desertionNo) {
+		return Animal.builder()
+			.desertionNo(desertionNo)
+			.happenDate(LocalDate.of(2025, 1, 1))
+			.birth("2024년생")
+			.processState("보호중")
+			.build();
+	}
+
+	private String findRepresentativeProfile(Animal animal) {
+		return animalRepository.findById(animal.getId()).orElseThrow().getRepresentativeProfile();
+	}
+}
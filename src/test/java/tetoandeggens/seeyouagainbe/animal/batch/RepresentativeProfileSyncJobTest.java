@@ -0,0 +1,140 @@
+package tetoandeggens.seeyouagainbe.animal.batch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import tetoandeggens.seeyouagainbe.animal.entity.Animal;
+import tetoandeggens.seeyouagainbe.animal.entity.AnimalS3Profile;
+import tetoandeggens.seeyouagainbe.animal.repository.AnimalRepository;
+import tetoandeggens.seeyouagainbe.board.entity.Board;
+import tetoandeggens.seeyouagainbe.board.repository.BoardRepository;
+import tetoandeggens.seeyouagainbe.common.enums.ContentType;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
+import tetoandeggens.seeyouagainbe.global.RepositoryTest;
+import tetoandeggens.seeyouagainbe.global.config.RepresentativeProfileSyncProperties;
+
+@DisplayName("대표 이미지 보정 작업 테스트")
+class RepresentativeProfileSyncJobTest extends RepositoryTest {
+
+	@Autowired
+	private AnimalRepository animalRepository;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private DetailCacheService detailCacheService;
+	private RepresentativeProfileSyncJob syncJob;
+
+	@BeforeEach
+	void setUp() {
+		detailCacheService = mock(DetailCacheService.class);
+		syncJob = new RepresentativeProfileSyncJob(animalRepository, boardRepository, detailCacheService,
+			new TransactionTemplate(transactionManager), new RepresentativeProfileSyncProperties());
+	}
+
+	@Test
+	@DisplayName("외부에서 프로필만 추가된 동물의 대표 이미지를 채우고, 이미 대표 이미지가 있는 동물은 건드리지 않는다")
+	void sync_FillsOnlyMissingRepresentativeProfiles() {
+		// given
+		Animal ingested = createAnimalWithProfile("SYNC001", "sync001.jpg");
+		Animal ingestedSecond = createAnimalWithProfile("SYNC002", "sync002.jpg");
+		Animal assigned = createAnimalWithProfile("SYNC003", "sync003.jpg");
+		Animal noProfile = animalRepository.save(createAnimal("SYNC004"));
+		entityManager.flush();
+		entityManager.createQuery("update Animal a set a.representativeProfile = null where a.id in :ids")
+			.setParameter("ids", List.of(ingested.getId(), ingestedSecond.getId()))
+			.executeUpdate();
+		entityManager.createQuery("update Animal a set a.representativeProfile = 'kept.jpg' where a.id = :id")
+			.setParameter("id", assigned.getId())
+			.executeUpdate();
+		entityManager.clear();
+
+		// when
+		int syncedCount = syncJob.sync(1);
+		entityManager.clear();
+
+		// then
+		assertThat(syncedCount).isEqualTo(2);
+		assertThat(findRepresentativeProfile(ingested)).isEqualTo("sync001.jpg");
+		assertThat(findRepresentativeProfile(ingestedSecond)).isEqualTo("sync002.jpg");
+		assertThat(findRepresentativeProfile(assigned)).isEqualTo("kept.jpg");
+		assertThat(findRepresentativeProfile(noProfile)).isNull();
+	}
+
+	@Test
+	@DisplayName("대표 이미지를 채운 동물과 그 동물의 게시글 상세 캐시를 무효화한다")
+	void sync_EvictsDetailCaches() {
+		// given
+		Animal ingested = createAnimalWithProfile("SYNC001", "sync001.jpg");
+		Board board = boardRepository.save(Board.builder()
+			.contentType(ContentType.MISSING)
+			.title("실종")
+			.content("찾습니다")
+			.animal(ingested)
+			.build());
+		entityManager.flush();
+		entityManager.createQuery("update Animal a set a.representativeProfile = null where a.id = :id")
+			.setParameter("id", ingested.getId())
+			.executeUpdate();
+		entityManager.clear();
+
+		// when
+		syncJob.sync(1000);
+
+		// then
+		verify(detailCacheService).evict(DetailCacheTarget.ANIMAL, ingested.getId());
+		verify(detailCacheService).evict(DetailCacheTarget.BOARD, board.getId());
+	}
+
+	@Test
+	@DisplayName("보정할 동물이 없으면 아무것도 갱신하지 않는다")
+	void sync_ReturnsZero_WhenNothingMissing() {
+		// given
+		createAnimalWithProfile("SYNC001", "sync001.jpg");
+		entityManager.flush();
+		entityManager.clear();
+
+		// when & then
+		assertThat(syncJob.sync(1000)).isZero();
+	}
+
+	private Animal createAnimalWithProfile(String desertionNo, String profile) {
+		Animal animal = animalRepository.save(createAnimal(desertionNo));
+		entityManager.persist(AnimalS3Profile.builder()
+			.animal(animal)
+			.profile(profile)
+			.build());
+		return animal;
+	}
+
+	private Animal createAnimal(String desertionNo) {
+		return Animal.builder()
+			.desertionNo(desertionNo)
+			.happenDate(LocalDate.of(2025, 1, 1))
+			.birth("2024년생")
+			.processState("보호중")
+			.build();
+	}
+
+	private String findRepresentativeProfile(Animal animal) {
+		return animalRepository.findById(animal.getId()).orElseThrow().getRepresentativeProfile();
+	}
+}
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalClusterListResponse;
+import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalClusterResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalDetailResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalListResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalResponse;
@@ -23,6 +25,7 @@ import tetoandeggens.seeyouagainbe.animal.entity.Species;
 import tetoandeggens.seeyouagainbe.animal.service.AnimalService;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.global.ControllerTest;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
@@ -60,10 +63,10 @@ class AnimalControllerTest extends ControllerTest {
 				.isBookmarked(false)
 				.build();
 
-			CursorPage<AnimalResponse, Long> cursorPage = CursorPage.of(
+			CursorPage<AnimalResponse, String> cursorPage = CursorPage.of(
 				List.of(animalResponse),
 				10,
-				AnimalResponse::animalId
+				animal -> KeysetCursor.encode(animal.happenDate(), animal.animalId())
 			);
 
 			AnimalListResponse response = AnimalListResponse.of(1, cursorPage);
@@ -128,10 +131,10 @@ class AnimalControllerTest extends ControllerTest {
 				.isBookmarked(false)
 				.build();
 
-			CursorPage<AnimalResponse, Long> cursorPage = CursorPage.of(
+			CursorPage<AnimalResponse, String> cursorPage = CursorPage.of(
 				List.of(animalResponse),
 				10,
-				AnimalResponse::animalId
+				animal -> KeysetCursor.encode(animal.happenDate(), animal.animalId())
 			);
 
 			AnimalListResponse response = AnimalListResponse.of(1, cursorPage);
@@ -202,10 +205,10 @@ class AnimalControllerTest extends ControllerTest {
 				.isBookmarked(false)
 				.build();
 
-			CursorPage<AnimalResponse, Long> cursorPage = CursorPage.of(
+			CursorPage<AnimalResponse, String> cursorPage = CursorPage.of(
 				List.of(animalResponse),
 				10,
-				AnimalResponse::animalId
+				animal -> KeysetCursor.encode(animal.happenDate(), animal.animalId())
 			);
 
 			AnimalListResponse response = AnimalListResponse.of(1, cursorPage);
@@ -226,7 +229,7 @@ class AnimalControllerTest extends ControllerTest {
 
 			// when & then
 			mockMvc.perform(get("/animal/list")
-					.param("cursorId", "10")
+					.param("cursor", KeysetCursor.encode(LocalDate.of(2025, 1, 1), 10L))
 					.param("size", "10"))
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.status").value(200));
@@ -252,7 +255,7 @@ class AnimalControllerTest extends ControllerTest {
 			// given
 			AnimalListResponse response = AnimalListResponse.of(
 				0,
-				CursorPage.of(List.of(), 10, AnimalResponse::animalId)
+				CursorPage.of(List.of(), 10, animal -> KeysetCursor.encode(animal.happenDate(), animal.animalId()))
 			);
 
 			given(animalService.getAbandonedAnimalList(
@@ -421,10 +424,10 @@ class AnimalControllerTest extends ControllerTest {
 				.isBookmarked(false)
 				.build();
 
-			CursorPage<AnimalResponse, Long> cursorPage = CursorPage.of(
+			CursorPage<AnimalResponse, String> cursorPage = CursorPage.of(
 				List.of(animalResponse),
 				10,
-				AnimalResponse::animalId
+				animal -> KeysetCursor.encode(animal.happenDate(), animal.animalId())
 			);
 
 			AnimalListResponse response = AnimalListResponse.of(1, cursorPage);
@@ -462,7 +465,7 @@ class AnimalControllerTest extends ControllerTest {
 			// given
 			AnimalListResponse response = AnimalListResponse.of(
 				1,
-				CursorPage.of(List.of(), 10, AnimalResponse::animalId)
+				CursorPage.of(List.of(), 10, animal -> KeysetCursor.encode(animal.happenDate(), animal.animalId()))
 			);
 
 			given(animalService.getAnimalListWithCoordinates(
@@ -523,7 +526,7 @@ class AnimalControllerTest extends ControllerTest {
 			// given
 			AnimalListResponse response = AnimalListResponse.of(
 				0,
-				CursorPage.of(List.of(), 10, AnimalResponse::animalId)
+				CursorPage.of(List.of(), 10, animal -> KeysetCursor.encode(animal.happenDate(), animal.animalId()))
 			);
 
 			given(animalService.getAnimalListWithCoordinates(
@@ -534,7 +537,7 @@ class AnimalControllerTest extends ControllerTest {
 
 			// when & then
 			mockMvc.perform(get("/animal/list/map")
-					.param("cursorId", "10")
+					.param("cursor", KeysetCursor.encode(LocalDate.of(2025, 1, 1), 10L))
 					.param("size", "10")
 					.param("minLongitude", "126.8")
 					.param("minLatitude", "37.4")
@@ -551,4 +554,67 @@ class AnimalControllerTest extends ControllerTest {
 			);
 		}
 	}
+
+	@Nested
+	@DisplayName("좌표 기반 유기 동물 클러스터 조회 API 테스트")
+	class GetAnimalClustersWithCoordinatesTests {
+
+		@Test
+		@DisplayName("클러스터 조회 - 필수 파라미터만으로 성공")
+		void getAnimalClustersWithCoordinates_Success_WithRequiredParamsOnly() throws Exception {
+			// given
+			AnimalClusterResponse cluster = AnimalClusterResponse.builder()
+				.latitude(37.5)
+				.longitude(127.0)
+				.count(2)
+				.sampleAnimalIds(List.of(2L, 1L))
+				.build();
+
+			AnimalClusterListResponse response = AnimalClusterListResponse.of(2, 10, List.of(cluster));
+
+			given(animalService.getAnimalClustersWithCoordinates(
+				anyInt(), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+				isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull()
+			)).willReturn(response);
+
+			// when & then
+			mockMvc.perform(get("/animal/list/map/cluster")
+					.param("zoomLevel", "10")
+					.param("minLongitude", "126.8")
+					.param("minLatitude", "37.4")
+					.param("maxLongitude", "127.1")
+					.param("maxLatitude", "37.7")
+					.param("animalType", "ABANDONED"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.status").value(200))
+				.andExpect(jsonPath("$.data.animalCount").value(2))
+				.andExpect(jsonPath("$.data.zoomLevel").value(10))
+				.andExpect(jsonPath("$.data.clusters[0].count").value(2))
+				.andExpect(jsonPath("$.data.clusters[0].sampleAnimalIds[0]").value(2));
+
+			verify(animalService).getAnimalClustersWithCoordinates(
+				eq(10), any(), eq(126.8), eq(37.4), eq(127.1), eq(37.7),
+				isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull()
+			);
+		}
+
+		@Test
+		@DisplayName("클러스터 조회 - 유효하지 않은 줌 레벨이면 실패")
+		void getAnimalClustersWithCoordinates_Fail_WhenInvalidZoomLevel() throws Exception {
+			// given
+			given(animalService.getAnimalClustersWithCoordinates(
+				eq(30), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+				isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull()
+			)).willThrow(new CustomException(AnimalErrorCode.INVALID_ZOOM_LEVEL));
+
+			// when & then
+			mockMvc.perform(get("/animal/list/map/cluster")
+					.param("zoomLevel", "30")
+					.param("minLongitude", "126.8")
+					.param("minLatitude", "37.4")
+					.param("maxLongitude", "127.1")
+					.param("maxLatitude", "37.7"))
+				.andExpect(status().isBadRequest());
+		}
+	}
 }
\ No newline at end of file
@@ -14,22 +14,31 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 
 import jakarta.persistence.EntityManager;
+import tetoandeggens.seeyouagainbe.animal.dto.AnimalLocationCountDto;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalDetailResponse;
 import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalResponse;
 import tetoandeggens.seeyouagainbe.animal.entity.Animal;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalLocation;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalS3Profile;
+import tetoandeggens.seeyouagainbe.animal.entity.AnimalType;
 import tetoandeggens.seeyouagainbe.animal.entity.BreedType;
 import tetoandeggens.seeyouagainbe.animal.entity.NeuteredState;
 import tetoandeggens.seeyouagainbe.animal.entity.Sex;
 import tetoandeggens.seeyouagainbe.animal.entity.Species;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.global.RepositoryTest;
+import tetoandeggens.seeyouagainbe.global.config.H2GisConfig;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
 
 @DisplayName("AnimalRepository QueryDSL 복잡한 쿼리 테스트")
+@Import(H2GisConfig.class)
 class AnimalRepositoryTest extends RepositoryTest {
 
 	@Autowired
@@ -62,7 +71,7 @@ class AnimalRepositoryTest extends RepositoryTest {
 
 			// when
 			List<AnimalResponse> results = animalRepository.getAbandonedAnimals(
-				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null, null
+				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null
 			);
 
 			// then
@@ -89,7 +98,7 @@ class AnimalRepositoryTest extends RepositoryTest {
 
 			// when
 			List<AnimalResponse> results = animalRepository.getAbandonedAnimals(
-				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null, null
+				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null
 			);
 
 			// then
@@ -122,7 +131,7 @@ class AnimalRepositoryTest extends RepositoryTest {
 
 			// when
 			List<AnimalResponse> results = animalRepository.getAbandonedAnimals(
-				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null, null
+				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null
 			);
 
 			// then
@@ -175,7 +184,7 @@ class AnimalRepositoryTest extends RepositoryTest {
 
 			// when
 			List<AnimalResponse> results = animalRepository.getAbandonedAnimals(
-				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null, null
+				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null
 			);
 
 			// then
@@ -244,6 +253,93 @@ class AnimalRepositoryTest extends RepositoryTest {
 		entityManager.persist(profile);
 	}
 
+	@Nested
+	@DisplayName("발견일 기준 키셋 페이징 테스트")
+	class KeysetPagingTests {
+
+		@Test
+		@DisplayName("키셋 페이징 - LATEST는 발견일 내림차순, 같은 날짜는 ID 내림차순으로 누락 없이 이어서 조회")
+		void getAnimals_Success_LatestKeysetPaging() {
+			// given
+			Animal jan3First = createAndSaveAnimal("12345", LocalDate.of(2025, 1, 3), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal jan1 = createAndSaveAnimal("12346", LocalDate.of(2025, 1, 1), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal jan3Second = createAndSaveAnimal("12347", LocalDate.of(2025, 1, 3), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal jan2 = createAndSaveAnimal("12348", LocalDate.of(2025, 1, 2), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			List<AnimalResponse> firstPage = animalRepository.getAbandonedAnimals(
+				new CursorPageRequest(null, 2), SortDirection.LATEST,
+				null, null, null, null, null, null, null, null, null
+			);
+
+			AnimalResponse nextFirst = firstPage.get(2);
+			String cursor = KeysetCursor.encode(nextFirst.happenDate(), nextFirst.animalId());
+
+			List<AnimalResponse> secondPage = animalRepository.getAbandonedAnimals(
+				new CursorPageRequest(null, cursor, 2), SortDirection.LATEST,
+				null, null, null, null, null, null, null, null, null
+			);
+
+			// then
+			assertThat(firstPage)
+				.extracting(AnimalResponse::animalId)
+				.containsExactly(jan3Second.getId(), jan3First.getId(), jan2.getId());
+			assertThat(secondPage)
+				.extracting(AnimalResponse::animalId)
+				.containsExactly(jan2.getId(), jan1.getId());
+		}
+
+		@Test
+		@DisplayName("키셋 페이징 - OLDEST는 발견일 오름차순, 같은 날짜는 ID 오름차순으로 조회")
+		void getAnimals_Success_OldestKeysetPaging() {
+			// given
+			Animal jan3First = createAndSaveAnimal("12345", LocalDate.of(2025, 1, 3), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal jan1 = createAndSaveAnimal("12346", LocalDate.of(2025, 1, 1), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal jan3Second = createAndSaveAnimal("12347", LocalDate.of(2025, 1, 3), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+
+			entityManager.flush();
+			entityManager.clear();
+
+			String cursor = KeysetCursor.encode(jan3First.getHappenDate(), jan3First.getId());
+
+			// when
+			List<AnimalResponse> results = animalRepository.getAbandonedAnimals(
+				new CursorPageRequest(null, cursor, 10), SortDirection.OLDEST,
+				null, null, null, null, null, null, null, null, null
+			);
+
+			// then
+			assertThat(results)
+				.extracting(AnimalResponse::animalId)
+				.containsExactly(jan3First.getId(), jan3Second.getId())
+				.doesNotContain(jan1.getId());
+		}
+
+		@Test
+		@DisplayName("키셋 페이징 - 잘못된 커서면 예외 발생")
+		void getAnimals_Fail_WithInvalidCursor() {
+			// given
+			CursorPageRequest request = new CursorPageRequest(null, "invalid-cursor", 10);
+
+			// when & then
+			assertThatThrownBy(() -> animalRepository.getAbandonedAnimals(
+				request, SortDirection.LATEST, null, null, null, null, null, null, null, null, null
+			))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_CURSOR);
+		}
+	}
+
 	@Nested
 	@DisplayName("유기 동물 상세 조회 테스트")
 	class GetAnimalTests {
@@ -296,7 +392,7 @@ class AnimalRepositoryTest extends RepositoryTest {
 
 			// when
 			AnimalDetailResponse result = animalRepository.getAnimal(
-				animal.getId(), null);
+				animal.getId());
 
 			// then
 			assertThat(result).isNotNull();
@@ -326,13 +422,303 @@ class AnimalRepositoryTest extends RepositoryTest {
 		void getAnimal_ReturnsNull_WhenNotExists() {
 			// when
 			AnimalDetailResponse result = animalRepository.getAnimal(
-				999L, null);
+				999L);
 
 			// then
 			assertThat(result).isNull();
 		}
 	}
 
+	@Nested
+	@DisplayName("좌표 범위 내 유기 동물 조회 테스트")
+	class GetAnimalListWithCoordinatesTests {
+
+		private static final double MIN_LONGITUDE = 126.9;
+		private static final double MIN_LATITUDE = 37.4;
+		private static final double MAX_LONGITUDE = 127.1;
+		private static final double MAX_LATITUDE = 37.6;
+
+		@Test
+		@DisplayName("좌표 범위 조회 - 경도/위도 범위 안(경계 포함)의 동물만 조회 성공")
+		void getAnimalListWithCoordinates_Success_OnlyWithinBounds() {
+			// given
+			BreedType breedType = createBreedType("푸들", "DOG");
+			Animal inside = createAndSaveAnimalAt("12345", breedType, 127.0, 37.5);
+			Animal onMinCorner = createAndSaveAnimalAt("12346", breedType, MIN_LONGITUDE, MIN_LATITUDE);
+			Animal onMaxCorner = createAndSaveAnimalAt("12347", breedType, MAX_LONGITUDE, MAX_LATITUDE);
+			createAndSaveAnimalAt("12348", breedType, 127.2, 37.5);
+			createAndSaveAnimalAt("12349", breedType, 127.0, 37.7);
+			createAndSaveAnimalAt("12350", breedType, 37.5, 127.0);
+
+			entityManager.flush();
+			entityManager.clear();
+
+			CursorPageRequest request = new CursorPageRequest(null, 10);
+
+			// when
+			List<AnimalResponse> results = animalRepository.getAnimalListWithCoordinates(
+				request, SortDirection.LATEST, null, MIN_LONGITUDE, MIN_LATITUDE, MAX_LONGITUDE, MAX_LATITUDE,
+				null, null, null, null, null, null, null, null
+			);
+			Long count = animalRepository.getAnimalsCountWithCoordinates(
+				null, MIN_LONGITUDE, MIN_LATITUDE, MAX_LONGITUDE, MAX_LATITUDE,
+				null, null, null, null, null, null, null, null
+			);
+
+			// then
+			assertThat(results)
+				.extracting(AnimalResponse::animalId)
+				.containsExactly(onMaxCorner.getId(), onMinCorner.getId(), inside.getId());
+			assertThat(count).isEqualTo(3L);
+		}
+
+		@Test
+		@DisplayName("좌표 범위 조회 - 커서 페이징과 필터를 함께 적용해도 범위 조건 유지")
+		void getAnimalListWithCoordinates_Success_WithCursorAndFilter() {
+			// given
+			BreedType breedType = createBreedType("치와와", "DOG");
+			Animal first = createAndSaveAnimalAt("12345", breedType, 127.0, 37.5);
+			createAndSaveAnimalAt("12346", breedType, 127.05, 37.55);
+			createAndSaveAnimalAt("12347", breedType, 126.0, 37.55);
+
+			entityManager.flush();
+			entityManager.clear();
+
+			String cursor = KeysetCursor.encode(first.getHappenDate(), first.getId());
+			CursorPageRequest request = new CursorPageRequest(null, cursor, 10);
+
+			// when
+			List<AnimalResponse> results = animalRepository.getAnimalListWithCoordinates(
+				request, SortDirection.LATEST, AnimalType.ABANDONED,
+				MIN_LONGITUDE, MIN_LATITUDE, MAX_LONGITUDE, MAX_LATITUDE,
+				null, null, Species.DOG, "치와와", null, null, null, null
+			);
+
+			// then
+			assertThat(results)
+				.extracting(AnimalResponse::animalId)
+				.containsExactly(first.getId());
+		}
+	}
+
+	@Nested
+	@DisplayName("좌표 범위 내 클러스터용 보호소별 집계 테스트")
+	class GetAnimalCountsByLocationTests {
+
+		@Test
+		@DisplayName("클러스터용 집계 - 범위 안의 동물을 보호소별 수와 최신 ID로 묶어 조회 성공")
+		void getAnimalCountsByLocation_Success_GroupsByLocation() {
+			// given
+			BreedType breedType = createBreedType("푸들", "DOG");
+			Animal first = createAndSaveAnimalAt("12345", breedType, 127.0, 37.5);
+			Animal second = createAndSaveAnimalAt("12346", breedType, first.getAnimalLocation());
+			Animal other = createAndSaveAnimalAt("12347", breedType, 127.05, 37.55);
+			createAndSaveAnimalAt("12348", breedType, 128.0, 37.5);
+
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			List<AnimalLocationCountDto> results = animalRepository.getAnimalCountsByLocation(
+				null, 126.9, 37.4, 127.1, 37.6,
+				null, null, null, null, null, null, null, null
+			);
+
+			// then
+			assertThat(results)
+				.extracting(AnimalLocationCountDto::animalCount, AnimalLocationCountDto::latestAnimalId)
+				.containsExactlyInAnyOrder(tuple(2L, second.getId()), tuple(1L, other.getId()));
+			AnimalLocationCountDto shared = results.stream()
+				.filter(result -> result.animalCount() == 2L)
+				.findFirst()
+				.orElseThrow();
+			assertThat(shared.longitude()).isEqualTo(127.0);
+			assertThat(shared.latitude()).isEqualTo(37.5);
+		}
+
+		@Test
+		@DisplayName("클러스터용 집계 - 필터 조건을 함께 적용")
+		void getAnimalCountsByLocation_Success_WithFilter() {
+			// given
+			BreedType poodle = createBreedType("푸들", "DOG");
+			BreedType chihuahua = createBreedType("치와와", "DOG");
+			Animal target = createAndSaveAnimalAt("12345", chihuahua, 127.0, 37.5);
+			createAndSaveAnimalAt("12346", poodle, target.getAnimalLocation());
+
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			List<AnimalLocationCountDto> results = animalRepository.getAnimalCountsByLocation(
+				AnimalType.ABANDONED, 126.9, 37.4, 127.1, 37.6,
+				null, null, Species.DOG, "치와와", null, null, null, null
+			);
+
+			// then
+			assertThat(results)
+				.extracting(AnimalLocationCountDto::animalCount, AnimalLocationCountDto::latestAnimalId)
+				.containsExactly(tuple(1L, target.getId()));
+		}
+
+		@Test
+		@DisplayName("클러스터용 집계 - 범위 안에 동물이 없으면 빈 목록")
+		void getAnimalCountsByLocation_ReturnsEmpty_WhenNoAnimals() {
+			// when
+			List<AnimalLocationCountDto> results = animalRepository.getAnimalCountsByLocation(
+				null, 126.9, 37.4, 127.1, 37.6,
+				null, null, null, null, null, null, null, null
+			);
+
+			// then
+			assertThat(results).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("대표 이미지 비정규화 테스트")
+	class RepresentativeProfileTests {
+
+		@Test
+		@DisplayName("첫 프로필 저장 시 대표 이미지가 지정되고 이후 프로필로 바뀌지 않는다")
+		void assignRepresentativeProfile_OnFirstProfile() {
+			// given
+			Animal animal = createAndSaveAnimal("REP001", LocalDate.of(2025, 1, 1), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			createAndSaveProfile(animal, "rep001_profile1.jpg");
+			createAndSaveProfile(animal, "rep001_profile2.jpg");
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			Animal result = animalRepository.findById(animal.getId()).orElseThrow();
+
+			// then
+			assertThat(result.getRepresentativeProfile()).isEqualTo("rep001_profile1.jpg");
+		}
+
+		@Test
+		@DisplayName("삭제된 프로필을 제외하고 가장 먼저 등록된 프로필을 조회한다")
+		void findRepresentativeProfile_SkipsDeletedProfile() {
+			// given
+			Animal animal = createAndSaveAnimal("REP002", LocalDate.of(2025, 1, 1), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			createAndSaveProfile(animal, "rep002_profile1.jpg");
+			createAndSaveProfile(animal, "rep002_profile2.jpg");
+			softDeleteProfile("rep002_profile1.jpg");
+
+			// when
+			String result = animalRepository.findRepresentativeProfile(animal.getId()).orElseThrow();
+
+			// then
+			assertThat(result).isEqualTo("rep002_profile2.jpg");
+		}
+
+		@Test
+		@DisplayName("남은 프로필이 없으면 빈 값을 반환한다")
+		void findRepresentativeProfile_Empty() {
+			// given
+			Animal animal = createAndSaveAnimal("REP003", LocalDate.of(2025, 1, 1), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			createAndSaveProfile(animal, "rep003_profile1.jpg");
+			softDeleteProfile("rep003_profile1.jpg");
+
+			// when & then
+			assertThat(animalRepository.findRepresentativeProfile(animal.getId())).isEmpty();
+		}
+
+		@Test
+		@DisplayName("벌크 갱신 시 대상 동물들의 대표 이미지를 다시 계산한다")
+		void refreshRepresentativeProfiles() {
+			// given
+			Animal withProfile = createAndSaveAnimal("REP004", LocalDate.of(2025, 1, 1), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal withoutProfile = createAndSaveAnimal("REP005", LocalDate.of(2025, 1, 2), Species.CAT, Sex.F,
+				NeuteredState.N, "서울특별시", "서초구");
+			createAndSaveProfile(withProfile, "rep004_profile1.jpg");
+			createAndSaveProfile(withProfile, "rep004_profile2.jpg");
+			softDeleteProfile("rep004_profile1.jpg");
+			clearRepresentativeProfiles();
+
+			// when
+			int updatedCount = animalRepository.refreshRepresentativeProfiles(
+				List.of(withProfile.getId(), withoutProfile.getId()));
+			entityManager.clear();
+
+			// then
+			assertThat(updatedCount).isEqualTo(2);
+			assertThat(animalRepository.findById(withProfile.getId()).orElseThrow().getRepresentativeProfile())
+				.isEqualTo("rep004_profile2.jpg");
+			assertThat(animalRepository.findById(withoutProfile.getId()).orElseThrow().getRepresentativeProfile())
+				.isNull();
+		}
+
+		@Test
+		@DisplayName("아이디 기준으로 청크 단위 조회를 이어갈 수 있다")
+		void findIdsAfter() {
+			// given
+			Animal first = createAndSaveAnimal("REP006", LocalDate.of(2025, 1, 1), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal second = createAndSaveAnimal("REP007", LocalDate.of(2025, 1, 2), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+			Animal third = createAndSaveAnimal("REP008", LocalDate.of(2025, 1, 3), Species.DOG, Sex.M,
+				NeuteredState.Y, "서울특별시", "강남구");
+
+			// when
+			List<Long> firstChunk = animalRepository.findIdsAfter(0L, Limit.of(2));
+			List<Long> secondChunk = animalRepository.findIdsAfter(firstChunk.get(1), Limit.of(2));
+
+			// then
+			assertThat(firstChunk).containsExactly(first.getId(), second.getId());
+			assertThat(secondChunk).containsExactly(third.getId());
+		}
+
+		private void softDeleteProfile(String profile) {
+			entityManager.flush();
+			entityManager.createQuery("update AnimalS3Profile p set p.isDeleted = true where p.profile = :profile")
+				.setParameter("profile", profile)
+				.executeUpdate();
+			entityManager.clear();
+		}
+
+		private void clearRepresentativeProfiles() {
+			entityManager.flush();
+			entityManager.createQuery("update Animal a set a.representativeProfile = null").executeUpdate();
+			entityManager.clear();
+		}
+	}
+
+	private Animal createAndSaveAnimalAt(String desertionNo, BreedType breedType, double longitude,
+		double latitude) {
+		AnimalLocation animalLocation = AnimalLocation.builder()
+			.name("보호소 " + desertionNo)
+			.centerNo("CENTER" + desertionNo)
+			.latitude(latitude)
+			.longitude(longitude)
+			.build();
+		entityManager.persist(animalLocation);
+
+		return createAndSaveAnimalAt(desertionNo, breedType, animalLocation);
+	}
+
+	private Animal createAndSaveAnimalAt(String desertionNo, BreedType breedType, AnimalLocation animalLocation) {
+		Animal animal = Animal.builder()
+			.desertionNo(desertionNo)
+			.happenDate(LocalDate.of(2025, 1, 1))
+			.animalType(AnimalType.ABANDONED)
+			.species(Species.DOG)
+			.breedType(breedType)
+			.sex(Sex.M)
+			.neuteredState(NeuteredState.Y)
+			.city("서울특별시")
+			.town("강남구")
+			.birth("2024년생")
+			.processState("보호중")
+			.animalLocation(animalLocation)
+			.build();
+
+		return animalRepository.save(animal);
+	}
+
 	private BreedType createBreedType(String name, String type) {
 		BreedType breedType = BreedType.builder()
 			.name(name)
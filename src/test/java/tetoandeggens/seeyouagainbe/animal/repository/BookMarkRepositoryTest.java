@@ -340,4 +340,62 @@ class BookMarkRepositoryTest extends RepositoryTest {
             assertThat(result).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("findBookmarkedAnimalIds 테스트")
+    class FindBookmarkedAnimalIdsTests {
+
+        @Test
+        @DisplayName("요청한 동물 중 해당 회원이 북마크한 동물 id만 반환")
+        void findBookmarkedAnimalIds_Success() {
+            // given
+            BookMark activeBookmark = BookMark.builder()
+                    .member(new Member(testMember1.getId()))
+                    .animal(testAnimal1)
+                    .build();
+            bookMarkRepository.save(activeBookmark);
+
+            BookMark deletedBookmark = BookMark.builder()
+                    .member(new Member(testMember1.getId()))
+                    .animal(testAnimal2)
+                    .build();
+            bookMarkRepository.save(deletedBookmark);
+            deletedBookmark.toggleDelete();
+
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<Long> results = bookMarkRepository.findBookmarkedAnimalIds(
+                    testMember1.getId(),
+                    List.of(testAnimal1.getId(), testAnimal2.getId())
+            );
+
+            // then
+            assertThat(results).containsExactly(testAnimal1.getId());
+        }
+
+        @Test
+        @DisplayName("다른 회원의 북마크는 포함되지 않음")
+        void findBookmarkedAnimalIds_ExcludesOtherMembersBookmarks() {
+            // given
+            BookMark member2Bookmark = BookMark.builder()
+                    .member(new Member(testMember2.getId()))
+                    .animal(testAnimal1)
+                    .build();
+            bookMarkRepository.save(member2Bookmark);
+
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<Long> results = bookMarkRepository.findBookmarkedAnimalIds(
+                    testMember1.getId(),
+                    List.of(testAnimal1.getId(), testAnimal2.getId())
+            );
+
+            // then
+            assertThat(results).isEmpty();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package tetoandeggens.seeyouagainbe.animal.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import jakarta.persistence.EntityManager;
+import tetoandeggens.seeyouagainbe.animal.entity.Animal;
+import tetoandeggens.seeyouagainbe.animal.entity.BreedType;
+import tetoandeggens.seeyouagainbe.animal.entity.Species;
+import tetoandeggens.seeyouagainbe.global.RepositoryTest;
+
+@DisplayName("ReferenceDataDictionary 테스트")
+class ReferenceDataDictionaryTest extends RepositoryTest {
+
+	@Autowired
+	private ReferenceDataDictionary referenceDataDictionary;
+
+	@Autowired
+	private AnimalRepository animalRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Nested
+	@DisplayName("사전 적재 테스트")
+	class RefreshTests {
+
+		@Test
+		@DisplayName("갱신하면 품종 이름으로 id를 찾을 수 있다")
+		void refresh_LoadsBreedTypes() {
+			// given
+			BreedType poodle = createAndSaveBreedType("푸들", "B001");
+
+			// when
+			referenceDataDictionary.refresh();
+
+			// then
+			assertThat(referenceDataDictionary.findBreedTypeIdByName("푸들")).contains(poodle.getId());
+		}
+
+		@Test
+		@DisplayName("같은 이름의 품종은 모두 id 목록에 담고 단건 조회는 가장 먼저 등록된 품종을 반환한다")
+		void refresh_KeepsAllIdsForDuplicateNames() {
+			// given
+			BreedType dogEtc = createAndSaveBreedType("기타", "B100");
+			BreedType catEtc = createAndSaveBreedType("기타", "B200");
+
+			// when
+			referenceDataDictionary.refresh();
+
+			// then
+			assertThat(referenceDataDictionary.findBreedTypeIdsByName("기타"))
+				.containsExactly(dogEtc.getId(), catEtc.getId());
+			assertThat(referenceDataDictionary.findBreedTypeIdByName("기타")).contains(dogEtc.getId());
+		}
+
+		@Test
+		@DisplayName("사전에 없는 값은 빈 결과를 반환한다")
+		void find_ReturnsEmpty_WhenUnknown() {
+			// when & then
+			assertThat(referenceDataDictionary.findBreedTypeIdsByName("없는품종")).isEmpty();
+			assertThat(referenceDataDictionary.findBreedTypeIdByName("없는품종")).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("품종 필터 테스트")
+	class BreedTypeFilterTests {
+
+		@Test
+		@DisplayName("사전 갱신 전후 모두 같은 품종 필터 결과를 반환한다")
+		void breedTypeFilter_ReturnsSameCount_BeforeAndAfterRefresh() {
+			// given
+			BreedType poodle = createAndSaveBreedType("푸들", "B001");
+			BreedType chihuahua = createAndSaveBreedType("치와와", "B002");
+			createAndSaveAnimal("12345", poodle);
+			createAndSaveAnimal("12346", poodle);
+			createAndSaveAnimal("12347", chihuahua);
+			entityManager.flush();
+
+			// when
+			Long beforeRefresh = animalRepository.getAbandonedAnimalsCount(
+				null, null, null, null, "푸들", null, null, null, null);
+			referenceDataDictionary.refresh();
+			Long afterRefresh = animalRepository.getAbandonedAnimalsCount(
+				null, null, null, null, "푸들", null, null, null, null);
+
+			// then
+			assertThat(beforeRefresh).isEqualTo(2L);
+			assertThat(afterRefresh).isEqualTo(2L);
+		}
+	}
+
+	private BreedType createAndSaveBreedType(String name, String code) {
+		BreedType breedType = BreedType.builder()
+			.name(name)
+			.type(Species.DOG.toString())
+			.code(code)
+			.build();
+		entityManager.persist(breedType);
+		entityManager.flush();
+		return breedType;
+	}
+
+	private void createAndSaveAnimal(String desertionNo, BreedType breedType) {
+		Animal animal = Animal.builder()
+			.desertionNo(desertionNo)
+			.happenDate(LocalDate.of(2025, 1, 1))
+			.species(Species.DOG)
+			.breedType(breedType)
+			.build();
+		animalRepository.save(animal);
+	}
+}
@@ -0,0 +1,93 @@
+package tetoandeggens.seeyouagainbe.animal.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tetoandeggens.seeyouagainbe.animal.dto.AnimalLocationCountDto;
+import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalClusterResponse;
+import tetoandeggens.seeyouagainbe.animal.entity.AnimalLocation;
+
+@DisplayName("AnimalClusterGrid 단위 테스트")
+class AnimalClusterGridTest {
+
+	private static final int ZOOM_LEVEL = 10;
+
+	@Test
+	@DisplayName("줌 레벨이 1 오를 때마다 셀 크기가 절반이 된다")
+	void cellSize_HalvesPerZoomLevel() {
+		assertThat(AnimalClusterGrid.cellSize(0)).isEqualTo(90.0);
+		assertThat(AnimalClusterGrid.cellSize(ZOOM_LEVEL + 1)).isEqualTo(AnimalClusterGrid.cellSize(ZOOM_LEVEL) / 2);
+	}
+
+	@Test
+	@DisplayName("셀 경계에 놓인 경도는 다음 셀에 속하고, 음수 경도도 내림으로 나뉜다")
+	void column_AssignsCellEdgeToNextCell() {
+		double cellSize = AnimalClusterGrid.cellSize(ZOOM_LEVEL);
+
+		assertThat(AnimalClusterGrid.column(cellSize * 10, cellSize)).isEqualTo(10);
+		assertThat(AnimalClusterGrid.column(Math.nextDown(cellSize * 10), cellSize)).isEqualTo(9);
+		assertThat(AnimalClusterGrid.column(-cellSize / 2, cellSize)).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("위도는 메르카토르 기준으로 나뉘어 고위도일수록 같은 위도 차이가 더 많은 셀에 걸친다")
+	void row_UsesMercatorProjection() {
+		double cellSize = AnimalClusterGrid.cellSize(ZOOM_LEVEL);
+
+		long equatorRows = AnimalClusterGrid.row(1.0, cellSize) - AnimalClusterGrid.row(0.0, cellSize);
+		long highLatitudeRows = AnimalClusterGrid.row(61.0, cellSize) - AnimalClusterGrid.row(60.0, cellSize);
+
+		assertThat(AnimalClusterGrid.row(cellSize / 2, cellSize)).isZero();
+		assertThat(AnimalClusterGrid.row(-cellSize / 2, cellSize)).isEqualTo(-1);
+		assertThat(highLatitudeRows).isGreaterThanOrEqualTo(equatorRows * 2 - 1);
+		assertThat(AnimalClusterGrid.row(90.0, cellSize)).isEqualTo(AnimalClusterGrid.row(85.06, cellSize));
+	}
+
+	@Test
+	@DisplayName("같은 셀의 보호소는 동물 수로 가중한 중심과 최신순 대표 ID로 합쳐지고, 개수 내림차순으로 정렬된다")
+	void cluster_MergesLocationsInSameCell() {
+		// given
+		AnimalLocationCountDto older = location(127.0001, 37.5001, 3, 10L);
+		AnimalLocationCountDto newer = location(127.0003, 37.5003, 1, 20L);
+		AnimalLocationCountDto far = location(129.0, 35.1, 5, 15L);
+
+		// when
+		List<AnimalClusterResponse> clusters = AnimalClusterGrid.cluster(List.of(older, far, newer), ZOOM_LEVEL);
+
+		// then
+		assertThat(clusters).extracting(AnimalClusterResponse::count).containsExactly(5, 4);
+		AnimalClusterResponse merged = clusters.get(1);
+		assertThat(merged.sampleAnimalIds()).containsExactly(20L, 10L);
+		assertThat(merged.longitude()).isCloseTo(127.00015, within(1e-9));
+		assertThat(merged.latitude()).isCloseTo(37.50015, within(1e-9));
+	}
+
+	@Test
+	@DisplayName("대표 ID는 셀마다 최대 3개까지만 담는다")
+	void cluster_LimitsSampleIds() {
+		// given
+		List<AnimalLocationCountDto> locations = List.of(
+			location(127.0001, 37.5001, 1, 1L),
+			location(127.0002, 37.5001, 1, 2L),
+			location(127.0003, 37.5001, 1, 3L),
+			location(127.0004, 37.5001, 1, 4L)
+		);
+
+		// when
+		List<AnimalClusterResponse> clusters = AnimalClusterGrid.cluster(locations, ZOOM_LEVEL);
+
+		// then
+		assertThat(clusters).hasSize(1);
+		assertThat(clusters.get(0).sampleAnimalIds()).containsExactly(4L, 3L, 2L);
+	}
+
+	private AnimalLocationCountDto location(double longitude, double latitude, long animalCount,
+		Long latestAnimalId) {
+		return new AnimalLocationCountDto(AnimalLocation.createPoint(longitude, latitude), animalCount,
+			latestAnimalId);
+	}
+}
@@ -22,15 +22,18 @@ import tetoandeggens.seeyouagainbe.animal.dto.response.AnimalResponse;
 import tetoandeggens.seeyouagainbe.animal.entity.Animal;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalLocation;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalType;
+import tetoandeggens.seeyouagainbe.animal.entity.BookMark;
 import tetoandeggens.seeyouagainbe.animal.entity.BreedType;
 import tetoandeggens.seeyouagainbe.animal.entity.NeuteredState;
 import tetoandeggens.seeyouagainbe.animal.entity.Sex;
 import tetoandeggens.seeyouagainbe.animal.entity.Species;
 import tetoandeggens.seeyouagainbe.animal.repository.AnimalRepository;
+import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.global.ServiceTest;
 import tetoandeggens.seeyouagainbe.global.exception.errorcode.AnimalErrorCode;
+import tetoandeggens.seeyouagainbe.member.entity.Member;
 
 @DisplayName("AnimalService 통합 테스트")
 class AnimalServiceTest extends ServiceTest {
@@ -424,6 +427,84 @@ class AnimalServiceTest extends ServiceTest {
 			.build();
 	}
 
+	@Nested
+	@DisplayName("유기 동물 리스트 북마크 여부 테스트")
+	class GetAnimalListBookmarkTests {
+
+		private Animal bookmarkedAnimal;
+		private Animal otherAnimal;
+		private Member member;
+
+		@BeforeEach
+		void setUpBookmark() {
+			bookmarkedAnimal = createAnimal("BOOKMARK001", LocalDate.of(2025, 1, 1), Species.DOG, "치와와",
+				Sex.M, NeuteredState.Y, "서울특별시", "강남구");
+			otherAnimal = createAnimal("BOOKMARK002", LocalDate.of(2025, 1, 2), Species.CAT, "코리안 숏헤어",
+				Sex.F, NeuteredState.N, "서울특별시", "서초구");
+			animalRepository.saveAll(List.of(bookmarkedAnimal, otherAnimal));
+
+			member = Member.builder()
+				.loginId("bookmarkUser")
+				.password("password")
+				.nickName("북마크유저")
+				.phoneNumber("010-1111-2222")
+				.build();
+			entityManager.persist(member);
+			entityManager.persist(BookMark.builder()
+				.member(member)
+				.animal(bookmarkedAnimal)
+				.build());
+			entityManager.flush();
+			entityManager.clear();
+		}
+
+		@Test
+		@DisplayName("유기 동물 리스트 조회 - 로그인 회원은 자신이 북마크한 동물만 true")
+		void getAnimalList_MarksOwnBookmarks() {
+			// when
+			AnimalListResponse response = animalService.getAbandonedAnimalList(
+				new CursorPageRequest(null, 10), SortDirection.LATEST,
+				null, null, null, null, null, null, null, null,
+				new CustomUserDetails(member)
+			);
+
+			// then
+			assertThat(response.animal().getData())
+				.extracting(AnimalResponse::animalId, AnimalResponse::isBookmarked)
+				.containsExactlyInAnyOrder(
+					tuple(bookmarkedAnimal.getId(), true),
+					tuple(otherAnimal.getId(), false)
+				);
+		}
+
+		@Test
+		@DisplayName("유기 동물 리스트 조회 - 비로그인 사용자는 다른 회원의 북마크와 무관하게 모두 false")
+		void getAnimalList_Anonymous_AllFalse() {
+			// when
+			AnimalListResponse response = animalService.getAbandonedAnimalList(
+				new CursorPageRequest(null, 10), SortDirection.LATEST,
+				null, null, null, null, null, null, null, null,
+				null
+			);
+
+			// then
+			assertThat(response.animal().getData())
+				.hasSize(2)
+				.extracting(AnimalResponse::isBookmarked)
+				.containsOnly(false);
+		}
+
+		@Test
+		@DisplayName("유기 동물 상세 조회 - 비로그인 사용자는 다른 회원이 북마크한 동물도 false")
+		void getAnimal_Anonymous_NotBookmarked() {
+			// when
+			AnimalDetailResponse response = animalService.getAnimal(bookmarkedAnimal.getId(), null);
+
+			// then
+			assertThat(response.isBookmarked()).isFalse();
+		}
+	}
+
 	@Nested
 	@DisplayName("유기 동물 상세 조회 테스트")
 	class GetAnimalTests {
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.crypto.SecretKey;
 
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -24,8 +27,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
+import tetoandeggens.seeyouagainbe.auth.service.PrincipalCacheService;
 import tetoandeggens.seeyouagainbe.auth.service.RedisAuthService;
+import tetoandeggens.seeyouagainbe.auth.service.TokenRevocationService;
+import tetoandeggens.seeyouagainbe.global.config.StatelessAuthProperties;
+import tetoandeggens.seeyouagainbe.global.config.VerifiedTokenCacheProperties;
 import tetoandeggens.seeyouagainbe.member.entity.Member;
 import tetoandeggens.seeyouagainbe.member.entity.Role;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
@@ -49,6 +57,21 @@ class TokenProviderTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Spy
+    private StatelessAuthProperties statelessAuthProperties = new StatelessAuthProperties();
+
+    @Spy
+    private VerifiedTokenCacheProperties verifiedTokenCacheProperties = new VerifiedTokenCacheProperties();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TokenProvider tokenProvider;
 
@@ -242,6 +265,71 @@ class TokenProviderTest {
             assertThatThrownBy(() -> tokenProvider.validateToken(""))
                     .isInstanceOf(CustomException.class);
         }
+
+        @Test
+        @DisplayName("검증과 함께 Claims 반환 - 성공")
+        void verifyClaims_ValidToken_ReturnsClaims() {
+            // given
+            String token = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+
+            // when
+            VerifiedClaims claims = tokenProvider.verifyClaims(token);
+
+            // then
+            assertThat(claims.subject()).isEqualTo(TEST_UUID);
+            assertThat(claims.role()).isEqualTo(Role.USER.getRole());
+            assertThat(claims.expiresAt()).isAfter(Instant.now());
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 결과 캐시 테스트")
+    class VerifiedTokenCacheTests {
+
+        @Test
+        @DisplayName("같은 토큰을 다시 검증하면 파싱하지 않고 캐시된 결과를 반환한다")
+        void verifyClaims_ReturnsCached_OnSecondCall() {
+            // given
+            String token = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+            VerifiedClaims first = tokenProvider.verifyClaims(token);
+
+            // when
+            VerifiedClaims second = tokenProvider.verifyClaims(token);
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.verified-token").tag("result", "hit")
+                    .functionCounter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("캐시된 토큰과 서명만 다른 토큰은 캐시를 거치지 않고 거부된다")
+        void verifyClaims_RejectsTamperedSignature_AfterCaching() {
+            // given
+            String token = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+            tokenProvider.verifyClaims(token);
+            String signature = token.substring(token.lastIndexOf('.') + 1);
+            String tampered = token.substring(0, token.lastIndexOf('.') + 1) + new StringBuilder(signature).reverse();
+
+            // when & then
+            assertThatThrownBy(() -> tokenProvider.verifyClaims(tampered))
+                    .isInstanceOf(CustomException.class);
+        }
+
+        @Test
+        @DisplayName("캐시를 끄면 매번 다시 검증한다")
+        void verifyClaims_AlwaysParses_WhenDisabled() {
+            // given
+            verifiedTokenCacheProperties.setEnabled(false);
+            String token = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+
+            // when
+            VerifiedClaims first = tokenProvider.verifyClaims(token);
+            VerifiedClaims second = tokenProvider.verifyClaims(token);
+
+            // then
+            assertThat(second).isEqualTo(first).isNotSameAs(first);
+        }
     }
 
     @Nested
@@ -305,6 +393,28 @@ class TokenProviderTest {
     @DisplayName("Authentication 생성 테스트")
     class AuthenticationCreationTests {
 
+        @BeforeEach
+        void setUp() {
+            lenient().when(principalCacheService.get(eq(TEST_UUID), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<CustomUserDetails>>getArgument(1).get());
+        }
+
+        @Test
+        @DisplayName("인증 주체 캐시에 있으면 Redis와 DB를 조회하지 않는다")
+        void getAuthenticationByAccessToken_UsesPrincipalCache() {
+            // given
+            String accessToken = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+            CustomUserDetails cached = new CustomUserDetails(createTestMember(Role.USER));
+            given(principalCacheService.get(eq(TEST_UUID), any())).willReturn(cached);
+
+            // when
+            Authentication authentication = tokenProvider.getAuthenticationByAccessToken(accessToken);
+
+            // then
+            assertThat(authentication.getPrincipal()).isSameAs(cached);
+            verifyNoInteractions(redisAuthService, memberRepository);
+        }
+
         @Test
         @DisplayName("Access Token으로 Authentication 객체 생성 - USER 권한")
         void getAuthenticationByAccessToken_UserRole_ReturnsAuthentication() {
@@ -379,6 +489,65 @@ class TokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("회원 상태를 담은 토큰 테스트")
+    class StatelessTokenTests {
+
+        @BeforeEach
+        void setUp() {
+            statelessAuthProperties.setEnabled(true);
+            given(memberRepository.findByUuidAndIsDeletedFalse(TEST_UUID))
+                    .willReturn(Optional.of(createTestMember(Role.USER)));
+        }
+
+        @Test
+        @DisplayName("Access Token에 memberId와 정지 여부가 담긴다")
+        void createAccessToken_EmbedsMemberState() {
+            // when
+            String accessToken = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+
+            // then
+            Claims claims = tokenProvider.parseClaims(accessToken);
+            assertThat(claims.get("memberId", Long.class)).isEqualTo(TEST_MEMBER_ID);
+            assertThat(claims.get("banned", Boolean.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("폐기되지 않은 토큰은 Redis와 DB를 조회하지 않고 인증한다")
+        void getAuthenticationByAccessToken_UsesClaims_WhenNotRevoked() {
+            // given
+            String accessToken = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+            given(tokenRevocationService.isRevoked(eq(TEST_UUID), any(Instant.class))).willReturn(false);
+
+            // when
+            Authentication authentication = tokenProvider.getAuthenticationByAccessToken(accessToken);
+
+            // then
+            CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+            assertThat(principal.getUuid()).isEqualTo(TEST_UUID);
+            assertThat(principal.getMemberId()).isEqualTo(TEST_MEMBER_ID);
+            assertThat(principal.getRole()).isEqualTo(Role.USER);
+            assertThat(principal.getIsBanned()).isFalse();
+            verifyNoInteractions(redisAuthService, principalCacheService);
+        }
+
+        @Test
+        @DisplayName("폐기된 토큰은 Redis와 DB에서 현재 회원 상태를 읽어 인증한다")
+        void getAuthenticationByAccessToken_LoadsMember_WhenRevoked() {
+            // given
+            String accessToken = tokenProvider.createAccessToken(TEST_UUID, Role.USER.getRole());
+            given(tokenRevocationService.isRevoked(eq(TEST_UUID), any(Instant.class))).willReturn(true);
+            given(principalCacheService.get(eq(TEST_UUID), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<CustomUserDetails>>getArgument(1).get());
+            given(redisAuthService.getMemberId(TEST_UUID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> tokenProvider.getAuthenticationByAccessToken(accessToken))
+                    .isInstanceOf(CustomException.class);
+            verify(redisAuthService).getMemberId(TEST_UUID);
+        }
+    }
+
     @Nested
     @DisplayName("토큰 만료 시간 조회 테스트")
     class TokenExpirationTests {
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,11 +20,13 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import tetoandeggens.seeyouagainbe.auth.dto.PhoneVerificationSession;
 import tetoandeggens.seeyouagainbe.auth.dto.request.AccountRestoreRequest;
 import tetoandeggens.seeyouagainbe.auth.dto.request.UnifiedRegisterRequest;
 import tetoandeggens.seeyouagainbe.auth.dto.request.WithdrawalRequest;
 import tetoandeggens.seeyouagainbe.auth.dto.response.PhoneVerificationResultResponse;
 import tetoandeggens.seeyouagainbe.auth.jwt.TokenProvider;
+import tetoandeggens.seeyouagainbe.auth.jwt.VerifiedClaims;
 import tetoandeggens.seeyouagainbe.auth.oauth2.common.provider.OAuth2UnlinkServiceProvider;
 import tetoandeggens.seeyouagainbe.global.ServiceTest;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
@@ -62,6 +65,15 @@ class AuthServiceTest extends ServiceTest {
     @MockitoBean
     private CookieService cookieService;
 
+    @MockitoBean
+    private SessionRevocationService sessionRevocationService;
+
+    @MockitoBean
+    private PrincipalCacheService principalCacheService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
     @MockitoBean
     private SocialAccountLinkStrategy socialAccountLinkStrategy;
 
@@ -152,8 +164,7 @@ class AuthServiceTest extends ServiceTest {
             given(memberRepository.existsByPhoneNumberAndIsDeletedFalse(TEST_PHONE)).willReturn(false);
             given(emailService.getServerEmail()).willReturn(emailAddress);
 
-            willDoNothing().given(redisAuthService).saveVerificationCode(eq(TEST_PHONE), anyString());
-            willDoNothing().given(redisAuthService).saveVerificationTime(eq(TEST_PHONE), anyString());
+            willDoNothing().given(redisAuthService).saveVerificationCode(eq(TEST_PHONE), anyString(), anyString());
 
             PhoneVerificationResultResponse result = authService.sendPhoneVerificationCode(TEST_PHONE);
 
@@ -161,8 +172,7 @@ class AuthServiceTest extends ServiceTest {
             assertThat(result.code()).matches("\\d{6}");
             assertThat(result.emailAddress()).isEqualTo(emailAddress);
 
-            verify(redisAuthService).saveVerificationCode(eq(TEST_PHONE), anyString());
-            verify(redisAuthService).saveVerificationTime(eq(TEST_PHONE), anyString());
+            verify(redisAuthService).saveVerificationCode(eq(TEST_PHONE), eq(result.code()), anyString());
         }
 
         @Test
@@ -175,8 +185,7 @@ class AuthServiceTest extends ServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.PHONE_NUMBER_DUPLICATED);
 
             verify(emailService, never()).getServerEmail();
-            verify(redisAuthService, never()).saveVerificationCode(anyString(), anyString());
-            verify(redisAuthService, never()).saveVerificationTime(anyString(), anyString());
+            verify(redisAuthService, never()).saveVerificationCode(anyString(), anyString(), anyString());
         }
     }
 
@@ -190,24 +199,21 @@ class AuthServiceTest extends ServiceTest {
             String code = "123456";
             String nowIso = LocalDateTime.now().toString();
 
-            given(redisAuthService.getVerificationCode(TEST_PHONE)).willReturn(Optional.of(code));
-            given(redisAuthService.getVerificationTime(TEST_PHONE)).willReturn(Optional.of(nowIso));
+            given(redisAuthService.getVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(new PhoneVerificationSession(code, nowIso)));
             given(emailService.extractCodeByPhoneNumber(code, TEST_PHONE, LocalDateTime.parse(nowIso))).willReturn(
                     true);
-
-            willDoNothing().given(redisAuthService).markPhoneAsVerified(TEST_PHONE);
-            willDoNothing().given(redisAuthService).deleteVerificationData(TEST_PHONE);
+            given(redisAuthService.consumeVerificationCode(TEST_PHONE, code)).willReturn(true);
 
             assertThatCode(() -> authService.verifyPhoneCode(TEST_PHONE)).doesNotThrowAnyException();
 
-            verify(redisAuthService).markPhoneAsVerified(TEST_PHONE);
-            verify(redisAuthService).deleteVerificationData(TEST_PHONE);
+            verify(redisAuthService).consumeVerificationCode(TEST_PHONE, code);
         }
 
         @Test
         @DisplayName("인증 코드가 없으면 - INVALID_VERIFICATION_CODE 예외 발생")
         void verifyPhoneCode_NoCode_ThrowsException() {
-            given(redisAuthService.getVerificationCode(TEST_PHONE)).willReturn(Optional.empty());
+            given(redisAuthService.getVerificationSession(TEST_PHONE)).willReturn(Optional.empty());
 
             assertThatThrownBy(() -> authService.verifyPhoneCode(TEST_PHONE))
                     .isInstanceOf(CustomException.class)
@@ -217,13 +223,20 @@ class AuthServiceTest extends ServiceTest {
         }
 
         @Test
-        @DisplayName("인증 시간이 없으면 - 예외 발생")
-        void verifyPhoneCode_NoTime_ThrowsException() {
-            given(redisAuthService.getVerificationCode(TEST_PHONE)).willReturn(Optional.of("123456"));
-            given(redisAuthService.getVerificationTime(TEST_PHONE)).willReturn(Optional.empty());
+        @DisplayName("메일 확인 중 코드가 재발송되었거나 이미 사용되었으면 - INVALID_VERIFICATION_CODE 예외 발생")
+        void verifyPhoneCode_CodeAlreadyConsumed_ThrowsException() {
+            String code = "123456";
+            String nowIso = LocalDateTime.now().toString();
+
+            given(redisAuthService.getVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(new PhoneVerificationSession(code, nowIso)));
+            given(emailService.extractCodeByPhoneNumber(code, TEST_PHONE, LocalDateTime.parse(nowIso))).willReturn(
+                    true);
+            given(redisAuthService.consumeVerificationCode(TEST_PHONE, code)).willReturn(false);
 
             assertThatThrownBy(() -> authService.verifyPhoneCode(TEST_PHONE))
-                    .isInstanceOf(Exception.class);
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_VERIFICATION_CODE);
         }
 
         @Test
@@ -232,15 +245,15 @@ class AuthServiceTest extends ServiceTest {
             String code = "123456";
             String nowIso = LocalDateTime.now().toString();
 
-            given(redisAuthService.getVerificationCode(TEST_PHONE)).willReturn(Optional.of(code));
-            given(redisAuthService.getVerificationTime(TEST_PHONE)).willReturn(Optional.of(nowIso));
+            given(redisAuthService.getVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(new PhoneVerificationSession(code, nowIso)));
             given(emailService.extractCodeByPhoneNumber(code, TEST_PHONE, LocalDateTime.parse(nowIso))).willReturn(
                     false);
 
             assertThatThrownBy(() -> authService.verifyPhoneCode(TEST_PHONE))
                     .isInstanceOf(CustomException.class);
 
-            verify(redisAuthService, never()).markPhoneAsVerified(anyString());
+            verify(redisAuthService, never()).consumeVerificationCode(anyString(), anyString());
         }
     }
 
@@ -388,6 +401,7 @@ class AuthServiceTest extends ServiceTest {
             verify(memberRepository).findDeletedMemberForRestore(TEST_LOGIN_ID, TEST_PHONE);
             verify(redisAuthService).deletePhoneVerification(TEST_PHONE);
             verify(redisAuthService).clearSocialPhoneData(TEST_PHONE);
+            verify(principalCacheService).evict(deletedMember.getUuid());
         }
 
         @Test
@@ -532,14 +546,10 @@ class AuthServiceTest extends ServiceTest {
 
             given(cookieService.resolveRefreshToken(request)).willReturn(refreshToken);
 
-            io.jsonwebtoken.Claims claims = mock(io.jsonwebtoken.Claims.class);
-            given(tokenProvider.parseClaims(refreshToken)).willReturn(claims);
-            given(claims.getSubject()).willReturn(uuid);
-            given(claims.get("role", String.class)).willReturn(role);
+            given(tokenProvider.verifyClaims(refreshToken)).willReturn(createVerifiedClaims(uuid, role));
 
             given(redisAuthService.getRefreshToken(uuid)).willReturn(Optional.of(storedRefreshToken));
 
-            doNothing().when(tokenProvider).validateToken(refreshToken);
             given(tokenProvider.createAccessToken(uuid, role)).willReturn(newAccessToken);
             given(tokenProvider.getAccessTokenExpirationSec()).willReturn(accessTokenExpSec);
             doNothing().when(cookieService).setAccessTokenCookie(response, newAccessToken, accessTokenExpSec);
@@ -549,7 +559,8 @@ class AuthServiceTest extends ServiceTest {
 
             // then
             verify(cookieService).resolveRefreshToken(request);
-            verify(tokenProvider, atLeast(2)).parseClaims(refreshToken);
+            verify(tokenProvider, times(1)).verifyClaims(refreshToken);
+            verify(tokenProvider, never()).parseClaims(anyString());
             verify(redisAuthService).getRefreshToken(uuid);
             verify(tokenProvider).createAccessToken(uuid, role);
             verify(cookieService).setAccessTokenCookie(response, newAccessToken, accessTokenExpSec);
@@ -572,7 +583,7 @@ class AuthServiceTest extends ServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.REFRESH_TOKEN_NOT_FOUND);
 
             verify(cookieService).resolveRefreshToken(request);
-            verify(tokenProvider, never()).parseClaims(anyString());
+            verify(tokenProvider, never()).verifyClaims(anyString());
         }
 
         @Test
@@ -585,9 +596,7 @@ class AuthServiceTest extends ServiceTest {
 
             given(cookieService.resolveRefreshToken(request)).willReturn(refreshToken);
 
-            io.jsonwebtoken.Claims claims = mock(io.jsonwebtoken.Claims.class);
-            given(tokenProvider.parseClaims(refreshToken)).willReturn(claims);
-            given(claims.getSubject()).willReturn(uuid);
+            given(tokenProvider.verifyClaims(refreshToken)).willReturn(createVerifiedClaims(uuid, "ROLE_USER"));
 
             given(redisAuthService.getRefreshToken(uuid)).willReturn(Optional.of(differentToken));
 
@@ -597,10 +606,15 @@ class AuthServiceTest extends ServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.REFRESH_TOKEN_MISMATCH);
 
             verify(cookieService).resolveRefreshToken(request);
-            verify(tokenProvider, atLeast(2)).parseClaims(refreshToken);
+            verify(tokenProvider, times(1)).verifyClaims(refreshToken);
             verify(redisAuthService).getRefreshToken(uuid);
             verify(tokenProvider, never()).createLoginToken(anyString(), any());
         }
+
+        private VerifiedClaims createVerifiedClaims(String uuid, String role) {
+            Instant now = Instant.now();
+            return new VerifiedClaims(uuid, role, null, null, now, now.plusSeconds(3600));
+        }
     }
 
     @Nested
@@ -636,6 +650,9 @@ class AuthServiceTest extends ServiceTest {
             verify(passwordEncoder).matches(TEST_PASSWORD, ENCODED_PASSWORD);
             verify(redisAuthService).deleteRefreshToken(TEST_UUID);
             verify(redisAuthService).deleteMemberId(TEST_UUID);
+            verify(sessionRevocationService).revoke(TEST_UUID);
+            verify(principalCacheService).evict(TEST_UUID);
+            verify(tokenRevocationService).revoke(TEST_UUID);
         }
 
         @Test
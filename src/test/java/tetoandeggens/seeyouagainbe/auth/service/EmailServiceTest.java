@@ -0,0 +1,100 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import tetoandeggens.seeyouagainbe.auth.dto.ImapCredentials;
+import tetoandeggens.seeyouagainbe.global.config.VerificationMailProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailService 단위 테스트")
+class EmailServiceTest {
+
+    private static final String TEST_PHONE = "01012345678";
+    private static final String TEST_CODE = "123456";
+    private static final LocalDateTime SINCE = LocalDateTime.of(2025, 11, 10, 10, 0);
+    private static final Instant SINCE_INSTANT = SINCE.atZone(ZoneId.systemDefault()).toInstant();
+
+    @Mock
+    private ImapCredentials imapCredentials;
+
+    @Mock
+    private RedisAuthService redisAuthService;
+
+    @Mock
+    private VerificationMailListener verificationMailListener;
+
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        VerificationMailProperties verificationMailProperties = new VerificationMailProperties();
+        verificationMailProperties.setIndexWaitTimeout(Duration.ofMillis(50));
+        verificationMailProperties.setIndexRetryInterval(Duration.ofMillis(10));
+        emailService = new EmailService(null, imapCredentials, redisAuthService, verificationMailListener,
+                verificationMailProperties);
+    }
+
+    @Test
+    @DisplayName("인증 요청 이후 받은 코드가 색인에 있으면 메일함에 접속하지 않고 성공한다")
+    void extractCodeByPhoneNumber_ReturnsTrue_WhenIndexed() {
+        // given
+        when(redisAuthService.getInboundVerificationReceivedAt(TEST_PHONE, TEST_CODE))
+                .thenReturn(Optional.of(SINCE_INSTANT.plusSeconds(30)));
+
+        // when & then
+        assertThat(emailService.extractCodeByPhoneNumber(TEST_CODE, TEST_PHONE, SINCE)).isTrue();
+        verifyNoInteractions(verificationMailListener);
+    }
+
+    @Test
+    @DisplayName("인증 요청 전에 받은 코드는 색인에 있어도 실패한다")
+    void extractCodeByPhoneNumber_ReturnsFalse_WhenReceivedBeforeRequest() {
+        // given
+        when(redisAuthService.getInboundVerificationReceivedAt(TEST_PHONE, TEST_CODE))
+                .thenReturn(Optional.of(SINCE_INSTANT.minusSeconds(300)));
+
+        // when & then
+        assertThat(emailService.extractCodeByPhoneNumber(TEST_CODE, TEST_PHONE, SINCE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("리스너가 연결되어 있으면 색인에 없는 코드는 잠시 다시 조회한 뒤 메일함을 검색하지 않고 실패한다")
+    void extractCodeByPhoneNumber_ReturnsFalse_WhenNotIndexedWhileListening() {
+        // given
+        when(redisAuthService.getInboundVerificationReceivedAt(TEST_PHONE, TEST_CODE)).thenReturn(Optional.empty());
+        when(verificationMailListener.isListening()).thenReturn(true);
+
+        // when & then
+        assertThat(emailService.extractCodeByPhoneNumber(TEST_CODE, TEST_PHONE, SINCE)).isFalse();
+        verify(redisAuthService, atLeast(2)).getInboundVerificationReceivedAt(TEST_PHONE, TEST_CODE);
+        verifyNoInteractions(imapCredentials);
+    }
+
+    @Test
+    @DisplayName("리스너가 아직 색인하지 못한 코드도 대기 중에 색인되면 성공한다")
+    void extractCodeByPhoneNumber_ReturnsTrue_WhenIndexedWhileWaiting() {
+        // given
+        when(redisAuthService.getInboundVerificationReceivedAt(TEST_PHONE, TEST_CODE))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(SINCE_INSTANT.plusSeconds(30)));
+        when(verificationMailListener.isListening()).thenReturn(true);
+
+        // when & then
+        assertThat(emailService.extractCodeByPhoneNumber(TEST_CODE, TEST_PHONE, SINCE)).isTrue();
+        verifyNoInteractions(imapCredentials);
+    }
+}
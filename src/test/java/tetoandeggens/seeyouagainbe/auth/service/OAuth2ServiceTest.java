@@ -17,6 +17,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.test.util.ReflectionTestUtils;
+import tetoandeggens.seeyouagainbe.auth.dto.SocialPhoneVerificationSession;
+import tetoandeggens.seeyouagainbe.auth.dto.TempSocialInfo;
 import tetoandeggens.seeyouagainbe.auth.dto.response.PhoneVerificationResultResponse;
 import tetoandeggens.seeyouagainbe.auth.dto.response.SocialLoginResultResponse;
 import tetoandeggens.seeyouagainbe.auth.dto.response.SocialTempInfoResponse;
@@ -65,6 +67,15 @@ class OAuth2ServiceTest extends ServiceTest {
     @MockitoBean
     private HttpServletResponse response;
 
+    private SocialPhoneVerificationSession pendingSession(String code, LocalDateTime sentAt) {
+        return new SocialPhoneVerificationSession(code, sentAt.toString(), TEST_PROVIDER, TEST_SOCIAL_ID,
+                TEST_TEMP_UUID, false);
+    }
+
+    private SocialPhoneVerificationSession verifiedSession() {
+        return new SocialPhoneVerificationSession(null, null, TEST_PROVIDER, TEST_SOCIAL_ID, TEST_TEMP_UUID, true);
+    }
+
     @Nested
     @DisplayName("소셜 휴대폰 인증 코드 전송 테스트")
     class SendSocialPhoneVerificationCodeTests {
@@ -75,14 +86,9 @@ class OAuth2ServiceTest extends ServiceTest {
             // given
             String emailAddress = "test@seeyouagain.com";
 
-            given(redisAuthService.getTempSocialProvider(TEST_TEMP_UUID)).willReturn(Optional.of(TEST_PROVIDER));
-            given(redisAuthService.getTempSocialId(TEST_TEMP_UUID)).willReturn(Optional.of(TEST_SOCIAL_ID));
+            given(redisAuthService.getTempSocialInfo(TEST_TEMP_UUID))
+                    .willReturn(Optional.of(new TempSocialInfo(TEST_PROVIDER, TEST_SOCIAL_ID, null)));
             given(emailService.getServerEmail()).willReturn(emailAddress);
-            doNothing().when(redisAuthService).saveSocialVerificationCode(anyString(), anyString());
-            doNothing().when(redisAuthService).saveSocialVerificationTime(anyString(), anyString());
-            doNothing().when(redisAuthService).saveSocialProvider(anyString(), anyString());
-            doNothing().when(redisAuthService).saveSocialId(anyString(), anyString());
-            doNothing().when(redisAuthService).saveSocialTempUuid(anyString(), anyString());
 
             // when
             PhoneVerificationResultResponse result = oAuth2Service.sendSocialPhoneVerificationCode(
@@ -93,33 +99,15 @@ class OAuth2ServiceTest extends ServiceTest {
             assertThat(result.code()).hasSize(6);
             assertThat(result.emailAddress()).isEqualTo(emailAddress);
 
-            verify(redisAuthService).saveSocialVerificationCode(eq(TEST_PHONE), anyString());
-            verify(redisAuthService).saveSocialVerificationTime(eq(TEST_PHONE), anyString());
-            verify(redisAuthService).saveSocialProvider(TEST_PHONE, TEST_PROVIDER);
-            verify(redisAuthService).saveSocialId(TEST_PHONE, TEST_SOCIAL_ID);
-            verify(redisAuthService).saveSocialTempUuid(TEST_PHONE, TEST_TEMP_UUID);
+            verify(redisAuthService).saveSocialVerificationCode(eq(TEST_PHONE), eq(result.code()), anyString(),
+                    eq(TEST_PROVIDER), eq(TEST_SOCIAL_ID), eq(TEST_TEMP_UUID));
         }
 
         @Test
-        @DisplayName("tempUuid로 provider 조회 실패 - 예외 발생")
-        void sendSocialPhoneVerificationCode_ThrowsException_WhenProviderNotFound() {
+        @DisplayName("tempUuid로 임시 소셜 정보 조회 실패 - 예외 발생")
+        void sendSocialPhoneVerificationCode_ThrowsException_WhenTempSocialInfoNotFound() {
             // given
-            given(redisAuthService.getTempSocialProvider(TEST_TEMP_UUID)).willReturn(Optional.empty());
-
-            // when & then
-            assertThatThrownBy(() -> oAuth2Service.sendSocialPhoneVerificationCode(TEST_PHONE, TEST_TEMP_UUID))
-                    .isInstanceOf(CustomException.class)
-                    .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.REAUTH_TOKEN_NOT_FOUND);
-
-            verify(emailService, never()).getServerEmail();
-        }
-
-        @Test
-        @DisplayName("tempUuid로 socialId 조회 실패 - 예외 발생")
-        void sendSocialPhoneVerificationCode_ThrowsException_WhenSocialIdNotFound() {
-            // given
-            given(redisAuthService.getTempSocialProvider(TEST_TEMP_UUID)).willReturn(Optional.of(TEST_PROVIDER));
-            given(redisAuthService.getTempSocialId(TEST_TEMP_UUID)).willReturn(Optional.empty());
+            given(redisAuthService.getTempSocialInfo(TEST_TEMP_UUID)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> oAuth2Service.sendSocialPhoneVerificationCode(TEST_PHONE, TEST_TEMP_UUID))
@@ -127,6 +115,8 @@ class OAuth2ServiceTest extends ServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.REAUTH_TOKEN_NOT_FOUND);
 
             verify(emailService, never()).getServerEmail();
+            verify(redisAuthService, never()).saveSocialVerificationCode(anyString(), anyString(), anyString(),
+                    anyString(), anyString(), anyString());
         }
     }
 
@@ -141,13 +131,10 @@ class OAuth2ServiceTest extends ServiceTest {
             String code = "123456";
             LocalDateTime now = LocalDateTime.now();
 
-            given(redisAuthService.getSocialVerificationCode(TEST_PHONE)).willReturn(Optional.of(code));
-            given(redisAuthService.getSocialVerificationTime(TEST_PHONE)).willReturn(Optional.of(now.toString()));
-            given(redisAuthService.getSocialProvider(TEST_PHONE)).willReturn(Optional.of(TEST_PROVIDER));
-            given(redisAuthService.getSocialId(TEST_PHONE)).willReturn(Optional.of(TEST_SOCIAL_ID));
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(pendingSession(code, now)));
             given(emailService.extractCodeByPhoneNumber(code, TEST_PHONE, now)).willReturn(true);
-            doNothing().when(redisAuthService).markSocialPhoneAsVerified(TEST_PHONE);
-            doNothing().when(redisAuthService).deleteSocialVerificationData(TEST_PHONE);
+            given(redisAuthService.consumeSocialVerificationCode(TEST_PHONE, code)).willReturn(true);
             given(memberRepository.findByPhoneNumberAndIsDeletedFalse(TEST_PHONE)).willReturn(Optional.empty());
 
             // when
@@ -173,13 +160,10 @@ class OAuth2ServiceTest extends ServiceTest {
                     .phoneNumber(TEST_PHONE)
                     .build();
 
-            given(redisAuthService.getSocialVerificationCode(TEST_PHONE)).willReturn(Optional.of(code));
-            given(redisAuthService.getSocialVerificationTime(TEST_PHONE)).willReturn(Optional.of(now.toString()));
-            given(redisAuthService.getSocialProvider(TEST_PHONE)).willReturn(Optional.of(TEST_PROVIDER));
-            given(redisAuthService.getSocialId(TEST_PHONE)).willReturn(Optional.of(TEST_SOCIAL_ID));
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(pendingSession(code, now)));
             given(emailService.extractCodeByPhoneNumber(code, TEST_PHONE, now)).willReturn(true);
-            doNothing().when(redisAuthService).markSocialPhoneAsVerified(TEST_PHONE);
-            doNothing().when(redisAuthService).deleteSocialVerificationData(TEST_PHONE);
+            given(redisAuthService.consumeSocialVerificationCode(TEST_PHONE, code)).willReturn(true);
             given(memberRepository.findByPhoneNumberAndIsDeletedFalse(TEST_PHONE)).willReturn(Optional.of(existingMember));
 
             // when
@@ -195,7 +179,7 @@ class OAuth2ServiceTest extends ServiceTest {
         @DisplayName("인증 코드 없음 - 예외 발생")
         void verifySocialPhoneCode_NoCode_ThrowsException() {
             // given
-            given(redisAuthService.getSocialVerificationCode(TEST_PHONE)).willReturn(Optional.empty());
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> oAuth2Service.verifySocialPhoneCode(TEST_PHONE, response))
@@ -210,16 +194,51 @@ class OAuth2ServiceTest extends ServiceTest {
             String code = "123456";
             LocalDateTime now = LocalDateTime.now();
 
-            given(redisAuthService.getSocialVerificationCode(TEST_PHONE)).willReturn(Optional.of(code));
-            given(redisAuthService.getSocialVerificationTime(TEST_PHONE)).willReturn(Optional.of(now.toString()));
-            given(redisAuthService.getSocialProvider(TEST_PHONE)).willReturn(Optional.of(TEST_PROVIDER));
-            given(redisAuthService.getSocialId(TEST_PHONE)).willReturn(Optional.of(TEST_SOCIAL_ID));
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(pendingSession(code, now)));
             given(emailService.extractCodeByPhoneNumber(code, TEST_PHONE, now)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> oAuth2Service.verifySocialPhoneCode(TEST_PHONE, response))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_VERIFICATION_CODE);
+
+            verify(redisAuthService, never()).consumeSocialVerificationCode(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("이미 인증을 마친 세션에 다시 인증 요청 - 예외 발생")
+        void verifySocialPhoneCode_AlreadyVerified_ThrowsException() {
+            // given
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(verifiedSession()));
+
+            // when & then
+            assertThatThrownBy(() -> oAuth2Service.verifySocialPhoneCode(TEST_PHONE, response))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_VERIFICATION_CODE);
+
+            verify(emailService, never()).extractCodeByPhoneNumber(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("메일 확인 중 코드가 재발송되었거나 이미 사용됨 - 예외 발생")
+        void verifySocialPhoneCode_CodeAlreadyConsumed_ThrowsException() {
+            // given
+            String code = "123456";
+            LocalDateTime now = LocalDateTime.now();
+
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(pendingSession(code, now)));
+            given(emailService.extractCodeByPhoneNumber(code, TEST_PHONE, now)).willReturn(true);
+            given(redisAuthService.consumeSocialVerificationCode(TEST_PHONE, code)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> oAuth2Service.verifySocialPhoneCode(TEST_PHONE, response))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_VERIFICATION_CODE);
+
+            verify(memberRepository, never()).findByPhoneNumberAndIsDeletedFalse(anyString());
         }
     }
 
@@ -240,17 +259,14 @@ class OAuth2ServiceTest extends ServiceTest {
             // Member의 id 필드 설정 (추가)
             ReflectionTestUtils.setField(member, "id", 1L);
 
-            given(redisAuthService.isSocialPhoneVerified(TEST_PHONE)).willReturn(true);
-            given(redisAuthService.getSocialId(TEST_PHONE)).willReturn(Optional.of(TEST_SOCIAL_ID));
-            given(redisAuthService.getSocialProvider(TEST_PHONE)).willReturn(Optional.of(TEST_PROVIDER));
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(verifiedSession()));
             given(memberRepository.findByPhoneNumberAndIsDeletedFalse(TEST_PHONE)).willReturn(Optional.of(member));
-            given(redisAuthService.getSocialTempUuid(TEST_PHONE)).willReturn(Optional.of(TEST_TEMP_UUID));
             given(redisAuthService.getTempSocialRefreshToken(TEST_TEMP_UUID)).willReturn(Optional.of("refresh-token"));
 
             doNothing().when(socialAccountLinkStrategy).linkSocialId(any(), anyString(), anyString(), anyString());
             given(memberRepository.save(member)).willReturn(member);
-            doNothing().when(redisAuthService).clearSocialPhoneData(TEST_PHONE);
-            doNothing().when(redisAuthService).deleteTempSocialInfo(TEST_TEMP_UUID);
+            doNothing().when(redisAuthService).clearSocialSignupData(TEST_PHONE, TEST_TEMP_UUID);
 
             UserTokenResponse tokenResponse = new UserTokenResponse("access-token", "refresh-token");
             given(tokenProvider.createLoginToken(anyString(), any(Role.class))).willReturn(tokenResponse);
@@ -272,8 +288,7 @@ class OAuth2ServiceTest extends ServiceTest {
 
             verify(socialAccountLinkStrategy).linkSocialId(member, TEST_PROVIDER, TEST_SOCIAL_ID, "refresh-token");
             verify(memberRepository).save(member);
-            verify(redisAuthService).clearSocialPhoneData(TEST_PHONE);
-            verify(redisAuthService).deleteTempSocialInfo(TEST_TEMP_UUID);
+            verify(redisAuthService).clearSocialSignupData(TEST_PHONE, TEST_TEMP_UUID);
             verify(redisAuthService).saveRefreshToken(anyString(), anyString(), anyLong());
             verify(redisAuthService).saveMemberId(anyString(), eq(1L), anyLong());  // eq(1L)로 변경
         }
@@ -282,7 +297,8 @@ class OAuth2ServiceTest extends ServiceTest {
         @DisplayName("휴대폰 인증이 안된 상태 - 예외 발생")
         void linkSocialAccount_ThrowsException_WhenPhoneNotVerified() {
             // given
-            given(redisAuthService.isSocialPhoneVerified(TEST_PHONE)).willReturn(false);
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(pendingSession("123456", LocalDateTime.now())));
 
             // when & then
             assertThatThrownBy(() -> oAuth2Service.linkSocialAccount(TEST_PHONE, response))
@@ -298,9 +314,8 @@ class OAuth2ServiceTest extends ServiceTest {
         @DisplayName("회원을 찾을 수 없음 - 예외 발생")
         void linkSocialAccount_ThrowsException_WhenMemberNotFound() {
             // given
-            given(redisAuthService.isSocialPhoneVerified(TEST_PHONE)).willReturn(true);
-            given(redisAuthService.getSocialId(TEST_PHONE)).willReturn(Optional.of(TEST_SOCIAL_ID));
-            given(redisAuthService.getSocialProvider(TEST_PHONE)).willReturn(Optional.of(TEST_PROVIDER));
+            given(redisAuthService.getSocialVerificationSession(TEST_PHONE))
+                    .willReturn(Optional.of(verifiedSession()));
             given(memberRepository.findByPhoneNumberAndIsDeletedFalse(TEST_PHONE)).willReturn(Optional.empty());
 
             // when & then
@@ -0,0 +1,144 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
+import tetoandeggens.seeyouagainbe.global.config.PrincipalCacheProperties;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.AuthErrorCode;
+import tetoandeggens.seeyouagainbe.member.entity.Role;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrincipalCacheService 단위 테스트")
+class PrincipalCacheServiceTest {
+
+    private static final String TEST_UUID = "test-uuid-1234";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private PrincipalCacheProperties principalCacheProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCacheService principalCacheService;
+    private AtomicInteger loadCalls;
+    private Supplier<CustomUserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        principalCacheProperties = new PrincipalCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        principalCacheService = new PrincipalCacheService(redisTemplate, new ChannelTopic("principal-cache"),
+                principalCacheProperties, meterRegistry);
+        loadCalls = new AtomicInteger();
+        loader = () -> {
+            loadCalls.incrementAndGet();
+            return CustomUserDetails.fromClaims(TEST_UUID, Role.USER.getRole(), 1L);
+        };
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 Redis와 DB를 거치지 않고 로컬 캐시에서 반환한다")
+    void get_ReturnsCached_OnSecondCall() {
+        // given
+        principalCacheService.get(TEST_UUID, loader);
+
+        // when
+        CustomUserDetails result = principalCacheService.get(TEST_UUID, loader);
+
+        // then
+        assertThat(result.getMemberId()).isEqualTo(1L);
+        assertThat(loadCalls).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.principal").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("회원을 찾지 못해 예외가 발생하면 캐싱하지 않는다")
+    void get_DoesNotCache_WhenLoaderFails() {
+        // when
+        assertThatThrownBy(() -> principalCacheService.get(TEST_UUID, () -> {
+            loadCalls.incrementAndGet();
+            throw new CustomException(AuthErrorCode.MEMBER_NOT_FOUND);
+        })).isInstanceOf(CustomException.class);
+        principalCacheService.get(TEST_UUID, loader);
+
+        // then
+        assertThat(loadCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 다시 읽는다")
+    void get_AlwaysLoads_WhenDisabled() {
+        // given
+        principalCacheProperties.setEnabled(false);
+
+        // when
+        principalCacheService.get(TEST_UUID, loader);
+        principalCacheService.get(TEST_UUID, loader);
+
+        // then
+        assertThat(loadCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬 캐시를 비우고 다른 노드에 무효화 메시지를 발행한다")
+    void evict_InvalidatesAndPublishes() {
+        // given
+        principalCacheService.get(TEST_UUID, loader);
+
+        // when
+        principalCacheService.evict(TEST_UUID);
+        principalCacheService.get(TEST_UUID, loader);
+
+        // then
+        verify(redisTemplate).convertAndSend("principal-cache", TEST_UUID);
+        assertThat(loadCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 발행에 실패해도 로컬 캐시는 비운다")
+    void evict_InvalidatesLocal_WhenPublishFails() {
+        // given
+        principalCacheService.get(TEST_UUID, loader);
+        when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        principalCacheService.evict(TEST_UUID);
+        principalCacheService.get(TEST_UUID, loader);
+
+        // then
+        assertThat(loadCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 해당 회원만 로컬 캐시에서 비운다")
+    void invalidateLocal_RemovesOnlyTargetEntry() {
+        // given
+        principalCacheService.get(TEST_UUID, loader);
+        principalCacheService.get("other-uuid", loader);
+
+        // when
+        principalCacheService.invalidateLocal(TEST_UUID);
+        principalCacheService.get(TEST_UUID, loader);
+        principalCacheService.get("other-uuid", loader);
+
+        // then
+        assertThat(loadCalls).hasValue(3);
+    }
+}
@@ -5,13 +5,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
+import tetoandeggens.seeyouagainbe.auth.dto.InboundVerificationMail;
+import tetoandeggens.seeyouagainbe.auth.dto.PhoneVerificationSession;
+import tetoandeggens.seeyouagainbe.auth.dto.SocialPhoneVerificationSession;
+import tetoandeggens.seeyouagainbe.auth.dto.TempSocialInfo;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +40,9 @@ class RedisAuthServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
     @InjectMocks
     private RedisAuthService redisAuthService;
 
@@ -39,165 +53,144 @@ class RedisAuthServiceTest {
     private static final String TEST_PROVIDER = "kakao";
     private static final String TEST_SOCIAL_ID = "kakao123456";
     private static final String TEST_REFRESH_TOKEN = "test-refresh-token";
+    private static final String VERIFICATION_TTL_MS = String.valueOf(Duration.ofMinutes(VERIFICATION_TIME).toMillis());
 
     @BeforeEach
     void setUp() {
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+    }
+
+    // 파이프라인에 담긴 명령을 mock에 그대로 실행해 한 번의 executePipelined 안에서 어떤 명령이 나가는지 확인
+    @SuppressWarnings("unchecked")
+    private void runPipeline() {
+        ArgumentCaptor<SessionCallback<Object>> captor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(1)).executePipelined(captor.capture());
+        captor.getValue().execute(redisTemplate);
+    }
+
+    private void stubConsume(String key, Long result) {
+        when(redisTemplate.execute(RedisAuthService.CONSUME_VERIFICATION_CODE_SCRIPT, List.of(key),
+                FIELD_CODE, TEST_CODE, FIELD_TIME, FIELD_VERIFIED, VERIFIED, VERIFICATION_TTL_MS))
+                .thenReturn(result);
     }
 
     @Nested
     @DisplayName("일반 휴대폰 인증 테스트")
     class PhoneVerificationTests {
 
+        private static final String KEY = PREFIX_PHONE_VERIFICATION + TEST_PHONE;
+
         @Test
-        @DisplayName("인증 코드 저장 - 성공")
+        @DisplayName("인증 코드와 발송 시간을 하나의 Hash에 TTL과 함께 파이프라인으로 저장 - 성공")
         void saveVerificationCode_Success() {
-            // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
-
             // when
-            redisAuthService.saveVerificationCode(TEST_PHONE, TEST_CODE);
+            redisAuthService.saveVerificationCode(TEST_PHONE, TEST_CODE, TEST_TIME);
 
             // then
-            verify(valueOperations).set(
-                    eq(PREFIX_VERIFICATION_CODE + TEST_PHONE),
-                    eq(TEST_CODE),
-                    any(Duration.class)
-            );
+            runPipeline();
+            verify(hashOperations).putAll(KEY, Map.of(FIELD_CODE, TEST_CODE, FIELD_TIME, TEST_TIME));
+            verify(redisTemplate).expire(KEY, Duration.ofMinutes(VERIFICATION_TIME));
+            verifyNoInteractions(valueOperations);
         }
 
         @Test
-        @DisplayName("인증 시간 저장 - 성공")
-        void saveVerificationTime_Success() {
+        @DisplayName("인증 세션 조회 - 한 번의 HMGET으로 성공")
+        void getVerificationSession_Success() {
             // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+            when(hashOperations.multiGet(KEY, List.of(FIELD_CODE, FIELD_TIME)))
+                    .thenReturn(List.of(TEST_CODE, TEST_TIME));
 
             // when
-            redisAuthService.saveVerificationTime(TEST_PHONE, TEST_TIME);
+            Optional<PhoneVerificationSession> result = redisAuthService.getVerificationSession(TEST_PHONE);
 
             // then
-            verify(valueOperations).set(
-                    eq(PREFIX_VERIFICATION_TIME + TEST_PHONE),
-                    eq(TEST_TIME),
-                    any(Duration.class)
-            );
+            assertThat(result).contains(new PhoneVerificationSession(TEST_CODE, TEST_TIME));
+            verify(hashOperations, times(1)).multiGet(anyString(), anyList());
         }
 
         @Test
-        @DisplayName("인증 코드 조회 - 성공")
-        void getVerificationCode_Success() {
+        @DisplayName("인증 세션 조회 - 코드가 없으면 빈 값 반환")
+        void getVerificationSession_ReturnsEmpty_WhenNotExists() {
             // given
-            when(valueOperations.get(PREFIX_VERIFICATION_CODE + TEST_PHONE)).thenReturn(TEST_CODE);
+            when(hashOperations.multiGet(KEY, List.of(FIELD_CODE, FIELD_TIME)))
+                    .thenReturn(Arrays.asList(null, null));
 
             // when
-            Optional<String> result = redisAuthService.getVerificationCode(TEST_PHONE);
+            Optional<PhoneVerificationSession> result = redisAuthService.getVerificationSession(TEST_PHONE);
 
             // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_CODE);
-            verify(valueOperations).get(PREFIX_VERIFICATION_CODE + TEST_PHONE);
+            assertThat(result).isEmpty();
         }
 
         @Test
-        @DisplayName("인증 코드 조회 - 존재하지 않으면 빈 Optional 반환")
-        void getVerificationCode_ReturnsEmpty_WhenNotExists() {
+        @DisplayName("인증 세션 조회 - 발송 시간이 없으면 빈 값 반환")
+        void getVerificationSession_ReturnsEmpty_WhenTimeMissing() {
             // given
-            when(valueOperations.get(PREFIX_VERIFICATION_CODE + TEST_PHONE)).thenReturn(null);
-
-            // when
-            Optional<String> result = redisAuthService.getVerificationCode(TEST_PHONE);
+            when(hashOperations.multiGet(KEY, List.of(FIELD_CODE, FIELD_TIME)))
+                    .thenReturn(Arrays.asList(TEST_CODE, null));
 
-            // then
-            assertThat(result).isEmpty();
-            verify(valueOperations).get(PREFIX_VERIFICATION_CODE + TEST_PHONE);
+            // when & then
+            assertThat(redisAuthService.getVerificationSession(TEST_PHONE)).isEmpty();
         }
 
         @Test
-        @DisplayName("인증 시간 조회 - 성공")
-        void getVerificationTime_Success() {
+        @DisplayName("인증 코드 소비 - 코드가 일치하면 Lua 스크립트로 코드를 지우고 인증 완료 처리")
+        void consumeVerificationCode_Success() {
             // given
-            when(valueOperations.get(PREFIX_VERIFICATION_TIME + TEST_PHONE)).thenReturn(TEST_TIME);
+            stubConsume(KEY, 1L);
 
             // when
-            Optional<String> result = redisAuthService.getVerificationTime(TEST_PHONE);
+            boolean result = redisAuthService.consumeVerificationCode(TEST_PHONE, TEST_CODE);
 
             // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_TIME);
-            verify(valueOperations).get(PREFIX_VERIFICATION_TIME + TEST_PHONE);
+            assertThat(result).isTrue();
         }
 
         @Test
-        @DisplayName("휴대폰 인증 완료 표시 - 성공")
-        void markPhoneAsVerified_Success() {
+        @DisplayName("인증 코드 소비 - 이미 사용되었거나 재발송된 코드면 실패")
+        void consumeVerificationCode_ReturnsFalse_WhenCodeChanged() {
             // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+            stubConsume(KEY, 0L);
 
             // when
-            redisAuthService.markPhoneAsVerified(TEST_PHONE);
+            boolean result = redisAuthService.consumeVerificationCode(TEST_PHONE, TEST_CODE);
 
             // then
-            verify(valueOperations).set(
-                    eq(TEST_PHONE),
-                    eq(VERIFIED),
-                    any(Duration.class)
-            );
+            assertThat(result).isFalse();
         }
 
         @Test
         @DisplayName("휴대폰 인증 여부 확인 - 인증됨")
         void isPhoneVerified_ReturnsTrue_WhenVerified() {
             // given
-            when(valueOperations.get(TEST_PHONE)).thenReturn(VERIFIED);
-
-            // when
-            boolean result = redisAuthService.isPhoneVerified(TEST_PHONE);
+            when(hashOperations.get(KEY, FIELD_VERIFIED)).thenReturn(VERIFIED);
 
-            // then
-            assertThat(result).isTrue();
-            verify(valueOperations).get(TEST_PHONE);
+            // when & then
+            assertThat(redisAuthService.isPhoneVerified(TEST_PHONE)).isTrue();
         }
 
         @Test
         @DisplayName("휴대폰 인증 여부 확인 - 인증 안됨")
         void isPhoneVerified_ReturnsFalse_WhenNotVerified() {
             // given
-            when(valueOperations.get(TEST_PHONE)).thenReturn(null);
-
-            // when
-            boolean result = redisAuthService.isPhoneVerified(TEST_PHONE);
+            when(hashOperations.get(KEY, FIELD_VERIFIED)).thenReturn(null);
 
-            // then
-            assertThat(result).isFalse();
-            verify(valueOperations).get(TEST_PHONE);
-        }
-
-        @Test
-        @DisplayName("인증 데이터 삭제 - 성공")
-        void deleteVerificationData_Success() {
-            // given
-            when(redisTemplate.delete(PREFIX_VERIFICATION_CODE + TEST_PHONE)).thenReturn(true);
-            when(redisTemplate.delete(PREFIX_VERIFICATION_TIME + TEST_PHONE)).thenReturn(true);
-
-            // when
-            redisAuthService.deleteVerificationData(TEST_PHONE);
-
-            // then
-            verify(redisTemplate).delete(PREFIX_VERIFICATION_CODE + TEST_PHONE);
-            verify(redisTemplate).delete(PREFIX_VERIFICATION_TIME + TEST_PHONE);
+            // when & then
+            assertThat(redisAuthService.isPhoneVerified(TEST_PHONE)).isFalse();
         }
 
         @Test
         @DisplayName("휴대폰 인증 정보 삭제 - 성공")
         void deletePhoneVerification_Success() {
             // given
-            when(redisTemplate.delete(TEST_PHONE)).thenReturn(true);
+            when(redisTemplate.delete(KEY)).thenReturn(true);
 
             // when
             redisAuthService.deletePhoneVerification(TEST_PHONE);
 
             // then
-            verify(redisTemplate).delete(TEST_PHONE);
+            verify(redisTemplate).delete(KEY);
         }
     }
 
@@ -205,144 +198,127 @@ class RedisAuthServiceTest {
     @DisplayName("소셜 로그인 휴대폰 인증 테스트")
     class SocialPhoneVerificationTests {
 
+        private static final String KEY = PREFIX_SOCIAL_PHONE_VERIFICATION + TEST_PHONE;
+        private static final List<String> FIELDS = List.of(
+                FIELD_CODE, FIELD_TIME, FIELD_PROVIDER, FIELD_SOCIAL_ID, FIELD_TEMP_UUID, FIELD_VERIFIED);
+
         @Test
-        @DisplayName("소셜 인증 코드 저장 - 성공")
+        @DisplayName("소셜 인증 세션을 하나의 Hash에 TTL과 함께 파이프라인으로 저장 - 성공")
         void saveSocialVerificationCode_Success() {
-            // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
-
             // when
-            redisAuthService.saveSocialVerificationCode(TEST_PHONE, TEST_CODE);
+            redisAuthService.saveSocialVerificationCode(TEST_PHONE, TEST_CODE, TEST_TIME, TEST_PROVIDER,
+                    TEST_SOCIAL_ID, TEST_UUID);
 
             // then
-            verify(valueOperations).set(
-                    eq(PREFIX_SOCIAL_VERIFICATION_CODE + TEST_PHONE),
-                    eq(TEST_CODE),
-                    any(Duration.class)
-            );
+            runPipeline();
+            verify(hashOperations).putAll(KEY, Map.of(
+                    FIELD_CODE, TEST_CODE,
+                    FIELD_TIME, TEST_TIME,
+                    FIELD_PROVIDER, TEST_PROVIDER,
+                    FIELD_SOCIAL_ID, TEST_SOCIAL_ID,
+                    FIELD_TEMP_UUID, TEST_UUID
+            ));
+            verify(redisTemplate).expire(KEY, Duration.ofMinutes(VERIFICATION_TIME));
         }
 
         @Test
-        @DisplayName("소셜 provider 저장 - 성공")
-        void saveSocialProvider_Success() {
+        @DisplayName("소셜 인증 세션 조회 - 코드 확인 전")
+        void getSocialVerificationSession_ReturnsPendingSession() {
             // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+            when(hashOperations.multiGet(KEY, FIELDS))
+                    .thenReturn(Arrays.asList(TEST_CODE, TEST_TIME, TEST_PROVIDER, TEST_SOCIAL_ID, TEST_UUID, null));
 
             // when
-            redisAuthService.saveSocialProvider(TEST_PHONE, TEST_PROVIDER);
+            Optional<SocialPhoneVerificationSession> result = redisAuthService.getSocialVerificationSession(TEST_PHONE);
 
             // then
-            verify(valueOperations).set(
-                    eq(PREFIX_SOCIAL_PROVIDER + TEST_PHONE),
-                    eq(TEST_PROVIDER),
-                    any(Duration.class)
-            );
+            assertThat(result).isPresent();
+            assertThat(result.get().hasPendingCode()).isTrue();
+            assertThat(result.get().verified()).isFalse();
+            assertThat(result.get().tempUuid()).isEqualTo(TEST_UUID);
         }
 
         @Test
-        @DisplayName("소셜 ID 저장 - 성공")
-        void saveSocialId_Success() {
+        @DisplayName("소셜 인증 세션 조회 - 코드 확인 후")
+        void getSocialVerificationSession_ReturnsVerifiedSession() {
             // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+            when(hashOperations.multiGet(KEY, FIELDS))
+                    .thenReturn(Arrays.asList(null, null, TEST_PROVIDER, TEST_SOCIAL_ID, TEST_UUID, VERIFIED));
 
             // when
-            redisAuthService.saveSocialId(TEST_PHONE, TEST_SOCIAL_ID);
+            Optional<SocialPhoneVerificationSession> result = redisAuthService.getSocialVerificationSession(TEST_PHONE);
 
             // then
-            verify(valueOperations).set(
-                    eq(PREFIX_SOCIAL_ID + TEST_PHONE),
-                    eq(TEST_SOCIAL_ID),
-                    any(Duration.class)
-            );
+            assertThat(result).isPresent();
+            assertThat(result.get().hasPendingCode()).isFalse();
+            assertThat(result.get().verified()).isTrue();
+            assertThat(result.get().provider()).isEqualTo(TEST_PROVIDER);
+            assertThat(result.get().socialId()).isEqualTo(TEST_SOCIAL_ID);
         }
 
         @Test
-        @DisplayName("소셜 provider 조회 - 성공")
-        void getSocialProvider_Success() {
+        @DisplayName("소셜 인증 세션 조회 - 세션이 없으면 빈 값 반환")
+        void getSocialVerificationSession_ReturnsEmpty_WhenNotExists() {
             // given
-            when(valueOperations.get(PREFIX_SOCIAL_PROVIDER + TEST_PHONE)).thenReturn(TEST_PROVIDER);
+            when(hashOperations.multiGet(KEY, FIELDS))
+                    .thenReturn(Arrays.asList(null, null, null, null, null, null));
 
-            // when
-            Optional<String> result = redisAuthService.getSocialProvider(TEST_PHONE);
-
-            // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_PROVIDER);
+            // when & then
+            assertThat(redisAuthService.getSocialVerificationSession(TEST_PHONE)).isEmpty();
         }
 
         @Test
-        @DisplayName("소셜 ID 조회 - 성공")
-        void getSocialId_Success() {
+        @DisplayName("소셜 인증 코드 소비 - 성공")
+        void consumeSocialVerificationCode_Success() {
             // given
-            when(valueOperations.get(PREFIX_SOCIAL_ID + TEST_PHONE)).thenReturn(TEST_SOCIAL_ID);
-
-            // when
-            Optional<String> result = redisAuthService.getSocialId(TEST_PHONE);
+            stubConsume(KEY, 1L);
 
-            // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_SOCIAL_ID);
+            // when & then
+            assertThat(redisAuthService.consumeSocialVerificationCode(TEST_PHONE, TEST_CODE)).isTrue();
         }
 
         @Test
-        @DisplayName("소셜 휴대폰 인증 완료 표시 - 성공")
-        void markSocialPhoneAsVerified_Success() {
+        @DisplayName("소셜 휴대폰 인증 여부 확인 - 인증됨")
+        void isSocialPhoneVerified_ReturnsTrue_WhenVerified() {
             // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
-
-            // when
-            redisAuthService.markSocialPhoneAsVerified(TEST_PHONE);
+            when(hashOperations.get(KEY, FIELD_VERIFIED)).thenReturn(VERIFIED);
 
-            // then
-            verify(valueOperations).set(
-                    eq(PREFIX_SOCIAL_VERIFIED + TEST_PHONE),
-                    eq(VERIFIED),
-                    any(Duration.class)
-            );
+            // when & then
+            assertThat(redisAuthService.isSocialPhoneVerified(TEST_PHONE)).isTrue();
         }
 
         @Test
-        @DisplayName("소셜 휴대폰 인증 여부 확인 - 인증됨")
-        void isSocialPhoneVerified_ReturnsTrue_WhenVerified() {
+        @DisplayName("소셜 휴대폰 데이터 전체 삭제 - 성공")
+        void clearSocialPhoneData_Success() {
             // given
-            when(valueOperations.get(PREFIX_SOCIAL_VERIFIED + TEST_PHONE)).thenReturn(VERIFIED);
+            when(redisTemplate.delete(KEY)).thenReturn(true);
 
             // when
-            boolean result = redisAuthService.isSocialPhoneVerified(TEST_PHONE);
+            redisAuthService.clearSocialPhoneData(TEST_PHONE);
 
             // then
-            assertThat(result).isTrue();
+            verify(redisTemplate).delete(KEY);
         }
 
         @Test
-        @DisplayName("소셜 인증 데이터 삭제 - 성공")
-        void deleteSocialVerificationData_Success() {
-            // given
-            when(redisTemplate.delete(PREFIX_SOCIAL_VERIFICATION_CODE + TEST_PHONE)).thenReturn(true);
-            when(redisTemplate.delete(PREFIX_SOCIAL_VERIFICATION_TIME + TEST_PHONE)).thenReturn(true);
-
+        @DisplayName("소셜 가입 데이터 정리 - 인증 세션과 임시 정보를 한 번의 DEL로 삭제")
+        void clearSocialSignupData_DeletesBothKeysAtOnce() {
             // when
-            redisAuthService.deleteSocialVerificationData(TEST_PHONE);
+            redisAuthService.clearSocialSignupData(TEST_PHONE, TEST_UUID);
 
             // then
-            verify(redisTemplate).delete(PREFIX_SOCIAL_VERIFICATION_CODE + TEST_PHONE);
-            verify(redisTemplate).delete(PREFIX_SOCIAL_VERIFICATION_TIME + TEST_PHONE);
+            verify(redisTemplate).delete(List.of(KEY, PREFIX_TEMP_SOCIAL + TEST_UUID));
+            verify(redisTemplate, never()).delete(anyString());
         }
 
         @Test
-        @DisplayName("소셜 휴대폰 데이터 전체 삭제 - 성공")
-        void clearSocialPhoneData_Success() {
-            // given
-            when(redisTemplate.delete(anyString())).thenReturn(true);
-
+        @DisplayName("소셜 가입 데이터 정리 - tempUuid가 없으면 인증 세션만 삭제")
+        void clearSocialSignupData_DeletesSessionOnly_WhenNoTempUuid() {
             // when
-            redisAuthService.clearSocialPhoneData(TEST_PHONE);
+            redisAuthService.clearSocialSignupData(TEST_PHONE, null);
 
             // then
-            verify(redisTemplate).delete(PREFIX_SOCIAL_VERIFIED + TEST_PHONE);
-            verify(redisTemplate).delete(PREFIX_SOCIAL_PROVIDER + TEST_PHONE);
-            verify(redisTemplate).delete(PREFIX_SOCIAL_ID + TEST_PHONE);
-            verify(redisTemplate).delete(PREFIX_SOCIAL_TEMP_UUID + TEST_PHONE);
+            verify(redisTemplate).delete(KEY);
         }
     }
 
@@ -350,119 +326,102 @@ class RedisAuthServiceTest {
     @DisplayName("소셜 임시 정보 관리 테스트")
     class TempSocialInfoTests {
 
+        private static final String KEY = PREFIX_TEMP_SOCIAL + TEST_UUID;
+
         @Test
         @DisplayName("임시 소셜 정보 저장 - RefreshToken 포함 성공")
         void saveTempSocialInfo_Success_WithRefreshToken() {
-            // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
-
             // when
             redisAuthService.saveTempSocialInfo(TEST_UUID, TEST_PROVIDER, TEST_SOCIAL_ID, TEST_REFRESH_TOKEN);
 
             // then
-            verify(valueOperations).set(
-                    eq(PREFIX_TEMP_SOCIAL_PROVIDER + TEST_UUID),
-                    eq(TEST_PROVIDER),
-                    any(Duration.class)
-            );
-            verify(valueOperations).set(
-                    eq(PREFIX_TEMP_SOCIAL_ID + TEST_UUID),
-                    eq(TEST_SOCIAL_ID),
-                    any(Duration.class)
-            );
-            verify(valueOperations).set(
-                    eq(PREFIX_TEMP_SOCIAL_REFRESH + TEST_UUID),
-                    eq(TEST_REFRESH_TOKEN),
-                    any(Duration.class)
-            );
+            runPipeline();
+            verify(hashOperations).putAll(KEY, Map.of(
+                    FIELD_PROVIDER, TEST_PROVIDER,
+                    FIELD_SOCIAL_ID, TEST_SOCIAL_ID,
+                    FIELD_REFRESH_TOKEN, TEST_REFRESH_TOKEN
+            ));
+            verify(redisTemplate).expire(KEY, Duration.ofMinutes(VERIFICATION_TIME));
         }
 
         @Test
         @DisplayName("임시 소셜 정보 저장 - RefreshToken 없이 성공")
         void saveTempSocialInfo_Success_WithoutRefreshToken() {
-            // given
-            doNothing().when(valueOperations).set(anyString(), anyString(), any(Duration.class));
-
             // when
             redisAuthService.saveTempSocialInfo(TEST_UUID, TEST_PROVIDER, TEST_SOCIAL_ID, null);
 
             // then
-            verify(valueOperations).set(
-                    eq(PREFIX_TEMP_SOCIAL_PROVIDER + TEST_UUID),
-                    eq(TEST_PROVIDER),
-                    any(Duration.class)
-            );
-            verify(valueOperations).set(
-                    eq(PREFIX_TEMP_SOCIAL_ID + TEST_UUID),
-                    eq(TEST_SOCIAL_ID),
-                    any(Duration.class)
-            );
-            verify(valueOperations, never()).set(
-                    contains(PREFIX_TEMP_SOCIAL_REFRESH),
-                    anyString(),
-                    any(Duration.class)
-            );
+            runPipeline();
+            verify(hashOperations).putAll(KEY, Map.of(
+                    FIELD_PROVIDER, TEST_PROVIDER,
+                    FIELD_SOCIAL_ID, TEST_SOCIAL_ID
+            ));
         }
 
         @Test
-        @DisplayName("임시 provider 조회 - 성공")
-        void getTempSocialProvider_Success() {
+        @DisplayName("임시 소셜 정보 조회 - 한 번의 HMGET으로 성공")
+        void getTempSocialInfo_Success() {
             // given
-            when(valueOperations.get(PREFIX_TEMP_SOCIAL_PROVIDER + TEST_UUID)).thenReturn(TEST_PROVIDER);
+            when(hashOperations.multiGet(KEY, List.of(FIELD_PROVIDER, FIELD_SOCIAL_ID, FIELD_REFRESH_TOKEN)))
+                    .thenReturn(List.of(TEST_PROVIDER, TEST_SOCIAL_ID, TEST_REFRESH_TOKEN));
 
             // when
-            Optional<String> result = redisAuthService.getTempSocialProvider(TEST_UUID);
+            Optional<TempSocialInfo> result = redisAuthService.getTempSocialInfo(TEST_UUID);
 
             // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_PROVIDER);
+            assertThat(result).contains(new TempSocialInfo(TEST_PROVIDER, TEST_SOCIAL_ID, TEST_REFRESH_TOKEN));
         }
 
         @Test
-        @DisplayName("임시 소셜 ID 조회 - 성공")
-        void getTempSocialId_Success() {
+        @DisplayName("임시 소셜 정보 조회 - 만료되었으면 빈 값 반환")
+        void getTempSocialInfo_ReturnsEmpty_WhenExpired() {
             // given
-            when(valueOperations.get(PREFIX_TEMP_SOCIAL_ID + TEST_UUID)).thenReturn(TEST_SOCIAL_ID);
+            when(hashOperations.multiGet(KEY, List.of(FIELD_PROVIDER, FIELD_SOCIAL_ID, FIELD_REFRESH_TOKEN)))
+                    .thenReturn(Arrays.asList(null, null, null));
 
-            // when
-            Optional<String> result = redisAuthService.getTempSocialId(TEST_UUID);
+            // when & then
+            assertThat(redisAuthService.getTempSocialInfo(TEST_UUID)).isEmpty();
+        }
 
-            // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_SOCIAL_ID);
+        @Test
+        @DisplayName("임시 소셜 정보 조회 - socialId가 없으면 빈 값 반환")
+        void getTempSocialInfo_ReturnsEmpty_WhenSocialIdMissing() {
+            // given
+            when(hashOperations.multiGet(KEY, List.of(FIELD_PROVIDER, FIELD_SOCIAL_ID, FIELD_REFRESH_TOKEN)))
+                    .thenReturn(Arrays.asList(TEST_PROVIDER, null, null));
+
+            // when & then
+            assertThat(redisAuthService.getTempSocialInfo(TEST_UUID)).isEmpty();
         }
 
         @Test
         @DisplayName("임시 RefreshToken 조회 - 성공")
         void getTempSocialRefreshToken_Success() {
             // given
-            when(valueOperations.get(PREFIX_TEMP_SOCIAL_REFRESH + TEST_UUID)).thenReturn(TEST_REFRESH_TOKEN);
+            when(hashOperations.get(KEY, FIELD_REFRESH_TOKEN)).thenReturn(TEST_REFRESH_TOKEN);
 
             // when
             Optional<String> result = redisAuthService.getTempSocialRefreshToken(TEST_UUID);
 
             // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_REFRESH_TOKEN);
+            assertThat(result).contains(TEST_REFRESH_TOKEN);
         }
 
         @Test
         @DisplayName("임시 소셜 정보 삭제 - 성공")
         void deleteTempSocialInfo_Success() {
             // given
-            when(redisTemplate.delete(anyString())).thenReturn(true);
+            when(redisTemplate.delete(KEY)).thenReturn(true);
 
             // when
             redisAuthService.deleteTempSocialInfo(TEST_UUID);
 
             // then
-            verify(redisTemplate).delete(PREFIX_TEMP_SOCIAL_PROVIDER + TEST_UUID);
-            verify(redisTemplate).delete(PREFIX_TEMP_SOCIAL_ID + TEST_UUID);
-            verify(redisTemplate).delete(PREFIX_TEMP_SOCIAL_REFRESH + TEST_UUID);
+            verify(redisTemplate).delete(KEY);
         }
 
         @Test
-        @DisplayName("임시 소셜 정보 TTL 연장 - 성공")
+        @DisplayName("임시 소셜 정보 TTL 연장 - Hash 키 하나만 연장")
         void extendTempSocialInfoTTL_Success() {
             // given
             when(redisTemplate.expire(anyString(), any(Duration.class))).thenReturn(true);
@@ -471,9 +430,74 @@ class RedisAuthServiceTest {
             redisAuthService.extendTempSocialInfoTTL(TEST_UUID);
 
             // then
-            verify(redisTemplate).expire(eq(PREFIX_TEMP_SOCIAL_PROVIDER + TEST_UUID), any(Duration.class));
-            verify(redisTemplate).expire(eq(PREFIX_TEMP_SOCIAL_ID + TEST_UUID), any(Duration.class));
-            verify(redisTemplate).expire(eq(PREFIX_TEMP_SOCIAL_REFRESH + TEST_UUID), any(Duration.class));
+            verify(redisTemplate, times(1)).expire(eq(KEY), any(Duration.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("수신한 인증 문자 색인 테스트")
+    class InboundVerificationTests {
+
+        private static final String KEY = PREFIX_INBOUND_VERIFICATION + TEST_PHONE;
+        private static final Instant RECEIVED_AT = Instant.parse("2025-11-10T01:00:00Z");
+
+        @Test
+        @DisplayName("색인 저장 - 코드별 수신 시각과 TTL을 한 번의 파이프라인으로 저장")
+        void saveInboundVerification_Success() {
+            // when
+            redisAuthService.saveInboundVerification(new InboundVerificationMail(TEST_PHONE, TEST_CODE, RECEIVED_AT));
+
+            // then
+            runPipeline();
+            verify(hashOperations).putAll(KEY, Map.of(TEST_CODE, String.valueOf(RECEIVED_AT.toEpochMilli())));
+            verify(redisTemplate).expire(KEY, Duration.ofMinutes(VERIFICATION_TIME));
+        }
+
+        @Test
+        @DisplayName("색인 조회 - 수신 시각 반환")
+        void getInboundVerificationReceivedAt_Success() {
+            // given
+            when(hashOperations.get(KEY, TEST_CODE)).thenReturn(String.valueOf(RECEIVED_AT.toEpochMilli()));
+
+            // when
+            Optional<Instant> result = redisAuthService.getInboundVerificationReceivedAt(TEST_PHONE, TEST_CODE);
+
+            // then
+            assertThat(result).contains(RECEIVED_AT);
+        }
+
+        @Test
+        @DisplayName("색인 조회 - 받은 적 없는 코드면 빈 Optional 반환")
+        void getInboundVerificationReceivedAt_ReturnsEmpty_WhenNotExists() {
+            // given
+            when(hashOperations.get(KEY, TEST_CODE)).thenReturn(null);
+
+            // when & then
+            assertThat(redisAuthService.getInboundVerificationReceivedAt(TEST_PHONE, TEST_CODE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("리스 연장 - 리스를 가진 노드면 대기 표시와 함께 연장")
+        void renewVerificationMailLease_Success() {
+            // given
+            when(redisTemplate.execute(RedisAuthService.RENEW_LEASE_SCRIPT,
+                    List.of(VERIFICATION_MAIL_LEASE, VERIFICATION_MAIL_LISTENING), "owner", "30000", "1"))
+                    .thenReturn(1L);
+
+            // when & then
+            assertThat(redisAuthService.renewVerificationMailLease("owner", Duration.ofSeconds(30), true)).isTrue();
+        }
+
+        @Test
+        @DisplayName("리스 연장 - 다른 노드가 리스를 가져갔으면 실패")
+        void renewVerificationMailLease_ReturnsFalse_WhenTakenOver() {
+            // given
+            when(redisTemplate.execute(RedisAuthService.RENEW_LEASE_SCRIPT,
+                    List.of(VERIFICATION_MAIL_LEASE, VERIFICATION_MAIL_LISTENING), "owner", "30000", "0"))
+                    .thenReturn(0L);
+
+            // when & then
+            assertThat(redisAuthService.renewVerificationMailLease("owner", Duration.ofSeconds(30), false)).isFalse();
         }
     }
 
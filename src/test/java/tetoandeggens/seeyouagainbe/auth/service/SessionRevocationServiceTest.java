@@ -0,0 +1,73 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import tetoandeggens.seeyouagainbe.auth.event.MemberSessionRevokedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionRevocationService 단위 테스트")
+class SessionRevocationServiceTest {
+
+    private static final String TEST_UUID = "test-uuid-1234";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private SessionRevocationService sessionRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        sessionRevocationService = new SessionRevocationService(redisTemplate,
+                new ChannelTopic("session-revocation"), applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("세션 폐기를 이 서버에 바로 반영하고 다른 서버에 전파한다")
+    void revoke_PublishesLocallyAndBroadcasts() {
+        // when
+        sessionRevocationService.revoke(TEST_UUID);
+
+        // then
+        verify(applicationEventPublisher).publishEvent(new MemberSessionRevokedEvent(TEST_UUID));
+        verify(redisTemplate).convertAndSend("session-revocation", TEST_UUID);
+    }
+
+    @Test
+    @DisplayName("전파에 실패해도 이 서버의 세션은 폐기한다")
+    void revoke_PublishesLocally_WhenBroadcastFails() {
+        // given
+        when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        sessionRevocationService.revoke(TEST_UUID);
+
+        // then
+        verify(applicationEventPublisher).publishEvent(new MemberSessionRevokedEvent(TEST_UUID));
+    }
+
+    @Test
+    @DisplayName("구독으로 받은 세션 폐기를 로컬 이벤트로 발행한다")
+    void revokeLocal_PublishesEvent() {
+        // when
+        sessionRevocationService.revokeLocal(TEST_UUID);
+
+        // then
+        verify(applicationEventPublisher).publishEvent(new MemberSessionRevokedEvent(TEST_UUID));
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -18,7 +18,7 @@ public class TestEmailService extends EmailService{
     private static final int VERIFICATION_TIME_MINUTES = 10;
 
     public TestEmailService() {
-        super(null, null);
+        super(null, null, null, null, null);
     }
 
     @Override
@@ -0,0 +1,157 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static tetoandeggens.seeyouagainbe.global.constants.AuthVerificationConstants.*;
+
+import java.time.Instant;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.global.config.StatelessAuthProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService 단위 테스트")
+class TokenRevocationServiceTest {
+
+    private static final String TEST_UUID = "test-uuid-1234";
+    private static final long ACCESS_TOKEN_EXPIRATION_MS = 3600000L;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private StatelessAuthProperties statelessAuthProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        statelessAuthProperties = new StatelessAuthProperties();
+        statelessAuthProperties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationService = new TokenRevocationService(redisTemplate, new ChannelTopic("token-revocation"),
+                statelessAuthProperties, ACCESS_TOKEN_EXPIRATION_MS, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("폐기하면 Redis에 폐기 시각을 기록하고 다른 노드에 알린다")
+    void revoke_RecordsAndPublishes() {
+        // when
+        tokenRevocationService.revoke(TEST_UUID);
+
+        // then
+        verify(zSetOperations).add(eq(REVOKED_UUIDS_KEY), eq(TEST_UUID), anyDouble());
+        verify(redisTemplate).convertAndSend("token-revocation", TEST_UUID);
+    }
+
+    @Test
+    @DisplayName("필터에 없는 uuid는 Redis를 조회하지 않고 유효로 판단한다")
+    void isRevoked_SkipsRedis_WhenNotInFilter() {
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(TEST_UUID, Instant.now());
+
+        // then
+        assertThat(revoked).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("폐기 전에 발급된 토큰은 폐기된 것으로 확인한다")
+    void isRevoked_ConfirmsTokenIssuedBeforeRevocation() {
+        // given
+        long revokedAt = System.currentTimeMillis();
+        tokenRevocationService.addToFilter(TEST_UUID);
+        when(zSetOperations.score(REVOKED_UUIDS_KEY, TEST_UUID)).thenReturn((double) revokedAt);
+
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(TEST_UUID, Instant.ofEpochMilli(revokedAt - 60_000L));
+
+        // then
+        assertThat(revoked).isTrue();
+        assertThat(meterRegistry.get("auth.revocation.confirmed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("폐기 이후 다시 발급된 토큰은 유효하다")
+    void isRevoked_AllowsTokenIssuedAfterRevocation() {
+        // given
+        long revokedAt = System.currentTimeMillis() - 60_000L;
+        tokenRevocationService.addToFilter(TEST_UUID);
+        when(zSetOperations.score(REVOKED_UUIDS_KEY, TEST_UUID)).thenReturn((double) revokedAt);
+
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(TEST_UUID, Instant.now());
+
+        // then
+        assertThat(revoked).isFalse();
+        assertThat(meterRegistry.get("auth.revocation.filter-hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("필터 오탐이면 Redis 확인 후 유효로 판단한다")
+    void isRevoked_ReturnsFalse_OnFilterFalsePositive() {
+        // given
+        tokenRevocationService.addToFilter(TEST_UUID);
+        when(zSetOperations.score(REVOKED_UUIDS_KEY, TEST_UUID)).thenReturn(null);
+
+        // when & then
+        assertThat(tokenRevocationService.isRevoked(TEST_UUID, Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 확인할 수 없으면 폐기된 것으로 본다")
+    void isRevoked_ReturnsTrue_WhenRedisFails() {
+        // given
+        tokenRevocationService.addToFilter(TEST_UUID);
+        when(zSetOperations.score(REVOKED_UUIDS_KEY, TEST_UUID))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(tokenRevocationService.isRevoked(TEST_UUID, Instant.now())).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터 재생성 시 유효 기간이 지난 폐기 기록을 정리하고 남은 목록으로 필터를 만든다")
+    void rebuildFilter_PrunesAndLoads() {
+        // given
+        when(zSetOperations.range(REVOKED_UUIDS_KEY, 0, -1)).thenReturn(Set.of(TEST_UUID));
+        when(zSetOperations.score(REVOKED_UUIDS_KEY, TEST_UUID)).thenReturn((double) System.currentTimeMillis());
+
+        // when
+        tokenRevocationService.rebuildFilter();
+
+        // then
+        verify(zSetOperations).removeRangeByScore(eq(REVOKED_UUIDS_KEY), eq(0.0), anyDouble());
+        assertThat(tokenRevocationService.isRevoked(TEST_UUID, Instant.EPOCH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기능을 끄면 폐기를 기록하지 않는다")
+    void revoke_DoesNothing_WhenDisabled() {
+        // given
+        statelessAuthProperties.setEnabled(false);
+
+        // when
+        tokenRevocationService.revoke(TEST_UUID);
+        tokenRevocationService.rebuildFilter();
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+}
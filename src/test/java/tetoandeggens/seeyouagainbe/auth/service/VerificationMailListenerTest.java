@@ -0,0 +1,184 @@
+package tetoandeggens.seeyouagainbe.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.FetchProfile;
+import jakarta.mail.Folder;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.search.SearchTerm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import tetoandeggens.seeyouagainbe.auth.dto.ImapCredentials;
+import tetoandeggens.seeyouagainbe.auth.dto.InboundVerificationMail;
+import tetoandeggens.seeyouagainbe.global.config.VerificationMailProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerificationMailListener 단위 테스트")
+class VerificationMailListenerTest {
+
+    private static final String TEST_PHONE = "01012345678";
+    private static final String OTHER_PHONE = "01087654321";
+    private static final String TEST_CODE = "123456";
+    private static final Instant SENT_AT = Instant.parse("2025-11-10T01:00:00Z");
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+
+    private final Session session = Session.getInstance(new Properties());
+
+    @Mock
+    private ImapCredentials imapCredentials;
+
+    @Mock
+    private RedisAuthService redisAuthService;
+
+    @Mock
+    private Folder folder;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerificationMailListener verificationMailListener;
+
+    @BeforeEach
+    void setUp() {
+        VerificationMailProperties verificationMailProperties = new VerificationMailProperties();
+        verificationMailProperties.setLeaseTtl(LEASE_TTL);
+        meterRegistry = new SimpleMeterRegistry();
+        verificationMailListener = new VerificationMailListener(new Properties(), imapCredentials, redisAuthService,
+                verificationMailProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verificationMailListener.stop();
+    }
+
+    @Test
+    @DisplayName("휴대폰 번호로 온 인증 문자만 색인하고 색인 수를 메트릭에 남긴다")
+    void index_SavesVerificationMails() throws Exception {
+        // given
+        Message verification = createMessage(TEST_PHONE + "@lguplus.co.kr", "인증번호 " + TEST_CODE);
+        Message newsletter = createMessage("newsletter@example.com", "쿠폰 번호 " + TEST_CODE);
+
+        // when
+        verificationMailListener.index(verification, newsletter);
+
+        // then
+        verify(redisAuthService).saveInboundVerification(new InboundVerificationMail(TEST_PHONE, TEST_CODE, SENT_AT));
+        verify(redisAuthService, times(1)).saveInboundVerification(any());
+        assertThat(meterRegistry.get("auth.verification-mail.indexed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 메일의 색인에 실패해도 나머지 메일은 색인한다")
+    void index_ContinuesAfterFailure() throws Exception {
+        // given
+        Message first = createMessage(TEST_PHONE + "@lguplus.co.kr", "인증번호 " + TEST_CODE);
+        Message second = createMessage(OTHER_PHONE + "@lguplus.co.kr", "인증번호 " + TEST_CODE);
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(redisAuthService).saveInboundVerification(any());
+
+        // when
+        verificationMailListener.index(first, second);
+
+        // then
+        verify(redisAuthService).saveInboundVerification(new InboundVerificationMail(OTHER_PHONE, TEST_CODE, SENT_AT));
+        assertThat(meterRegistry.get("auth.verification-mail.indexed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연결 직후 인증 유효 시간 안에 받은 메일을 미리 색인한다")
+    void backfill_IndexesRecentMails() throws Exception {
+        // given
+        Message[] recent = {createMessage(TEST_PHONE + "@lguplus.co.kr", "인증번호 " + TEST_CODE)};
+        when(folder.search(any(SearchTerm.class))).thenReturn(recent);
+
+        // when
+        verificationMailListener.backfill(folder);
+
+        // then
+        verify(folder).fetch(eq(recent), any(FetchProfile.class));
+        verify(redisAuthService).saveInboundVerification(new InboundVerificationMail(TEST_PHONE, TEST_CODE, SENT_AT));
+    }
+
+    @Test
+    @DisplayName("리스를 얻으면 주기마다 연장하고, 연결 전에는 수신 대기 중으로 표시하지 않는다")
+    void renewLease_RenewsWhileHeld() {
+        // given
+        when(redisAuthService.acquireVerificationMailLease(anyString(), eq(LEASE_TTL))).thenReturn(true);
+        when(redisAuthService.renewVerificationMailLease(anyString(), eq(LEASE_TTL), eq(false))).thenReturn(true);
+
+        // when
+        assertThat(verificationMailListener.acquireLease()).isTrue();
+        verificationMailListener.renewLease();
+        verificationMailListener.renewLease();
+
+        // then
+        verify(redisAuthService, times(2)).renewVerificationMailLease(anyString(), eq(LEASE_TTL), eq(false));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 가져가면 더 이상 연장하지 않는다")
+    void renewLease_StopsRenewing_WhenLeaseLost() {
+        // given
+        when(redisAuthService.acquireVerificationMailLease(anyString(), eq(LEASE_TTL))).thenReturn(true);
+        when(redisAuthService.renewVerificationMailLease(anyString(), eq(LEASE_TTL), anyBoolean())).thenReturn(false);
+        verificationMailListener.acquireLease();
+
+        // when
+        verificationMailListener.renewLease();
+        verificationMailListener.renewLease();
+
+        // then
+        verify(redisAuthService, times(1)).renewVerificationMailLease(anyString(), any(), anyBoolean());
+        assertThat(verificationMailListener.isListening()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis를 쓸 수 없으면 리스를 얻지 못한 것으로 보고 연장하지 않는다")
+    void acquireLease_ReturnsFalse_WhenRedisFails() {
+        // given
+        when(redisAuthService.acquireVerificationMailLease(anyString(), eq(LEASE_TTL)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        boolean acquired = verificationMailListener.acquireLease();
+        verificationMailListener.renewLease();
+
+        // then
+        assertThat(acquired).isFalse();
+        verify(redisAuthService, never()).renewVerificationMailLease(anyString(), any(), anyBoolean());
+    }
+
+    private Message createMessage(String from, String text) throws MessagingException, IOException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(from));
+        message.setRecipients(Message.RecipientType.TO, "test@seeyouagain.com");
+        message.setSentDate(Date.from(SENT_AT));
+        message.setText(text, StandardCharsets.UTF_8.name());
+        message.saveChanges();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        return new MimeMessage(session, new ByteArrayInputStream(out.toByteArray()));
+    }
+}
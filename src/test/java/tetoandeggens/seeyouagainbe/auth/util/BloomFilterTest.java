@@ -0,0 +1,62 @@
+package tetoandeggens.seeyouagainbe.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 유틸 클래스 테스트")
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+    void mightContain_NoFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        String[] values = IntStream.range(0, INSERTIONS)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toArray(String[]::new);
+
+        // when
+        for (String value : values) {
+            filter.put(value);
+        }
+
+        // then
+        for (String value : values) {
+            assertThat(filter.mightContain(value)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정한 값 근처로 유지된다")
+    void mightContain_FalsePositiveRateWithinBound() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    @DisplayName("비어 있는 필터는 어떤 값도 포함하지 않는다")
+    void mightContain_EmptyFilter() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        // when & then
+        assertThat(filter.mightContain("test-uuid")).isFalse();
+    }
+}
@@ -0,0 +1,113 @@
+package tetoandeggens.seeyouagainbe.auth.util;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tetoandeggens.seeyouagainbe.auth.dto.InboundVerificationMail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerificationMailParser 유틸 클래스 테스트")
+class VerificationMailParserTest {
+
+    private static final String TEST_PHONE = "01012345678";
+    private static final String TEST_CODE = "123456";
+    private static final Instant SENT_AT = Instant.parse("2025-11-10T01:00:00Z");
+
+    private final Session session = Session.getInstance(new Properties());
+
+    @Test
+    @DisplayName("LG U+ 단순 텍스트 본문에서 보낸 번호와 인증 코드를 꺼낸다")
+    void parse_PlainText() throws Exception {
+        // given
+        MimeMessage message = createMessage(TEST_PHONE + "@lguplus.co.kr");
+        message.setText("[SeeYouAgain] 인증번호 " + TEST_CODE, StandardCharsets.UTF_8.name());
+
+        // when
+        Optional<InboundVerificationMail> result = VerificationMailParser.parse(reload(message));
+
+        // then
+        assertThat(result).contains(new InboundVerificationMail(TEST_PHONE, TEST_CODE, SENT_AT));
+    }
+
+    @Test
+    @DisplayName("KT multipart의 .txt 첨부에서 인증 코드를 꺼낸다")
+    void parse_MultipartTextAttachment() throws Exception {
+        // given
+        MimeMessage message = createMessage("\"KT\" <" + TEST_PHONE + "@ktfmms.magicn.com>");
+        MimeBodyPart body = new MimeBodyPart();
+        body.setText("", StandardCharsets.UTF_8.name());
+        MimeBodyPart attachment = new MimeBodyPart();
+        attachment.setText("인증번호 " + TEST_CODE, StandardCharsets.UTF_8.name());
+        attachment.setFileName("text_0.TXT");
+        message.setContent(new MimeMultipart(body, attachment));
+
+        // when
+        Optional<InboundVerificationMail> result = VerificationMailParser.parse(reload(message));
+
+        // then
+        assertThat(result).map(InboundVerificationMail::phone).contains(TEST_PHONE);
+        assertThat(result).map(InboundVerificationMail::code).contains(TEST_CODE);
+    }
+
+    @Test
+    @DisplayName("휴대폰 번호로 보낸 메일이 아니면 무시한다")
+    void parse_IgnoresNonPhoneSender() throws Exception {
+        // given
+        MimeMessage message = createMessage("newsletter@example.com");
+        message.setText("쿠폰 번호 " + TEST_CODE, StandardCharsets.UTF_8.name());
+
+        // when & then
+        assertThat(VerificationMailParser.parse(reload(message))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("본문에 6자리 인증 코드가 없으면 무시한다")
+    void parse_IgnoresMessageWithoutCode() throws Exception {
+        // given
+        MimeMessage message = createMessage(TEST_PHONE + "@lguplus.co.kr");
+        message.setText("안녕하세요 1234567890", StandardCharsets.UTF_8.name());
+
+        // when & then
+        assertThat(VerificationMailParser.parse(reload(message))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인증 코드는 단어 경계로 구분된 6자리 숫자만 추출한다")
+    void extractCode() {
+        assertThat(VerificationMailParser.extractCode("code: " + TEST_CODE + ".")).isEqualTo(TEST_CODE);
+        assertThat(VerificationMailParser.extractCode("01012345678")).isNull();
+        assertThat(VerificationMailParser.extractCode(null)).isNull();
+    }
+
+    private MimeMessage createMessage(String from) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(from));
+        message.setRecipients(Message.RecipientType.TO, "test@seeyouagain.com");
+        message.setSentDate(Date.from(SENT_AT));
+        return message;
+    }
+
+    // 메일 서버에서 받은 것처럼 직렬화 후 다시 읽어 헤더와 multipart 구조를 확정함
+    private MimeMessage reload(MimeMessage message) throws MessagingException, IOException {
+        message.saveChanges();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        return new MimeMessage(session, new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -25,6 +25,7 @@ import tetoandeggens.seeyouagainbe.board.dto.response.*;
 import tetoandeggens.seeyouagainbe.board.service.BoardService;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.global.ControllerTest;
 import tetoandeggens.seeyouagainbe.global.exception.CustomException;
@@ -212,10 +213,10 @@ class BoardControllerTest extends ControllerTest {
 				.tags(List.of("강아지", "실종"))
 				.build();
 
-			CursorPage<BoardResponse, Long> cursorPage = CursorPage.of(
+			CursorPage<BoardResponse, String> cursorPage = CursorPage.of(
 				List.of(boardResponse),
 				10,
-				BoardResponse::boardId
+				board -> KeysetCursor.encode(board.createdAt(), board.boardId())
 			);
 
 			BoardListResponse response = BoardListResponse.of(1, cursorPage);
@@ -252,7 +253,7 @@ class BoardControllerTest extends ControllerTest {
 			// given
 			BoardListResponse response = BoardListResponse.of(
 				1,
-				CursorPage.of(List.of(), 10, BoardResponse::boardId)
+				CursorPage.of(List.of(), 10, board -> KeysetCursor.encode(board.createdAt(), board.boardId()))
 			);
 
 			given(boardService.getAnimalBoardList(
@@ -289,7 +290,7 @@ class BoardControllerTest extends ControllerTest {
 			// given
 			BoardListResponse response = BoardListResponse.of(
 				0,
-				CursorPage.of(List.of(), 10, BoardResponse::boardId)
+				CursorPage.of(List.of(), 10, board -> KeysetCursor.encode(board.createdAt(), board.boardId()))
 			);
 
 			given(boardService.getAnimalBoardList(
@@ -322,7 +323,7 @@ class BoardControllerTest extends ControllerTest {
 			// given
 			BoardListResponse response = BoardListResponse.of(
 				0,
-				CursorPage.of(List.of(), 10, BoardResponse::boardId)
+				CursorPage.of(List.of(), 10, board -> KeysetCursor.encode(board.createdAt(), board.boardId()))
 			);
 
 			given(boardService.getAnimalBoardList(
@@ -342,7 +343,7 @@ class BoardControllerTest extends ControllerTest {
 
 			// when & then
 			mockMvc.perform(get("/board/list")
-					.param("cursorId", "10")
+					.param("cursor", KeysetCursor.encode(LocalDateTime.of(2025, 1, 1, 0, 0), 10L))
 					.param("size", "10")
 					.param("type", "MISSING"))
 				.andExpect(status().isOk())
@@ -630,10 +631,10 @@ class BoardControllerTest extends ControllerTest {
 					.profile("https://profile.com/image.jpg")
 					.build();
 
-			CursorPage<MyBoardResponse, Long> cursorPage = CursorPage.of(
+			CursorPage<MyBoardResponse, String> cursorPage = CursorPage.of(
 					List.of(myBoardResponse),
 					10,
-					MyBoardResponse::boardId
+					board -> KeysetCursor.encode(board.createdAt(), board.boardId())
 			);
 
 			MyBoardListResponse response = MyBoardListResponse.of(1, cursorPage);
@@ -669,7 +670,7 @@ class BoardControllerTest extends ControllerTest {
 			// given
 			MyBoardListResponse response = MyBoardListResponse.of(
 					0,
-					CursorPage.of(List.of(), 10, MyBoardResponse::boardId)
+					CursorPage.of(List.of(), 10, board -> KeysetCursor.encode(board.createdAt(), board.boardId()))
 			);
 
 			given(boardService.getMyBoardList(
@@ -699,7 +700,7 @@ class BoardControllerTest extends ControllerTest {
 			// given
 			MyBoardListResponse response = MyBoardListResponse.of(
 					0,
-					CursorPage.of(List.of(), 10, MyBoardResponse::boardId)
+					CursorPage.of(List.of(), 10, board -> KeysetCursor.encode(board.createdAt(), board.boardId()))
 			);
 
 			given(boardService.getMyBoardList(
@@ -710,7 +711,7 @@ class BoardControllerTest extends ControllerTest {
 
 			// when & then
 			mockMvc.perform(get("/board/my-list")
-							.param("cursorId", "10")
+							.param("cursor", KeysetCursor.encode(LocalDateTime.of(2025, 1, 1, 0, 0), 10L))
 							.param("size", "10")
 							.with(mockUser(1L)))
 					.andExpect(status().isOk())
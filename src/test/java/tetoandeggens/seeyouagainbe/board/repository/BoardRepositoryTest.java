@@ -16,6 +16,7 @@ import tetoandeggens.seeyouagainbe.animal.entity.Animal;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalLocation;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalS3Profile;
 import tetoandeggens.seeyouagainbe.animal.entity.AnimalType;
+import tetoandeggens.seeyouagainbe.animal.entity.BookMark;
 import tetoandeggens.seeyouagainbe.animal.entity.BreedType;
 import tetoandeggens.seeyouagainbe.animal.entity.NeuteredState;
 import tetoandeggens.seeyouagainbe.animal.entity.Sex;
@@ -24,6 +25,7 @@ import tetoandeggens.seeyouagainbe.board.dto.response.MyBoardResponse;
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.board.entity.BoardTag;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.common.enums.ContentType;
 import tetoandeggens.seeyouagainbe.global.RepositoryTest;
@@ -320,6 +322,75 @@ class BoardRepositoryTest extends RepositoryTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("북마크한 게시글 id 일괄 조회 테스트")
+	class FindBookmarkedBoardIdsTests {
+
+		@Test
+		@DisplayName("북마크한 게시글 id 조회 - 회원이 북마크한 동물의 게시글만 반환")
+		void findBookmarkedBoardIds_Success() {
+			// given
+			Board bookmarkedBoard = createBoard("북마크한 게시글", ContentType.MISSING);
+			Board deletedBookmarkBoard = createBoard("북마크 해제한 게시글", ContentType.MISSING);
+			Board otherBoard = createBoard("다른 게시글", ContentType.WITNESS);
+			entityManager.persist(bookmarkedBoard);
+			entityManager.persist(deletedBookmarkBoard);
+			entityManager.persist(otherBoard);
+
+			entityManager.persist(BookMark.builder()
+				.member(testMember)
+				.animal(bookmarkedBoard.getAnimal())
+				.build());
+			BookMark deletedBookMark = BookMark.builder()
+				.member(testMember)
+				.animal(deletedBookmarkBoard.getAnimal())
+				.build();
+			deletedBookMark.toggleDelete();
+			entityManager.persist(deletedBookMark);
+
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			List<Long> result = boardRepository.findBookmarkedBoardIds(
+				List.of(bookmarkedBoard.getId(), deletedBookmarkBoard.getId(), otherBoard.getId()),
+				testMember.getId()
+			);
+
+			// then
+			assertThat(result).containsExactly(bookmarkedBoard.getId());
+		}
+
+		@Test
+		@DisplayName("북마크한 게시글 id 조회 - 다른 회원의 북마크는 포함되지 않음")
+		void findBookmarkedBoardIds_ExcludesOtherMembersBookmarks() {
+			// given
+			Member otherMember = Member.builder()
+				.loginId("otheruser")
+				.password("password")
+				.nickName("다른유저")
+				.phoneNumber("010-9876-5432")
+				.build();
+			entityManager.persist(otherMember);
+
+			Board board = createBoard("게시글", ContentType.MISSING);
+			entityManager.persist(board);
+			entityManager.persist(BookMark.builder()
+				.member(otherMember)
+				.animal(board.getAnimal())
+				.build());
+
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			List<Long> result = boardRepository.findBookmarkedBoardIds(List.of(board.getId()), testMember.getId());
+
+			// then
+			assertThat(result).isEmpty();
+		}
+	}
+
 	@Nested
 	@DisplayName("내가 작성한 게시글 목록 조회 테스트")
 	class GetMyBoardsTests {
@@ -424,11 +495,12 @@ class BoardRepositoryTest extends RepositoryTest {
 					testMember.getId()
 			);
 
-			assertThat(firstPage).hasSizeLessThanOrEqualTo(3);
-			Long cursorId = firstPage.get(1).boardId();
+			assertThat(firstPage).hasSize(3);
+			MyBoardResponse nextFirst = firstPage.get(2);
+			String cursor = KeysetCursor.encode(nextFirst.createdAt(), nextFirst.boardId());
 
 			// when
-			CursorPageRequest secondRequest = new CursorPageRequest(cursorId, 2);
+			CursorPageRequest secondRequest = new CursorPageRequest(null, cursor, 2);
 			List<MyBoardResponse> secondPage = boardRepository.getMyBoards(
 					secondRequest,
 					SortDirection.LATEST,
@@ -437,7 +509,10 @@ class BoardRepositoryTest extends RepositoryTest {
 
 			// then
 			assertThat(secondPage).isNotEmpty();
-			assertThat(secondPage).allMatch(board -> !board.boardId().equals(cursorId));
+			assertThat(secondPage.get(0).boardId()).isEqualTo(nextFirst.boardId());
+			assertThat(secondPage)
+				.extracting(MyBoardResponse::boardId)
+				.doesNotContain(firstPage.get(0).boardId(), firstPage.get(1).boardId());
 		}
 
 		@Test
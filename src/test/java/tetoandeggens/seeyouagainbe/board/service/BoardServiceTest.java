@@ -618,10 +618,10 @@ class BoardServiceTest extends ServiceTest {
 			assertThat(firstResponse.board().isHasNext()).isTrue();
 			assertThat(firstResponse.board().getNextCursor()).isNotNull();
 
-			Long cursorId = firstResponse.board().getNextCursor();
+			String cursor = firstResponse.board().getNextCursor();
 
 			// when - 두 번째 페이지
-			CursorPageRequest secondRequest = new CursorPageRequest(cursorId, 2);
+			CursorPageRequest secondRequest = new CursorPageRequest(null, cursor, 2);
 			MyBoardListResponse secondResponse = boardService.getMyBoardList(
 					secondRequest,
 					SortDirection.LATEST,
@@ -631,8 +631,13 @@ class BoardServiceTest extends ServiceTest {
 			// then - 두 번째 페이지 검증
 			assertThat(secondResponse.board().getData()).hasSize(2);
 			assertThat(secondResponse.board().isHasNext()).isTrue();  // 이제 true!
+			List<Long> firstPageIds = firstResponse.board().getData().stream()
+					.map(MyBoardResponse::boardId)
+					.toList();
 			assertThat(secondResponse.board().getData())
-					.allMatch(board -> board.boardId() < cursorId);
+					.extracting(MyBoardResponse::boardId)
+					.doesNotContainAnyElementsOf(firstPageIds)
+					.allMatch(boardId -> boardId < firstPageIds.get(1));
 		}
 
 		@Test
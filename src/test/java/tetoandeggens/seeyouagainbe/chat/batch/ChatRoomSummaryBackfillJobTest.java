@@ -0,0 +1,157 @@
+package tetoandeggens.seeyouagainbe.chat.batch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import tetoandeggens.seeyouagainbe.board.entity.Board;
+import tetoandeggens.seeyouagainbe.board.repository.BoardRepository;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.common.enums.ContentType;
+import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
+import tetoandeggens.seeyouagainbe.global.RepositoryTest;
+import tetoandeggens.seeyouagainbe.member.entity.Member;
+import tetoandeggens.seeyouagainbe.member.repository.MemberRepository;
+
+@DisplayName("채팅방 요약 백필 작업 테스트")
+class ChatRoomSummaryBackfillJobTest extends RepositoryTest {
+
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+
+	@Autowired
+	private ChatMessageRepository chatMessageRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private ChatRoomSummaryBackfillJob backfillJob;
+
+	@BeforeEach
+	void setUp() {
+		backfillJob = new ChatRoomSummaryBackfillJob(chatRoomRepository, chatMessageRepository,
+			new TransactionTemplate(transactionManager));
+	}
+
+	@Test
+	@DisplayName("청크 크기보다 많은 채팅방도 모두 메시지 기준으로 카운터와 마지막 메시지가 채워진다")
+	void backfill_AcrossChunks() {
+		// given
+		Member author = saveMember("author123", "01011111111");
+		Member first = saveMember("first123", "01022222222");
+		Member second = saveMember("second123", "01033333333");
+		Member third = saveMember("third123", "01044444444");
+		Board board = boardRepository.save(Board.builder()
+			.contentType(ContentType.MISSING)
+			.title("실종 게시글")
+			.content("찾아주세요")
+			.member(author)
+			.build());
+
+		ChatRoom firstRoom = saveChatRoom(board, first, author);
+		ChatRoom secondRoom = saveChatRoom(board, second, author);
+		ChatRoom thirdRoom = saveChatRoom(board, third, author);
+		saveMessage(firstRoom, first, author, "first message");
+		ChatMessage lastMessage = saveMessage(firstRoom, first, author, "last message");
+		saveMessage(secondRoom, author, second, "other room message");
+		entityManager.flush();
+		entityManager.createQuery("update ChatRoom c set c.senderUnreadCount = null, c.receiverUnreadCount = null, "
+				+ "c.lastMessageId = null, c.lastMessagePreview = null")
+			.executeUpdate();
+		entityManager.clear();
+
+		// when
+		int processedCount = backfillJob.backfill(2);
+		entityManager.clear();
+
+		// then
+		assertThat(processedCount).isEqualTo(3);
+		assertThat(chatRoomRepository.findById(firstRoom.getId()).orElseThrow())
+			.extracting(ChatRoom::getSenderUnreadCount, ChatRoom::getReceiverUnreadCount)
+			.containsExactly(0L, 2L);
+		assertThat(chatRoomRepository.findById(secondRoom.getId()).orElseThrow())
+			.extracting(ChatRoom::getSenderUnreadCount, ChatRoom::getReceiverUnreadCount)
+			.containsExactly(1L, 0L);
+		assertThat(chatRoomRepository.findById(thirdRoom.getId()).orElseThrow())
+			.extracting(ChatRoom::getSenderUnreadCount, ChatRoom::getReceiverUnreadCount)
+			.containsExactly(0L, 0L);
+		assertThat(chatRoomRepository.findById(firstRoom.getId()).orElseThrow())
+			.extracting(ChatRoom::getLastMessageId, ChatRoom::getLastMessagePreview)
+			.containsExactly(lastMessage.getId(), "last message");
+		assertThat(chatRoomRepository.findById(thirdRoom.getId()).orElseThrow())
+			.extracting(ChatRoom::getLastMessageId, ChatRoom::getLastMessagePreview)
+			.containsExactly(null, null);
+	}
+
+	@Test
+	@DisplayName("마지막 메시지가 길면 미리보기에는 앞 50자만 채운다")
+	void backfill_TruncatesPreview() {
+		// given
+		Member author = saveMember("author123", "01011111111");
+		Member member = saveMember("member123", "01022222222");
+		Board board = boardRepository.save(Board.builder()
+			.contentType(ContentType.MISSING)
+			.title("실종 게시글")
+			.content("찾아주세요")
+			.member(author)
+			.build());
+		ChatRoom chatRoom = saveChatRoom(board, member, author);
+		String content = "a".repeat(ChatRoom.PREVIEW_MAX_LENGTH - 1) + "😀" + "b".repeat(10);
+		saveMessage(chatRoom, member, author, content);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		backfillJob.backfill(10);
+		entityManager.clear();
+
+		// then
+		assertThat(chatRoomRepository.findById(chatRoom.getId()).orElseThrow().getLastMessagePreview())
+			.isEqualTo("a".repeat(ChatRoom.PREVIEW_MAX_LENGTH - 1) + "😀");
+	}
+
+	private Member saveMember(String loginId, String phoneNumber) {
+		return memberRepository.save(Member.builder()
+			.loginId(loginId)
+			.nickName(loginId)
+			.phoneNumber(phoneNumber)
+			.password("password")
+			.build());
+	}
+
+	private ChatRoom saveChatRoom(Board board, Member sender, Member receiver) {
+		return chatRoomRepository.save(ChatRoom.builder()
+			.board(board)
+			.sender(sender)
+			.receiver(receiver)
+			.violatedStatus(ViolatedStatus.NORMAL)
+			.build());
+	}
+
+	private ChatMessage saveMessage(ChatRoom chatRoom, Member sender, Member receiver, String content) {
+		return chatMessageRepository.save(ChatMessage.builder()
+			.chatRoom(chatRoom)
+			.sender(sender)
+			.receiver(receiver)
+			.content(content)
+			.build());
+	}
+}
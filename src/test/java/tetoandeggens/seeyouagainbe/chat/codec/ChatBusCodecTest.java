@@ -0,0 +1,154 @@
+package tetoandeggens.seeyouagainbe.chat.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+import tetoandeggens.seeyouagainbe.global.config.ChatBusProperties;
+
+@DisplayName("채팅 버스 코덱 테스트")
+class ChatBusCodecTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private final JsonChatBusCodec jsonCodec = new JsonChatBusCodec(objectMapper);
+	private final BinaryChatBusCodec binaryCodec = new BinaryChatBusCodec();
+
+	@Nested
+	@DisplayName("이진 코덱 테스트")
+	class BinaryCodecTests {
+
+		@Test
+		@DisplayName("채팅 메시지를 인코딩 후 디코딩하면 같은 값이 된다")
+		void message_RoundTrip() {
+			// given
+			ChatMessageDto message = createMessage();
+
+			// when
+			ChatMessageDto decoded = binaryCodec.decodeMessage(binaryCodec.encodeMessage(message));
+
+			// then
+			assertThat(decoded).isEqualTo(message);
+		}
+
+		@Test
+		@DisplayName("null 필드는 null로 복원된다")
+		void message_RoundTripWithNulls() {
+			// given
+			ChatMessageDto message = ChatMessageDto.builder()
+				.messageId(1L)
+				.chatRoomId(2L)
+				.build();
+
+			// when
+			ChatMessageDto decoded = binaryCodec.decodeMessage(binaryCodec.encodeMessage(message));
+
+			// then
+			assertThat(decoded).isEqualTo(message);
+		}
+
+		@Test
+		@DisplayName("읽음 알림을 인코딩 후 디코딩하면 같은 값이 된다")
+		void readNotification_RoundTrip() {
+			// given
+			ChatReadNotificationDto notification = new ChatReadNotificationDto(3L, 4_000_000_000L, 5L);
+
+			// when
+			ChatReadNotificationDto decoded = binaryCodec.decodeReadNotification(
+				binaryCodec.encodeReadNotification(notification));
+
+			// then
+			assertThat(decoded).isEqualTo(notification);
+		}
+
+		@Test
+		@DisplayName("JSON보다 페이로드가 작다")
+		void message_SmallerThanJson() {
+			// given
+			ChatMessageDto message = createMessage();
+
+			// when
+			int binarySize = binaryCodec.encodeMessage(message).length;
+			int jsonSize = jsonCodec.encodeMessage(message).length;
+
+			// then
+			assertThat(binarySize).isLessThan(jsonSize / 2);
+		}
+
+		@Test
+		@DisplayName("지원하지 않는 버전이나 잘린 페이로드는 예외가 발생한다")
+		void decode_RejectsInvalidPayload() {
+			// given
+			byte[] payload = binaryCodec.encodeMessage(createMessage());
+			byte[] unknownVersion = payload.clone();
+			unknownVersion[0] = 9;
+			byte[] truncated = Arrays.copyOf(payload, payload.length - 3);
+
+			// when & then
+			assertThatThrownBy(() -> binaryCodec.decodeMessage(unknownVersion))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> binaryCodec.decodeMessage(truncated))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("형식 판별 테스트")
+	class DelegatingCodecTests {
+
+		@Test
+		@DisplayName("설정한 형식으로 인코딩하고 수신 시에는 형식과 관계없이 디코딩한다")
+		void decode_DetectsFormat() {
+			// given
+			ChatBusProperties chatBusProperties = new ChatBusProperties();
+			chatBusProperties.setCodec(ChatBusProperties.Codec.BINARY);
+			DelegatingChatBusCodec codec = new DelegatingChatBusCodec(objectMapper, chatBusProperties);
+			ChatMessageDto message = createMessage();
+
+			// when
+			byte[] encoded = codec.encodeMessage(message);
+
+			// then
+			assertThat(encoded[0]).isEqualTo(BinaryChatBusCodec.VERSION);
+			assertThat(codec.decodeMessage(encoded)).isEqualTo(message);
+			assertThat(codec.decodeMessage(jsonCodec.encodeMessage(message))).isEqualTo(message);
+		}
+
+		@Test
+		@DisplayName("기본 설정은 기존과 같은 JSON으로 발행한다")
+		void encode_DefaultsToJson() {
+			// given
+			DelegatingChatBusCodec codec = new DelegatingChatBusCodec(objectMapper, new ChatBusProperties());
+
+			// when
+			byte[] encoded = codec.encodeReadNotification(new ChatReadNotificationDto(1L, 2L, 3L));
+
+			// then
+			assertThat((char)encoded[0]).isEqualTo('{');
+		}
+	}
+
+	private ChatMessageDto createMessage() {
+		return ChatMessageDto.builder()
+			.messageId(1_234_567L)
+			.chatRoomId(42L)
+			.senderId(7L)
+			.receiverId(8L)
+			.senderUuid("550e8400-e29b-41d4-a716-446655440000")
+			.content("이거 얼마에요?")
+			.createdAt(LocalDateTime.of(2025, 1, 15, 14, 30, 0, 123_456_000))
+			.build();
+	}
+}
@@ -22,6 +22,7 @@ import tetoandeggens.seeyouagainbe.chat.service.ChatRoomService;
 import tetoandeggens.seeyouagainbe.chat.service.ChatService;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPage;
 import tetoandeggens.seeyouagainbe.common.dto.CursorPageRequest;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.common.enums.ContentType;
 import tetoandeggens.seeyouagainbe.global.ControllerTest;
@@ -60,7 +61,8 @@ class ChatControllerTest extends ControllerTest {
 					.build()
 			);
 
-			CursorPage<ChatRoomResponse, Long> page = CursorPage.of(responses, 10, ChatRoomResponse::chatRoomId);
+			CursorPage<ChatRoomResponse, String> page = CursorPage.of(responses, 10,
+				room -> KeysetCursor.encode(room.lastMessageTime(), room.chatRoomId()));
 			ChatRoomListResponse response = ChatRoomListResponse.of(page);
 
 			given(chatRoomService.getMyChatRooms(eq(memberId), any(CursorPageRequest.class), eq(SortDirection.LATEST)))
@@ -102,7 +104,8 @@ class ChatControllerTest extends ControllerTest {
 					.build()
 			);
 
-			CursorPage<ChatRoomResponse, Long> page = CursorPage.of(responses, 10, ChatRoomResponse::chatRoomId);
+			CursorPage<ChatRoomResponse, String> page = CursorPage.of(responses, 10,
+				room -> KeysetCursor.encode(room.lastMessageTime(), room.chatRoomId()));
 			ChatRoomListResponse response = ChatRoomListResponse.of(page);
 
 			given(chatRoomService.getUnreadChatRooms(eq(memberId), any(CursorPageRequest.class),
@@ -0,0 +1,161 @@
+package tetoandeggens.seeyouagainbe.chat.handler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static tetoandeggens.seeyouagainbe.global.constants.AuthCommonConstants.*;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import tetoandeggens.seeyouagainbe.auth.dto.CustomUserDetails;
+import tetoandeggens.seeyouagainbe.auth.event.MemberSessionRevokedEvent;
+import tetoandeggens.seeyouagainbe.auth.jwt.TokenProvider;
+import tetoandeggens.seeyouagainbe.auth.jwt.VerifiedClaims;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.AuthErrorCode;
+import tetoandeggens.seeyouagainbe.member.entity.Role;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompSessionTokenCache 단위 테스트")
+class StompSessionTokenCacheTest {
+
+	private static final String SESSION_ID = "session-1";
+	private static final String UUID = "test-uuid";
+	private static final String ACCESS_TOKEN = "access-token";
+
+	@Mock
+	private TokenProvider tokenProvider;
+
+	@InjectMocks
+	private StompSessionTokenCache stompSessionTokenCache;
+
+	private Map<String, Object> sessionAttributes;
+
+	@BeforeEach
+	void setUp() {
+		sessionAttributes = new HashMap<>();
+		sessionAttributes.put("uuid", UUID);
+		sessionAttributes.put(ACCESS_TOKEN_COOKIE_NAME, ACCESS_TOKEN);
+	}
+
+	@Test
+	@DisplayName("핸드셰이크에서 검증한 토큰은 만료 전까지 프레임마다 다시 검증하지 않는다")
+	void verify_UsesCachedToken_BeforeExpiry() {
+		// given
+		sessionAttributes.put(StompSessionTokenCache.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE,
+			System.currentTimeMillis() + 60_000L);
+		stompSessionTokenCache.register(SESSION_ID, sessionAttributes);
+
+		// when
+		for (int frame = 0; frame < 100; frame++) {
+			stompSessionTokenCache.verify(SESSION_ID, sessionAttributes);
+		}
+
+		// then
+		verifyNoInteractions(tokenProvider);
+	}
+
+	@Test
+	@DisplayName("캐시된 만료 시각이 지나면 다시 검증하고, 만료된 토큰이면 거부한다")
+	void verify_Reverifies_AfterExpiry() {
+		// given
+		sessionAttributes.put(StompSessionTokenCache.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE,
+			System.currentTimeMillis() - 1L);
+		stompSessionTokenCache.register(SESSION_ID, sessionAttributes);
+		when(tokenProvider.verifyClaims(ACCESS_TOKEN)).thenThrow(new CustomException(AuthErrorCode.EXPIRED_TOKEN));
+
+		// when & then
+		assertThatThrownBy(() -> stompSessionTokenCache.verify(SESSION_ID, sessionAttributes))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_TOKEN);
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 세션은 한 번 검증한 뒤로는 캐시를 사용한다")
+	void verify_CachesAfterReverification() {
+		// given
+		VerifiedClaims claims = createClaims(System.currentTimeMillis() + 60_000L);
+		when(tokenProvider.verifyClaims(ACCESS_TOKEN)).thenReturn(claims);
+		when(tokenProvider.getAuthenticationByClaims(claims)).thenReturn(createAuthentication(false));
+
+		// when
+		stompSessionTokenCache.verify(SESSION_ID, sessionAttributes);
+		stompSessionTokenCache.verify(SESSION_ID, sessionAttributes);
+
+		// then
+		verify(tokenProvider, times(1)).verifyClaims(anyString());
+	}
+
+	@Test
+	@DisplayName("revoke 이벤트를 받은 회원의 세션은 다시 검증하며, 로그아웃으로 회원 정보가 지워졌으면 거부한다")
+	void verify_RejectsRevokedSession() {
+		// given
+		sessionAttributes.put(StompSessionTokenCache.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE,
+			System.currentTimeMillis() + 60_000L);
+		stompSessionTokenCache.register(SESSION_ID, sessionAttributes);
+		VerifiedClaims claims = createClaims(System.currentTimeMillis() + 60_000L);
+		when(tokenProvider.verifyClaims(ACCESS_TOKEN)).thenReturn(claims);
+		when(tokenProvider.getAuthenticationByClaims(claims))
+			.thenThrow(new CustomException(AuthErrorCode.MEMBER_NOT_FOUND));
+
+		// when
+		stompSessionTokenCache.onSessionRevoked(new MemberSessionRevokedEvent(UUID));
+
+		// then
+		assertThatThrownBy(() -> stompSessionTokenCache.verify(SESSION_ID, sessionAttributes))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_TOKEN);
+	}
+
+	@Test
+	@DisplayName("정지된 회원의 세션은 revoke 후 재검증에서 거부한다")
+	void verify_RejectsBannedMember() {
+		// given
+		sessionAttributes.put(StompSessionTokenCache.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE,
+			System.currentTimeMillis() + 60_000L);
+		stompSessionTokenCache.register(SESSION_ID, sessionAttributes);
+		VerifiedClaims claims = createClaims(System.currentTimeMillis() + 60_000L);
+		when(tokenProvider.verifyClaims(ACCESS_TOKEN)).thenReturn(claims);
+		when(tokenProvider.getAuthenticationByClaims(claims)).thenReturn(createAuthentication(true));
+
+		// when
+		stompSessionTokenCache.revoke(UUID);
+
+		// then
+		assertThatThrownBy(() -> stompSessionTokenCache.verify(SESSION_ID, sessionAttributes))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.ACCOUNT_BANNED);
+	}
+
+	@Test
+	@DisplayName("세션에 토큰이 없으면 거부한다")
+	void verify_RejectsMissingToken() {
+		// given
+		sessionAttributes.remove(ACCESS_TOKEN_COOKIE_NAME);
+
+		// when & then
+		assertThatThrownBy(() -> stompSessionTokenCache.verify(SESSION_ID, sessionAttributes))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_TOKEN);
+	}
+
+	private VerifiedClaims createClaims(long expiresAt) {
+		return new VerifiedClaims(UUID, null, null, null, Instant.now(), Instant.ofEpochMilli(expiresAt));
+	}
+
+	private UsernamePasswordAuthenticationToken createAuthentication(boolean banned) {
+		CustomUserDetails userDetails = CustomUserDetails.fromClaims(UUID, Role.USER.getRole(), 1L, banned);
+		return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+	}
+}
@@ -0,0 +1,149 @@
+package tetoandeggens.seeyouagainbe.chat.pub;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import tetoandeggens.seeyouagainbe.chat.codec.DelegatingChatBusCodec;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+import tetoandeggens.seeyouagainbe.chat.service.ChatPresenceService;
+import tetoandeggens.seeyouagainbe.global.config.ChatBusProperties;
+import tetoandeggens.seeyouagainbe.global.config.ChatStreamProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisPublisher 단위 테스트")
+class RedisPublisherTest {
+
+	@Mock
+	private RedisTemplate<String, byte[]> chatBusRedisTemplate;
+
+	@Mock
+	private ChatPresenceService chatPresenceService;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	private ChatStreamProperties chatStreamProperties;
+	private RedisPublisher redisPublisher;
+
+	@BeforeEach
+	void setUp() {
+		chatStreamProperties = new ChatStreamProperties();
+		redisPublisher = new RedisPublisher(new ChannelTopic("chatroom"), new ChannelTopic("chatread"),
+			chatBusRedisTemplate, new DelegatingChatBusCodec(new ObjectMapper().registerModule(new JavaTimeModule()),
+			new ChatBusProperties()), chatPresenceService, chatStreamProperties);
+		lenient().when(chatPresenceService.nodeChannel(anyString(), anyString()))
+			.thenAnswer(invocation -> invocation.getArgument(0) + ":" + invocation.getArgument(1));
+	}
+
+	@Test
+	@DisplayName("채팅 메시지는 참여자가 접속한 노드 채널로만 발행한다")
+	void publish_SendsToConnectedNodesOnly() {
+		// given
+		when(chatPresenceService.findNodeIds(List.of(1L, 2L))).thenReturn(Set.of("node-a", "node-b"));
+
+		// when
+		redisPublisher.publish(createMessage());
+
+		// then
+		verify(chatBusRedisTemplate).convertAndSend(eq("chatroom:node-a"), any(byte[].class));
+		verify(chatBusRedisTemplate).convertAndSend(eq("chatroom:node-b"), any(byte[].class));
+		verify(chatBusRedisTemplate, never()).convertAndSend(eq("chatroom"), any(byte[].class));
+	}
+
+	@Test
+	@DisplayName("참여자가 아무도 접속해 있지 않으면 발행하지 않는다")
+	void publish_SkipsWhenNobodyConnected() {
+		// given
+		when(chatPresenceService.findNodeIds(List.of(1L, 2L))).thenReturn(Set.of());
+
+		// when
+		redisPublisher.publish(createMessage());
+
+		// then
+		verify(chatBusRedisTemplate, never()).convertAndSend(anyString(), any(byte[].class));
+	}
+
+	@Test
+	@DisplayName("접속 노드 조회에 실패하면 공용 채널로 전체 노드에 발행한다")
+	void publish_FallsBackToBroadcast_WhenPresenceLookupFails() {
+		// given
+		when(chatPresenceService.findNodeIds(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+		// when
+		redisPublisher.publish(createMessage());
+
+		// then
+		verify(chatBusRedisTemplate).convertAndSend(eq("chatroom"), any(byte[].class));
+	}
+
+	@Test
+	@DisplayName("읽음 알림은 원래 메시지 발신자가 접속한 노드로만 발행한다")
+	void publishReadNotification_SendsToSenderNodes() {
+		// given
+		when(chatPresenceService.findNodeIds(List.of(1L))).thenReturn(Set.of("node-a"));
+
+		// when
+		redisPublisher.publishReadNotification(new ChatReadNotificationDto(5L, 10L, 1L));
+
+		// then
+		verify(chatBusRedisTemplate).convertAndSend(eq("chatread:node-a"), any(byte[].class));
+	}
+
+	@Test
+	@DisplayName("스트림 전송을 켜면 접속 노드의 스트림에 길이 제한과 함께 추가한다")
+	@SuppressWarnings("unchecked")
+	void publish_AppendsToNodeStreams_WhenStreamEnabled() {
+		// given
+		chatStreamProperties.setEnabled(true);
+		when(chatPresenceService.findNodeIds(List.of(1L, 2L))).thenReturn(Set.of("node-a"));
+		when(chatPresenceService.nodeStreamKey("node-a")).thenReturn("chat:stream:node-a");
+		when(chatBusRedisTemplate.opsForStream()).thenReturn(streamOperations);
+
+		// when
+		redisPublisher.publish(createMessage());
+
+		// then
+		ArgumentCaptor<MapRecord<String, String, byte[]>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+		ArgumentCaptor<XAddOptions> optionsCaptor = ArgumentCaptor.forClass(XAddOptions.class);
+		verify(streamOperations).add(recordCaptor.capture(), optionsCaptor.capture());
+		assertThat(recordCaptor.getValue().getStream()).isEqualTo("chat:stream:node-a");
+		assertThat(recordCaptor.getValue().getValue().get(RedisPublisher.STREAM_FIELD_TYPE))
+			.isEqualTo("chatroom".getBytes(StandardCharsets.UTF_8));
+		assertThat(optionsCaptor.getValue().getMaxlen()).isEqualTo(chatStreamProperties.getMaxLength());
+		assertThat(optionsCaptor.getValue().isApproximateTrimming()).isTrue();
+		verify(chatBusRedisTemplate, never()).convertAndSend(anyString(), any(byte[].class));
+	}
+
+	private ChatMessageDto createMessage() {
+		return ChatMessageDto.builder()
+			.messageId(10L)
+			.chatRoomId(1L)
+			.senderId(1L)
+			.receiverId(2L)
+			.content("hello")
+			.build();
+	}
+}
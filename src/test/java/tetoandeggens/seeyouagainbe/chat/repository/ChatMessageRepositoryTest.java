@@ -2,6 +2,7 @@ package tetoandeggens.seeyouagainbe.chat.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,12 +17,14 @@ import jakarta.persistence.PersistenceContext;
 
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.board.repository.BoardRepository;
+import tetoandeggens.seeyouagainbe.chat.dto.PendingChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.common.enums.ContentType;
 import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
 import tetoandeggens.seeyouagainbe.global.RepositoryTest;
+import tetoandeggens.seeyouagainbe.global.util.AesEncryptionUtil;
 import tetoandeggens.seeyouagainbe.member.entity.Member;
 import tetoandeggens.seeyouagainbe.member.repository.MemberRepository;
 
@@ -40,6 +43,9 @@ class ChatMessageRepositoryTest extends RepositoryTest {
 	@Autowired
 	private BoardRepository boardRepository;
 
+	@Autowired
+	private AesEncryptionUtil aesEncryptionUtil;
+
 	@PersistenceContext
 	private EntityManager entityManager;
 
@@ -195,74 +201,42 @@ class ChatMessageRepositoryTest extends RepositoryTest {
 	}
 
 	@Nested
-	@DisplayName("메시지 읽음 처리 테스트")
-	class MarkAsReadTests {
+	@DisplayName("마지막 메시지 id 조회 테스트")
+	class FindLastMessageIdTests {
 
 		@Test
-		@DisplayName("채팅방의 읽지 않은 메시지 읽음 처리 - 성공")
-		void markAsReadByChatRoomAndReceiver_Success() {
+		@DisplayName("채팅방에 저장된 가장 큰 메시지 id를 반환한다")
+		void findLastMessageId_Success() {
 			// given
 			chatMessageRepository.save(ChatMessage.builder()
 				.chatRoom(chatRoom)
 				.sender(sender)
 				.receiver(receiver)
-				.content("읽지 않은 메시지 1")
+				.content("first")
 				.build());
 
-			chatMessageRepository.save(ChatMessage.builder()
+			ChatMessage last = chatMessageRepository.save(ChatMessage.builder()
 				.chatRoom(chatRoom)
-				.sender(sender)
-				.receiver(receiver)
-				.content("읽지 않은 메시지 2")
+				.sender(receiver)
+				.receiver(sender)
+				.content("last")
 				.build());
 
 			// when
-			chatMessageRepository.markAsReadByChatRoomAndReceiver(chatRoom.getId(), receiver.getId());
-			entityManager.flush();
-			entityManager.clear();
+			Optional<Long> result = chatMessageRepository.findLastMessageId(chatRoom.getId());
 
 			// then
-			List<ChatMessage> messages = chatMessageRepository.findMessagesByChatRoom(
-				chatRoom.getId(), null, 10, SortDirection.LATEST
-			);
-
-			assertThat(messages)
-				.filteredOn(msg -> msg.getSender().getId().equals(sender.getId()))
-				.allMatch(ChatMessage::getIsRead);
+			assertThat(result).contains(last.getId());
 		}
 
 		@Test
-		@DisplayName("자신이 보낸 메시지는 읽음 처리되지 않음")
-		void markAsReadByChatRoomAndReceiver_DoesNotMarkOwnMessages() {
-			// given
-			chatMessageRepository.save(ChatMessage.builder()
-				.chatRoom(chatRoom)
-				.sender(sender)
-				.receiver(receiver)
-				.content("상대방 메시지")
-				.build());
-
-			chatMessageRepository.save(ChatMessage.builder()
-				.chatRoom(chatRoom)
-				.sender(receiver)
-				.receiver(sender)
-				.content("내 메시지")
-				.build());
-
+		@DisplayName("메시지가 없는 채팅방은 빈 Optional을 반환한다")
+		void findLastMessageId_EmptyChatRoom() {
 			// when
-			chatMessageRepository.markAsReadByChatRoomAndReceiver(chatRoom.getId(), receiver.getId());
+			Optional<Long> result = chatMessageRepository.findLastMessageId(chatRoom.getId());
 
 			// then
-			List<ChatMessage> messages = chatMessageRepository.findMessagesByChatRoom(
-				chatRoom.getId(), null, 10, SortDirection.LATEST
-			);
-
-			ChatMessage receiverMessage = messages.stream()
-				.filter(msg -> msg.getSender().getId().equals(receiver.getId()))
-				.findFirst()
-				.orElseThrow();
-
-			assertThat(receiverMessage.getIsRead()).isFalse();
+			assertThat(result).isEmpty();
 		}
 	}
 
@@ -360,4 +334,97 @@ class ChatMessageRepositoryTest extends RepositoryTest {
 				assertThat(found.getContent()).isEqualTo("텍스트 메시지입니다");
 		}
 	}
+
+	@Nested
+	@DisplayName("재접속 시 놓친 메시지 조회 테스트")
+	class FindMessagesAfterTests {
+
+		@Test
+		@DisplayName("마지막으로 받은 메시지 이후의 내 메시지만 오래된 순으로 조회")
+		void findMessagesAfter_ReturnsOnlyNewerMessagesOfMember() {
+			// given
+			ChatMessage seen = saveMessage(chatRoom, receiver, sender, "seen");
+			ChatMessage first = saveMessage(chatRoom, receiver, sender, "first");
+			ChatMessage second = saveMessage(chatRoom, sender, receiver, "second");
+
+			ChatRoom otherRoom = chatRoomRepository.save(ChatRoom.builder()
+				.board(testBoard)
+				.sender(otherMember)
+				.receiver(receiver)
+				.violatedStatus(ViolatedStatus.NORMAL)
+				.build());
+			saveMessage(otherRoom, otherMember, receiver, "other");
+
+			// when
+			List<ChatMessage> messages = chatMessageRepository.findMessagesAfter(sender.getId(), seen.getId(), 10);
+
+			// then
+			assertThat(messages).extracting(ChatMessage::getId)
+				.containsExactly(first.getId(), second.getId());
+		}
+
+		@Test
+		@DisplayName("조회 개수 제한 적용")
+		void findMessagesAfter_AppliesLimit() {
+			// given
+			ChatMessage seen = saveMessage(chatRoom, receiver, sender, "seen");
+			ChatMessage first = saveMessage(chatRoom, receiver, sender, "first");
+			saveMessage(chatRoom, receiver, sender, "second");
+
+			// when
+			List<ChatMessage> messages = chatMessageRepository.findMessagesAfter(sender.getId(), seen.getId(), 1);
+
+			// then
+			assertThat(messages).extracting(ChatMessage::getId).containsExactly(first.getId());
+		}
+
+		private ChatMessage saveMessage(ChatRoom room, Member from, Member to, String content) {
+			return chatMessageRepository.save(ChatMessage.builder()
+				.chatRoom(room)
+				.sender(from)
+				.receiver(to)
+				.content(content)
+				.build());
+		}
+	}
+
+	@Nested
+	@DisplayName("쓰기 지연 배치 저장 테스트")
+	class BulkInsertTests {
+
+		@Test
+		@DisplayName("미리 발급한 id로 배치 저장하고 저장된 id를 조회할 수 있다")
+		void bulkInsert_SavesWithPreassignedIds() {
+			// given
+			LocalDateTime createdAt = LocalDateTime.of(2025, 1, 20, 14, 30);
+			List<PendingChatMessage> messages = List.of(
+				createPending(1_000_001L, createdAt),
+				createPending(1_000_002L, createdAt.plusSeconds(1)));
+
+			// when
+			chatMessageRepository.bulkInsert(messages);
+			entityManager.clear();
+
+			// then
+			assertThat(chatMessageRepository.findPersistedMessages(List.of(1_000_001L, 1_000_002L, 1_000_003L)))
+				.extracting(ChatMessage::getId)
+				.containsExactlyInAnyOrder(1_000_001L, 1_000_002L);
+			assertThat(chatMessageRepository.findMaxId()).isEqualTo(1_000_002L);
+			ChatMessage saved = chatMessageRepository.findById(1_000_002L).orElseThrow();
+			assertThat(saved.getContent()).isEqualTo("hello");
+			assertThat(saved.getIsRead()).isFalse();
+			assertThat(saved.getCreatedAt()).isEqualTo(createdAt.plusSeconds(1));
+		}
+
+		private PendingChatMessage createPending(Long messageId, LocalDateTime createdAt) {
+			return PendingChatMessage.builder()
+				.messageId(messageId)
+				.chatRoomId(chatRoom.getId())
+				.senderId(sender.getId())
+				.receiverId(receiver.getId())
+				.encryptedContent(aesEncryptionUtil.encrypt("hello"))
+				.createdAt(createdAt)
+				.build();
+		}
+	}
 }
\ No newline at end of file
@@ -12,15 +12,22 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import jakarta.persistence.EntityManager;
+
 import tetoandeggens.seeyouagainbe.board.entity.Board;
 import tetoandeggens.seeyouagainbe.board.repository.BoardRepository;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadCursor;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
 import tetoandeggens.seeyouagainbe.chat.dto.response.ChatRoomResponse;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
 import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
+import tetoandeggens.seeyouagainbe.common.dto.KeysetCursor;
 import tetoandeggens.seeyouagainbe.common.dto.SortDirection;
 import tetoandeggens.seeyouagainbe.common.enums.ContentType;
 import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
 import tetoandeggens.seeyouagainbe.global.RepositoryTest;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
 import tetoandeggens.seeyouagainbe.member.entity.Member;
 import tetoandeggens.seeyouagainbe.member.repository.MemberRepository;
 
@@ -39,6 +46,9 @@ class ChatRoomRepositoryTest extends RepositoryTest {
 	@Autowired
 	private BoardRepository boardRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
 	private Member sender;
 	private Member receiver;
 	private Member otherMember;
@@ -166,6 +176,30 @@ class ChatRoomRepositoryTest extends RepositoryTest {
 			// then
 			assertThat(result).isEmpty();
 		}
+
+		@Test
+		@DisplayName("ID로 참여자 정보만 조회 - 성공")
+		void findMembershipById_Success() {
+			// when
+			Optional<ChatRoomMembership> result = chatRoomRepository.findMembershipById(chatRoom.getId());
+
+			// then
+			assertThat(result).isPresent();
+			assertThat(result.get().senderId()).isEqualTo(sender.getId());
+			assertThat(result.get().receiverId()).isEqualTo(receiver.getId());
+			assertThat(result.get().isDeleted()).isFalse();
+			assertThat(result.get().isMember(otherMember.getId())).isFalse();
+		}
+
+		@Test
+		@DisplayName("게시물의 채팅방 ID 목록 조회 - 성공")
+		void findIdsByBoardId_Success() {
+			// when
+			List<Long> result = chatRoomRepository.findIdsByBoardId(testBoard.getId());
+
+			// then
+			assertThat(result).containsExactly(chatRoom.getId());
+		}
 	}
 
 	@Nested
@@ -206,6 +240,9 @@ class ChatRoomRepositoryTest extends RepositoryTest {
 			chatRoom2.updateLastMessageAt(LocalDateTime.now());
 			chatRoomRepository.save(chatRoom);
 			chatRoomRepository.save(chatRoom2);
+			chatRoomRepository.flush();
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
+			chatRoomRepository.increaseUnreadCount(chatRoom2.getId(), sender.getId());
 		}
 
 		@Test
@@ -245,18 +282,47 @@ class ChatRoomRepositoryTest extends RepositoryTest {
 				sender.getId(), null, 1, SortDirection.LATEST
 			);
 
-			assertThat(firstPage).hasSizeLessThanOrEqualTo(2);
-			assertThat(firstPage).hasSizeGreaterThanOrEqualTo(1);
-			Long cursorId = firstPage.get(0).chatRoomId();
+			assertThat(firstPage).hasSize(2);
+			ChatRoomResponse nextRoom = firstPage.get(1);
+			String cursor = KeysetCursor.encode(nextRoom.lastMessageTime(), nextRoom.chatRoomId());
 
 			// when
 			List<ChatRoomResponse> secondPage = chatRoomRepository.findChatRoomsWithDetails(
-				sender.getId(), cursorId, 1, SortDirection.LATEST
+				sender.getId(), cursor, 1, SortDirection.LATEST
 			);
 
 			// then
 			assertThat(secondPage).isNotEmpty();
-			assertThat(secondPage.get(0).chatRoomId()).isNotEqualTo(cursorId);
+			assertThat(secondPage.get(0).chatRoomId()).isEqualTo(nextRoom.chatRoomId());
+			assertThat(secondPage.get(0).chatRoomId()).isNotEqualTo(firstPage.get(0).chatRoomId());
+		}
+
+		@Test
+		@DisplayName("내 채팅방 목록 조회 - 마지막 메시지 시각 기준 최근 활동순 정렬")
+		void findChatRoomsWithDetails_SortedByLastMessageAt() {
+			// given
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), 100L, "just sent",
+				LocalDateTime.now().plusMinutes(1));
+
+			// when
+			List<ChatRoomResponse> results = chatRoomRepository.findChatRoomsWithDetails(
+				sender.getId(), null, 10, SortDirection.LATEST
+			);
+
+			// then
+			assertThat(results.get(0).chatRoomId()).isEqualTo(chatRoom.getId());
+			assertThat(results.get(0).lastMessage()).isEqualTo("just sent");
+		}
+
+		@Test
+		@DisplayName("잘못된 커서 - INVALID_CURSOR 예외 발생")
+		void findChatRoomsWithDetails_InvalidCursor_ThrowsException() {
+			// when & then
+			assertThatThrownBy(() -> chatRoomRepository.findChatRoomsWithDetails(
+				sender.getId(), "invalid-cursor", 10, SortDirection.LATEST
+			))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_CURSOR);
 		}
 
 		@Test
@@ -271,4 +337,251 @@ class ChatRoomRepositoryTest extends RepositoryTest {
 			assertThat(results).allMatch(room -> room.unreadCount() > 0);
 		}
 	}
+
+	@Nested
+	@DisplayName("마지막 메시지 요약 테스트")
+	class LastMessageTests {
+
+		@Test
+		@DisplayName("마지막 메시지를 갱신하면 목록에 미리보기와 시각이 보인다")
+		void updateLastMessage_ShowsPreview() {
+			// given
+			LocalDateTime sentAt = LocalDateTime.of(2025, 1, 20, 14, 30);
+
+			// when
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), 10L, "hello", sentAt);
+
+			// then
+			ChatRoomResponse result = chatRoomRepository.findChatRoomsWithDetails(
+				sender.getId(), null, 10, SortDirection.LATEST
+			).get(0);
+			assertThat(result.lastMessage()).isEqualTo("hello");
+			assertThat(result.lastMessageTime()).isEqualTo(sentAt);
+		}
+
+		@Test
+		@DisplayName("더 이전 메시지로는 마지막 메시지를 덮어쓰지 않는다")
+		void updateLastMessage_IgnoresOlderMessage() {
+			// given
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), 10L, "latest message",
+				LocalDateTime.of(2025, 1, 20, 14, 30));
+
+			// when
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), 9L, "older message",
+				LocalDateTime.of(2025, 1, 20, 14, 29));
+
+			// then
+			ChatRoomResponse result = chatRoomRepository.findChatRoomsWithDetails(
+				sender.getId(), null, 10, SortDirection.LATEST
+			).get(0);
+			assertThat(result.lastMessage()).isEqualTo("latest message");
+		}
+
+		@Test
+		@DisplayName("미리보기는 DB에 암호화되어 저장된다")
+		void updateLastMessage_StoresEncryptedPreview() {
+			// when
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), 10L, "secret message", LocalDateTime.now());
+
+			// then
+			Object storedPreview = entityManager.createNativeQuery(
+					"select last_message_preview from chat_room where chat_room_id = :chatRoomId")
+				.setParameter("chatRoomId", chatRoom.getId())
+				.getSingleResult();
+			assertThat(storedPreview).isNotNull().isNotEqualTo("secret message");
+		}
+	}
+
+	@Nested
+	@DisplayName("안 읽은 메시지 카운터 테스트")
+	class UnreadCountTests {
+
+		@Test
+		@DisplayName("카운터는 참여자별로 따로 증가하고 목록의 unreadCount로 조회된다")
+		void increaseUnreadCount_CountsPerMember() {
+			// when
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), sender.getId());
+
+			// then
+			assertThat(findUnreadCount(receiver)).isEqualTo(2L);
+			assertThat(findUnreadCount(sender)).isEqualTo(1L);
+		}
+
+		@Test
+		@DisplayName("배치 저장 시에는 모은 개수만큼 한 번에 증가한다")
+		void increaseUnreadCountBy_AddsAmount() {
+			// given
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
+
+			// when
+			chatRoomRepository.increaseUnreadCountBy(chatRoom.getId(), receiver.getId(), 3L);
+
+			// then
+			assertThat(findUnreadCount(receiver)).isEqualTo(4L);
+			assertThat(findUnreadCount(sender)).isZero();
+		}
+
+		@Test
+		@DisplayName("읽음 커서를 옮기면 커서 이후 메시지만 안 읽은 수로 남고 상대방 카운터는 그대로다")
+		void advanceReadCursor_RecountsAfterCursor() {
+			// given
+			ChatMessage first = saveMessage(sender, receiver, false);
+			saveMessage(sender, receiver, false);
+			saveMessage(sender, receiver, false);
+			chatRoomRepository.increaseUnreadCountBy(chatRoom.getId(), receiver.getId(), 3L);
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), sender.getId());
+
+			// when
+			int updatedCount = chatRoomRepository.advanceReadCursor(chatRoom.getId(), receiver.getId(), first.getId());
+
+			// then
+			assertThat(updatedCount).isEqualTo(1);
+			assertThat(findUnreadCount(receiver)).isEqualTo(2L);
+			assertThat(findUnreadCount(sender)).isEqualTo(1L);
+			assertThat(chatRoomRepository.findReadCursor(chatRoom.getId()).orElseThrow())
+				.extracting(ChatReadCursor::receiverLastReadMessageId, ChatReadCursor::senderLastReadMessageId)
+				.containsExactly(first.getId(), null);
+		}
+
+		@Test
+		@DisplayName("읽음 커서는 뒤로 가지 않고 되돌리는 요청은 갱신하지 않는다")
+		void advanceReadCursor_NeverMovesBackward() {
+			// given
+			ChatMessage first = saveMessage(sender, receiver, false);
+			ChatMessage last = saveMessage(sender, receiver, false);
+			chatRoomRepository.advanceReadCursor(chatRoom.getId(), receiver.getId(), last.getId());
+
+			// when
+			int updatedCount = chatRoomRepository.advanceReadCursor(chatRoom.getId(), receiver.getId(), first.getId());
+
+			// then
+			assertThat(updatedCount).isZero();
+			assertThat(findUnreadCount(receiver)).isZero();
+			assertThat(chatRoomRepository.findReadCursor(chatRoom.getId()).orElseThrow()
+				.isReadBy(receiver.getId(), last.getId())).isTrue();
+		}
+
+		@Test
+		@DisplayName("커서를 끝까지 옮기면 안 읽은 채팅방 목록에서 빠진다")
+		void advanceReadCursor_RemovesFromUnreadRooms() {
+			// given
+			ChatMessage toReceiver = saveMessage(sender, receiver, false);
+			saveMessage(receiver, sender, false);
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), sender.getId());
+
+			// when
+			chatRoomRepository.advanceReadCursor(chatRoom.getId(), receiver.getId(), toReceiver.getId());
+
+			// then
+			assertThat(chatRoomRepository.findUnreadChatRoomsWithDetails(
+				receiver.getId(), null, 10, SortDirection.LATEST)).isEmpty();
+			assertThat(chatRoomRepository.findUnreadChatRoomsWithDetails(
+				sender.getId(), null, 10, SortDirection.LATEST)).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("채팅방을 열면 마지막 메시지까지 커서를 옮기고 조회한 참여자의 카운터만 0으로 만든다")
+		void markAllAsRead_MovesCursorToLastMessage() {
+			// given
+			saveMessage(sender, receiver, false);
+			ChatMessage last = saveMessage(sender, receiver, false);
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), last.getId(), "메시지", LocalDateTime.now());
+			chatRoomRepository.increaseUnreadCountBy(chatRoom.getId(), receiver.getId(), 2L);
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), sender.getId());
+
+			// when
+			int updatedCount = chatRoomRepository.markAllAsRead(chatRoom.getId(), receiver.getId());
+			int repeatedCount = chatRoomRepository.markAllAsRead(chatRoom.getId(), receiver.getId());
+
+			// then
+			assertThat(updatedCount).isEqualTo(1);
+			assertThat(repeatedCount).isZero();
+			assertThat(findUnreadCount(receiver)).isZero();
+			assertThat(findUnreadCount(sender)).isEqualTo(1L);
+			assertThat(chatRoomRepository.findReadCursor(chatRoom.getId()).orElseThrow())
+				.extracting(ChatReadCursor::receiverLastReadMessageId, ChatReadCursor::senderLastReadMessageId)
+				.containsExactly(last.getId(), null);
+		}
+
+		@Test
+		@DisplayName("로딩된 채팅방 엔티티를 변경해 flush해도 원자적 UPDATE로 늘린 카운터를 덮어쓰지 않는다")
+		void entityFlush_KeepsAtomicallyUpdatedCounters() {
+			// given
+			ChatRoom loaded = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
+
+			// when
+			loaded.updateLastMessageAt(LocalDateTime.now());
+			entityManager.flush();
+			entityManager.clear();
+
+			// then
+			assertThat(findUnreadCount(receiver)).isEqualTo(1L);
+		}
+
+		@Test
+		@DisplayName("읽음 커서 기준으로 카운터를 다시 계산한다")
+		void recalculateUnreadCounts_FromReadCursor() {
+			// given
+			ChatMessage read = saveMessage(sender, receiver, false);
+			saveMessage(sender, receiver, false);
+			saveMessage(sender, receiver, false);
+			saveMessage(receiver, sender, false);
+			chatRoomRepository.advanceReadCursor(chatRoom.getId(), receiver.getId(), read.getId());
+
+			// when
+			chatRoomRepository.recalculateUnreadCounts(List.of(chatRoom.getId()));
+
+			// then
+			assertThat(findUnreadCount(receiver)).isEqualTo(2L);
+			assertThat(findUnreadCount(sender)).isEqualTo(1L);
+		}
+
+		@Test
+		@DisplayName("커서 도입 전 데이터는 마지막으로 읽은 메시지를 커서로 채운다")
+		void initializeReadCursors_FromIsReadFlags() {
+			// given
+			saveMessage(sender, receiver, true);
+			ChatMessage lastRead = saveMessage(sender, receiver, true);
+			saveMessage(sender, receiver, false);
+			saveMessage(receiver, sender, false);
+
+			// when
+			chatRoomRepository.initializeReadCursors(List.of(chatRoom.getId()));
+			chatRoomRepository.recalculateUnreadCounts(List.of(chatRoom.getId()));
+
+			// then
+			assertThat(chatRoomRepository.findReadCursor(chatRoom.getId()).orElseThrow())
+				.extracting(ChatReadCursor::receiverLastReadMessageId, ChatReadCursor::senderLastReadMessageId)
+				.containsExactly(lastRead.getId(), null);
+			assertThat(findUnreadCount(receiver)).isEqualTo(1L);
+			assertThat(findUnreadCount(sender)).isEqualTo(1L);
+		}
+
+		private long findUnreadCount(Member member) {
+			return chatRoomRepository.findChatRoomsWithDetails(member.getId(), null, 10, SortDirection.LATEST)
+				.get(0)
+				.unreadCount();
+		}
+
+		private ChatMessage saveMessage(Member from, Member to, boolean isRead) {
+			ChatMessage message = chatMessageRepository.save(ChatMessage.builder()
+				.chatRoom(chatRoom)
+				.sender(from)
+				.receiver(to)
+				.content("메시지")
+				.build());
+			if (isRead) {
+				// 커서 도입 전 데이터처럼 메시지별 읽음 플래그만 있는 상태를 만듦
+				entityManager.flush();
+				entityManager.createQuery("update ChatMessage m set m.isRead = true where m.id = :messageId")
+					.setParameter("messageId", message.getId())
+					.executeUpdate();
+			}
+			return message;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.global.config.ChatWriteBehindProperties;
+
+@DisplayName("ChatMessageIdGenerator 단위 테스트")
+class ChatMessageIdGeneratorTest {
+
+	private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+	@Test
+	@DisplayName("연속으로 발급한 id는 중복 없이 증가하고 JS 안전 정수 범위 안에 있다")
+	void nextId_IsUniqueIncreasingAndJsSafe() {
+		// given
+		ChatMessageIdGenerator generator = createGenerator(3);
+		Set<Long> ids = new HashSet<>();
+		long previous = 0L;
+
+		// when & then
+		for (int i = 0; i < 10_000; i++) {
+			long id = generator.nextId();
+			assertThat(id).isGreaterThan(previous).isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+			ids.add(id);
+			previous = id;
+		}
+		assertThat(ids).hasSize(10_000);
+	}
+
+	@Test
+	@DisplayName("워커 번호가 다르면 같은 시각에도 다른 id를 발급한다")
+	void nextId_DiffersByWorker() {
+		// when
+		long first = createGenerator(1).nextId();
+		long second = createGenerator(2).nextId();
+
+		// then
+		assertThat((first >> 7) & 31).isEqualTo(1L);
+		assertThat((second >> 7) & 31).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 워커 번호는 거부한다")
+	void constructor_RejectsInvalidWorkerId() {
+		// when & then
+		assertThatThrownBy(() -> createGenerator(32))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("쓰기 지연을 켰는데 워커 번호를 지정하지 않으면 거부한다")
+	void constructor_RequiresWorkerId_WhenWriteBehindEnabled() {
+		// given
+		ChatWriteBehindProperties properties = new ChatWriteBehindProperties();
+		properties.setEnabled(true);
+
+		// when & then
+		assertThatThrownBy(() -> new ChatMessageIdGenerator(properties, mock(ChatMessageRepository.class),
+			mock(ChatWriteBehindService.class)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("재기동 후에는 이미 발급된 가장 큰 id보다 큰 id부터 발급한다")
+	void nextId_StartsAfterLatestIssuedId() {
+		// given
+		long futureId = createGenerator(3).nextId() + (60_000L << 12);
+		ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+		ChatWriteBehindService chatWriteBehindService = mock(ChatWriteBehindService.class);
+		when(chatMessageRepository.findMaxId()).thenReturn(1L);
+		when(chatWriteBehindService.findLatestQueuedMessageId()).thenReturn(Optional.of(futureId));
+
+		// when
+		long id = createGenerator(3, chatMessageRepository, chatWriteBehindService).nextId();
+
+		// then
+		assertThat(id).isGreaterThan(futureId);
+	}
+
+	private ChatMessageIdGenerator createGenerator(int workerId) {
+		ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+		ChatWriteBehindService chatWriteBehindService = mock(ChatWriteBehindService.class);
+		when(chatWriteBehindService.findLatestQueuedMessageId()).thenReturn(Optional.empty());
+		return createGenerator(workerId, chatMessageRepository, chatWriteBehindService);
+	}
+
+	private ChatMessageIdGenerator createGenerator(int workerId, ChatMessageRepository chatMessageRepository,
+		ChatWriteBehindService chatWriteBehindService) {
+		ChatWriteBehindProperties properties = new ChatWriteBehindProperties();
+		properties.setWorkerId(workerId);
+		return new ChatMessageIdGenerator(properties, chatMessageRepository, chatWriteBehindService);
+	}
+}
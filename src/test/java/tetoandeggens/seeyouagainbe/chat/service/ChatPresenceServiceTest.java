@@ -0,0 +1,174 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import tetoandeggens.seeyouagainbe.global.config.ChatPresenceProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatPresenceService 단위 테스트")
+class ChatPresenceServiceTest {
+
+	private static final String NODE_ID = "node-a";
+	private static final String PRESENCE_KEY = "chat:presence:1";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	private ChatPresenceProperties chatPresenceProperties;
+	private ChatPresenceService chatPresenceService;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		chatPresenceProperties = new ChatPresenceProperties();
+		chatPresenceProperties.setNodeId(NODE_ID);
+		chatPresenceService = new ChatPresenceService(redisTemplate, chatPresenceProperties);
+	}
+
+	@Nested
+	@DisplayName("접속/해제 테스트")
+	class ConnectTests {
+
+		@Test
+		@DisplayName("접속하면 이 노드를 만료 시각과 함께 등록하고 키에 TTL을 건다")
+		void connect_RegistersNodeWithTtl() {
+			// when
+			chatPresenceService.connect(1L, "session-1");
+
+			// then
+			assertThat(chatPresenceService.isConnectedLocally(1L)).isTrue();
+			verify(hashOperations).put(eq(PRESENCE_KEY), eq(NODE_ID), anyString());
+			verify(redisTemplate).expire(PRESENCE_KEY, chatPresenceProperties.getTtl());
+		}
+
+		@Test
+		@DisplayName("세션이 남아 있으면 해제해도 노드 등록을 유지한다")
+		void disconnect_KeepsNode_WhenOtherSessionRemains() {
+			// given
+			chatPresenceService.connect(1L, "session-1");
+			chatPresenceService.connect(1L, "session-2");
+
+			// when
+			chatPresenceService.disconnect(1L, "session-1");
+
+			// then
+			assertThat(chatPresenceService.isConnectedLocally(1L)).isTrue();
+			verify(hashOperations, never()).delete(anyString(), any());
+		}
+
+		@Test
+		@DisplayName("마지막 세션이 끊기면 이 노드를 접속 노드에서 제거한다")
+		void disconnect_RemovesNode_WhenLastSessionCloses() {
+			// given
+			chatPresenceService.connect(1L, "session-1");
+
+			// when
+			chatPresenceService.disconnect(1L, "session-1");
+
+			// then
+			assertThat(chatPresenceService.isConnectedLocally(1L)).isFalse();
+			verify(hashOperations).delete(PRESENCE_KEY, NODE_ID);
+		}
+
+		@Test
+		@DisplayName("Redis 장애로 등록에 실패해도 로컬 세션은 유지한다")
+		void connect_KeepsLocalSession_WhenRedisFails() {
+			// given
+			doThrow(new RedisConnectionFailureException("down"))
+				.when(hashOperations).put(anyString(), any(), any());
+
+			// when & then
+			assertThatCode(() -> chatPresenceService.connect(1L, "session-1")).doesNotThrowAnyException();
+			assertThat(chatPresenceService.isConnectedLocally(1L)).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("접속 노드 조회 테스트")
+	class FindNodeIdsTests {
+
+		@Test
+		@DisplayName("참여자들이 접속한 노드를 중복 없이 반환하고 만료된 노드는 제외한다")
+		void findNodeIds_ReturnsLiveNodes() {
+			// given
+			long future = System.currentTimeMillis() + 60_000;
+			long past = System.currentTimeMillis() - 1;
+			when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+				Map.of("node-a", String.valueOf(future), "node-dead", String.valueOf(past)),
+				Map.of("node-a", String.valueOf(future), "node-b", String.valueOf(future))));
+
+			// when
+			Set<String> nodeIds = chatPresenceService.findNodeIds(List.of(1L, 2L, 1L));
+
+			// then
+			assertThat(nodeIds).containsExactlyInAnyOrder("node-a", "node-b");
+			verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+		}
+
+		@Test
+		@DisplayName("아무도 접속해 있지 않으면 빈 결과를 반환한다")
+		void findNodeIds_ReturnsEmpty_WhenNobodyConnected() {
+			// given
+			when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(Map.of(), Map.of()));
+
+			// when & then
+			assertThat(chatPresenceService.findNodeIds(List.of(1L, 2L))).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("하트비트 테스트")
+	class HeartbeatTests {
+
+		@Test
+		@DisplayName("접속한 회원이 없으면 Redis를 호출하지 않는다")
+		void heartbeat_SkipsRedis_WhenNoLocalSessions() {
+			// when
+			chatPresenceService.heartbeat();
+
+			// then
+			verifyNoInteractions(redisTemplate);
+		}
+
+		@Test
+		@DisplayName("접속한 회원이 있으면 파이프라인으로 등록을 갱신한다")
+		void heartbeat_RefreshesInPipeline() {
+			// given
+			chatPresenceService.connect(1L, "session-1");
+
+			// when
+			chatPresenceService.heartbeat();
+
+			// then
+			verify(redisTemplate).executePipelined(any(SessionCallback.class));
+		}
+	}
+
+	@Test
+	@DisplayName("노드 채널 이름은 토픽과 노드 id를 이어 붙인다")
+	void localNodeChannel_AppendsNodeId() {
+		// when & then
+		assertThat(chatPresenceService.localNodeChannel("chatroom")).isEqualTo("chatroom:node-a");
+	}
+}
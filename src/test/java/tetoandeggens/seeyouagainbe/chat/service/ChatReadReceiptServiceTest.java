@@ -0,0 +1,193 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatReadNotificationDto;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
+import tetoandeggens.seeyouagainbe.chat.pub.RedisPublisher;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
+import tetoandeggens.seeyouagainbe.global.config.ChatReadReceiptProperties;
+import tetoandeggens.seeyouagainbe.global.config.ChatWriteBehindProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatReadReceiptService 단위 테스트")
+class ChatReadReceiptServiceTest {
+
+	private static final Long CHAT_ROOM_ID = 1L;
+	private static final Long SENDER_ID = 10L;
+	private static final Long READER_ID = 20L;
+	private static final String PENDING_KEY = "chat:read-receipt:pending";
+	private static final String FIELD = CHAT_ROOM_ID + ":" + READER_ID;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+
+	@Mock
+	private ChatRoomMembershipService chatRoomMembershipService;
+
+	@Mock
+	private RedisPublisher redisPublisher;
+
+	@Mock
+	private ChatWriteBehindService chatWriteBehindService;
+
+	private ChatWriteBehindProperties chatWriteBehindProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private ChatReadReceiptService chatReadReceiptService;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(chatRoomMembershipService.getMembership(CHAT_ROOM_ID)).thenReturn(
+			new ChatRoomMembership(CHAT_ROOM_ID, SENDER_ID, READER_ID, false, ViolatedStatus.NORMAL));
+		meterRegistry = new SimpleMeterRegistry();
+		chatWriteBehindProperties = new ChatWriteBehindProperties();
+		chatWriteBehindProperties.setWorkerId(1);
+		chatReadReceiptService = new ChatReadReceiptService(redisTemplate, chatRoomRepository,
+			chatMessageRepository, chatRoomMembershipService, redisPublisher,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)), new ChatReadReceiptProperties(),
+			chatWriteBehindProperties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("읽음 요청은 DB에 바로 반영하지 않고 Redis에 가장 큰 메시지 id만 모아 둔다")
+	void record_StagesInRedis() {
+		// when
+		chatReadReceiptService.record(CHAT_ROOM_ID, READER_ID, 101L);
+
+		// then
+		verify(redisTemplate).execute(ChatReadReceiptService.RECORD_SCRIPT, List.of(PENDING_KEY), FIELD, "101");
+		verifyNoInteractions(chatRoomRepository, redisPublisher);
+		assertThat(meterRegistry.get("chat.read-receipt.received").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("모아 둔 가장 큰 메시지 id로 한 번만 갱신하고 한 번만 알린다")
+	void flush_AdvancesCursorOnceAndNotifies() {
+		// given
+		givenPending(FIELD, "103");
+		when(chatMessageRepository.findLastMessageId(CHAT_ROOM_ID)).thenReturn(Optional.of(105L));
+		when(chatRoomRepository.advanceReadCursor(CHAT_ROOM_ID, READER_ID, 103L)).thenReturn(1);
+
+		// when
+		chatReadReceiptService.flush();
+
+		// then
+		verify(chatRoomRepository, times(1)).advanceReadCursor(anyLong(), anyLong(), anyLong());
+		ArgumentCaptor<ChatReadNotificationDto> captor = ArgumentCaptor.forClass(ChatReadNotificationDto.class);
+		verify(redisPublisher, times(1)).publishReadNotification(captor.capture());
+		assertThat(captor.getValue()).isEqualTo(new ChatReadNotificationDto(CHAT_ROOM_ID, 103L, SENDER_ID));
+		assertThat(meterRegistry.get("chat.read-receipt.flushed").counter().count()).isEqualTo(1.0);
+		verify(redisTemplate).execute(ChatReadReceiptService.COMPLETE_SCRIPT, List.of(PENDING_KEY), FIELD, "103");
+	}
+
+	@Test
+	@DisplayName("저장된 마지막 메시지보다 큰 id는 마지막 메시지까지만 읽음 처리하고, 없는 메시지면 남겨 두지 않는다")
+	void flush_ClampsToLastStoredMessage() {
+		// given
+		chatWriteBehindProperties.setEnabled(true);
+		String messageId = String.valueOf(Long.MAX_VALUE);
+		when(chatMessageRepository.findLastMessageId(CHAT_ROOM_ID)).thenReturn(Optional.of(105L));
+		when(chatRoomRepository.advanceReadCursor(CHAT_ROOM_ID, READER_ID, 105L)).thenReturn(1);
+		givenPending(FIELD, messageId);
+
+		// when
+		chatReadReceiptService.flush();
+
+		// then
+		verify(chatRoomRepository).advanceReadCursor(CHAT_ROOM_ID, READER_ID, 105L);
+		verify(redisTemplate).execute(ChatReadReceiptService.COMPLETE_SCRIPT, List.of(PENDING_KEY), FIELD, messageId);
+	}
+
+	@Test
+	@DisplayName("쓰기 지연으로 아직 저장되지 않은 메시지를 읽었으면 저장된 메시지까지 반영하고 나머지는 남겨 둔다")
+	void flush_KeepsRemainder_WhenMessageNotYetPersisted() {
+		// given
+		chatWriteBehindProperties.setEnabled(true);
+		long messageId = new ChatMessageIdGenerator(chatWriteBehindProperties, chatMessageRepository,
+			chatWriteBehindService).nextId();
+		givenPending(FIELD, String.valueOf(messageId));
+		when(chatMessageRepository.findLastMessageId(CHAT_ROOM_ID)).thenReturn(Optional.of(messageId - 1));
+		when(chatRoomRepository.advanceReadCursor(CHAT_ROOM_ID, READER_ID, messageId - 1)).thenReturn(1);
+
+		// when
+		chatReadReceiptService.flush();
+
+		// then
+		verify(chatRoomRepository).advanceReadCursor(CHAT_ROOM_ID, READER_ID, messageId - 1);
+		verify(redisTemplate, never()).execute(eq(ChatReadReceiptService.COMPLETE_SCRIPT), anyList(), any(), any());
+	}
+
+	@Test
+	@DisplayName("커서가 이미 앞서 있으면 알림을 보내지 않는다")
+	void flush_SkipsNotification_WhenCursorNotAdvanced() {
+		// given
+		givenPending(FIELD, "101");
+		when(chatMessageRepository.findLastMessageId(CHAT_ROOM_ID)).thenReturn(Optional.of(105L));
+		when(chatRoomRepository.advanceReadCursor(CHAT_ROOM_ID, READER_ID, 101L)).thenReturn(0);
+
+		// when
+		chatReadReceiptService.flush();
+
+		// then
+		verifyNoInteractions(redisPublisher);
+	}
+
+	@Test
+	@DisplayName("DB 갱신에 실패하면 Redis에서 지우지 않아 다음 주기에 재시도한다")
+	void flush_KeepsPendingOnFailure() {
+		// given
+		givenPending(FIELD, "101");
+		when(chatMessageRepository.findLastMessageId(CHAT_ROOM_ID)).thenThrow(new QueryTimeoutException("timeout"));
+
+		// when
+		chatReadReceiptService.flush();
+
+		// then
+		verify(redisTemplate, never()).execute(eq(ChatReadReceiptService.COMPLETE_SCRIPT), anyList(), any(), any());
+		verifyNoInteractions(redisPublisher);
+	}
+
+	@Test
+	@DisplayName("모아 둔 읽음 요청이 없으면 DB에 접근하지 않는다")
+	void flush_DoesNothing_WhenNothingPending() {
+		// given
+		givenPending();
+
+		// when
+		chatReadReceiptService.flush();
+
+		// then
+		verifyNoInteractions(chatRoomRepository, chatMessageRepository, redisPublisher);
+	}
+
+	private void givenPending(String... entries) {
+		when(redisTemplate.execute(ChatReadReceiptService.SCAN_SCRIPT, List.of(PENDING_KEY), "1000"))
+			.thenReturn(List.of(entries));
+	}
+}
@@ -0,0 +1,134 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatRoomMembership;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.common.enums.ViolatedStatus;
+import tetoandeggens.seeyouagainbe.common.service.DetailCacheService;
+import tetoandeggens.seeyouagainbe.global.config.DetailCacheProperties;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.ChatErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomMembershipService 단위 테스트")
+class ChatRoomMembershipServiceTest {
+
+	private static final Long CHAT_ROOM_ID = 1L;
+	private static final Long SENDER_ID = 10L;
+	private static final Long RECEIVER_ID = 20L;
+
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private ChatRoomMembershipService chatRoomMembershipService;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		DetailCacheService detailCacheService = new DetailCacheService(redisTemplate,
+			new ChannelTopic("detail-cache"), new ObjectMapper(), new DetailCacheProperties(),
+			new SimpleMeterRegistry());
+		chatRoomMembershipService = new ChatRoomMembershipService(chatRoomRepository, detailCacheService);
+	}
+
+	@Nested
+	@DisplayName("참여자 조회 테스트")
+	class GetMembershipTests {
+
+		@Test
+		@DisplayName("한 번 조회한 채팅방은 다시 DB를 조회하지 않는다")
+		void getMembership_LoadsOnlyOnce() {
+			// given
+			when(chatRoomRepository.findMembershipById(CHAT_ROOM_ID)).thenReturn(Optional.of(membership()));
+
+			// when
+			chatRoomMembershipService.getMembership(CHAT_ROOM_ID);
+			ChatRoomMembership result = chatRoomMembershipService.getMembership(CHAT_ROOM_ID);
+
+			// then
+			assertThat(result.senderId()).isEqualTo(SENDER_ID);
+			assertThat(result.receiverId()).isEqualTo(RECEIVER_ID);
+			verify(chatRoomRepository, times(1)).findMembershipById(CHAT_ROOM_ID);
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 채팅방 - CHAT_ROOM_NOT_FOUND 예외 발생")
+		void getMembership_NotFound_ThrowsException() {
+			// given
+			when(chatRoomRepository.findMembershipById(CHAT_ROOM_ID)).thenReturn(Optional.empty());
+
+			// when & then
+			assertThatThrownBy(() -> chatRoomMembershipService.getMembership(CHAT_ROOM_ID))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ChatErrorCode.CHAT_ROOM_NOT_FOUND);
+		}
+
+		@Test
+		@DisplayName("참여자가 아닌 회원 - CHAT_FORBIDDEN 예외 발생")
+		void getMembershipOfMember_NotMember_ThrowsException() {
+			// given
+			when(chatRoomRepository.findMembershipById(CHAT_ROOM_ID)).thenReturn(Optional.of(membership()));
+
+			// when & then
+			assertThatCode(() -> chatRoomMembershipService.getMembershipOfMember(CHAT_ROOM_ID, RECEIVER_ID))
+				.doesNotThrowAnyException();
+			assertThatThrownBy(() -> chatRoomMembershipService.getMembershipOfMember(CHAT_ROOM_ID, 99L))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ChatErrorCode.CHAT_FORBIDDEN);
+		}
+	}
+
+	@Nested
+	@DisplayName("무효화 테스트")
+	class EvictTests {
+
+		@Test
+		@DisplayName("무효화하면 다음 조회에서 바뀐 상태를 다시 읽는다")
+		void evictAll_ReloadsChangedState() {
+			// given
+			ChatRoomMembership deleted = new ChatRoomMembership(CHAT_ROOM_ID, SENDER_ID, RECEIVER_ID, true,
+				ViolatedStatus.VIOLATED);
+			when(chatRoomRepository.findMembershipById(CHAT_ROOM_ID))
+				.thenReturn(Optional.of(membership()))
+				.thenReturn(Optional.of(deleted));
+			chatRoomMembershipService.getMembership(CHAT_ROOM_ID);
+
+			// when
+			chatRoomMembershipService.evictAll(List.of(CHAT_ROOM_ID));
+			ChatRoomMembership result = chatRoomMembershipService.getMembership(CHAT_ROOM_ID);
+
+			// then
+			assertThat(result.isDeleted()).isTrue();
+			verify(redisTemplate).convertAndSend("detail-cache", "chat-room-membership:1");
+		}
+	}
+
+	private ChatRoomMembership membership() {
+		return new ChatRoomMembership(CHAT_ROOM_ID, SENDER_ID, RECEIVER_ID, false, ViolatedStatus.NORMAL);
+	}
+}
@@ -130,6 +130,7 @@ class ChatRoomServiceTest extends ServiceTest {
 				.receiver(receiver)
 				.content("확인 부탁드립니다")
 				.build());
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
 
 			CursorPageRequest request = new CursorPageRequest(null, 10);
 			SortDirection sortDirection = SortDirection.LATEST;
@@ -217,6 +218,62 @@ class ChatRoomServiceTest extends ServiceTest {
 			assertThat(result.messages().getData()).hasSize(1);
 		}
 
+		@Test
+		@DisplayName("채팅방 메시지 조회 - 조회한 참여자의 안 읽은 메시지 카운터만 초기화")
+		void getChatMessages_ResetsUnreadCountOfReader() {
+			// given
+			ChatMessage message = chatMessageRepository.save(ChatMessage.builder()
+				.chatRoom(chatRoom)
+				.sender(sender)
+				.receiver(receiver)
+				.content("테스트 메시지")
+				.build());
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), message.getId(), message.getContent(),
+				message.getCreatedAt());
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), receiver.getId());
+			chatRoomRepository.increaseUnreadCount(chatRoom.getId(), sender.getId());
+
+			CursorPageRequest request = new CursorPageRequest(null, 20);
+			SortDirection sortDirection = SortDirection.LATEST;
+
+			// when
+			chatRoomService.getChatMessages(chatRoom.getId(), receiver.getId(), request, sortDirection);
+
+			// then
+			assertThat(chatRoomService.getUnreadChatRooms(receiver.getId(), request, sortDirection)
+				.chatRooms().getData()).isEmpty();
+			assertThat(chatRoomService.getUnreadChatRooms(sender.getId(), request, sortDirection)
+				.chatRooms().getData()).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("채팅방 메시지 조회 - 읽음 여부는 받는 사람의 읽음 커서로 판단")
+		void getChatMessages_ReadStateFromReadCursor() {
+			// given
+			ChatMessage message = chatMessageRepository.save(ChatMessage.builder()
+				.chatRoom(chatRoom)
+				.sender(sender)
+				.receiver(receiver)
+				.content("보낸 메시지")
+				.build());
+			chatRoomRepository.updateLastMessage(chatRoom.getId(), message.getId(), message.getContent(),
+				message.getCreatedAt());
+
+			CursorPageRequest request = new CursorPageRequest(null, 20);
+			SortDirection sortDirection = SortDirection.LATEST;
+
+			// when
+			ChatMessageListResponse beforeRead = chatRoomService.getChatMessages(
+				chatRoom.getId(), sender.getId(), request, sortDirection);
+			chatRoomService.getChatMessages(chatRoom.getId(), receiver.getId(), request, sortDirection);
+			ChatMessageListResponse afterRead = chatRoomService.getChatMessages(
+				chatRoom.getId(), sender.getId(), request, sortDirection);
+
+			// then
+			assertThat(beforeRead.messages().getData().get(0).isRead()).isFalse();
+			assertThat(afterRead.messages().getData().get(0).isRead()).isTrue();
+		}
+
 		@Test
 		@DisplayName("존재하지 않는 채팅방 조회 - CHAT_ROOM_NOT_FOUND 예외 발생")
 		void getChatMessages_ChatRoomNotFound_ThrowsException() {
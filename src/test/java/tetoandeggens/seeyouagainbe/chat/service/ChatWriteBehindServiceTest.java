@@ -0,0 +1,318 @@
+package tetoandeggens.seeyouagainbe.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.chat.dto.ChatMessageDto;
+import tetoandeggens.seeyouagainbe.chat.dto.PendingChatMessage;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatMessage;
+import tetoandeggens.seeyouagainbe.chat.entity.ChatRoom;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatMessageRepository;
+import tetoandeggens.seeyouagainbe.chat.repository.ChatRoomRepository;
+import tetoandeggens.seeyouagainbe.global.config.ChatPresenceProperties;
+import tetoandeggens.seeyouagainbe.global.config.ChatWriteBehindProperties;
+import tetoandeggens.seeyouagainbe.global.util.AesEncryptionUtil;
+import tetoandeggens.seeyouagainbe.member.entity.Member;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatWriteBehindService 단위 테스트")
+class ChatWriteBehindServiceTest {
+
+	private static final String QUEUE_KEY = "chat:write-behind";
+	private static final String TEST_SECRET_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 20, 14, 30);
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+
+	@Captor
+	private ArgumentCaptor<Map<String, String>> fieldsCaptor;
+
+	private final AesEncryptionUtil aesEncryptionUtil = new AesEncryptionUtil(TEST_SECRET_KEY);
+	private ChatWriteBehindProperties chatWriteBehindProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private ChatWriteBehindService chatWriteBehindService;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+		lenient().when(streamOperations.pending(anyString(), anyString(), any(Range.class), anyLong()))
+			.thenReturn(new PendingMessages("chat-persist", List.of()));
+
+		chatWriteBehindProperties = new ChatWriteBehindProperties();
+		chatWriteBehindProperties.setEnabled(true);
+		chatWriteBehindProperties.setBatchSize(10);
+		ChatPresenceProperties chatPresenceProperties = new ChatPresenceProperties();
+		chatPresenceProperties.setNodeId("node-a");
+		meterRegistry = new SimpleMeterRegistry();
+
+		chatWriteBehindService = new ChatWriteBehindService(redisTemplate, chatMessageRepository,
+			chatRoomRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)), aesEncryptionUtil,
+			chatWriteBehindProperties, chatPresenceProperties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("큐에는 내용을 암호화해서 넣는다")
+	void enqueue_StoresEncryptedContent() {
+		// when
+		chatWriteBehindService.enqueue(ChatMessageDto.builder()
+			.messageId(100L)
+			.chatRoomId(1L)
+			.senderId(1L)
+			.receiverId(2L)
+			.content("hello")
+			.createdAt(CREATED_AT)
+			.build());
+
+		// then
+		verify(streamOperations).add(eq(QUEUE_KEY), fieldsCaptor.capture());
+		PendingChatMessage queued = PendingChatMessage.fromFields(fieldsCaptor.getValue());
+		assertThat(queued.encryptedContent()).isNotEqualTo("hello");
+		assertThat(aesEncryptionUtil.decrypt(queued.encryptedContent())).isEqualTo("hello");
+		assertThat(queued.messageId()).isEqualTo(100L);
+	}
+
+	@Test
+	@DisplayName("큐의 메시지를 한 번에 저장하고 채팅방 요약을 갱신한 뒤 ACK한다")
+	void flush_PersistsBatchAndAcknowledges() {
+		// given
+		MapRecord<String, Object, Object> first = createRecord("1-0", 100L, 1L);
+		MapRecord<String, Object, Object> second = createRecord("1-1", 101L, 1L);
+		MapRecord<String, Object, Object> third = createRecord("1-2", 102L, 2L);
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+			ArgumentMatchers.<StreamOffset<String>[]>any()))
+			.thenReturn(List.of(first, second, third));
+		when(chatMessageRepository.findPersistedMessages(List.of(100L, 101L, 102L))).thenReturn(List.of());
+
+		// when
+		chatWriteBehindService.flush();
+
+		// then
+		verify(chatMessageRepository).bulkInsert(argThat(messages -> messages.size() == 3));
+		verify(chatRoomRepository).increaseUnreadCountBy(1L, 2L, 2L);
+		verify(chatRoomRepository).increaseUnreadCountBy(2L, 2L, 1L);
+		verify(chatRoomRepository).updateLastMessage(1L, 101L, "hello", CREATED_AT);
+		verify(chatRoomRepository).updateLastMessage(2L, 102L, "hello", CREATED_AT);
+		verify(streamOperations).acknowledge(QUEUE_KEY, "chat-persist",
+			RecordId.of("1-0"), RecordId.of("1-1"), RecordId.of("1-2"));
+		assertThat(meterRegistry.get("chat.write-behind.flush").timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("다시 전달된 메시지 중 이미 저장된 것은 건너뛴다")
+	void flush_SkipsAlreadyPersistedMessages() {
+		// given
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+			ArgumentMatchers.<StreamOffset<String>[]>any()))
+			.thenReturn(List.of(createRecord("1-0", 100L, 1L), createRecord("1-1", 101L, 1L)));
+		when(chatMessageRepository.findPersistedMessages(List.of(100L, 101L)))
+			.thenReturn(List.of(createPersisted(100L, 1L, 1L, "hello")));
+
+		// when
+		chatWriteBehindService.flush();
+
+		// then
+		verify(chatMessageRepository).bulkInsert(argThat(messages ->
+			messages.size() == 1 && messages.get(0).messageId().equals(101L)));
+		verify(chatRoomRepository).increaseUnreadCountBy(1L, 2L, 1L);
+	}
+
+	@Test
+	@DisplayName("같은 id로 다른 메시지가 이미 저장되어 있으면 건너뛰지 않고 dead-letter로 옮긴 뒤 ACK한다")
+	void flush_MovesConflictingIdToDeadLetter() {
+		// given
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+			ArgumentMatchers.<StreamOffset<String>[]>any()))
+			.thenReturn(List.of(createRecord("1-0", 100L, 1L)));
+		when(chatMessageRepository.findPersistedMessages(List.of(100L)))
+			.thenReturn(List.of(createPersisted(100L, 1L, 3L, "other")));
+
+		// when
+		chatWriteBehindService.flush();
+
+		// then
+		verify(chatMessageRepository, never()).bulkInsert(anyList());
+		verify(streamOperations).add(eq("chat:write-behind:dead"), anyMap());
+		verify(streamOperations).acknowledge(QUEUE_KEY, "chat-persist", RecordId.of("1-0"));
+		assertThat(meterRegistry.get("chat.write-behind.dead-letter").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("넘겨받은 메시지 저장에 실패해도 새 메시지는 계속 읽는다")
+	void flush_ReadsNewMessages_WhenReclaimedBatchFails() {
+		// given
+		PendingMessage pending = new PendingMessage(RecordId.of("1-0"), Consumer.from("chat-persist", "node-dead"),
+			Duration.ofMinutes(5), 1L);
+		when(streamOperations.pending(anyString(), anyString(), any(Range.class), anyLong()))
+			.thenReturn(new PendingMessages("chat-persist", List.of(pending)));
+		when(streamOperations.claim(eq(QUEUE_KEY), eq("chat-persist"), eq("node-a"), any(Duration.class),
+			any(RecordId[].class))).thenReturn(List.of(createRecord("1-0", 100L, 1L)));
+		when(chatMessageRepository.findPersistedMessages(List.of(100L)))
+			.thenThrow(new QueryTimeoutException("timeout"));
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+			ArgumentMatchers.<StreamOffset<String>[]>any()))
+			.thenReturn(List.of(createRecord("1-1", 101L, 1L)));
+		when(chatMessageRepository.findPersistedMessages(List.of(101L))).thenReturn(List.of());
+
+		// when
+		chatWriteBehindService.flush();
+
+		// then
+		verify(chatMessageRepository).bulkInsert(argThat(messages ->
+			messages.size() == 1 && messages.get(0).messageId().equals(101L)));
+		verify(streamOperations).acknowledge(QUEUE_KEY, "chat-persist", RecordId.of("1-1"));
+	}
+
+	@Test
+	@DisplayName("저장에 실패하면 ACK하지 않아 pending으로 남긴다")
+	void flush_DoesNotAcknowledge_WhenPersistFails() {
+		// given
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+			ArgumentMatchers.<StreamOffset<String>[]>any()))
+			.thenReturn(List.of(createRecord("1-0", 100L, 1L)));
+		when(chatMessageRepository.findPersistedMessages(anyList())).thenReturn(List.of());
+		doThrow(new DataIntegrityViolationException("fk")).when(chatMessageRepository).bulkInsert(anyList());
+
+		// when
+		chatWriteBehindService.flush();
+
+		// then
+		verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+	}
+
+	@Test
+	@DisplayName("여러 번 실패한 메시지를 넘겨받아도 저장에 실패하면 dead-letter로 옮기고 ACK한다")
+	void flush_MovesExhaustedMessageToDeadLetter() {
+		// given
+		MapRecord<String, Object, Object> poison = createRecord("1-0", 100L, 1L);
+		PendingMessage pending = new PendingMessage(RecordId.of("1-0"), Consumer.from("chat-persist", "node-dead"),
+			Duration.ofMinutes(5), chatWriteBehindProperties.getMaxDeliveries());
+		when(streamOperations.pending(anyString(), anyString(), any(Range.class), anyLong()))
+			.thenReturn(new PendingMessages("chat-persist", List.of(pending)));
+		when(streamOperations.claim(eq(QUEUE_KEY), eq("chat-persist"), eq("node-a"), any(Duration.class),
+			any(RecordId[].class))).thenReturn(List.of(poison));
+		when(chatMessageRepository.findPersistedMessages(anyList())).thenReturn(List.of());
+		doThrow(new DataIntegrityViolationException("fk")).when(chatMessageRepository).bulkInsert(anyList());
+
+		// when
+		chatWriteBehindService.flush();
+
+		// then
+		verify(streamOperations).add(eq("chat:write-behind:dead"), anyMap());
+		verify(streamOperations).acknowledge(QUEUE_KEY, "chat-persist", RecordId.of("1-0"));
+		assertThat(meterRegistry.get("chat.write-behind.dead-letter").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("큐에 남은 메시지 중 회원이 주고받은 마지막 id 이후 메시지를 복호화해서 돌려준다")
+	void findQueuedMessagesAfter_ReturnsMemberMessagesAfterId() {
+		// given
+		MapRecord<String, Object, Object> before = createRecord("1-0", 100L, 1L);
+		MapRecord<String, Object, Object> after = createRecord("1-1", 101L, 1L);
+		when(streamOperations.range(eq(QUEUE_KEY), any(), any(Limit.class)))
+			.thenReturn(List.of(before, after));
+
+		// when
+		List<ChatMessageDto> queued = chatWriteBehindService.findQueuedMessagesAfter(2L, 100L);
+
+		// then
+		assertThat(queued).extracting(ChatMessageDto::messageId).containsExactly(101L);
+		assertThat(queued.get(0).content()).isEqualTo("hello");
+		assertThat(queued.get(0).senderUuid()).isEqualTo("sender-uuid");
+		assertThat(chatWriteBehindService.findQueuedMessagesAfter(3L, 0L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("큐를 읽지 못하면 빈 목록을 돌려준다")
+	void findQueuedMessagesAfter_ReturnsEmpty_WhenRedisFails() {
+		// given
+		when(streamOperations.range(eq(QUEUE_KEY), any(), any(Limit.class)))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		// when & then
+		assertThat(chatWriteBehindService.findQueuedMessagesAfter(2L, 0L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("쓰기 지연을 끄면 큐를 읽지 않는다")
+	void flush_DoesNothing_WhenDisabled() {
+		// given
+		chatWriteBehindProperties.setEnabled(false);
+
+		// when
+		chatWriteBehindService.flush();
+
+		// then
+		verifyNoInteractions(redisTemplate, chatMessageRepository);
+	}
+
+	private MapRecord<String, Object, Object> createRecord(String recordId, Long messageId, Long chatRoomId) {
+		PendingChatMessage message = PendingChatMessage.builder()
+			.messageId(messageId)
+			.chatRoomId(chatRoomId)
+			.senderId(1L)
+			.receiverId(2L)
+			.senderUuid("sender-uuid")
+			.encryptedContent(aesEncryptionUtil.encrypt("hello"))
+			.createdAt(CREATED_AT)
+			.build();
+		return StreamRecords.<String, Object, Object>mapBacked(Map.copyOf(message.toFields()))
+			.withStreamKey(QUEUE_KEY)
+			.withId(RecordId.of(recordId));
+	}
+
+	private ChatMessage createPersisted(Long messageId, Long chatRoomId, Long senderId, String content) {
+		ChatMessage message = ChatMessage.builder()
+			.chatRoom(new ChatRoom(chatRoomId))
+			.sender(new Member(senderId))
+			.receiver(new Member(2L))
+			.content(content)
+			.build();
+		ReflectionTestUtils.setField(message, "id", messageId);
+		return message;
+	}
+}
@@ -0,0 +1,176 @@
+package tetoandeggens.seeyouagainbe.chat.sub;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.global.config.ChatDeliveryProperties;
+
+@DisplayName("ChatDeliveryExecutor 단위 테스트")
+class ChatDeliveryExecutorTest {
+
+	private ChatDeliveryProperties chatDeliveryProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private ChatDeliveryExecutor chatDeliveryExecutor;
+
+	@BeforeEach
+	void setUp() {
+		chatDeliveryProperties = new ChatDeliveryProperties();
+		chatDeliveryProperties.setStripes(4);
+		chatDeliveryProperties.setQueueCapacity(1);
+		chatDeliveryProperties.setOfferTimeout(Duration.ofMillis(50));
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		chatDeliveryExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 채팅방의 전달은 들어온 순서대로 처리된다")
+	void execute_KeepsOrderPerChatRoom() throws InterruptedException {
+		// given
+		chatDeliveryProperties.setQueueCapacity(1000);
+		chatDeliveryExecutor = new ChatDeliveryExecutor(chatDeliveryProperties, meterRegistry);
+		List<Integer> delivered = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(500);
+
+		// when
+		IntStream.range(0, 500).forEach(sequence -> chatDeliveryExecutor.execute(7L, () -> {
+			delivered.add(sequence);
+			done.countDown();
+		}));
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(delivered).isSorted().hasSize(500);
+	}
+
+	@Test
+	@DisplayName("한 채팅방이 막혀도 다른 스트라이프의 채팅방은 전달된다")
+	void execute_OtherStripesNotBlocked() throws InterruptedException {
+		// given
+		chatDeliveryExecutor = new ChatDeliveryExecutor(chatDeliveryProperties, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch otherDelivered = new CountDownLatch(1);
+		chatDeliveryExecutor.execute(0L, () -> awaitQuietly(release));
+
+		// when
+		chatDeliveryExecutor.execute(1L, otherDelivered::countDown);
+
+		// then
+		assertThat(otherDelivered.await(1, TimeUnit.SECONDS)).isTrue();
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 잠시 기다렸다가 그래도 자리가 없으면 버리고 메트릭에 남긴다")
+	void execute_RejectsAfterOfferTimeout_WhenSaturated() {
+		// given
+		chatDeliveryExecutor = new ChatDeliveryExecutor(chatDeliveryProperties, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		chatDeliveryExecutor.execute(0L, () -> awaitQuietly(release));
+		chatDeliveryExecutor.execute(0L, () -> {
+		});
+
+		// when
+		long startedAt = System.nanoTime();
+		chatDeliveryExecutor.execute(0L, () -> {
+		});
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		// then
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(40L);
+		assertThat(meterRegistry.get("chat.delivery.back-pressure").counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("chat.delivery.rejected").counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("chat.delivery.queue.max").gauge().value()).isEqualTo(1.0);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("전달 중 예외가 나도 같은 스트라이프의 다음 전달은 계속 처리된다")
+	void execute_ContinuesAfterFailure() throws InterruptedException {
+		// given
+		chatDeliveryExecutor = new ChatDeliveryExecutor(chatDeliveryProperties, meterRegistry);
+		CountDownLatch delivered = new CountDownLatch(1);
+
+		// when
+		chatDeliveryExecutor.execute(3L, () -> {
+			throw new IllegalStateException("boom");
+		});
+		chatDeliveryExecutor.execute(3L, delivered::countDown);
+
+		// then
+		assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("대기열 포화로 버리거나 전달이 실패하면 전달 완료 콜백을 실행하지 않는다")
+	void execute_SkipsOnDelivered_WhenRejectedOrFailed() throws InterruptedException {
+		// given
+		chatDeliveryExecutor = new ChatDeliveryExecutor(chatDeliveryProperties, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch delivered = new CountDownLatch(1);
+		AtomicInteger acknowledged = new AtomicInteger();
+		chatDeliveryExecutor.execute(0L, () -> awaitQuietly(release));
+		chatDeliveryExecutor.execute(0L, () -> {
+			throw new IllegalStateException("boom");
+		}, acknowledged::incrementAndGet);
+
+		// when
+		chatDeliveryExecutor.execute(0L, () -> {
+		}, acknowledged::incrementAndGet);
+		release.countDown();
+		chatDeliveryExecutor.execute(0L, () -> {
+		}, delivered::countDown);
+
+		// then
+		assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(acknowledged).hasValue(0);
+		assertThat(meterRegistry.get("chat.delivery.rejected").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("수신 대기열이 가득 차면 기다리지 않고 버린 뒤 메트릭에 남긴다")
+	void dispatcher_DropsWithoutBlocking_WhenSaturated() {
+		// given
+		chatDeliveryProperties.setDispatchQueueCapacity(1);
+		chatDeliveryExecutor = new ChatDeliveryExecutor(chatDeliveryProperties, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		chatDeliveryExecutor.dispatcher().execute(() -> awaitQuietly(release));
+		chatDeliveryExecutor.dispatcher().execute(() -> {
+		});
+
+		// when
+		long startedAt = System.nanoTime();
+		chatDeliveryExecutor.dispatcher().execute(() -> {
+		});
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		// then
+		assertThat(elapsedMillis).isLessThan(40L);
+		assertThat(meterRegistry.get("chat.delivery.dispatch.rejected").counter().count()).isEqualTo(1.0);
+		release.countDown();
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
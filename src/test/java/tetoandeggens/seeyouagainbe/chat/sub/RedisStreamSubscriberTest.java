@@ -0,0 +1,185 @@
+package tetoandeggens.seeyouagainbe.chat.sub;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static tetoandeggens.seeyouagainbe.chat.pub.RedisPublisher.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import tetoandeggens.seeyouagainbe.chat.service.ChatPresenceService;
+import tetoandeggens.seeyouagainbe.global.config.ChatStreamProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStreamSubscriber 단위 테스트")
+class RedisStreamSubscriberTest {
+
+	private static final String STREAM_KEY = "chat:node:node-a";
+	private static final byte[] PAYLOAD = "payload".getBytes(StandardCharsets.UTF_8);
+
+	@Mock
+	private RedisSubscriber redisSubscriber;
+
+	@Mock
+	private RedisTemplate<String, byte[]> chatBusRedisTemplate;
+
+	@Mock
+	private StreamOperations<String, String, byte[]> streamOperations;
+
+	@Mock
+	private ChatPresenceService chatPresenceService;
+
+	private ChatStreamProperties chatStreamProperties;
+	private RedisStreamSubscriber redisStreamSubscriber;
+
+	@BeforeEach
+	void setUp() {
+		chatStreamProperties = new ChatStreamProperties();
+		redisStreamSubscriber = new RedisStreamSubscriber(redisSubscriber, chatBusRedisTemplate,
+			new ChannelTopic("chatroom"), new ChannelTopic("chatread"), chatPresenceService, chatStreamProperties);
+		lenient().doReturn(streamOperations).when(chatBusRedisTemplate).opsForStream();
+		lenient().when(chatPresenceService.localNodeStreamKey()).thenReturn(STREAM_KEY);
+		lenient().when(chatPresenceService.getNodeId()).thenReturn("node-a");
+	}
+
+	@Test
+	@DisplayName("ACK되지 않고 오래 남은 레코드를 넘겨받아 다시 전달하고 ACK한다")
+	void reclaimPending_RedeliversIdleRecords() {
+		// given
+		givenPending(pending("1-0", Duration.ofMinutes(1), 1), pending("1-1", Duration.ofSeconds(1), 1));
+		when(streamOperations.claim(eq(STREAM_KEY), eq(RedisStreamSubscriber.CONSUMER_GROUP), eq("node-a"),
+			any(Duration.class), any(RecordId[].class))).thenReturn(List.of(createRecord("1-0")));
+		doAnswer(this::runOnDelivered).when(redisSubscriber).deliverMessage(eq(PAYLOAD), any());
+
+		// when
+		redisStreamSubscriber.reclaimPending();
+
+		// then
+		verify(streamOperations).claim(STREAM_KEY, RedisStreamSubscriber.CONSUMER_GROUP, "node-a",
+			chatStreamProperties.getReclaimIdleTime(), RecordId.of("1-0"));
+		verify(redisSubscriber).deliverMessage(eq(PAYLOAD), any());
+		verify(streamOperations).acknowledge(eq(RedisStreamSubscriber.CONSUMER_GROUP), any());
+	}
+
+	@Test
+	@DisplayName("재전달 횟수를 넘긴 레코드는 다시 전달하지 않고 ACK한다")
+	void reclaimPending_AcknowledgesExhaustedRecords() {
+		// given
+		givenPending(pending("1-0", Duration.ofMinutes(1), chatStreamProperties.getMaxDeliveries()));
+
+		// when
+		redisStreamSubscriber.reclaimPending();
+
+		// then
+		verify(streamOperations).acknowledge(STREAM_KEY, RedisStreamSubscriber.CONSUMER_GROUP, RecordId.of("1-0"));
+		verify(streamOperations, never()).claim(anyString(), anyString(), anyString(), any(Duration.class),
+			any(RecordId[].class));
+		verifyNoInteractions(redisSubscriber);
+	}
+
+	@Test
+	@DisplayName("재처리 중 한 레코드가 실패해도 나머지 레코드는 전달한다")
+	void reclaimPending_ContinuesAfterFailedRecord() {
+		// given
+		givenPending(pending("1-0", Duration.ofMinutes(1), 1), pending("1-1", Duration.ofMinutes(1), 1));
+		when(streamOperations.claim(eq(STREAM_KEY), eq(RedisStreamSubscriber.CONSUMER_GROUP), eq("node-a"),
+			any(Duration.class), any(RecordId[].class))).thenReturn(List.of(createRecord("1-0"), createRecord("1-1")));
+		doThrow(new IllegalStateException("decode")).doAnswer(this::runOnDelivered)
+			.when(redisSubscriber).deliverMessage(eq(PAYLOAD), any());
+
+		// when
+		redisStreamSubscriber.reclaimPending();
+
+		// then
+		verify(redisSubscriber, times(2)).deliverMessage(eq(PAYLOAD), any());
+		verify(streamOperations, times(1)).acknowledge(eq(RedisStreamSubscriber.CONSUMER_GROUP), any());
+	}
+
+	@Test
+	@DisplayName("스트라이프에서 전달을 마친 뒤에 ACK한다")
+	void onMessage_AcknowledgesAfterDelivery() {
+		// given
+		doAnswer(this::runOnDelivered).when(redisSubscriber).deliverMessage(eq(PAYLOAD), any());
+
+		// when
+		redisStreamSubscriber.onMessage(createRecord("1-0"));
+
+		// then
+		verify(streamOperations).acknowledge(eq(RedisStreamSubscriber.CONSUMER_GROUP), any());
+	}
+
+	@Test
+	@DisplayName("스트라이프가 전달을 버리면 ACK하지 않아 pending으로 남긴다")
+	void onMessage_DoesNotAcknowledge_WhenStripeRejects() {
+		// given - 대기열 포화로 버려지면 onDelivered가 실행되지 않음
+		doNothing().when(redisSubscriber).deliverMessage(eq(PAYLOAD), any());
+
+		// when
+		redisStreamSubscriber.onMessage(createRecord("1-0"));
+
+		// then
+		verify(redisSubscriber).deliverMessage(eq(PAYLOAD), any());
+		verify(streamOperations, never()).acknowledge(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("알 수 없는 레코드는 다시 처리하지 않도록 바로 ACK한다")
+	void onMessage_AcknowledgesUnknownRecord() {
+		// given
+		MapRecord<String, String, byte[]> record = createRecord("1-0", "unknown");
+
+		// when
+		redisStreamSubscriber.onMessage(record);
+
+		// then
+		verify(streamOperations).acknowledge(eq(RedisStreamSubscriber.CONSUMER_GROUP), any());
+		verifyNoInteractions(redisSubscriber);
+	}
+
+	private Object runOnDelivered(InvocationOnMock invocation) {
+		invocation.<Runnable>getArgument(1).run();
+		return null;
+	}
+
+	private void givenPending(PendingMessage... pendingMessages) {
+		when(streamOperations.pending(eq(STREAM_KEY), eq(RedisStreamSubscriber.CONSUMER_GROUP), any(Range.class),
+			anyLong())).thenReturn(new PendingMessages(RedisStreamSubscriber.CONSUMER_GROUP, List.of(pendingMessages)));
+	}
+
+	private PendingMessage pending(String recordId, Duration idle, long deliveryCount) {
+		return new PendingMessage(RecordId.of(recordId), Consumer.from(RedisStreamSubscriber.CONSUMER_GROUP, "node-a"),
+			idle, deliveryCount);
+	}
+
+	private MapRecord<String, String, byte[]> createRecord(String recordId) {
+		return createRecord(recordId, "chatroom");
+	}
+
+	private MapRecord<String, String, byte[]> createRecord(String recordId, String type) {
+		return StreamRecords.<String, String, byte[]>mapBacked(Map.of(
+				STREAM_FIELD_TYPE, type.getBytes(StandardCharsets.UTF_8),
+				STREAM_FIELD_PAYLOAD, PAYLOAD))
+			.withStreamKey(STREAM_KEY)
+			.withId(RecordId.of(recordId));
+	}
+}
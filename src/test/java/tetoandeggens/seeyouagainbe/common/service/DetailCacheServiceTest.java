@@ -0,0 +1,253 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.common.enums.DetailCacheTarget;
+import tetoandeggens.seeyouagainbe.global.config.DetailCacheProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DetailCacheService 단위 테스트")
+class DetailCacheServiceTest {
+
+	private static final String REMOTE_KEY = "detail-cache:animal:1";
+	private static final String CACHED_JSON = "{\"id\":1,\"name\":\"초코\"}";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private DetailCacheProperties detailCacheProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private DetailCacheService detailCacheService;
+	private AtomicInteger loadCalls;
+	private Supplier<Detail> loader;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		detailCacheProperties = new DetailCacheProperties();
+		meterRegistry = new SimpleMeterRegistry();
+		detailCacheService = createService();
+		loadCalls = new AtomicInteger();
+		loader = () -> {
+			loadCalls.incrementAndGet();
+			return new Detail(1L, "초코");
+		};
+	}
+
+	@Nested
+	@DisplayName("상세 조회 캐싱 테스트")
+	class GetTests {
+
+		@Test
+		@DisplayName("로컬과 원격 캐시가 모두 비어 있으면 DB에서 읽어 원격 캐시에 저장한다")
+		void get_LoadsAndStoresRemote_WhenBothMiss() {
+			// when
+			Detail result = detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			assertThat(result).isEqualTo(new Detail(1L, "초코"));
+			assertThat(loadCalls).hasValue(1);
+			verify(valueOperations).set(REMOTE_KEY, CACHED_JSON, detailCacheProperties.getRemoteTtl());
+			assertThat(meterRegistry.get("detail.cache.remote").tag("result", "miss").counter().count())
+				.isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("두 번째 조회부터는 로컬 캐시에서 반환하고 Redis와 DB를 조회하지 않는다")
+		void get_ReturnsLocal_OnSecondCall() {
+			// given
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// when
+			Detail result = detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			assertThat(result.name()).isEqualTo("초코");
+			assertThat(loadCalls).hasValue(1);
+			verify(valueOperations, times(1)).get(REMOTE_KEY);
+		}
+
+		@Test
+		@DisplayName("원격 캐시에 있으면 DB를 조회하지 않는다")
+		void get_ReturnsRemote_WhenLocalMiss() {
+			// given
+			when(valueOperations.get(REMOTE_KEY)).thenReturn(CACHED_JSON);
+
+			// when
+			Detail result = detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			assertThat(result).isEqualTo(new Detail(1L, "초코"));
+			assertThat(loadCalls).hasValue(0);
+			assertThat(meterRegistry.get("detail.cache.remote").tag("result", "hit").counter().count())
+				.isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("대상마다 로컬 캐시가 분리되어 같은 id라도 섞이지 않는다")
+		void get_SeparatesTargets() {
+			// given
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// when
+			detailCacheService.get(DetailCacheTarget.BOARD, 1L, Detail.class, loader);
+
+			// then
+			assertThat(loadCalls).hasValue(2);
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 대상(null)은 캐싱하지 않는다")
+		void get_DoesNotCacheNull() {
+			// when
+			Detail first = detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, () -> {
+				loadCalls.incrementAndGet();
+				return null;
+			});
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			assertThat(first).isNull();
+			assertThat(loadCalls).hasValue(2);
+			verify(valueOperations, times(1)).set(anyString(), anyString(), any(Duration.class));
+		}
+
+		@Test
+		@DisplayName("완성되지 않은 상세는 로컬에 두지 않고 원격에 짧은 TTL로만 저장한다")
+		void get_KeepsIncompleteValueOnlyRemotelyWithShortTtl() {
+			// given
+			when(valueOperations.get(REMOTE_KEY)).thenReturn(null, CACHED_JSON);
+
+			// when
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader, detail -> false);
+			Detail result = detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader,
+				detail -> false);
+
+			// then
+			assertThat(result.name()).isEqualTo("초코");
+			assertThat(loadCalls).hasValue(1);
+			verify(valueOperations).set(REMOTE_KEY, CACHED_JSON, detailCacheProperties.getIncompleteRemoteTtl());
+			verify(valueOperations, times(2)).get(REMOTE_KEY);
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 DB 조회로 대체한다")
+		void get_FallsBackToLoader_WhenRedisFails() {
+			// given
+			when(valueOperations.get(REMOTE_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+			// when
+			Detail result = detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			assertThat(result.name()).isEqualTo("초코");
+			assertThat(loadCalls).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("캐시를 끄면 매번 DB에서 읽는다")
+		void get_AlwaysLoads_WhenDisabled() {
+			// given
+			detailCacheProperties.setEnabled(false);
+
+			// when
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			assertThat(loadCalls).hasValue(2);
+			verifyNoInteractions(redisTemplate);
+		}
+
+		@Test
+		@DisplayName("로컬 캐시 적중/미적중이 메트릭으로 노출된다")
+		void get_ExportsLocalCacheMetrics() {
+			// given
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			assertThat(meterRegistry.get("cache.gets").tag("cache", "detail.animal").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1.0);
+			assertThat(meterRegistry.get("cache.gets").tag("cache", "detail.animal").tag("result", "miss")
+				.functionCounter().count()).isEqualTo(1.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("무효화 테스트")
+	class EvictTests {
+
+		@Test
+		@DisplayName("무효화하면 원격 키를 지우고 다른 노드에 무효화 메시지를 발행한다")
+		void evict_DeletesRemoteAndPublishes() {
+			// given
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// when
+			detailCacheService.evict(DetailCacheTarget.ANIMAL, 1L);
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+
+			// then
+			verify(redisTemplate).delete(REMOTE_KEY);
+			verify(redisTemplate).convertAndSend("detail-cache", "animal:1");
+			assertThat(loadCalls).hasValue(2);
+		}
+
+		@Test
+		@DisplayName("무효화 메시지를 받으면 해당 로컬 캐시만 비운다")
+		void invalidateLocal_RemovesOnlyTargetEntry() {
+			// given
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+			detailCacheService.get(DetailCacheTarget.BOARD, 1L, Detail.class, loader);
+
+			// when
+			detailCacheService.invalidateLocal("animal:1");
+			detailCacheService.get(DetailCacheTarget.ANIMAL, 1L, Detail.class, loader);
+			detailCacheService.get(DetailCacheTarget.BOARD, 1L, Detail.class, loader);
+
+			// then
+			assertThat(loadCalls).hasValue(3);
+		}
+
+		@Test
+		@DisplayName("형식이 잘못된 무효화 메시지는 무시한다")
+		void invalidateLocal_IgnoresMalformedMessage() {
+			// when & then
+			assertThatCode(() -> detailCacheService.invalidateLocal("unknown:abc"))
+				.doesNotThrowAnyException();
+		}
+	}
+
+	private DetailCacheService createService() {
+		return new DetailCacheService(redisTemplate, new ChannelTopic("detail-cache"), new ObjectMapper(),
+			detailCacheProperties, meterRegistry);
+	}
+
+	record Detail(Long id, String name) {
+	}
+}
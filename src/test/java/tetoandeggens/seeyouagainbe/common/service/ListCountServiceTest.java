@@ -0,0 +1,213 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import tetoandeggens.seeyouagainbe.common.enums.CountStrategy;
+import tetoandeggens.seeyouagainbe.common.enums.CountTarget;
+import tetoandeggens.seeyouagainbe.global.config.ListCountProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListCountService 단위 테스트")
+class ListCountServiceTest {
+
+	private static final String VERSION_KEY = "list-count:version:animal";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private ListCountProperties listCountProperties;
+	private ListCountService listCountService;
+	private AtomicInteger countQueryCalls;
+	private Supplier<Long> exactCounter;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		listCountProperties = new ListCountProperties();
+		listCountService = new ListCountService(redisTemplate, listCountProperties);
+		countQueryCalls = new AtomicInteger();
+		exactCounter = () -> {
+			countQueryCalls.incrementAndGet();
+			return 24L;
+		};
+	}
+
+	@Nested
+	@DisplayName("캐시를 사용하지 않는 전략 테스트")
+	class NonCachedStrategyTests {
+
+		@Test
+		@DisplayName("EXACT - 다음 페이지에서도 매번 COUNT 실행")
+		void exact_AlwaysCounts() {
+			// given
+			listCountProperties.setStrategy(CountStrategy.EXACT);
+
+			// when
+			Integer count = listCountService.getCount(CountTarget.ANIMAL, false, exactCounter, "abandoned", "DOG");
+
+			// then
+			assertThat(count).isEqualTo(24);
+			assertThat(countQueryCalls).hasValue(1);
+			verifyNoInteractions(redisTemplate);
+		}
+
+		@Test
+		@DisplayName("FIRST_PAGE - 다음 페이지에서는 COUNT를 실행하지 않고 null 반환")
+		void firstPage_SkipsCountOnNextPage() {
+			// given
+			listCountProperties.setStrategy(CountStrategy.FIRST_PAGE);
+
+			// when
+			Integer firstPageCount = listCountService.getCount(CountTarget.ANIMAL, true, exactCounter, "abandoned");
+			Integer nextPageCount = listCountService.getCount(CountTarget.ANIMAL, false, exactCounter, "abandoned");
+
+			// then
+			assertThat(firstPageCount).isEqualTo(24);
+			assertThat(nextPageCount).isNull();
+			assertThat(countQueryCalls).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("NONE - COUNT를 실행하지 않음")
+		void none_NeverCounts() {
+			// given
+			listCountProperties.setStrategy(CountStrategy.NONE);
+
+			// when
+			Integer count = listCountService.getCount(CountTarget.ANIMAL, true, exactCounter, "abandoned");
+
+			// then
+			assertThat(count).isNull();
+			assertThat(countQueryCalls).hasValue(0);
+		}
+	}
+
+	@Nested
+	@DisplayName("CACHED 전략 테스트")
+	class CachedStrategyTests {
+
+		@Test
+		@DisplayName("첫 페이지 캐시 미스 - COUNT 실행 후 TTL과 함께 저장")
+		void cached_FirstPageMiss_CountsAndStores() {
+			// given
+			when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+			when(valueOperations.get(startsWith("list-count:animal:abandoned:v3:"))).thenReturn(null);
+
+			// when
+			Integer count = listCountService.getCount(CountTarget.ANIMAL, true, exactCounter, "abandoned", "DOG");
+
+			// then
+			assertThat(count).isEqualTo(24);
+			assertThat(countQueryCalls).hasValue(1);
+			verify(valueOperations).set(startsWith("list-count:animal:abandoned:v3:"), eq("24"),
+				eq(Duration.ofMinutes(5)));
+		}
+
+		@Test
+		@DisplayName("다음 페이지 캐시 히트 - COUNT 없이 캐시 값 반환")
+		void cached_NextPageHit_ReturnsCachedValue() {
+			// given
+			when(valueOperations.get(VERSION_KEY)).thenReturn(null);
+			when(valueOperations.get(startsWith("list-count:animal:abandoned:v0:"))).thenReturn("17");
+
+			// when
+			Integer count = listCountService.getCount(CountTarget.ANIMAL, false, exactCounter, "abandoned", "DOG");
+
+			// then
+			assertThat(count).isEqualTo(17);
+			assertThat(countQueryCalls).hasValue(0);
+		}
+
+		@Test
+		@DisplayName("다음 페이지 캐시 미스 - COUNT 없이 null 반환")
+		void cached_NextPageMiss_ReturnsNull() {
+			// given
+			when(valueOperations.get(anyString())).thenReturn(null);
+
+			// when
+			Integer count = listCountService.getCount(CountTarget.ANIMAL, false, exactCounter, "abandoned", "DOG");
+
+			// then
+			assertThat(count).isNull();
+			assertThat(countQueryCalls).hasValue(0);
+			verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+		}
+
+		@Test
+		@DisplayName("필터 값의 앞뒤 공백은 같은 캐시 키로 정규화")
+		void cached_NormalizesFilterValues() {
+			// given
+			when(valueOperations.get(anyString())).thenReturn(null);
+
+			// when
+			listCountService.getCount(CountTarget.ANIMAL, true, exactCounter, "abandoned", "서울특별시", null);
+			listCountService.getCount(CountTarget.ANIMAL, true, exactCounter, "abandoned", " 서울특별시 ", null);
+
+			// then
+			ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+			verify(valueOperations, times(2)).set(keyCaptor.capture(), eq("24"), any(Duration.class));
+			assertThat(keyCaptor.getAllValues().get(0)).isEqualTo(keyCaptor.getAllValues().get(1));
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 첫 페이지는 COUNT로 대체")
+		void cached_RedisFailure_FallsBackToExact() {
+			// given
+			when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+			// when
+			Integer count = listCountService.getCount(CountTarget.ANIMAL, true, exactCounter, "abandoned");
+
+			// then
+			assertThat(count).isEqualTo(24);
+			assertThat(countQueryCalls).hasValue(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("개수 캐시 무효화 테스트")
+	class EvictTests {
+
+		@Test
+		@DisplayName("트랜잭션 밖에서는 즉시 대상 버전을 올림")
+		void evict_IncreasesVersion() {
+			// when
+			listCountService.evict(CountTarget.ANIMAL);
+
+			// then
+			verify(valueOperations).increment(VERSION_KEY);
+		}
+
+		@Test
+		@DisplayName("게시글 변경 시 게시글 목록과 동물 목록의 버전을 함께 올림")
+		void evictBoardLists_IncreasesBoardAndAnimalVersions() {
+			// when
+			listCountService.evictBoardLists();
+
+			// then
+			verify(valueOperations).increment("list-count:version:board");
+			verify(valueOperations).increment(VERSION_KEY);
+		}
+	}
+}
@@ -0,0 +1,239 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.common.dto.ListQueryResult;
+import tetoandeggens.seeyouagainbe.global.config.ListQueryProperties;
+import tetoandeggens.seeyouagainbe.global.exception.CustomException;
+import tetoandeggens.seeyouagainbe.global.exception.errorcode.CommonErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListQueryService 단위 테스트")
+class ListQueryServiceTest {
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ListQueryService listQueryService;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (listQueryService != null) {
+			listQueryService.shutdown();
+		}
+	}
+
+	@Nested
+	@DisplayName("순차 실행 테스트")
+	class SequentialTests {
+
+		@Test
+		@DisplayName("페이지와 개수를 호출 스레드에서 순서대로 조회한다")
+		void fetch_Sequential() {
+			// given
+			listQueryService = createService(false, Duration.ofSeconds(1));
+			Thread caller = Thread.currentThread();
+
+			// when
+			ListQueryResult<String> result = listQueryService.fetch(
+				"test.list",
+				() -> {
+					assertThat(Thread.currentThread()).isSameAs(caller);
+					return List.of("a", "b");
+				},
+				() -> 2
+			);
+
+			// then
+			assertThat(result.page()).containsExactly("a", "b");
+			assertThat(result.count()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("목록 조회 자체는 트랜잭션을 열지 않고 각 단계가 필요할 때만 연다")
+		void fetch_DoesNotOpenTransaction() {
+			// given
+			listQueryService = createService(false, Duration.ofSeconds(1));
+
+			// when
+			listQueryService.fetch("test.list", () -> List.of("a"), () -> 2);
+
+			// then
+			verify(transactionManager, never()).getTransaction(any());
+		}
+	}
+
+	@Test
+	@DisplayName("개별 쿼리는 목록 타임아웃을 쿼리 타임아웃으로 쓰는 읽기 전용 트랜잭션에서 실행한다")
+	void query_RunsInReadOnlyTransactionWithTimeout() {
+		// given
+		listQueryService = createService(false, Duration.ofMillis(2500));
+		ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+		// when
+		Integer count = listQueryService.query(() -> 3);
+
+		// then
+		assertThat(count).isEqualTo(3);
+		verify(transactionManager).getTransaction(definition.capture());
+		assertThat(definition.getValue().isReadOnly()).isTrue();
+		assertThat(definition.getValue().getTimeout()).isEqualTo(3);
+	}
+
+	@Nested
+	@DisplayName("병렬 실행 테스트")
+	class ParallelTests {
+
+		@Test
+		@DisplayName("페이지와 개수 쿼리가 동시에 실행된다")
+		void fetch_RunsLegsConcurrently() {
+			// given
+			listQueryService = createService(true, Duration.ofSeconds(2));
+			CountDownLatch bothStarted = new CountDownLatch(2);
+
+			// when - 두 작업이 서로의 시작을 기다리므로 순차 실행이면 시간 초과로 실패함
+			ListQueryResult<String> result = listQueryService.fetch(
+				"test.list",
+				() -> {
+					awaitLatch(bothStarted);
+					return List.of("a");
+				},
+				() -> {
+					awaitLatch(bothStarted);
+					return 1;
+				}
+			);
+
+			// then
+			assertThat(result.page()).containsExactly("a");
+			assertThat(result.count()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("개수 조회가 시간 초과되면 페이지만 반환하고 개수는 null")
+		void fetch_CountTimeout_ReturnsNullCount() {
+			// given
+			listQueryService = createService(true, Duration.ofMillis(200));
+
+			// when
+			ListQueryResult<String> result = listQueryService.fetch(
+				"test.list",
+				() -> List.of("a"),
+				() -> {
+					sleep(Duration.ofSeconds(1));
+					return 1;
+				}
+			);
+
+			// then
+			assertThat(result.page()).containsExactly("a");
+			assertThat(result.count()).isNull();
+		}
+
+		@Test
+		@DisplayName("페이지 조회가 시간 초과되면 예외가 발생한다")
+		void fetch_PageTimeout_ThrowsException() {
+			// given
+			listQueryService = createService(true, Duration.ofMillis(200));
+
+			// when & then
+			assertThatThrownBy(() -> listQueryService.fetch(
+				"test.list",
+				() -> {
+					sleep(Duration.ofSeconds(1));
+					return List.of("a");
+				},
+				() -> 1
+			))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.LIST_QUERY_TIMEOUT);
+		}
+
+		@Test
+		@DisplayName("작업에서 발생한 예외는 그대로 전달된다")
+		void fetch_PropagatesLegException() {
+			// given
+			listQueryService = createService(true, Duration.ofSeconds(1));
+
+			// when & then
+			assertThatThrownBy(() -> listQueryService.fetch(
+				"test.list",
+				() -> {
+					throw new IllegalArgumentException("page failed");
+				},
+				() -> 1
+			))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("page failed");
+		}
+	}
+
+	@Test
+	@DisplayName("단계별 소요 시간이 타이머로 기록된다")
+	void fetch_RecordsTimerPerLeg() {
+		// given
+		listQueryService = createService(false, Duration.ofSeconds(1));
+
+		// when
+		listQueryService.fetch("test.list", () -> List.of("a"), () -> 1);
+
+		// then
+		assertThat(meterRegistry.get("list.query").tag("list", "test.list").tag("leg", "page").timer().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.get("list.query").tag("list", "test.list").tag("leg", "count").timer().count())
+			.isEqualTo(1);
+	}
+
+	private ListQueryService createService(boolean parallel, Duration timeout) {
+		ListQueryProperties properties = new ListQueryProperties();
+		properties.setParallel(parallel);
+		properties.setTimeout(timeout);
+		properties.setPoolSize(4);
+		return new ListQueryService(properties, transactionManager, meterRegistry);
+	}
+
+	private void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void awaitLatch(CountDownLatch latch) {
+		latch.countDown();
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,212 @@
+package tetoandeggens.seeyouagainbe.common.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbe.global.config.ListQueryProperties;
+
+@DisplayName("SingleFlightService 단위 테스트")
+class SingleFlightServiceTest {
+
+	private static final int CONCURRENT_REQUESTS = 5;
+
+	private ListQueryProperties listQueryProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private PlatformTransactionManager transactionManager;
+	private ListQueryService listQueryService;
+	private SingleFlightService singleFlightService;
+	private ExecutorService executorService;
+
+	@BeforeEach
+	void setUp() {
+		listQueryProperties = new ListQueryProperties();
+		meterRegistry = new SimpleMeterRegistry();
+		transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		listQueryService = new ListQueryService(listQueryProperties, transactionManager, meterRegistry);
+		singleFlightService = new SingleFlightService(listQueryService, listQueryProperties, meterRegistry);
+		executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+		listQueryService.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 조건의 동시 요청은 한 번만 조회하고 결과를 공유한다")
+	void execute_CoalescesConcurrentIdenticalRequests() throws Exception {
+		// given
+		AtomicInteger loaderCalls = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		// when
+		List<Future<String>> futures = submitConcurrently(() -> singleFlightService.execute(
+			"animal.abandoned",
+			() -> {
+				loaderCalls.incrementAndGet();
+				await(release);
+				return "result";
+			},
+			null, 10, "LATEST", "DOG"
+		));
+		waitUntilFollowersJoin(CONCURRENT_REQUESTS - 1);
+		release.countDown();
+
+		// then
+		for (Future<String> future : futures) {
+			assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+		}
+		assertThat(loaderCalls.get()).isEqualTo(1);
+		assertThat(countOf("leader")).isEqualTo(1);
+		assertThat(countOf("follower")).isEqualTo(CONCURRENT_REQUESTS - 1);
+		verify(transactionManager, times(1)).getTransaction(any());
+	}
+
+	@Test
+	@DisplayName("먼저 시작한 조회가 대기 시간을 넘기면 기다리던 요청은 직접 조회한다")
+	void execute_FollowerFallsBackAfterWait() throws Exception {
+		// given
+		listQueryProperties.setSingleFlightWait(Duration.ofMillis(50));
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> leader = executorService.submit(() -> singleFlightService.execute(
+			"animal.abandoned",
+			() -> {
+				leaderStarted.countDown();
+				await(release);
+				return "leader";
+			},
+			"DOG"
+		));
+		leaderStarted.await(5, TimeUnit.SECONDS);
+
+		// when
+		String follower = singleFlightService.execute("animal.abandoned", () -> "follower", "DOG");
+		release.countDown();
+
+		// then
+		assertThat(follower).isEqualTo("follower");
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+		assertThat(countOf("fallback")).isEqualTo(1);
+		verify(transactionManager, times(2)).getTransaction(any());
+	}
+
+	@Test
+	@DisplayName("조건이 다르면 각각 조회한다")
+	void execute_DifferentKeys_LoadSeparately() {
+		// when
+		String dog = singleFlightService.execute("animal.abandoned", () -> "dog", null, 10, "DOG");
+		String cat = singleFlightService.execute("animal.abandoned", () -> "cat", null, 10, "CAT");
+
+		// then
+		assertThat(dog).isEqualTo("dog");
+		assertThat(cat).isEqualTo("cat");
+		assertThat(countOf("leader")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("완료된 조회는 재사용하지 않고 다음 요청에서 다시 조회한다")
+	void execute_DoesNotCacheCompletedResult() {
+		// given
+		AtomicInteger loaderCalls = new AtomicInteger();
+
+		// when
+		singleFlightService.execute("animal.abandoned", loaderCalls::incrementAndGet, "DOG");
+		singleFlightService.execute("animal.abandoned", loaderCalls::incrementAndGet, "DOG");
+
+		// then
+		assertThat(loaderCalls.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("조회 중 발생한 예외는 기다리던 요청에도 전달된다")
+	void execute_PropagatesExceptionToFollowers() throws Exception {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+
+		// when
+		List<Future<String>> futures = submitConcurrently(() -> singleFlightService.execute(
+			"animal.abandoned",
+			() -> {
+				await(release);
+				throw new IllegalStateException("query failed");
+			},
+			"DOG"
+		));
+		waitUntilFollowersJoin(CONCURRENT_REQUESTS - 1);
+		release.countDown();
+
+		// then
+		for (Future<String> future : futures) {
+			assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("query failed");
+		}
+	}
+
+	@Test
+	@DisplayName("비활성화하면 요청마다 조회한다")
+	void execute_Disabled_LoadsEveryTime() {
+		// given
+		listQueryProperties.setSingleFlight(false);
+		AtomicInteger loaderCalls = new AtomicInteger();
+
+		// when
+		singleFlightService.execute("animal.abandoned", loaderCalls::incrementAndGet, "DOG");
+
+		// then
+		assertThat(loaderCalls.get()).isEqualTo(1);
+		assertThat(meterRegistry.find("list.single-flight").counter()).isNull();
+	}
+
+	private <T> List<Future<T>> submitConcurrently(Callable<T> task) {
+		List<Future<T>> futures = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+			futures.add(executorService.submit(task));
+		}
+		return futures;
+	}
+
+	private void waitUntilFollowersJoin(int expectedFollowers) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (countOf("follower") < expectedFollowers && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private double countOf(String role) {
+		Counter counter = meterRegistry.find("list.single-flight").tag("role", role).counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
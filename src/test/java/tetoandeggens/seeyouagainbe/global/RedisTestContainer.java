@@ -11,6 +11,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -62,6 +63,19 @@ public abstract class RedisTestContainer {
 			template.setConnectionFactory(redisConnectionFactory);
 			template.setKeySerializer(new StringRedisSerializer());
 			template.setValueSerializer(new StringRedisSerializer());
+			template.setHashKeySerializer(new StringRedisSerializer());
+			template.setHashValueSerializer(new StringRedisSerializer());
+			return template;
+		}
+
+		@Bean
+		public RedisTemplate<String, byte[]> chatBusRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+			RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+			template.setConnectionFactory(redisConnectionFactory);
+			template.setKeySerializer(new StringRedisSerializer());
+			template.setValueSerializer(RedisSerializer.byteArray());
+			template.setHashKeySerializer(new StringRedisSerializer());
+			template.setHashValueSerializer(RedisSerializer.byteArray());
 			return template;
 		}
 
@@ -74,5 +88,25 @@ public abstract class RedisTestContainer {
 		public ChannelTopic readChannelTopic() {
 			return new ChannelTopic("chatread");
 		}
+
+		@Bean
+		public ChannelTopic detailCacheTopic() {
+			return new ChannelTopic("detail-cache");
+		}
+
+		@Bean
+		public ChannelTopic principalCacheTopic() {
+			return new ChannelTopic("principal-cache");
+		}
+
+		@Bean
+		public ChannelTopic tokenRevocationTopic() {
+			return new ChannelTopic("token-revocation");
+		}
+
+		@Bean
+		public ChannelTopic sessionRevocationTopic() {
+			return new ChannelTopic("session-revocation");
+		}
 	}
 }
\ No newline at end of file
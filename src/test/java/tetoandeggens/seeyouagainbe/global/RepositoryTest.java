@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
+import tetoandeggens.seeyouagainbe.animal.repository.ReferenceDataDictionary;
 import tetoandeggens.seeyouagainbe.global.config.QueryDslConfig;
 import tetoandeggens.seeyouagainbe.global.util.AesEncryptionConverter;
 import tetoandeggens.seeyouagainbe.global.util.AesEncryptionUtil;
@@ -12,6 +13,6 @@ import tetoandeggens.seeyouagainbe.global.util.AesEncryptionUtil;
 @EnableJpaAuditing
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QueryDslConfig.class, AesEncryptionUtil.class, AesEncryptionConverter.class})
+@Import({QueryDslConfig.class, AesEncryptionUtil.class, AesEncryptionConverter.class, ReferenceDataDictionary.class})
 public abstract class RepositoryTest {
 }
\ No newline at end of file
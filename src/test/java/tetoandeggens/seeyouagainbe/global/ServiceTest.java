@@ -16,6 +16,9 @@ public abstract class ServiceTest {
 	@MockitoBean
 	protected RedisTemplate<String, String> redisTemplate;
 
+	@MockitoBean
+	protected RedisTemplate<String, byte[]> chatBusRedisTemplate;
+
 	@MockitoBean
 	protected ChannelTopic channelTopic;
 